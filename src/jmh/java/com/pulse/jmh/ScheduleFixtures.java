@@ -0,0 +1,81 @@
+package com.pulse.jmh;
+
+import com.pulse.bench.TimeEditFixtures;
+import com.pulse.domain.TransferRequest;
+import com.pulse.integration.timeedit.TimeEditParser;
+import com.pulse.integration.timeedit.dto.TimeEditEventDTO;
+import com.pulse.integration.timeedit.dto.TimeEditScheduleDTO;
+import com.pulse.server.dto.CanvasPublishRequest;
+import com.pulse.server.dto.PublishSchedule;
+import com.pulse.server.dto.PublishScheduleEvent;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Synthetic schedules of {@code reservations} TimeEdit reservations (see {@link TimeEditFixtures}),
+ * as the raw TimeEdit body and as each DTO built from it along the way to Canvas.
+ *
+ * Built once per trial; benchmarks must not modify them.
+ */
+@State(Scope.Benchmark)
+public class ScheduleFixtures {
+
+    public static final ZoneId ZONE = ZoneId.of("Europe/Stockholm");
+    public static final String URL = "https://cloud.timeedit.net/ltu/web/schedule1/ri.json";
+
+    @Param({"100", "10000", "100000"})
+    public int reservations;
+
+    public byte[] body;
+    public TimeEditScheduleDTO schedule;
+    public CanvasPublishRequest publishRequest;
+    public TransferRequest transferRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        body = TimeEditFixtures.scheduleBytes(reservations);
+        schedule = TimeEditParser.parseSchedule(new ByteArrayInputStream(body), URL, ZONE);
+
+        List<PublishScheduleEvent> publishEvents = new ArrayList<>(reservations);
+        List<TransferRequest.ScheduleEvent> transferEvents = new ArrayList<>(reservations);
+        for (TimeEditEventDTO event : schedule.getEvents()) {
+            PublishScheduleEvent publish = new PublishScheduleEvent();
+            publish.setExternalId(event.getExternalId());
+            publish.setTitle(event.getTitle());
+            publish.setStart(event.getStart());
+            publish.setEnd(event.getEnd());
+            publish.setLocation(event.getLocation());
+            publish.setDescription(event.getDescription());
+            publishEvents.add(publish);
+
+            TransferRequest.ScheduleEvent transfer = new TransferRequest.ScheduleEvent();
+            transfer.setExternalId(event.getExternalId());
+            transfer.setTitle(event.getTitle());
+            transfer.setStart(event.getStart());
+            transfer.setEnd(event.getEnd());
+            transfer.setLocation(event.getLocation());
+            transfer.setDescription(event.getDescription());
+            transferEvents.add(transfer);
+        }
+
+        PublishSchedule publishSchedule = new PublishSchedule();
+        publishSchedule.setSource("TimeEdit");
+        publishSchedule.setTimeeditUrl(URL);
+        publishSchedule.setEvents(publishEvents);
+        publishRequest = new CanvasPublishRequest();
+        publishRequest.setCanvasContext("course_12345");
+        publishRequest.setSchedule(publishSchedule);
+
+        transferRequest = new TransferRequest();
+        transferRequest.setCanvasContext("course_12345");
+        transferRequest.getSchedule().setEvents(transferEvents);
+    }
+}
@@ -0,0 +1,31 @@
+package com.pulse.jmh;
+
+import com.pulse.integration.timeedit.TimeEditParser;
+import com.pulse.integration.timeedit.dto.TimeEditScheduleDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TimeEditParser#parseSchedule(java.io.InputStream, String, java.time.ZoneId)}: the streaming
+ * parse the server runs on every TimeEdit response it has not cached.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScheduleParseBenchmark {
+
+    @Benchmark
+    public TimeEditScheduleDTO parseSchedule(ScheduleFixtures fixtures) {
+        return TimeEditParser.parseSchedule(new ByteArrayInputStream(fixtures.body), ScheduleFixtures.URL, ScheduleFixtures.ZONE);
+    }
+}
@@ -0,0 +1,67 @@
+package com.pulse.jmh;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the schedule response and of the transfer request, through each
+ * ObjectMapperContextResolver:
+ * <ul>
+ *   <li>{@code config}: com.pulse.config, the server's mapper (ISO-8601 dates)</li>
+ *   <li>{@code util}: com.pulse.util, the Canvas client's mapper. It only ever reads Canvas
+ *       responses and has no java.time support, so writing these DTOs would fail; the copy used
+ *       here adds JavaTimeModule and otherwise keeps its settings (dates as numeric timestamps).</li>
+ * </ul>
+ * Bodies are written to a byte[], so only Jackson is measured (the server streams them, gzipped
+ * when accepted).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"config", "util"})
+    public String mapper;
+
+    private ObjectWriter writer;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = switch (mapper) {
+            case "config" -> new com.pulse.config.ObjectMapperContextResolver().getContext(Object.class);
+            case "util" -> new com.pulse.util.ObjectMapperContextResolver().getContext(Object.class)
+                    .copy()
+                    .registerModule(new JavaTimeModule());
+            default -> throw new IllegalArgumentException("Unknown mapper: " + mapper);
+        };
+        writer = objectMapper.writer();
+    }
+
+    @Benchmark
+    public byte[] timeEditSchedule(ScheduleFixtures fixtures) throws JsonProcessingException {
+        return writer.writeValueAsBytes(fixtures.schedule);
+    }
+
+    @Benchmark
+    public byte[] transferRequest(ScheduleFixtures fixtures) throws JsonProcessingException {
+        return writer.writeValueAsBytes(fixtures.transferRequest);
+    }
+}
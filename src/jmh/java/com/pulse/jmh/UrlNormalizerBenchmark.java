@@ -0,0 +1,51 @@
+package com.pulse.jmh;
+
+import com.pulse.integration.timeedit.TimeEditUrlNormalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TimeEditUrlNormalizer#ensureJsonUrl}, run once per schedule request, for the URL shapes
+ * users paste: already JSON, the HTML view, and no extension at all.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UrlNormalizerBenchmark {
+
+    private static final String QUERY = "?h=t&sid=3&p=20260112.x,20260614.x&objects=611423.28";
+
+    @Param({"json", "html", "bare"})
+    public String shape;
+
+    private String url;
+
+    @Setup
+    public void setUp() {
+        url = switch (shape) {
+            case "json" -> "https://cloud.timeedit.net/ltu/web/schedule1/ri.json" + QUERY;
+            case "html" -> "https://cloud.timeedit.net/ltu/web/schedule1/ri.html" + QUERY;
+            case "bare" -> "https://cloud.timeedit.net/ltu/web/schedule1/ri" + QUERY;
+            default -> throw new IllegalArgumentException("Unknown URL shape: " + shape);
+        };
+    }
+
+    @Benchmark
+    public String ensureJsonUrl() {
+        return TimeEditUrlNormalizer.ensureJsonUrl(url);
+    }
+}
@@ -0,0 +1,35 @@
+package com.pulse.jmh;
+
+import com.pulse.integration.canvas.CanvasPublishValidator;
+import com.pulse.integration.timeedit.TimeEditScheduleValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The two whole-schedule validators: {@link TimeEditScheduleValidator} after parsing and
+ * {@link CanvasPublishValidator} on POST /api/canvas/publish. Both pass; only the walk is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorBenchmark {
+
+    @Benchmark
+    public void timeEditSchedule(ScheduleFixtures fixtures) {
+        TimeEditScheduleValidator.validate(fixtures.schedule);
+    }
+
+    @Benchmark
+    public void canvasPublishRequest(ScheduleFixtures fixtures) {
+        CanvasPublishValidator.validate(fixtures.publishRequest);
+    }
+}
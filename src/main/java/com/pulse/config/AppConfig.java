@@ -0,0 +1,73 @@
+package com.pulse.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.cdimascio.dotenv.Dotenv;
+
+/**
+ * Server tuning knobs (cache sizes, timeouts, limits).
+ *
+ * Lookup order for a key: JVM system property (-DKEY=value), then the .env file, then the
+ * process environment. Unset or unparsable values fall back to the given default.
+ */
+public final class AppConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(AppConfig.class);
+    private static final Dotenv dotenv = Dotenv.configure().ignoreIfMissing().load();
+
+    private AppConfig() {
+    }
+
+    /**
+     * Gets a raw configuration value.
+     * @param key configuration key, e.g. TIMEEDIT_CACHE_MAX_ENTRIES
+     * @return the value, or null if not set anywhere
+     */
+    public static String get(String key) {
+        String value = System.getProperty(key);
+        if (value == null) {
+            value = dotenv.get(key);
+        }
+        if (value == null) {
+            value = System.getenv(key);
+        }
+        return value != null && !value.isBlank() ? value.trim() : null;
+    }
+
+    public static String get(String key, String defaultValue) {
+        String value = get(key);
+        return value != null ? value : defaultValue;
+    }
+
+    public static int getInt(String key, int defaultValue) {
+        String value = get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            logger.warn("Ignoring non-integer value for {}: '{}' (using {})", key, value, defaultValue);
+            return defaultValue;
+        }
+    }
+
+    public static long getLong(String key, long defaultValue) {
+        String value = get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            logger.warn("Ignoring non-integer value for {}: '{}' (using {})", key, value, defaultValue);
+            return defaultValue;
+        }
+    }
+
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        String value = get(key);
+        return value != null ? Boolean.parseBoolean(value) : defaultValue;
+    }
+}
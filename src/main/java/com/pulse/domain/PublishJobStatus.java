@@ -0,0 +1,165 @@
+package com.pulse.domain;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * State of a background publish job, from Server -> GUI: the job status body, and the progress
+ * and done messages of its event stream.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class PublishJobStatus {
+
+    @JsonProperty("jobId")
+    private String jobId;
+
+    @JsonProperty("status")
+    private String status;
+
+    @JsonProperty("total")
+    private Integer total;
+
+    @JsonProperty("published")
+    private int published;
+
+    @JsonProperty("skipped")
+    private int skipped;
+
+    @JsonProperty("failed")
+    private int failed;
+
+    @JsonProperty("remaining")
+    private Integer remaining;
+
+    @JsonProperty("eventsPerSecond")
+    private double eventsPerSecond;
+
+    // Set once the job has finished (or was cancelled)
+    @JsonProperty("result")
+    private TransferResult result;
+
+    // Set when the job failed as a whole
+    @JsonProperty("error")
+    private ErrorResponse.ErrorDetail error;
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Integer getTotal() {
+        return total;
+    }
+
+    public void setTotal(Integer total) {
+        this.total = total;
+    }
+
+    public int getPublished() {
+        return published;
+    }
+
+    public void setPublished(int published) {
+        this.published = published;
+    }
+
+    public int getSkipped() {
+        return skipped;
+    }
+
+    public void setSkipped(int skipped) {
+        this.skipped = skipped;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public Integer getRemaining() {
+        return remaining;
+    }
+
+    public void setRemaining(Integer remaining) {
+        this.remaining = remaining;
+    }
+
+    public double getEventsPerSecond() {
+        return eventsPerSecond;
+    }
+
+    public void setEventsPerSecond(double eventsPerSecond) {
+        this.eventsPerSecond = eventsPerSecond;
+    }
+
+    public TransferResult getResult() {
+        return result;
+    }
+
+    public void setResult(TransferResult result) {
+        this.result = result;
+    }
+
+    public ErrorResponse.ErrorDetail getError() {
+        return error;
+    }
+
+    public void setError(ErrorResponse.ErrorDetail error) {
+        this.error = error;
+    }
+
+    /**
+     * Outcome of one event, as streamed while the job runs.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class EventResult {
+
+        @JsonProperty("externalId")
+        private String externalId;
+
+        // published, updated, skipped, deleted or failed
+        @JsonProperty("status")
+        private String status;
+
+        @JsonProperty("message")
+        private String message;
+
+        public String getExternalId() {
+            return externalId;
+        }
+
+        public void setExternalId(String externalId) {
+            this.externalId = externalId;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public void setStatus(String status) {
+            this.status = status;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public void setMessage(String message) {
+            this.message = message;
+        }
+    }
+}
@@ -7,11 +7,16 @@ import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import com.pulse.frontend.model.ScheduleRow;
+import com.pulse.domain.PublishJobStatus;
 import com.pulse.domain.TransferRequest;
+import com.pulse.domain.TransferResult;
+import com.pulse.frontend.api.ApiException;
+import com.pulse.frontend.api.ScheduleApiClient;
 import com.pulse.frontend.api.TransferApiClient;
 import com.pulse.frontend.model.AppState;
 import com.pulse.integration.timeedit.dto.TimeEditEventDTO;
 import com.pulse.integration.timeedit.dto.TimeEditScheduleDTO;
+import com.pulse.integration.timeedit.dto.TimeEditScheduleDeltaDTO;
 
 import javafx.application.Platform;
 import javafx.fxml.FXML;
@@ -30,8 +35,14 @@ import javafx.scene.control.Alert;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import javafx.scene.control.ButtonType;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
@@ -54,9 +65,11 @@ public class ScheduleOverviewController implements Initializable {
         @FXML private TableColumn<ScheduleRow, String> sluttidKolumn;
         @FXML private TableColumn<ScheduleRow, String> platsKolumn;
         @FXML private TableColumn<ScheduleRow, Boolean> andradKolumn; 
+        @FXML private TableColumn<ScheduleRow, String> publiceringKolumn;
         
         // Buttons
         @FXML private Button tillbakaUrlKnapp;
+        @FXML private Button uppdateraSchemaKnapp;
         @FXML private Button andraHandelseKnapp;
         @FXML private Button publiceraSchemaKnapp;
 
@@ -79,6 +92,7 @@ public class ScheduleOverviewController implements Initializable {
         sluttidKolumn.setCellValueFactory(cellData -> cellData.getValue().slutTidProperty());
         platsKolumn.setCellValueFactory(cellData -> cellData.getValue().platsProperty());
         andradKolumn.setCellValueFactory(cellData -> cellData.getValue().andradProperty());
+        publiceringKolumn.setCellValueFactory(cellData -> cellData.getValue().publiceringsstatusProperty());
 
 
         visaStatusSchema.setVisible(false);
@@ -127,7 +141,98 @@ public class ScheduleOverviewController implements Initializable {
         String title = e != null && e.getTitle() != null ? e.getTitle() : ""; 
         String location = e != null && e.getLocation() != null ? e.getLocation() : "";
         String description = e != null && e.getDescription() != null ? e.getDescription() : "";
-        return new ScheduleRow("",title, "", startDate, endDate, startTime, endTime, location, description, false);
+        ScheduleRow row = new ScheduleRow("",title, "", startDate, endDate, startTime, endTime, location, description, false);
+        row.setExternalId(e != null ? e.getExternalId() : null);
+        return row;
+    }
+
+    /**
+     * Asks the server only for what changed since the loaded version and patches the table in
+     * place, so rows keep their selection and local edits.
+     */
+    @FXML private void onUppdateraSchemaKnappClick() {
+        TimeEditScheduleDTO schedule = AppState.getCurrentSchedule();
+        if (schedule == null || schedule.getTimeeditUrl() == null) {
+            visaStatusSchema.setText("Inget schema laddat ännu.");
+            visaStatusSchema.setVisible(true);
+            return;
+        }
+
+        uppdateraSchemaKnapp.setDisable(true);
+        visaStatusSchema.setText("Hämtar ändringar...");
+        visaStatusSchema.setStyle(null);
+        visaStatusSchema.setVisible(true);
+
+        String backendUrl = System.getenv().getOrDefault("BACKEND_BASE_URL", "http://localhost:8080");
+        ScheduleApiClient client = new ScheduleApiClient(backendUrl);
+        CompletableFuture
+                .supplyAsync(() -> client.fetchTimeEditScheduleDelta(schedule.getTimeeditUrl(), schedule.getVersion()))
+                .whenComplete((delta, error) -> Platform.runLater(() -> {
+                    uppdateraSchemaKnapp.setDisable(false);
+                    if (error != null) {
+                        logger.warn("Schedule refresh failed", error);
+                        visaStatusSchema.setText("Kunde inte uppdatera schemat.");
+                        visaStatusSchema.setStyle("-fx-text-fill: red;");
+                        return;
+                    }
+                    applyDelta(schedule, delta);
+                }));
+    }
+
+    private void applyDelta(TimeEditScheduleDTO schedule, TimeEditScheduleDeltaDTO delta) {
+        if (delta.isFull()) {
+            // The server no longer knows our version; start over from what it sent
+            schedule.setEvents(new ArrayList<>(delta.getAdded()));
+            schedule.setVersion(delta.getVersion());
+            schedule.setSummary(delta.getSummary());
+            loadFromAppState();
+            return;
+        }
+
+        Map<String, TimeEditEventDTO> events = new LinkedHashMap<>();
+        for (TimeEditEventDTO e : schedule.getEvents()) {
+            events.put(e.getExternalId(), e);
+        }
+        delta.getRemoved().forEach(events::remove);
+        delta.getChanged().forEach(e -> events.put(e.getExternalId(), e));
+        delta.getAdded().forEach(e -> events.put(e.getExternalId(), e));
+        schedule.setEvents(new ArrayList<>(events.values()));
+        schedule.setVersion(delta.getVersion());
+        schedule.setSummary(delta.getSummary());
+
+        Set<String> removed = new HashSet<>(delta.getRemoved());
+        schemaTabell.getItems().removeIf(row -> removed.contains(row.getExternalId()));
+        Map<String, ScheduleRow> rowsById = new HashMap<>();
+        for (ScheduleRow row : schemaTabell.getItems()) {
+            rowsById.put(row.getExternalId(), row);
+        }
+        for (TimeEditEventDTO e : delta.getChanged()) {
+            ScheduleRow row = rowsById.get(e.getExternalId());
+            // A row the user has edited keeps the edit
+            if (row != null && !row.isAndrad()) {
+                updateRow(row, e);
+            }
+        }
+        for (TimeEditEventDTO e : delta.getAdded()) {
+            schemaTabell.getItems().add(toRow(e));
+        }
+
+        int changes = delta.getAdded().size() + delta.getChanged().size() + delta.getRemoved().size();
+        visaStatusSchema.setText(changes == 0
+                ? "Inga ändringar i schemat."
+                : "Schemat uppdaterat: " + delta.getAdded().size() + " nya, " + delta.getChanged().size()
+                        + " ändrade, " + delta.getRemoved().size() + " borttagna.");
+    }
+
+    private void updateRow(ScheduleRow row, TimeEditEventDTO e) {
+        ScheduleRow fresh = toRow(e);
+        row.setAktivitet(fresh.getAktivitet());
+        row.setStartDatum(fresh.getStartDatum());
+        row.setSlutDatum(fresh.getSlutDatum());
+        row.setStartTid(fresh.getStartTid());
+        row.setSlutTid(fresh.getSlutTid());
+        row.setPlats(fresh.getPlats());
+        row.setBeskrivning(fresh.getBeskrivning());
     }
 
     @FXML private void onTillbakaUrlKnappClick() {
@@ -247,9 +352,34 @@ public class ScheduleOverviewController implements Initializable {
         logger.debug("Creating API client with backend URL: {}", backendUrl);
         TransferApiClient client = new TransferApiClient(backendUrl);
 
+        // Rows by externalId, so streamed results can be shown on the row they belong to
+        Map<String, ScheduleRow> rowsById = new HashMap<>();
+        for (ScheduleRow row : schemaTabell.getItems()) {
+            row.setPubliceringsstatus("Väntar");
+            if (row.getExternalId() != null) {
+                rowsById.put(row.getExternalId(), row);
+            }
+        }
+
+        // The server batches results (a few messages per second), so each one is a single UI update
+        TransferApiClient.PublishProgressListener progressListener = new TransferApiClient.PublishProgressListener() {
+            @Override
+            public void onEvents(List<PublishJobStatus.EventResult> results) {
+                Platform.runLater(() -> results.forEach(r -> applyEventResult(rowsById.get(r.getExternalId()), r)));
+            }
+
+            @Override
+            public void onProgress(PublishJobStatus progress) {
+                Platform.runLater(() -> visaStatusSchema.setText(progressText(progress)));
+            }
+        };
+
         logger.info("Initiating async publish to Canvas");
         CompletableFuture
-                .supplyAsync(() -> client.publishToCanvas(transferRequest))
+                .supplyAsync(() -> {
+                    String jobId = client.startPublishJob(transferRequest);
+                    return finalResult(client.followPublishJob(jobId, progressListener));
+                })
                 .whenComplete((transferResult, err) -> Platform.runLater(() -> {
                     publiceraSchemaKnapp.setDisable(false);
 
@@ -299,6 +429,46 @@ public class ScheduleOverviewController implements Initializable {
 
 
 
+    // Shows one streamed event result on its row
+    private static void applyEventResult(ScheduleRow row, PublishJobStatus.EventResult result) {
+        if (row == null) {
+            return;
+        }
+        switch (result.getStatus()) {
+            case "published" -> row.setPubliceringsstatus("Publicerad");
+            case "updated" -> row.setPubliceringsstatus("Uppdaterad");
+            case "skipped" -> row.setPubliceringsstatus("Oförändrad");
+            case "failed" -> row.setPubliceringsstatus("Misslyckades");
+            default -> {
+                return;
+            }
+        }
+        if (!"failed".equals(result.getStatus())) {
+            row.setAndrad(false);
+        }
+    }
+
+    private static String progressText(PublishJobStatus progress) {
+        if ("queued".equals(progress.getStatus())) {
+            return "Publicering väntar på ledig plats i kön...";
+        }
+        int done = progress.getPublished() + progress.getSkipped() + progress.getFailed();
+        String total = progress.getTotal() != null ? "/" + progress.getTotal() : "";
+        return String.format("Publicerar schema till Canvas... %d%s (%.1f händelser/s)",
+                done, total, progress.getEventsPerSecond());
+    }
+
+    // The job's final result, or its error as the synchronous endpoint would have raised it
+    private static TransferResult finalResult(PublishJobStatus done) {
+        if (done.getResult() != null) {
+            return done.getResult();
+        }
+        if (done.getError() != null) {
+            throw new ApiException(0, done.getError().getCode(), done.getError().getMessage());
+        }
+        throw new ApiException(0, "CLIENT_ERROR", "Publish job ended as " + done.getStatus() + " without a result");
+    }
+
     /**
      * Builds a TimeEditScheduleDTO from the current table contents.
      * @return The built TimeEditScheduleDTO.
@@ -324,6 +494,7 @@ public class ScheduleOverviewController implements Initializable {
         TimeEditEventDTO e = new TimeEditEventDTO();
 
         // Map from your table row back into DTO
+        e.setExternalId(row.getExternalId());
         e.setTitle(row.getAktivitet());
         e.setStart(OffsetDateTime.parse(row.getStartDatum() + "T" + row.getStartTid() + ":00+00:00"));
         e.setEnd(OffsetDateTime.parse(row.getSlutDatum() + "T" + row.getSlutTid() + ":00+00:00"));
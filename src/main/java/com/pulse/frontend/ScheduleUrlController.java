@@ -59,9 +59,13 @@ public class ScheduleUrlController implements Initializable {
         Task<TimeEditScheduleDTO> task = new Task<>() {
             @Override
             protected TimeEditScheduleDTO call() {
-                return apiClient.fetchTimeEditSchedule(url);
+                // Streamed, so large schedules show progress; JavaFX coalesces the message updates
+                int[] loaded = {0};
+                return apiClient.fetchTimeEditScheduleStreaming(url,
+                        event -> updateMessage("Laddar schema från server... " + (++loaded[0]) + " händelser"));
             }
         };
+        task.messageProperty().addListener((obs, previous, message) -> visaStatusLadda.setText(message));
 
         task.setOnSucceeded(evt -> {
             TimeEditScheduleDTO schedule = task.getValue();
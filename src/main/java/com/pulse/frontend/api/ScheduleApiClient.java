@@ -1,12 +1,20 @@
 package com.pulse.frontend.api;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.pulse.domain.ErrorResponse;
+import com.pulse.integration.timeedit.dto.TimeEditEventDTO;
 import com.pulse.integration.timeedit.dto.TimeEditScheduleDTO;
+import com.pulse.integration.timeedit.dto.TimeEditScheduleDeltaDTO;
+import com.pulse.util.StringDictionary;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.net.http.HttpClient;
@@ -14,6 +22,12 @@ import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 
 public class ScheduleApiClient {
 
@@ -45,17 +59,25 @@ public class ScheduleApiClient {
 					.uri(uri)
 					.timeout(Duration.ofSeconds(45))
 					.header("Accept", "application/json")
+					.header("Accept-Encoding", "gzip")
 					.GET()
 					.build();
 
 			// sends the request to the server
-			HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+			HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
 			int status = response.statusCode();
-			String body = response.body() == null ? "" : response.body();
+			String body;
+			try (InputStream in = decoded(response)) {
+				body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+			}
 
 			// success
 			if (status >= 200 && status < 300) {
 				TimeEditScheduleDTO schedule = objectMapper.readValue(body, TimeEditScheduleDTO.class);
+				if (schedule.getEvents() != null) {
+					StringDictionary strings = new StringDictionary();
+					schedule.getEvents().forEach(event -> shareStrings(event, strings));
+				}
 				logger.info(
 						"Fetched schedule: events={}, rangeStart={}, rangeEnd={}, timeeditUrl={}",
 						schedule.getSummary() != null ? schedule.getSummary().getEventCount() : (schedule.getEvents() != null ? schedule.getEvents().size() : 0),
@@ -84,6 +106,149 @@ public class ScheduleApiClient {
 		}
 	}
 
+	/**
+	 * Changes to the schedule since {@code since}, the version of a schedule fetched earlier.
+	 * When the server no longer knows that version the delta is full: every event is in added.
+	 */
+	public TimeEditScheduleDeltaDTO fetchTimeEditScheduleDelta(String timeeditUrl, String since) {
+		if (timeeditUrl == null || timeeditUrl.isBlank()) {
+			throw new ApiException(400, "INVALID_TIMEEDIT_URL", "Missing required query parameter: timeeditUrl");
+		}
+
+		try {
+			URI uri = URI.create(baseUrl + "/api/timeedit/schedule?timeeditUrl="
+					+ URLEncoder.encode(timeeditUrl, StandardCharsets.UTF_8)
+					+ "&since=" + URLEncoder.encode(since == null ? "" : since, StandardCharsets.UTF_8));
+
+			HttpRequest request = HttpRequest.newBuilder()
+					.uri(uri)
+					.timeout(Duration.ofSeconds(45))
+					.header("Accept", "application/json")
+					.header("Accept-Encoding", "gzip")
+					.GET()
+					.build();
+
+			HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+			int status = response.statusCode();
+			String body;
+			try (InputStream in = decoded(response)) {
+				body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+			}
+			if (status < 200 || status >= 300) {
+				throw toApiException(status, body);
+			}
+
+			TimeEditScheduleDeltaDTO delta = objectMapper.readValue(body, TimeEditScheduleDeltaDTO.class);
+			StringDictionary strings = new StringDictionary();
+			delta.getAdded().forEach(event -> shareStrings(event, strings));
+			delta.getChanged().forEach(event -> shareStrings(event, strings));
+			logger.info(
+					"Fetched schedule delta: full={}, added={}, changed={}, removed={}, timeeditUrl={}",
+					delta.isFull(), delta.getAdded().size(), delta.getChanged().size(), delta.getRemoved().size(),
+					delta.getTimeeditUrl()
+			);
+			return delta;
+		} catch (ApiException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new ApiException(0, "CLIENT_ERROR", "Failed to call server", e);
+		}
+	}
+
+	/**
+	 * Like {@link #fetchTimeEditSchedule(String)}, but asks for the NDJSON stream and hands each
+	 * event to {@code onEvent} as its line arrives, so callers can render before the whole
+	 * schedule has been read. Returns the complete schedule once the trailing summary line is in.
+	 */
+	public TimeEditScheduleDTO fetchTimeEditScheduleStreaming(String timeeditUrl, Consumer<TimeEditEventDTO> onEvent) {
+		if (timeeditUrl == null || timeeditUrl.isBlank()) {
+			throw new ApiException(400, "INVALID_TIMEEDIT_URL", "Missing required query parameter: timeeditUrl");
+		}
+
+		try {
+			String encoded = URLEncoder.encode(timeeditUrl, StandardCharsets.UTF_8);
+			URI uri = URI.create(baseUrl + "/api/timeedit/schedule?timeeditUrl=" + encoded);
+
+			HttpRequest request = HttpRequest.newBuilder()
+					.uri(uri)
+					.timeout(Duration.ofSeconds(45))
+					.header("Accept", "application/x-ndjson")
+					.header("Accept-Encoding", "gzip")
+					.GET()
+					.build();
+
+			HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+			int status = response.statusCode();
+			try (BufferedReader reader = new BufferedReader(new InputStreamReader(decoded(response), StandardCharsets.UTF_8));
+					Stream<String> lines = reader.lines()) {
+				Iterator<String> it = lines.iterator();
+				if (status < 200 || status >= 300) {
+					StringBuilder body = new StringBuilder();
+					it.forEachRemaining(body::append);
+					throw toApiException(status, body.toString());
+				}
+
+				List<TimeEditEventDTO> events = new ArrayList<>();
+				StringDictionary strings = new StringDictionary();
+				while (it.hasNext()) {
+					String line = it.next();
+					if (line.isBlank()) {
+						continue;
+					}
+					JsonNode node = objectMapper.readTree(line);
+					if (node.has("error")) {
+						// The server had already started streaming when parsing failed
+						ErrorResponse error = objectMapper.treeToValue(node, ErrorResponse.class);
+						throw new ApiException(status, error.getError().getCode(), error.getError().getMessage());
+					}
+					if (node.has("summary")) {
+						TimeEditScheduleDTO schedule = objectMapper.treeToValue(node, TimeEditScheduleDTO.class);
+						schedule.setEvents(events);
+						logger.info("Streamed schedule: events={}, timeeditUrl={}", events.size(), schedule.getTimeeditUrl());
+						return schedule;
+					}
+					TimeEditEventDTO event = shareStrings(objectMapper.treeToValue(node, TimeEditEventDTO.class), strings);
+					events.add(event);
+					onEvent.accept(event);
+				}
+			}
+			throw new ApiException(status, "CLIENT_ERROR", "Schedule stream ended without a summary");
+		} catch (ApiException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new ApiException(0, "CLIENT_ERROR", "Failed to call server", e);
+		}
+	}
+
+	// The server gzips schedules when asked to; HttpClient leaves decoding to the caller
+	private static InputStream decoded(HttpResponse<InputStream> response) throws IOException {
+		boolean gzip = response.headers().firstValue("Content-Encoding")
+				.map(encoding -> encoding.equalsIgnoreCase("gzip"))
+				.orElse(false);
+		return gzip ? new GZIPInputStream(response.body()) : response.body();
+	}
+
+	// Jackson creates a new String per event; the rows built from a schedule keep these, so
+	// repeated titles, rooms and comments are shared instead
+	private static TimeEditEventDTO shareStrings(TimeEditEventDTO event, StringDictionary strings) {
+		event.setTitle(strings.share(event.getTitle()));
+		event.setLocation(strings.share(event.getLocation()));
+		event.setDescription(strings.share(event.getDescription()));
+		return event;
+	}
+
+	private ApiException toApiException(int status, String body) {
+		ErrorResponse errorResponse = tryParseError(body);
+		if (errorResponse != null && errorResponse.getError() != null) {
+			String code = errorResponse.getError().getCode();
+			String message = errorResponse.getError().getMessage();
+			logger.warn("Schedule fetch failed: httpStatus={}, code={}, message={}", status, code, message);
+			return new ApiException(status, code, message);
+		}
+		logger.warn("Schedule fetch failed: httpStatus={}, bodyLength={}", status, body.length());
+		return new ApiException(status, "UNKNOWN_ERROR", "Request failed (HTTP " + status + ")");
+	}
+
 	private ErrorResponse tryParseError(String body) {
 		if (body == null || body.isBlank()) {
 			return null;
@@ -3,6 +3,7 @@ package com.pulse.frontend.api;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.pulse.domain.ErrorResponse;
+import com.pulse.domain.PublishJobStatus;
 import com.pulse.domain.TransferRequest;
 import com.pulse.domain.TransferResult;
 import org.slf4j.Logger;
@@ -13,6 +14,9 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
 
 public class TransferApiClient {
 
@@ -89,6 +93,129 @@ public class TransferApiClient {
         }
     }
 
+    /**
+     * Starts a background publish and returns the job id right away.
+     */
+    public String startPublishJob(TransferRequest requestBody) {
+        try {
+            URI uri = URI.create(baseUrl + "/api/canvas/publish/jobs");
+            byte[] jsonBytes = objectMapper.writeValueAsBytes(requestBody);
+
+            HttpRequest request = HttpRequest.newBuilder()
+                    .uri(uri)
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Accept", "application/json")
+                    .header("Content-Type", "application/json; charset=UTF-8")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(jsonBytes))
+                    .build();
+
+            logger.info("Submitting publish job to {} with {} bytes", uri, jsonBytes.length);
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            String body = response.body() == null ? "" : response.body();
+            if (response.statusCode() == 202) {
+                String jobId = objectMapper.readValue(body, PublishJobStatus.class).getJobId();
+                logger.info("Publish job accepted: jobId={}", jobId);
+                return jobId;
+            }
+            throw toApiException(response.statusCode(), body);
+        } catch (ApiException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.error("Unexpected error while submitting publish job", e);
+            throw new ApiException(0, "CLIENT_ERROR", "Failed to call server", e);
+        }
+    }
+
+    /**
+     * Follows a publish job's event stream until it finishes, passing each batch of event results
+     * and each progress summary to the listener on the calling thread.
+     *
+     * @return the final job status (with result or error)
+     */
+    public PublishJobStatus followPublishJob(String jobId, PublishProgressListener listener) {
+        try {
+            URI uri = URI.create(baseUrl + "/api/canvas/publish/jobs/" + jobId + "/events");
+            // No request timeout: the stream stays open for as long as the publish runs
+            HttpRequest request = HttpRequest.newBuilder()
+                    .uri(uri)
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .header("Accept", "text/event-stream")
+                    .GET()
+                    .build();
+
+            HttpResponse<Stream<String>> response = httpClient.send(request, HttpResponse.BodyHandlers.ofLines());
+            try (Stream<String> lines = response.body()) {
+                if (response.statusCode() != 200) {
+                    throw toApiException(response.statusCode(), String.join("\n", (Iterable<String>) lines::iterator));
+                }
+
+                String event = null;
+                StringBuilder data = new StringBuilder();
+                for (Iterator<String> it = lines.iterator(); it.hasNext(); ) {
+                    String line = it.next();
+                    if (line.isEmpty()) {
+                        PublishJobStatus done = dispatch(event, data.toString(), listener);
+                        if (done != null) {
+                            return done;
+                        }
+                        event = null;
+                        data.setLength(0);
+                    } else if (line.startsWith("event:")) {
+                        event = line.substring(6).trim();
+                    } else if (line.startsWith("data:")) {
+                        data.append(line.substring(5).trim());
+                    }
+                    // id: lines only matter when resuming, which this client does not do
+                }
+            }
+            throw new ApiException(0, "CLIENT_ERROR", "Publish progress stream ended before the job finished");
+        } catch (ApiException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.error("Unexpected error while following publish job {}", jobId, e);
+            throw new ApiException(0, "CLIENT_ERROR", "Failed to follow publish job", e);
+        }
+    }
+
+    // Hands one SSE message to the listener; returns the final status for "done"
+    private PublishJobStatus dispatch(String event, String data, PublishProgressListener listener) throws Exception {
+        if (event == null || data.isEmpty()) {
+            return null;
+        }
+        switch (event) {
+            case "events" -> listener.onEvents(objectMapper.readValue(data,
+                    objectMapper.getTypeFactory().constructCollectionType(List.class, PublishJobStatus.EventResult.class)));
+            case "progress" -> listener.onProgress(objectMapper.readValue(data, PublishJobStatus.class));
+            case "done" -> {
+                return objectMapper.readValue(data, PublishJobStatus.class);
+            }
+            default -> logger.debug("Ignoring unknown publish stream event '{}'", event);
+        }
+        return null;
+    }
+
+    /**
+     * Receives a publish job's progress; batches arrive at most a few times per second.
+     */
+    public interface PublishProgressListener {
+
+        void onEvents(List<PublishJobStatus.EventResult> results);
+
+        void onProgress(PublishJobStatus progress);
+    }
+
+    private ApiException toApiException(int status, String body) {
+        ErrorResponse errorResponse = tryParseError(body);
+        if (errorResponse != null && errorResponse.getError() != null) {
+            logger.warn("Request failed: httpStatus={}, code={}, message={}", status,
+                    errorResponse.getError().getCode(), errorResponse.getError().getMessage());
+            return new ApiException(status, errorResponse.getError().getCode(), errorResponse.getError().getMessage());
+        }
+        logger.warn("Request failed: httpStatus={}, raw body: {}", status, body);
+        return new ApiException(status, "UNKNOWN_ERROR", "Request failed (HTTP " + status + ")");
+    }
+
     private ErrorResponse tryParseError(String body) {
         if (body == null || body.isBlank()) return null;
         try {
@@ -17,6 +17,10 @@ public class ScheduleRow {
     private final StringProperty plats = new SimpleStringProperty();
     private final StringProperty beskrivning = new SimpleStringProperty();
     private final BooleanProperty andrad = new SimpleBooleanProperty();
+    // Outcome of the latest publish for this row, empty until one has run
+    private final StringProperty publiceringsstatus = new SimpleStringProperty("");
+    // TimeEdit reservation id; not shown, but lets the server recognise a republished event
+    private String externalId;
 
     // Constructor
     public ScheduleRow(String kurs, String aktivitet, String larare, String startDatum, String slutDatum, String startTid, String slutTid, String plats, String beskrivning, boolean andrad) {
@@ -73,6 +77,10 @@ public class ScheduleRow {
         return andrad.get();
     }
 
+    public String getExternalId() {
+        return externalId;
+    }
+
 
     // Property getters for binding
     public StringProperty kursProperty() {
@@ -115,6 +123,14 @@ public class ScheduleRow {
         return andrad;
     }
 
+    public StringProperty publiceringsstatusProperty() {
+        return publiceringsstatus;
+    }
+
+    public String getPubliceringsstatus() {
+        return publiceringsstatus.get();
+    }
+
     // Setters
     public void setLarare(String larare) {
         this.larare.set(larare);
@@ -155,5 +171,13 @@ public class ScheduleRow {
     public void setAndrad(boolean andrad) {
         this.andrad.set(andrad);
     }
+
+    public void setExternalId(String externalId) {
+        this.externalId = externalId;
+    }
+
+    public void setPubliceringsstatus(String publiceringsstatus) {
+        this.publiceringsstatus.set(publiceringsstatus);
+    }
     
 }
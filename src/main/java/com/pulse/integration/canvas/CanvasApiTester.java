@@ -1,12 +1,19 @@
 package com.pulse.integration.canvas;
 
 import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
 import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.HttpStatus;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -16,21 +23,72 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 /**
  * Tests Canvas API connectivity and credentials.
  * Equivalent to: curl -H "Authorization: Bearer $CANVAS_TOKEN" $CANVAS_BASE_URL/api/v1/users/self/profile
+ *
+ * Holds one pooled keep-alive HTTP client for its lifetime; the server binds a single instance.
  */
-public class CanvasApiTester {
+public class CanvasApiTester implements AutoCloseable {
     
     private static final Logger logger = LoggerFactory.getLogger(CanvasApiTester.class);
     private static final ObjectMapper mapper = new ObjectMapper();
+
+    private final CloseableHttpClient httpClient;
+    // Explicit settings (stub servers, benchmarks); null means read CanvasConfig
+    private final String baseUrlOverride;
+    private final String tokenOverride;
+
+    /**
+     * Creates a tester backed by the given client, which it closes on {@link #close()}.
+     * @param httpClient HTTP client to send the profile request with
+     * @param baseUrl Canvas base URL, or null to use config
+     * @param token API token, or null to use config
+     */
+    public CanvasApiTester(CloseableHttpClient httpClient, String baseUrl, String token) {
+        this.httpClient = httpClient;
+        this.baseUrlOverride = baseUrl;
+        this.tokenOverride = token;
+    }
+
+    /**
+     * Creates a tester with a keep-alive connection pool sized and timed by {@code settings}.
+     */
+    public static CanvasApiTester pooled(CanvasHttpSettings settings, String baseUrl, String token) {
+        return new CanvasApiTester(pooledClient(settings), baseUrl, token);
+    }
+
+    /**
+     * Pooled Apache client: bounded per host and in total, idle connections evicted after the idle timeout.
+     */
+    public static CloseableHttpClient pooledClient(CanvasHttpSettings settings) {
+        return HttpClients.custom()
+                .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(settings.maxConnections())
+                        .setMaxConnPerRoute(settings.maxPerRoute())
+                        .setDefaultConnectionConfig(ConnectionConfig.custom()
+                                .setConnectTimeout(Timeout.of(settings.connectTimeout()))
+                                .setSocketTimeout(Timeout.of(settings.readTimeout()))
+                                .setTimeToLive(TimeValue.ofMinutes(5))
+                                .build())
+                        .setDefaultSocketConfig(SocketConfig.custom()
+                                .setSoKeepAlive(true)
+                                .build())
+                        .build())
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(settings.connectTimeout()))
+                        .build())
+                .evictIdleConnections(TimeValue.of(settings.idleTimeout()))
+                .evictExpiredConnections()
+                .build();
+    }
     
     /**
      * Tests the Canvas API credentials by fetching the current user's profile.
      * @return CanvasTestResult containing success status and details
      */
-    public static CanvasTestResult testCanvasConnection() {
+    public CanvasTestResult testCanvasConnection() {
         logger.info("Testing Canvas API connection...");
         
-        String token = CanvasConfig.getCanvasToken();
-        String baseUrl = CanvasConfig.getCanvasBaseUrl();
+        String token = tokenOverride != null ? tokenOverride : CanvasConfig.getCanvasToken();
+        String baseUrl = baseUrlOverride != null ? baseUrlOverride : CanvasConfig.getCanvasBaseUrl();
         
         // Validate config
         if (token == null || token.isEmpty()) {
@@ -44,7 +102,7 @@ public class CanvasApiTester {
         String profileUrl = baseUrl.replaceAll("/$", "") + "/api/v1/users/self/profile";
         logger.info("Requesting Canvas API: {}", profileUrl);
         
-        try (CloseableHttpClient httpClient = HttpClients.createDefault()) {
+        try {
             HttpGet httpGet = new HttpGet(profileUrl);
             
             // Set Authorization header with Bearer token
@@ -101,6 +159,14 @@ public class CanvasApiTester {
         }
     }
     
+    /**
+     * Closes the HTTP client and its pooled connections.
+     */
+    @Override
+    public void close() {
+        httpClient.close(CloseMode.GRACEFUL);
+    }
+
     /**
      * Result of Canvas API test.
      */
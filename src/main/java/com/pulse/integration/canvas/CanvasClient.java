@@ -1,21 +1,45 @@
 package com.pulse.integration.canvas;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.glassfish.jersey.client.ClientConfig;
+
 import jakarta.ws.rs.ProcessingException;
 import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.client.ClientBuilder;
 import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.client.WebTarget;
 import jakarta.ws.rs.core.Form;
+import jakarta.ws.rs.core.Link;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriBuilder;
 
 import com.pulse.integration.canvas.dto.CanvasCalendarEventRequest;
 import com.pulse.integration.canvas.dto.CanvasCalendarEventResponse;
 import com.pulse.integration.canvas.dto.CanvasUser;
+import com.pulse.metrics.Histogram;
+import com.pulse.metrics.Metrics;
+import com.pulse.util.CircuitBreaker;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.function.Consumer;
 
 
 
@@ -24,20 +48,78 @@ import com.pulse.integration.canvas.dto.CanvasUser;
  *
  * Responsibilities:
  * - Validate Canvas config (CANVAS_BASE_URL, CANVAS_TOKEN)
+ * - Fail fast with CANVAS_UNREACHABLE while the host's circuit breaker is open
  * - Make HTTP calls to Canvas
  * - Handle network errors (CANVAS_UNREACHABLE)
  * - Handle auth errors (CANVAS_UNAUTHORIZED)
  * - Handle HTTP errors (CANVAS_ERROR_RESPONSE)
+ *
+ * Each instance owns a JAX-RS client (connection handling, provider chain), so create one per
+ * application and share it; the server binds a single instance (see ClientBinder). Thread-safe.
  */
-public class CanvasClient {
+public class CanvasClient implements AutoCloseable {
     private static final Logger logger = LoggerFactory.getLogger(CanvasClient.class);
+
+    // Canvas caps per_page at 100
+    private static final int LIST_PAGE_SIZE = 100;
+    private static final ObjectReader LIST_READER = new ObjectMapper().readerFor(CanvasCalendarEventResponse.class);
+
+    // pulse_canvas_request_seconds by HTTP status, filled in as statuses are first seen
+    private static final Histogram[] callSeconds = new Histogram[600];
     
     private final Client client;
+    // Explicit settings (stub servers, benchmarks); null means read CanvasConfig
+    private final String baseUrlOverride;
+    private final String tokenOverride;
+    private final CanvasRateLimitGovernor governor;
 
     public CanvasClient() {
+        this(null, null);
+    }
+
+    /**
+     * Creates a client bound to the given Canvas instance instead of CANVAS_BASE_URL / CANVAS_TOKEN.
+     * @param baseUrl Canvas base URL, or null to use config
+     * @param token API token, or null to use config
+     */
+    public CanvasClient(String baseUrl, String token) {
+        this(baseUrl, token, CanvasRateLimitGovernor.shared());
+    }
+
+    /**
+     * Creates a client with its own rate-limit governor (e.g. an isolated stub server).
+     * @param baseUrl Canvas base URL, or null to use config
+     * @param token API token, or null to use config
+     * @param governor paces calls from the X-Rate-Limit-* response headers
+     */
+    public CanvasClient(String baseUrl, String token, CanvasRateLimitGovernor governor) {
+        this(baseUrl, token, governor, CanvasHttpSettings.fromConfig());
+    }
+
+    /**
+     * Creates a client with explicit connection settings.
+     * @param baseUrl Canvas base URL, or null to use config
+     * @param token API token, or null to use config
+     * @param governor paces calls from the X-Rate-Limit-* response headers
+     * @param settings timeouts and keep-alive pool size
+     */
+    public CanvasClient(String baseUrl, String token, CanvasRateLimitGovernor governor, CanvasHttpSettings settings) {
+        // Pool size and timeouts belong to this client's connector, not to JVM-wide properties
         this.client = ClientBuilder.newBuilder()
+            .withConfig(new ClientConfig().connectorProvider(PooledHttpConnector.provider(settings)))
             .register(com.pulse.util.ObjectMapperContextResolver.class)
             .build();
+        this.baseUrlOverride = baseUrl;
+        this.tokenOverride = token;
+        this.governor = governor;
+    }
+
+    /**
+     * Releases the underlying JAX-RS client.
+     */
+    @Override
+    public void close() {
+        client.close();
     }
 
     /**
@@ -45,7 +127,7 @@ public class CanvasClient {
      * @return Base URL string or null
      */
     private String getBaseUrlOrNull() {
-        String baseUrl = CanvasConfig.getCanvasBaseUrl();
+        String baseUrl = baseUrlOverride != null ? baseUrlOverride : CanvasConfig.getCanvasBaseUrl();
         if (baseUrl == null) return null;
         baseUrl = baseUrl.trim();
         if (baseUrl.isEmpty()) return null;
@@ -57,7 +139,7 @@ public class CanvasClient {
      * @return Token string or null
      */
     private String getTokenOrNull() {
-        String token = CanvasConfig.getCanvasToken();
+        String token = tokenOverride != null ? tokenOverride : CanvasConfig.getCanvasToken();
         if (token == null) return null;
         token = token.trim();
         return token.isEmpty() ? null : token;
@@ -96,7 +178,206 @@ public class CanvasClient {
      */
     public CanvasResponse<CanvasCalendarEventResponse> createCalendarEvent(CanvasCalendarEventRequest req) {
         logger.debug("createCalendarEvent called");
-        
+        return sendCalendarEvent("POST", "/api/v1/calendar_events", req);
+    }
+
+    /**
+     * Updates an existing Canvas calendar event in place (PUT /api/v1/calendar_events/:id).
+     * @param canvasId id of the event returned when it was created
+     * @param req the new event content
+     * @return CanvasResponse with CanvasCalendarEventResponse on success, or error details (404 if the event is gone)
+     */
+    public CanvasResponse<CanvasCalendarEventResponse> updateCalendarEvent(long canvasId, CanvasCalendarEventRequest req) {
+        logger.debug("updateCalendarEvent called: canvasId={}", canvasId);
+        return sendCalendarEvent("PUT", "/api/v1/calendar_events/" + canvasId, req);
+    }
+
+    /**
+     * Deletes a Canvas calendar event (DELETE /api/v1/calendar_events/:id).
+     * @param canvasId id of the event to delete
+     * @return CanvasResponse with the deleted event on success, or error details (404 if it is already gone)
+     */
+    public CanvasResponse<CanvasCalendarEventResponse> deleteCalendarEvent(long canvasId) {
+        return deleteCalendarEvent(canvasId, false);
+    }
+
+    /**
+     * Deletes a Canvas calendar event, or the whole series it belongs to (which=all).
+     * @param canvasId id of the event to delete
+     * @param wholeSeries true to delete every event in the event's series
+     * @return CanvasResponse with the deleted event on success, or error details (404 if it is already gone)
+     */
+    public CanvasResponse<CanvasCalendarEventResponse> deleteCalendarEvent(long canvasId, boolean wholeSeries) {
+        logger.debug("deleteCalendarEvent called: canvasId={}, wholeSeries={}", canvasId, wholeSeries);
+
+        String baseUrl = getBaseUrlOrNull();
+        if (baseUrl == null) {
+            return CanvasResponse.configError("Missing CANVAS_BASE_URL in environment");
+        }
+
+        String token = getTokenOrNull();
+        if (token == null) {
+            return CanvasResponse.configError("Missing CANVAS_TOKEN in environment");
+        }
+
+        CircuitBreaker breaker = CircuitBreaker.forUrl(baseUrl);
+        if (!breaker.tryAcquire()) {
+            return circuitOpen();
+        }
+        try {
+            governor.acquire();
+        } catch (InterruptedException e) {
+            breaker.onIgnored();
+            Thread.currentThread().interrupt();
+            return CanvasResponse.notSent("Interrupted while waiting for Canvas rate limit");
+        }
+
+        WebTarget target = client.target(baseUrl + "/api/v1/calendar_events/" + canvasId);
+        if (wholeSeries) {
+            target = target.queryParam("which", "all");
+        }
+
+        long started = System.nanoTime();
+
+        try (Response res = target
+                .request(MediaType.APPLICATION_JSON_TYPE)
+                .header("Authorization", "Bearer " + token)
+                .delete()) {
+
+            int status = res.getStatus();
+            boolean rateLimited = observeResponse(res, started, breaker);
+
+            if (status == 401) {
+                return CanvasResponse.unauthorized("Canvas API authentication failed (401). Check CANVAS_TOKEN.");
+            }
+
+            if (status < 200 || status >= 300) {
+                String body = safeReadBody(res);
+                logger.warn("Canvas API error response: status={}, body={}", status, body);
+                return CanvasResponse.errorResponse(
+                        "Canvas API returned HTTP " + status + (body != null ? (": " + body) : ""),
+                        status,
+                        rateLimited,
+                        parseRetryAfter(res.getHeaderString("Retry-After"))
+                );
+            }
+
+            logger.info("Calendar event deleted: id={}, wholeSeries={}", canvasId, wholeSeries);
+            return CanvasResponse.success(res.readEntity(CanvasCalendarEventResponse.class));
+
+        } catch (ProcessingException e) {
+
+            breaker.onFailure();
+            logger.error("Canvas host unreachable: {}", e.getMessage(), e);
+            return unreachable(e);
+        } finally {
+            governor.release();
+        }
+    }
+
+    /**
+     * Lists the calendar events of one context that fall in [start, end]
+     * (GET /api/v1/calendar_events, following the Link rel="next" pages).
+     *
+     * Each page is parsed as a stream and every event is handed to {@code sink} as soon as it is
+     * read, so memory use does not grow with the number of events. If a later page fails, the
+     * events already handed over stay delivered and the error is returned.
+     *
+     * @param contextCode e.g. course_123
+     * @param start earliest event start to include
+     * @param end latest event start to include
+     * @param sink receives each listed event
+     * @return CanvasResponse with the number of events listed, or error details
+     */
+    public CanvasResponse<Integer> listCalendarEvents(String contextCode, Instant start, Instant end,
+            Consumer<CanvasCalendarEventResponse> sink) {
+        String baseUrl = getBaseUrlOrNull();
+        if (baseUrl == null) {
+            return CanvasResponse.configError("Missing CANVAS_BASE_URL in environment");
+        }
+
+        String token = getTokenOrNull();
+        if (token == null) {
+            return CanvasResponse.configError("Missing CANVAS_TOKEN in environment");
+        }
+
+        URI next = UriBuilder.fromUri(baseUrl + "/api/v1/calendar_events")
+                .queryParam("context_codes[]", contextCode)
+                .queryParam("start_date", start.toString())
+                .queryParam("end_date", end.toString())
+                .queryParam("per_page", LIST_PAGE_SIZE)
+                .build();
+
+        int listed = 0;
+        int pages = 0;
+        while (next != null) {
+            CircuitBreaker breaker = CircuitBreaker.forUrl(baseUrl);
+            if (!breaker.tryAcquire()) {
+                return circuitOpen();
+            }
+            try {
+                governor.acquire();
+            } catch (InterruptedException e) {
+                breaker.onIgnored();
+                Thread.currentThread().interrupt();
+                return CanvasResponse.notSent("Interrupted while waiting for Canvas rate limit");
+            }
+
+            long started = System.nanoTime();
+
+            try (Response res = client.target(next)
+                    .request(MediaType.APPLICATION_JSON_TYPE)
+                    .header("Authorization", "Bearer " + token)
+                    .get()) {
+
+                int status = res.getStatus();
+                boolean rateLimited = observeResponse(res, started, breaker);
+
+                if (status == 401) {
+                    return CanvasResponse.unauthorized("Canvas API authentication failed (401). Check CANVAS_TOKEN.");
+                }
+
+                if (status < 200 || status >= 300) {
+                    String body = safeReadBody(res);
+                    logger.warn("Canvas API error response while listing events: status={}, body={}", status, body);
+                    return CanvasResponse.errorResponse(
+                            "Canvas API returned HTTP " + status + (body != null ? (": " + body) : ""),
+                            status,
+                            rateLimited,
+                            parseRetryAfter(res.getHeaderString("Retry-After"))
+                    );
+                }
+
+                try (InputStream body = res.readEntity(InputStream.class);
+                     MappingIterator<CanvasCalendarEventResponse> events =
+                             LIST_READER.readValues(body)) {
+                    while (events.hasNextValue()) {
+                        sink.accept(events.nextValue());
+                        listed++;
+                    }
+                } catch (IOException e) {
+                    return CanvasResponse.errorResponse("Canvas returned an unreadable event list: " + e.getMessage(), status);
+                }
+
+                pages++;
+                Link link = res.getLink("next");
+                next = link != null ? link.getUri() : null;
+
+            } catch (ProcessingException e) {
+
+                breaker.onFailure();
+                logger.error("Canvas host unreachable: {}", e.getMessage(), e);
+                return unreachable(e);
+            } finally {
+                governor.release();
+            }
+        }
+
+        logger.debug("Listed {} calendar events in {} over {} pages", listed, contextCode, pages);
+        return CanvasResponse.success(listed);
+    }
+
+    private CanvasResponse<CanvasCalendarEventResponse> sendCalendarEvent(String method, String path, CanvasCalendarEventRequest req) {
         // Validate request 
         if (req == null) {
             logger.error("Request is null");
@@ -116,8 +397,8 @@ public class CanvasClient {
         }
 
         // Build URL
-        String url = baseUrl + "/api/v1/calendar_events";
-        logger.debug("Creating calendar event at URL: {}", url);
+        String url = baseUrl + path;
+        logger.debug("Sending calendar event: {} {}", method, url);
         logger.debug("Event details: context={}, title={}, start={}, end={}", 
             req.getContextCode(), req.getTitle(), req.getStartAt(), req.getEndAt());
 
@@ -138,13 +419,35 @@ public class CanvasClient {
             logger.debug("Description length: {} chars", req.getDescription().length());
         }
 
+        if (req.getRrule() != null) {
+            // Canvas expands the rule into a series and returns its first event
+            form.param("calendar_event[rrule]", req.getRrule());
+            logger.debug("Recurrence: {}", req.getRrule());
+        }
+
+        // Wait for a slot in the rate-limit window before spending any of the bucket
+        CircuitBreaker breaker = CircuitBreaker.forUrl(baseUrl);
+        if (!breaker.tryAcquire()) {
+            return circuitOpen();
+        }
+        try {
+            governor.acquire();
+        } catch (InterruptedException e) {
+            breaker.onIgnored();
+            Thread.currentThread().interrupt();
+            return CanvasResponse.notSent("Interrupted while waiting for Canvas rate limit");
+        }
+
+        long started = System.nanoTime();
+
         try (Response res = client.target(url)
                 .request(MediaType.APPLICATION_JSON_TYPE)
                 .header("Authorization", "Bearer " + token)
-                .post(Entity.entity(form, MediaType.APPLICATION_FORM_URLENCODED_TYPE))) {
+                .method(method, Entity.entity(form, MediaType.APPLICATION_FORM_URLENCODED_TYPE))) {
 
             int status = res.getStatus();
             logger.debug("Canvas API response status: {}", status);
+            boolean rateLimited = observeResponse(res, started, breaker);
 
             if (status == 401) {
                 logger.error("Canvas authentication failed (401)");
@@ -156,21 +459,107 @@ public class CanvasClient {
                 logger.warn("Canvas API error response: status={}, body={}", status, body);
                 return CanvasResponse.errorResponse(
                         "Canvas API returned HTTP " + status + (body != null ? (": " + body) : ""),
-                        status
+                        status,
+                        rateLimited,
+                        parseRetryAfter(res.getHeaderString("Retry-After"))
                 );
             }
 
-            CanvasCalendarEventResponse created = res.readEntity(CanvasCalendarEventResponse.class);
-            logger.info("Calendar event created successfully: id={}, title={}", 
-                created != null ? created.getId() : "unknown");
-            return CanvasResponse.success(created);
+            CanvasCalendarEventResponse saved = res.readEntity(CanvasCalendarEventResponse.class);
+            logger.info("Calendar event {} successfully: id={}, title={}", 
+                "PUT".equals(method) ? "updated" : "created",
+                saved != null ? saved.getId() : "unknown",
+                req.getTitle());
+            return CanvasResponse.success(saved);
 
         } catch (ProcessingException e) {
+
+            breaker.onFailure();
             logger.error("Canvas host unreachable: {}", e.getMessage(), e);
-            return CanvasResponse.unreachable("Canvas host could not be reached: " + e.getMessage());
+            return unreachable(e);
+        } finally {
+            governor.release();
         }
 }
 
+    /**
+     * Records the call's latency by status code and feeds the rate-limit headers of a Canvas response to the governor.
+     * @param res Response object
+     * @param started System.nanoTime() when the request was sent
+     * @param breaker the Canvas host's circuit breaker, told whether the host answered properly
+     * @return true if Canvas refused the call because the rate-limit bucket is empty
+     */
+    private boolean observeResponse(Response res, long started, CircuitBreaker breaker) {
+        callSeconds(res.getStatus()).observeSince(started);
+        if (CircuitBreaker.isHostFailure(res.getStatus())) {
+            breaker.onFailure();
+        } else {
+            breaker.onSuccess();
+        }
+        Double remaining = parseHeader(res.getHeaderString("X-Rate-Limit-Remaining"));
+        governor.onResponse(res.getStatus(), remaining, parseHeader(res.getHeaderString("X-Request-Cost")));
+        return CanvasRateLimitGovernor.isThrottled(res.getStatus(), remaining);
+    }
+
+    private static <T> CanvasResponse<T> circuitOpen() {
+        logger.warn("Canvas circuit open, failing call fast");
+        return CanvasResponse.circuitOpen("Canvas host is not responding; requests are paused for a short while (circuit open)");
+    }
+
+    // A refused connection or unknown host never got the request to Canvas; anything later might have
+    private static <T> CanvasResponse<T> unreachable(ProcessingException e) {
+        String message = "Canvas host could not be reached: " + e.getMessage();
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException || cause instanceof UnknownHostException
+                    || cause instanceof NoRouteToHostException) {
+                return CanvasResponse.notSent(message);
+            }
+        }
+        return CanvasResponse.unreachable(message);
+    }
+
+    private static Histogram callSeconds(int status) {
+        int code = status >= 100 && status < 600 ? status : 0;
+        Histogram histogram = callSeconds[code];
+        if (histogram == null) {
+            // Racing threads get the same registered instance
+            histogram = Metrics.timer(Metrics.series("pulse_canvas_request_seconds", "status", String.valueOf(code)));
+            callSeconds[code] = histogram;
+        }
+        return histogram;
+    }
+
+    /**
+     * Parses a Retry-After header given as delta-seconds or an HTTP date.
+     * @param value header value
+     * @return how long Canvas asked us to wait, or null if absent/unparseable
+     */
+    static Duration parseRetryAfter(String value) {
+        if (value == null || value.isBlank()) return null;
+        String v = value.trim();
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(v)));
+        } catch (NumberFormatException e) {
+            // not delta-seconds; try the HTTP-date form
+        }
+        try {
+            ZonedDateTime at = ZonedDateTime.parse(v, DateTimeFormatter.RFC_1123_DATE_TIME);
+            Duration wait = Duration.between(Instant.now(), at.toInstant());
+            return wait.isNegative() ? Duration.ZERO : wait;
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static Double parseHeader(String value) {
+        if (value == null || value.isBlank()) return null;
+        try {
+            return Double.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     /**
      * Tests Canvas API authentication by calling /api/v1/users/self/profile
      * @return CanvasResponse with CanvasUser on success, or error details
@@ -187,6 +576,12 @@ public class CanvasClient {
         }
 
         String url = baseUrl + "/api/v1/users/self/profile";
+
+        CircuitBreaker breaker = CircuitBreaker.forUrl(baseUrl);
+        if (!breaker.tryAcquire()) {
+            return circuitOpen();
+        }
+        long started = System.nanoTime();
         
         try (Response res = client.target(url)
                 .request(MediaType.APPLICATION_JSON_TYPE)
@@ -194,6 +589,7 @@ public class CanvasClient {
                 .get()) {
 
             int status = res.getStatus();
+            observeResponse(res, started, breaker);
 
             if (status == 401) {
                 return CanvasResponse.unauthorized(
@@ -223,7 +619,11 @@ public class CanvasClient {
 
 
         } catch (ProcessingException e) {
-            return CanvasResponse.unreachable("Canvas host could not be reached: " + e.getMessage());
+
+
+
+            breaker.onFailure();
+            return unreachable(e);
         }
     }
 
@@ -236,13 +636,26 @@ public class CanvasClient {
         private final String errorMessage;
         private final Integer httpStatusCode;
         private final T data;
+        private final boolean rateLimited;
+        private final Duration retryAfter;
+        private final boolean notSent;
+        private final boolean circuitOpen;
 
         private CanvasResponse(boolean success, String errorCode, String errorMessage, Integer httpStatusCode, T data) {
+            this(success, errorCode, errorMessage, httpStatusCode, data, false, null, false, false);
+        }
+
+        private CanvasResponse(boolean success, String errorCode, String errorMessage, Integer httpStatusCode, T data,
+                boolean rateLimited, Duration retryAfter, boolean notSent, boolean circuitOpen) {
             this.success = success;
             this.errorCode = errorCode;
             this.errorMessage = errorMessage;
             this.httpStatusCode = httpStatusCode;
             this.data = data;
+            this.rateLimited = rateLimited;
+            this.retryAfter = retryAfter;
+            this.notSent = notSent;
+            this.circuitOpen = circuitOpen;
         }
 
         public static <T> CanvasResponse<T> success(T data) {
@@ -257,14 +670,37 @@ public class CanvasClient {
             return new CanvasResponse<>(false, "CANVAS_UNAUTHORIZED", message, 401, null);
         }
 
+        /**
+         * The call failed on the way to or from Canvas (read timeout, reset connection), so Canvas
+         * may or may not have carried it out.
+         */
         public static <T> CanvasResponse<T> unreachable(String message) {
             return new CanvasResponse<>(false, "CANVAS_UNREACHABLE", message, null, null);
         }
 
+        /**
+         * The request never left this server (connect/DNS failure, interrupted before sending).
+         */
+        public static <T> CanvasResponse<T> notSent(String message) {
+            return new CanvasResponse<>(false, "CANVAS_UNREACHABLE", message, null, null, false, null, true, false);
+        }
+
+        /**
+         * The host's circuit breaker is open, so the request was not sent.
+         */
+        public static <T> CanvasResponse<T> circuitOpen(String message) {
+            return new CanvasResponse<>(false, "CANVAS_UNREACHABLE", message, null, null, false, null, true, true);
+        }
+
         public static <T> CanvasResponse<T> errorResponse(String message, int httpStatus) {
             return new CanvasResponse<>(false, "CANVAS_ERROR_RESPONSE", message, httpStatus, null);
         }
 
+        public static <T> CanvasResponse<T> errorResponse(String message, int httpStatus, boolean rateLimited, Duration retryAfter) {
+            return new CanvasResponse<>(false, "CANVAS_ERROR_RESPONSE", message, httpStatus, null, rateLimited, retryAfter,
+                    false, false);
+        }
+
         public boolean isSuccess() { 
             return success; 
         }
@@ -284,6 +720,35 @@ public class CanvasClient {
         public T getData() { 
             return data; 
         }
+
+        /**
+         * True when Canvas refused the call because the token's rate-limit bucket was empty.
+         */
+        public boolean isRateLimited() {
+            return rateLimited;
+        }
+
+        /**
+         * Delay requested by a Retry-After header, or null if Canvas sent none.
+         */
+        public Duration getRetryAfter() {
+            return retryAfter;
+        }
+
+        /**
+         * True when the request provably never reached Canvas, so repeating even a create cannot
+         * leave a duplicate behind.
+         */
+        public boolean isNotSent() {
+            return notSent;
+        }
+
+        /**
+         * True when the call failed fast because the Canvas host's circuit breaker is open.
+         */
+        public boolean isCircuitOpen() {
+            return circuitOpen;
+        }
     }
 
     @JsonIgnoreProperties(ignoreUnknown = true)
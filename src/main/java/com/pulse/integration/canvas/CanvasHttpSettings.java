@@ -0,0 +1,28 @@
+package com.pulse.integration.canvas;
+
+import com.pulse.config.AppConfig;
+
+import java.time.Duration;
+
+/**
+ * Connection limits and timeouts for the HTTP clients that talk to Canvas.
+ *
+ * @param maxConnections    total pooled connections (CANVAS_HTTP_MAX_CONNECTIONS, default 64)
+ * @param maxPerRoute       pooled connections per Canvas host (CANVAS_HTTP_MAX_PER_ROUTE, default 32)
+ * @param connectTimeout    TCP connect timeout (CANVAS_HTTP_CONNECT_TIMEOUT_MS, default 5000)
+ * @param readTimeout       socket read timeout (CANVAS_HTTP_READ_TIMEOUT_MS, default 30000)
+ * @param idleTimeout       how long an idle keep-alive connection is kept (CANVAS_HTTP_IDLE_TIMEOUT_MS, default 30000)
+ */
+public record CanvasHttpSettings(int maxConnections, int maxPerRoute, Duration connectTimeout, Duration readTimeout,
+        Duration idleTimeout) {
+
+    public static CanvasHttpSettings fromConfig() {
+        return new CanvasHttpSettings(
+                AppConfig.getInt("CANVAS_HTTP_MAX_CONNECTIONS", 64),
+                AppConfig.getInt("CANVAS_HTTP_MAX_PER_ROUTE", 32),
+                Duration.ofMillis(AppConfig.getLong("CANVAS_HTTP_CONNECT_TIMEOUT_MS", 5000)),
+                Duration.ofMillis(AppConfig.getLong("CANVAS_HTTP_READ_TIMEOUT_MS", 30_000)),
+                Duration.ofMillis(AppConfig.getLong("CANVAS_HTTP_IDLE_TIMEOUT_MS", 30_000))
+        );
+    }
+}
@@ -0,0 +1,458 @@
+package com.pulse.integration.canvas;
+
+import com.pulse.config.AppConfig;
+import com.pulse.metrics.Metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UTFDataFormatException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * Remembers which Canvas event each published schedule event became, so a republish can skip
+ * unchanged events and update changed ones in place instead of creating duplicates.
+ *
+ * Keyed by (canvasContext, externalId); each entry holds the Canvas event id, a 64-bit hash of the
+ * content that was sent, and the schedule it came from (so a sync of one schedule never deletes
+ * what another schedule published to the same context). An entry for a weekly series also lists the
+ * externalIds of its occurrences, so a later publish recognises the series after its first weeks
+ * dropped out of the schedule, or replaces it when its occurrences were regrouped. Entries live in
+ * a HashMap per context (O(1) lookups, and a context's entries are visited without scanning the
+ * others); the file is an append-only log of put/remove records replayed on open. Every append is
+ * forced to disk ({@code force(false)}) before put/remove returns, so an event Canvas accepted is
+ * never forgotten after a power loss and republished as a duplicate. A torn record at the tail
+ * (crash mid-write) is dropped; an unreadable record with intact data after it means the file is
+ * corrupt, and opening fails rather than truncating what follows. When dead records outnumber live
+ * entries the log is rewritten on open. The file is locked while open, so a second process using
+ * the same ledger fails at startup.
+ *
+ * Record layout: type byte ('P' put, 'S' put with source, 'M' series put, 'D' remove), context and
+ * externalId as UTF (length-prefixed), then for puts the Canvas id and content hash as longs,
+ * followed by the source as UTF for 'S', and for 'M' a flag and the source if present, then the
+ * occurrence count as an int and each occurrence's externalId as UTF. Puts use the shortest type
+ * that holds the entry, so a put without a source or occurrences is still written as 'P'.
+ *
+ * Thread-safe; writes are serialized on the instance.
+ */
+public class CanvasPublishLedger implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(CanvasPublishLedger.class);
+
+    private static final byte PUT = 'P';
+    private static final byte PUT_WITH_SOURCE = 'S';
+    private static final byte PUT_SERIES = 'M';
+    private static final byte REMOVE = 'D';
+
+    private final Path path;
+    // canvasContext -> externalId -> entry, so a context's entries are visited without the others
+    private final Map<String, Map<String, Entry>> contexts = new HashMap<>();
+    private int size;
+    private FileChannel log;
+    private long records;
+
+    private final LongAdder hits = Metrics.counter("pulse_canvas_ledger_hits_total");
+    private final LongAdder misses = Metrics.counter("pulse_canvas_ledger_misses_total");
+
+    /**
+     * Opens (or creates) the ledger at {@code path}; null keeps it in memory only.
+     */
+    public CanvasPublishLedger(Path path) {
+        this.path = path;
+        if (path != null) {
+            try {
+                open();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot open publish ledger at " + path, e);
+            }
+        }
+    }
+
+    /**
+     * Ledger at CANVAS_PUBLISH_LEDGER_PATH (default data/canvas-publish-ledger.bin); a blank
+     * value keeps it in memory only.
+     */
+    public static CanvasPublishLedger fromConfig() {
+        String configured = AppConfig.get("CANVAS_PUBLISH_LEDGER_PATH", "data/canvas-publish-ledger.bin");
+        CanvasPublishLedger ledger = new CanvasPublishLedger(configured.isBlank() ? null : Path.of(configured));
+        Metrics.gauge("pulse_canvas_ledger_entries", ledger::size);
+        return ledger;
+    }
+
+    /**
+     * Returns the entry for the event, or null if it was never published to this context.
+     */
+    public synchronized Entry get(String canvasContext, String externalId) {
+        Entry entry = lookup(canvasContext, externalId);
+        (entry != null ? hits : misses).increment();
+        return entry;
+    }
+
+    /**
+     * True if the event was published to this context; unlike {@link #get} not counted as a hit or miss.
+     */
+    public synchronized boolean contains(String canvasContext, String externalId) {
+        return lookup(canvasContext, externalId) != null;
+    }
+
+    /**
+     * Records that the event now exists in Canvas as {@code canvasId} with the given content.
+     */
+    public void put(String canvasContext, String externalId, long canvasId, long contentHash) {
+        put(canvasContext, externalId, canvasId, contentHash, null);
+    }
+
+    /**
+     * Records that the event now exists in Canvas as {@code canvasId} with the given content,
+     * published from {@code source} (e.g. the TimeEdit URL; null if unknown).
+     */
+    public void put(String canvasContext, String externalId, long canvasId, long contentHash, String source) {
+        put(canvasContext, externalId, canvasId, contentHash, source, List.of());
+    }
+
+    /**
+     * Records that a weekly series now exists in Canvas as {@code canvasId}, with the externalIds
+     * of its occurrences in order.
+     */
+    public synchronized void put(String canvasContext, String externalId, long canvasId, long contentHash, String source,
+            List<String> members) {
+        Key key = new Key(canvasContext, externalId);
+        Entry entry = new Entry(canvasId, contentHash, source, members);
+        if (entry.equals(lookup(canvasContext, externalId))) {
+            return;
+        }
+        append(typeOf(entry), key, entry);
+        store(key, entry);
+    }
+
+    /**
+     * Forgets the event, e.g. after it was deleted in Canvas.
+     */
+    public synchronized void remove(String canvasContext, String externalId) {
+        Key key = new Key(canvasContext, externalId);
+        if (drop(key)) {
+            append(REMOVE, key, null);
+        }
+    }
+
+    /**
+     * Visits every entry recorded for one context.
+     */
+    public synchronized void forEach(String canvasContext, BiConsumer<String, Entry> action) {
+        Map<String, Entry> entries = contexts.get(canvasContext);
+        if (entries != null) {
+            entries.forEach(action);
+        }
+    }
+
+    /**
+     * 64-bit FNV-1a hash of the given fields, in order; null and "" hash differently.
+     */
+    public static long contentHash(String... fields) {
+        long hash = 0xcbf29ce484222325L;
+        for (String field : fields) {
+            if (field == null) {
+                hash = (hash ^ 0xff) * 0x100000001b3L;
+                continue;
+            }
+            for (int i = 0; i < field.length(); i++) {
+                char c = field.charAt(i);
+                hash = (hash ^ (c & 0xff)) * 0x100000001b3L;
+                hash = (hash ^ (c >>> 8)) * 0x100000001b3L;
+            }
+            // Field separator, so ("ab", "c") and ("a", "bc") differ
+            hash = (hash ^ 0xfe) * 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (log != null) {
+            try {
+                log.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close publish ledger {}: {}", path, e.getMessage());
+            }
+            log = null;
+        }
+    }
+
+    private void open() throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        log = lock(FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND));
+        try {
+            long validLength = replay();
+            if (records > 2L * size + 1024) {
+                compact();
+                return;
+            }
+            // Drop a torn tail so the next append starts on a record boundary
+            log.truncate(validLength);
+        } catch (IOException | RuntimeException e) {
+            // Releases the lock; not close(), which a subclass could override
+            log.close();
+            log = null;
+            throw e;
+        }
+        logger.info("Opened publish ledger {} ({} entries)", path, size);
+    }
+
+    // Held until close, so a second server on the same file fails at startup instead of interleaving appends
+    private FileChannel lock(FileChannel channel) throws IOException {
+        FileLock lock;
+        try {
+            lock = channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            // Already held by another ledger in this JVM
+            lock = null;
+        }
+        if (lock == null) {
+            channel.close();
+            throw new IOException("Publish ledger " + path + " is in use by another process");
+        }
+        return channel;
+    }
+
+    // Replays the log into memory; returns the length of the intact prefix
+    private long replay() throws IOException {
+        long valid = 0;
+        try (CountingInputStream counting = new CountingInputStream(new BufferedInputStream(Files.newInputStream(path)));
+             DataInputStream in = new DataInputStream(counting)) {
+            while (true) {
+                int type;
+                try {
+                    type = in.readByte();
+                    Key key = new Key(in.readUTF(), in.readUTF());
+                    if (type == PUT) {
+                        store(key, new Entry(in.readLong(), in.readLong()));
+                    } else if (type == PUT_WITH_SOURCE) {
+                        store(key, new Entry(in.readLong(), in.readLong(), in.readUTF()));
+                    } else if (type == PUT_SERIES) {
+                        store(key, readSeries(in));
+                    } else if (type == REMOVE) {
+                        drop(key);
+                    } else {
+                        dropZeroTail(valid, "unknown record type " + type);
+                        break;
+                    }
+                } catch (EOFException e) {
+                    if (counting.count > valid) {
+                        logger.warn("Publish ledger {} ends with a partial record; dropping {} bytes", path, counting.count - valid);
+                    }
+                    break;
+                } catch (UTFDataFormatException e) {
+                    dropZeroTail(valid, e.getMessage());
+                    break;
+                }
+                records++;
+                valid = counting.count;
+            }
+        }
+        return valid;
+    }
+
+    // A crash can leave the tail zero-filled, which is safe to drop; anything else at an unreadable
+    // record is damage to entries we must keep, so fail instead of truncating them away
+    private void dropZeroTail(long offset, String reason) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+            in.skipNBytes(offset);
+            int b;
+            while ((b = in.read()) >= 0) {
+                if (b != 0) {
+                    throw new IOException("Publish ledger " + path + " is corrupt at offset " + offset + " (" + reason
+                            + "); move it aside or restore it before starting");
+                }
+            }
+        }
+        logger.warn("Publish ledger {} ends with {} zero bytes; dropping them", path, Files.size(path) - offset);
+    }
+
+    // Rewrites the log with one put per live entry, then swaps it in atomically
+    private void compact() throws IOException {
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+            for (Map.Entry<String, Map<String, Entry>> context : contexts.entrySet()) {
+                for (Map.Entry<String, Entry> e : context.getValue().entrySet()) {
+                    writeRecord(out, typeOf(e.getValue()), new Key(context.getKey(), e.getKey()), e.getValue());
+                }
+            }
+            out.flush();
+            // On disk before the rename, or a crash could swap in an empty file
+            channel.force(true);
+        }
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        logger.info("Compacted publish ledger {} from {} records to {}", path, records, size);
+        records = size;
+        // The old channel (and its lock) still refers to the file that was replaced
+        log.close();
+        log = lock(FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND));
+    }
+
+    private Entry lookup(String canvasContext, String externalId) {
+        Map<String, Entry> entries = contexts.get(canvasContext);
+        return entries != null ? entries.get(externalId) : null;
+    }
+
+    private void store(Key key, Entry entry) {
+        if (contexts.computeIfAbsent(key.canvasContext(), c -> new HashMap<>()).put(key.externalId(), entry) == null) {
+            size++;
+        }
+    }
+
+    // True if there was an entry to remove
+    private boolean drop(Key key) {
+        Map<String, Entry> entries = contexts.get(key.canvasContext());
+        if (entries == null || entries.remove(key.externalId()) == null) {
+            return false;
+        }
+        size--;
+        if (entries.isEmpty()) {
+            contexts.remove(key.canvasContext());
+        }
+        return true;
+    }
+
+    private void append(byte type, Key key, Entry entry) {
+        records++;
+        if (log == null) {
+            return;
+        }
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+            writeRecord(new DataOutputStream(bytes), type, key, entry);
+            ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+            while (buffer.hasRemaining()) {
+                log.write(buffer);
+            }
+            log.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write publish ledger " + path, e);
+        }
+    }
+
+    private static void writeRecord(DataOutputStream out, byte type, Key key, Entry entry) throws IOException {
+        out.writeByte(type);
+        out.writeUTF(key.canvasContext());
+        out.writeUTF(key.externalId());
+        if (type != REMOVE) {
+            out.writeLong(entry.canvasId());
+            out.writeLong(entry.contentHash());
+        }
+        if (type == PUT_WITH_SOURCE) {
+            out.writeUTF(entry.source());
+        } else if (type == PUT_SERIES) {
+            out.writeBoolean(entry.source() != null);
+            if (entry.source() != null) {
+                out.writeUTF(entry.source());
+            }
+            out.writeInt(entry.members().size());
+            for (String member : entry.members()) {
+                out.writeUTF(member);
+            }
+        }
+        out.flush();
+    }
+
+    private static Entry readSeries(DataInputStream in) throws IOException {
+        long canvasId = in.readLong();
+        long contentHash = in.readLong();
+        String source = in.readBoolean() ? in.readUTF() : null;
+        int count = in.readInt();
+        if (count < 0) {
+            throw new UTFDataFormatException("negative occurrence count " + count);
+        }
+        List<String> members = new ArrayList<>(Math.min(count, 1024));
+        for (int i = 0; i < count; i++) {
+            members.add(in.readUTF());
+        }
+        return new Entry(canvasId, contentHash, source, members);
+    }
+
+    private static byte typeOf(Entry entry) {
+        if (!entry.members().isEmpty()) {
+            return PUT_SERIES;
+        }
+        return entry.source() != null ? PUT_WITH_SOURCE : PUT;
+    }
+
+    private record Key(String canvasContext, String externalId) {
+    }
+
+    /**
+     * What was last published for one event or series; source is null for entries recorded
+     * without one, and members (the occurrences' externalIds) is empty except for a series.
+     */
+    public record Entry(long canvasId, long contentHash, String source, List<String> members) {
+
+        public Entry {
+            members = members != null ? List.copyOf(members) : List.of();
+        }
+
+        public Entry(long canvasId, long contentHash, String source) {
+            this(canvasId, contentHash, source, List.of());
+        }
+
+        public Entry(long canvasId, long contentHash) {
+            this(canvasId, contentHash, null);
+        }
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+    }
+}
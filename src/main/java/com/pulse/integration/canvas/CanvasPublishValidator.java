@@ -38,6 +38,15 @@ public class CanvasPublishValidator {
 
     }
 
+        // mode is optional: publish (default) or sync; dry runs only make sense for a sync plan
+        String mode = trimToNull(request.getMode());
+        if (mode != null && !mode.equalsIgnoreCase("publish") && !mode.equalsIgnoreCase("sync")) {
+            throw new CanvasPublishException("Invalid mode: " + mode + ". Expected 'publish' or 'sync'");
+        }
+        if (request.isDryRun() && !request.isSync()) {
+            throw new CanvasPublishException("dryRun is only supported with mode 'sync'");
+        }
+
         // schedule is required
         PublishSchedule schedule = request.getSchedule();
         if (schedule == null) {
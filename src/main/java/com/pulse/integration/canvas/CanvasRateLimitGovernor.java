@@ -0,0 +1,257 @@
+package com.pulse.integration.canvas;
+
+import com.pulse.config.AppConfig;
+import com.pulse.metrics.Metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Paces calls to Canvas so a publish stays under the token's rate-limit bucket.
+ *
+ * Canvas reports the bucket after every call (X-Rate-Limit-Remaining, X-Request-Cost) and answers
+ * 403 "Rate Limit Exceeded" / 429 once it is empty. The governor keeps an AIMD concurrency window:
+ * - every healthy response grows the window by about one call per round trip (additive increase)
+ * - remaining budget below the low watermark halves the window, at most once per window of
+ *   responses, and pauses new calls briefly in proportion to the shortfall
+ * - a throttled response halves the window and pauses new calls for the throttle pause
+ *
+ * Callers wrap each Canvas call in {@link #acquire()} / {@link #release()} and report the
+ * response through {@link #onResponse(int, Double, Double)} before releasing.
+ */
+public class CanvasRateLimitGovernor {
+
+    private static final Logger logger = LoggerFactory.getLogger(CanvasRateLimitGovernor.class);
+
+    private static final CanvasRateLimitGovernor SHARED = fromConfig("pulse_canvas_rate_limit");
+
+    private final boolean enabled;
+    private final int maxConcurrency;
+    private final double lowWatermark;
+    private final long throttlePauseNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+
+    // Guarded by lock
+    private double window;
+    private int inFlight;
+    private long pausedUntil;
+    private int responsesSinceDecrease;
+
+    private volatile double remaining = -1;
+    private volatile double lastCost = -1;
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder throttledMetric;
+
+    /**
+     * @param initialConcurrency starting window
+     * @param maxConcurrency     upper bound for the window
+     * @param lowWatermark       remaining budget below which the window shrinks
+     * @param throttlePause      how long new calls wait after a throttled response
+     */
+    public CanvasRateLimitGovernor(int initialConcurrency, int maxConcurrency, double lowWatermark,
+            Duration throttlePause) {
+        this(true, initialConcurrency, maxConcurrency, lowWatermark, throttlePause, null);
+    }
+
+    private CanvasRateLimitGovernor(boolean enabled, int initialConcurrency, int maxConcurrency, double lowWatermark,
+            Duration throttlePause, String metricPrefix) {
+        this.enabled = enabled;
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.window = Math.min(this.maxConcurrency, Math.max(1, initialConcurrency));
+        this.lowWatermark = lowWatermark;
+        this.throttlePauseNanos = throttlePause.toNanos();
+        this.pausedUntil = System.nanoTime();
+        this.throttledMetric = metricPrefix != null ? Metrics.counter(metricPrefix + "_throttled_total") : null;
+    }
+
+    /**
+     * A governor whose remaining budget, window and in-flight calls are exported as gauges, and
+     * throttled responses as a counter, under {@code metricPrefix}.
+     */
+    public static CanvasRateLimitGovernor withMetrics(int initialConcurrency, int maxConcurrency, double lowWatermark,
+            Duration throttlePause, String metricPrefix) {
+        CanvasRateLimitGovernor governor = new CanvasRateLimitGovernor(true, initialConcurrency, maxConcurrency,
+                lowWatermark, throttlePause, metricPrefix);
+        // The gauges read the governor, so they are registered once it is fully built
+        Metrics.gauge(metricPrefix + "_remaining", () -> Math.round(governor.remaining));
+        Metrics.gauge(metricPrefix + "_concurrency", governor::currentConcurrency);
+        Metrics.gauge(metricPrefix + "_in_flight", governor::inFlight);
+        return governor;
+    }
+
+    /**
+     * Process-wide governor: Canvas meters the bucket per token, not per client instance.
+     */
+    public static CanvasRateLimitGovernor shared() {
+        return SHARED;
+    }
+
+    /**
+     * A governor that never waits and ignores responses.
+     */
+    public static CanvasRateLimitGovernor disabled() {
+        return new CanvasRateLimitGovernor(false, 1, 1, 0, Duration.ZERO, null);
+    }
+
+    private static CanvasRateLimitGovernor fromConfig(String metricPrefix) {
+        if (!AppConfig.getBoolean("CANVAS_RATE_LIMIT_ENABLED", true)) {
+            return disabled();
+        }
+        return withMetrics(
+                AppConfig.getInt("CANVAS_RATE_LIMIT_INITIAL_CONCURRENCY", 4),
+                AppConfig.getInt("CANVAS_RATE_LIMIT_MAX_CONCURRENCY", 32),
+                AppConfig.getInt("CANVAS_RATE_LIMIT_LOW_WATERMARK", 150),
+                Duration.ofMillis(AppConfig.getLong("CANVAS_RATE_LIMIT_THROTTLE_PAUSE_MS", 2000)),
+                metricPrefix
+        );
+    }
+
+    /**
+     * Waits until the window has room and any pause has passed, then takes a slot.
+     */
+    public void acquire() throws InterruptedException {
+        if (!enabled) {
+            return;
+        }
+        lock.lockInterruptibly();
+        try {
+            while (true) {
+                long pause = pausedUntil - System.nanoTime();
+                if (pause > 0) {
+                    changed.awaitNanos(pause);
+                } else if (inFlight >= (int) window) {
+                    changed.await();
+                } else {
+                    break;
+                }
+            }
+            inFlight++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gives back the slot taken by {@link #acquire()}. Call exactly once per acquire, in a finally block.
+     */
+    public void release() {
+        if (!enabled) {
+            return;
+        }
+        lock.lock();
+        try {
+            inFlight--;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adjusts the window from one Canvas response.
+     *
+     * @param status    HTTP status
+     * @param remaining X-Rate-Limit-Remaining, or null when absent
+     * @param cost      X-Request-Cost, or null when absent
+     */
+    public void onResponse(int status, Double remaining, Double cost) {
+        if (!enabled) {
+            return;
+        }
+        if (remaining != null) {
+            this.remaining = remaining;
+        }
+        if (cost != null) {
+            this.lastCost = cost;
+        }
+
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            if (isThrottled(status, remaining)) {
+                throttled.increment();
+                if (throttledMetric != null) {
+                    throttledMetric.increment();
+                }
+                // Calls that were already in flight when the bucket emptied share one decrease
+                if (now >= pausedUntil) {
+                    decrease();
+                }
+                pausedUntil = Math.max(pausedUntil, now + throttlePauseNanos);
+                logger.warn("Canvas throttled the request (HTTP {}); concurrency now {}, pausing {} ms",
+                        status, (int) window, TimeUnit.NANOSECONDS.toMillis(throttlePauseNanos));
+            } else if (remaining != null && remaining < lowWatermark) {
+                // Bucket is draining faster than it refills; back off before Canvas starts refusing
+                if (++responsesSinceDecrease >= (int) window) {
+                    decrease();
+                    logger.debug("Canvas rate-limit budget low ({}); concurrency now {}", remaining, (int) window);
+                }
+                double shortfall = lowWatermark <= 0 ? 0 : (lowWatermark - remaining) / lowWatermark;
+                pausedUntil = Math.max(pausedUntil, now + (long) (throttlePauseNanos * shortfall / 4));
+            } else if (status >= 200 && status < 300) {
+                // Additive increase: +1 slot once a full window of calls has come back healthy
+                window = Math.min(maxConcurrency, window + 1.0 / window);
+                responsesSinceDecrease++;
+            }
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * True for Canvas rate-limit refusals: 429, or 403 once the bucket reports empty.
+     */
+    public static boolean isThrottled(int status, Double remaining) {
+        return status == 429 || (status == 403 && remaining != null && remaining <= 0);
+    }
+
+    private void decrease() {
+        window = Math.max(1, window / 2);
+        responsesSinceDecrease = 0;
+    }
+
+    public int currentConcurrency() {
+        lock.lock();
+        try {
+            return (int) window;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Last X-Rate-Limit-Remaining seen, or -1 before the first response that carried it.
+     */
+    public double remaining() {
+        return remaining;
+    }
+
+    /**
+     * Last X-Request-Cost seen, or -1 before the first response that carried it.
+     */
+    public double lastCost() {
+        return lastCost;
+    }
+
+    public long throttledCount() {
+        return throttled.sum();
+    }
+}
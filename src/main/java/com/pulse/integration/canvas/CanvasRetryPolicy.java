@@ -0,0 +1,115 @@
+package com.pulse.integration.canvas;
+
+import com.pulse.config.AppConfig;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Decides whether a failed Canvas call is worth repeating, and how long to wait first.
+ *
+ * Retryable: CANVAS_UNREACHABLE (connect/DNS/timeout), and CANVAS_ERROR_RESPONSE with 429, 5xx
+ * or a rate-limit 403. Everything else (400/404/422 validation errors, 401, config errors) fails
+ * the same way on every attempt and is not retried, and neither is an open circuit: every other
+ * call to the host fails fast too until the breaker lets a probe through.
+ *
+ * A create is not idempotent, so only failures where Canvas never took the request are safe to
+ * send again unchecked (see {@link #isSafeToResend}); a timeout or 5xx may come after Canvas
+ * stored the event.
+ *
+ * Delays use exponential backoff with full jitter: a uniform random delay in
+ * [0, min(maxDelay, baseDelay * 2^(attempt-1))]. A Retry-After from Canvas is a lower bound; one
+ * longer than maxDelay ends the retries instead of stalling the publish.
+ */
+public class CanvasRetryPolicy {
+
+    private final int maxAttempts;
+    private final Duration baseDelay;
+    private final Duration maxDelay;
+    private final DoubleSupplier random;
+
+    public CanvasRetryPolicy(int maxAttempts, Duration baseDelay, Duration maxDelay) {
+        this(maxAttempts, baseDelay, maxDelay, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    CanvasRetryPolicy(int maxAttempts, Duration baseDelay, Duration maxDelay, DoubleSupplier random) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseDelay = baseDelay;
+        this.maxDelay = maxDelay;
+        this.random = random;
+    }
+
+    public static CanvasRetryPolicy fromConfig() {
+        return new CanvasRetryPolicy(
+                AppConfig.getInt("CANVAS_RETRY_MAX_ATTEMPTS", 4),
+                Duration.ofMillis(AppConfig.getLong("CANVAS_RETRY_BASE_DELAY_MS", 250)),
+                Duration.ofMillis(AppConfig.getLong("CANVAS_RETRY_MAX_DELAY_MS", 10_000))
+        );
+    }
+
+    /**
+     * A policy that makes exactly one attempt.
+     */
+    public static CanvasRetryPolicy noRetry() {
+        return new CanvasRetryPolicy(1, Duration.ZERO, Duration.ZERO);
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * True if the failure is transient and the same call may succeed later.
+     */
+    public boolean isRetryable(CanvasClient.CanvasResponse<?> res) {
+        if (res.isSuccess() || res.isCircuitOpen()) {
+            return false;
+        }
+        if ("CANVAS_UNREACHABLE".equals(res.getErrorCode())) {
+            return true;
+        }
+        if (!"CANVAS_ERROR_RESPONSE".equals(res.getErrorCode()) || res.getHttpStatusCode() == null) {
+            return false;
+        }
+        int status = res.getHttpStatusCode();
+        return status == 429 || status >= 500 || res.isRateLimited();
+    }
+
+    /**
+     * True if a retryable failure provably left Canvas untouched: the request was never sent, or
+     * Canvas refused it with a 429 or rate-limit 403 before doing anything.
+     */
+    public boolean isSafeToResend(CanvasClient.CanvasResponse<?> res) {
+        if (!isRetryable(res)) {
+            return false;
+        }
+        if (res.isNotSent()) {
+            return true;
+        }
+        Integer status = res.getHttpStatusCode();
+        return status != null && (status == 429 || res.isRateLimited());
+    }
+
+    /**
+     * True if another attempt should follow the given (1-based) attempt that failed with {@code res}.
+     */
+    public boolean shouldRetry(int attempt, CanvasClient.CanvasResponse<?> res) {
+        if (attempt >= maxAttempts || !isRetryable(res)) {
+            return false;
+        }
+        return res.getRetryAfter() == null || res.getRetryAfter().compareTo(maxDelay) <= 0;
+    }
+
+    /**
+     * Delay before the attempt that follows {@code attempt} (1-based), honoring Retry-After.
+     */
+    public Duration delayBefore(int attempt, CanvasClient.CanvasResponse<?> res) {
+        long ceiling = baseDelay.toMillis() << Math.min(attempt - 1, 20);
+        ceiling = Math.min(maxDelay.toMillis(), Math.max(0, ceiling));
+        Duration jittered = Duration.ofMillis((long) (random.getAsDouble() * ceiling));
+
+        Duration retryAfter = res.getRetryAfter();
+        return retryAfter != null && retryAfter.compareTo(jittered) > 0 ? retryAfter : jittered;
+    }
+}
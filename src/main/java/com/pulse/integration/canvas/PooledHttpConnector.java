@@ -0,0 +1,147 @@
+package com.pulse.integration.canvas;
+
+import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.io.CloseMode;
+import org.glassfish.jersey.client.ClientRequest;
+import org.glassfish.jersey.client.ClientResponse;
+import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
+import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.client.spi.ConnectorProvider;
+import org.glassfish.jersey.message.internal.Statuses;
+
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.core.Configuration;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+/**
+ * Jersey connector that sends the JAX-RS client's requests through a pooled Apache HttpClient
+ * (see {@link CanvasApiTester#pooledClient}), so connection limits, timeouts and idle eviction
+ * belong to the client instead of the JVM-wide HttpURLConnection keep-alive cache.
+ *
+ * Request bodies are buffered before sending (Canvas calls send small forms); response bodies are
+ * streamed, and closing the Jersey response returns the connection to the pool.
+ */
+final class PooledHttpConnector implements Connector {
+
+    private final CloseableHttpClient http;
+
+    private PooledHttpConnector(CloseableHttpClient http) {
+        this.http = http;
+    }
+
+    /**
+     * Provider for {@link org.glassfish.jersey.client.ClientConfig#connectorProvider}; each client
+     * it is registered with gets its own pool sized by {@code settings}.
+     */
+    static ConnectorProvider provider(CanvasHttpSettings settings) {
+        return (Client client, Configuration config) -> new PooledHttpConnector(CanvasApiTester.pooledClient(settings));
+    }
+
+    @Override
+    public ClientResponse apply(ClientRequest request) {
+        HttpUriRequestBase outbound = new HttpUriRequestBase(request.getMethod(), request.getUri());
+        if (request.hasEntity()) {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            request.setStreamProvider(contentLength -> body);
+            try {
+                request.writeEntity();
+            } catch (IOException e) {
+                throw new ProcessingException("Cannot write request body", e);
+            }
+            outbound.setEntity(new ByteArrayEntity(body.toByteArray(), null));
+        }
+        for (Map.Entry<String, List<String>> header : request.getStringHeaders().entrySet()) {
+            // The client sets the framing headers from the entity itself
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(header.getKey())
+                    || HttpHeaders.TRANSFER_ENCODING.equalsIgnoreCase(header.getKey())) {
+                continue;
+            }
+            for (String value : header.getValue()) {
+                outbound.addHeader(header.getKey(), value);
+            }
+        }
+
+        ClassicHttpResponse res;
+        try {
+            res = http.executeOpen(null, outbound, null);
+        } catch (IOException e) {
+            throw new ProcessingException(e.getMessage(), e);
+        }
+        ClientResponse response = new ClientResponse(Statuses.from(res.getCode(), res.getReasonPhrase()), request);
+        for (Header header : res.getHeaders()) {
+            response.getHeaders().add(header.getName(), header.getValue());
+        }
+        try {
+            HttpEntity entity = res.getEntity();
+            response.setEntityStream(new ReleasingInputStream(
+                    entity != null ? entity.getContent() : InputStream.nullInputStream(), res));
+        } catch (IOException e) {
+            closeQuietly(res);
+            throw new ProcessingException(e.getMessage(), e);
+        }
+        return response;
+    }
+
+    @Override
+    public Future<?> apply(ClientRequest request, AsyncConnectorCallback callback) {
+        // Only the synchronous API is used; run on the caller's thread
+        try {
+            callback.response(apply(request));
+        } catch (Throwable t) {
+            callback.failure(t);
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public String getName() {
+        return "Apache HttpClient 5 (pooled)";
+    }
+
+    @Override
+    public void close() {
+        http.close(CloseMode.GRACEFUL);
+    }
+
+    private static void closeQuietly(ClassicHttpResponse res) {
+        try {
+            res.close();
+        } catch (IOException ignored) {
+            // Nothing left to release
+        }
+    }
+
+    // Closing the body releases the connection, reusable if the body was read to the end
+    private static final class ReleasingInputStream extends FilterInputStream {
+        private final ClassicHttpResponse res;
+
+        private ReleasingInputStream(InputStream in, ClassicHttpResponse res) {
+            super(in);
+            this.res = res;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                res.close();
+            }
+        }
+    }
+}
@@ -11,6 +11,8 @@ public class CanvasCalendarEventRequest {
     private String endAt;
     private String locationName;
     private String description;
+    // Weekly series, e.g. FREQ=WEEKLY;INTERVAL=1;COUNT=12; null for a single event
+    private String rrule;
 
     public CanvasCalendarEventRequest() {}
 
@@ -61,4 +63,12 @@ public class CanvasCalendarEventRequest {
     public void setDescription(String description) {
         this.description = description;
     }
+
+    public String getRrule() {
+        return rrule;
+    }
+
+    public void setRrule(String rrule) {
+        this.rrule = rrule;
+    }
 }
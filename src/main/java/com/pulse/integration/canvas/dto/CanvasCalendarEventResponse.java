@@ -11,6 +11,15 @@ public class CanvasCalendarEventResponse {
     @JsonProperty("html_url")
     private String htmlUrl;
 
+    // Only filled in when events are listed (sync mode)
+    private String title;
+
+    @JsonProperty("start_at")
+    private String startAt;
+
+    @JsonProperty("end_at")
+    private String endAt;
+
     public CanvasCalendarEventResponse() {}
 
     public Long getId() {
@@ -28,4 +37,28 @@ public class CanvasCalendarEventResponse {
     public void setHtmlUrl(String htmlUrl) {
         this.htmlUrl = htmlUrl;
     }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getStartAt() {
+        return startAt;
+    }
+
+    public void setStartAt(String startAt) {
+        this.startAt = startAt;
+    }
+
+    public String getEndAt() {
+        return endAt;
+    }
+
+    public void setEndAt(String endAt) {
+        this.endAt = endAt;
+    }
 }
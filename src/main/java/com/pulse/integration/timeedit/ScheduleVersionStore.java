@@ -0,0 +1,245 @@
+package com.pulse.integration.timeedit;
+
+import com.pulse.integration.timeedit.dto.TimeEditEventDTO;
+import com.pulse.integration.timeedit.dto.TimeEditScheduleDTO;
+import com.pulse.integration.timeedit.dto.TimeEditScheduleDeltaDTO;
+import com.pulse.integration.timeedit.dto.TimeEditSummaryDTO;
+import com.pulse.metrics.Metrics;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Recent versions of each schedule the server has returned, so a polling client can ask for the
+ * events added, changed and removed since the version it already has.
+ *
+ * A version is the list of reservation ids with a 64-bit hash of each event's contents; the
+ * events themselves are not kept. The version token is derived from those hashes, so the same
+ * content always gets the same token (also across restarts) and an unchanged schedule costs no
+ * new version.
+ *
+ * Bounded by schedule count (least recently used URL is dropped first) and by the number of
+ * versions kept per schedule. A token that is no longer known gets the whole schedule back.
+ */
+public class ScheduleVersionStore {
+
+	private final int maxSchedules;
+	private final int versionsPerSchedule;
+	private final Map<String, Deque<Version>> versions;
+
+	private final LongAdder partial = Metrics.counter(Metrics.series("pulse_timeedit_deltas_total", "kind", "partial"));
+	private final LongAdder full = Metrics.counter(Metrics.series("pulse_timeedit_deltas_total", "kind", "full"));
+
+	public ScheduleVersionStore(int maxSchedules, int versionsPerSchedule) {
+		this.maxSchedules = Math.max(1, maxSchedules);
+		this.versionsPerSchedule = Math.max(1, versionsPerSchedule);
+		// accessOrder=true turns LinkedHashMap into an LRU list
+		this.versions = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Deque<Version>> eldest) {
+				return size() > ScheduleVersionStore.this.maxSchedules;
+			}
+		};
+	}
+
+	/**
+	 * Starts a version to which events are added in order, e.g. while they are streamed.
+	 */
+	public Builder builder(String normalizedUrl, ZoneId zoneId) {
+		return new Builder(key(normalizedUrl, zoneId));
+	}
+
+	/**
+	 * Records the schedule as the latest version for its URL and zone.
+	 *
+	 * @return the version token
+	 */
+	public String record(String normalizedUrl, ZoneId zoneId, TimeEditScheduleDTO schedule) {
+		Builder builder = builder(normalizedUrl, zoneId);
+		schedule.getEvents().forEach(builder::add);
+		return builder.commit();
+	}
+
+	/**
+	 * Changes from version {@code since} to {@code schedule}, whose token is {@code version}.
+	 * A null or unknown {@code since} gives every event as added, with {@code full} set.
+	 */
+	public TimeEditScheduleDeltaDTO delta(String normalizedUrl, ZoneId zoneId, TimeEditScheduleDTO schedule,
+			String version, String since) {
+		String key = key(normalizedUrl, zoneId);
+		Version base = since == null ? null : find(key, since);
+		TimeEditSummaryDTO summary = schedule.getSummary();
+		if (base == null || !base.idsUnique) {
+			full.increment();
+			return new TimeEditScheduleDeltaDTO(normalizedUrl, version, since, true,
+					new ArrayList<>(schedule.getEvents()), new ArrayList<>(), new ArrayList<>(), summary);
+		}
+		partial.increment();
+
+		List<TimeEditEventDTO> added = new ArrayList<>();
+		List<TimeEditEventDTO> changed = new ArrayList<>();
+		List<String> removed = new ArrayList<>();
+		if (!base.token.equals(version)) {
+			Map<String, Long> before = base.hashesById();
+			Set<String> seen = new HashSet<>();
+			for (TimeEditEventDTO event : schedule.getEvents()) {
+				seen.add(event.getExternalId());
+				Long previous = before.get(event.getExternalId());
+				if (previous == null) {
+					added.add(event);
+				} else if (previous != hash(event)) {
+					changed.add(event);
+				}
+			}
+			for (String id : base.ids) {
+				if (!seen.contains(id)) {
+					removed.add(id);
+				}
+			}
+		}
+		return new TimeEditScheduleDeltaDTO(normalizedUrl, version, since, false, added, changed, removed, summary);
+	}
+
+	public synchronized int size() {
+		return versions.size();
+	}
+
+	private synchronized Version find(String key, String token) {
+		Deque<Version> history = versions.get(key);
+		if (history != null) {
+			for (Version version : history) {
+				if (version.token.equals(token)) {
+					return version;
+				}
+			}
+		}
+		return null;
+	}
+
+	private synchronized void add(String key, Version version) {
+		Deque<Version> history = versions.computeIfAbsent(key, k -> new ArrayDeque<>());
+		Version latest = history.peekFirst();
+		if (latest != null && latest.token.equals(version.token)) {
+			return;
+		}
+		// An older version with the same content becomes the latest again
+		history.removeIf(v -> v.token.equals(version.token));
+		history.addFirst(version);
+		while (history.size() > versionsPerSchedule) {
+			history.removeLast();
+		}
+	}
+
+	private static String key(String normalizedUrl, ZoneId zoneId) {
+		// Event times depend on the zone used while parsing
+		return zoneId.getId() + "|" + normalizedUrl;
+	}
+
+	// FNV-1a over the fields a client shows; 64 bits keeps accidental equal hashes out of reach
+	static long hash(TimeEditEventDTO event) {
+		long h = 0xcbf29ce484222325L;
+		h = mix(h, event.getExternalId());
+		h = mix(h, event.getTitle());
+		h = mix(h, event.getStart());
+		h = mix(h, event.getEnd());
+		h = mix(h, event.getLocation());
+		h = mix(h, event.getDescription());
+		return h;
+	}
+
+	private static long mix(long h, String value) {
+		if (value == null) {
+			return step(h, 0x1_0000);
+		}
+		for (int i = 0; i < value.length(); i++) {
+			h = step(h, value.charAt(i));
+		}
+		// Field separator, so "ab"+"c" and "a"+"bc" differ
+		return step(h, 0x1_0001);
+	}
+
+	private static long mix(long h, OffsetDateTime value) {
+		if (value == null) {
+			return step(h, 0x1_0000);
+		}
+		h = step(h, value.toEpochSecond());
+		h = step(h, value.getNano());
+		return step(h, value.getOffset().getTotalSeconds());
+	}
+
+	private static long step(long h, long value) {
+		return (h ^ value) * 0x100000001b3L;
+	}
+
+	/**
+	 * Accumulates one version; not thread-safe.
+	 */
+	public final class Builder {
+		private final String key;
+		private String[] ids = new String[64];
+		private long[] hashes = new long[64];
+		private int size;
+		private long token = 17;
+
+		private Builder(String key) {
+			this.key = key;
+		}
+
+		public void add(TimeEditEventDTO event) {
+			if (size == ids.length) {
+				ids = Arrays.copyOf(ids, size * 2);
+				hashes = Arrays.copyOf(hashes, size * 2);
+			}
+			long h = hash(event);
+			ids[size] = event.getExternalId();
+			hashes[size] = h;
+			size++;
+			token = token * 31 + h;
+		}
+
+		/**
+		 * Stores the version as the latest for its schedule.
+		 *
+		 * @return the version token
+		 */
+		public String commit() {
+			String tokenText = String.format("%016x", token ^ size);
+			ScheduleVersionStore.this.add(key, new Version(tokenText, Arrays.copyOf(ids, size), Arrays.copyOf(hashes, size)));
+			return tokenText;
+		}
+	}
+
+	private static final class Version {
+		private final String token;
+		private final String[] ids;
+		private final long[] hashes;
+		private final boolean idsUnique;
+
+		Version(String token, String[] ids, long[] hashes) {
+			this.token = token;
+			this.ids = ids;
+			this.hashes = hashes;
+			// Events are matched by id; a schedule with repeated ids is only ever sent whole
+			this.idsUnique = new HashSet<>(Arrays.asList(ids)).size() == ids.length;
+		}
+
+		Map<String, Long> hashesById() {
+			Map<String, Long> byId = new HashMap<>(ids.length * 2);
+			for (int i = 0; i < ids.length; i++) {
+				byId.put(ids[i], hashes[i]);
+			}
+			return byId;
+		}
+	}
+}
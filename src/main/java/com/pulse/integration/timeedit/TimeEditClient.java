@@ -1,12 +1,21 @@
 package com.pulse.integration.timeedit;
 
+import com.pulse.metrics.Histogram;
+import com.pulse.metrics.Metrics;
+import com.pulse.util.CircuitBreaker;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 
 /**
  * HTTP client for fetching raw schedule data from TimeEdit.
@@ -16,7 +25,11 @@ import java.time.Duration;
  * - Make HTTP GET request to TimeEdit
  * - Handle network errors (TIMEEDIT_UNREACHABLE)
  * - Handle HTTP errors (TIMEEDIT_ERROR_RESPONSE)
- * - Return raw JSON response body
+ * - Return raw JSON response body (kept as bytes so it can be streamed into the parser)
+ * - Send conditional requests (If-None-Match / If-Modified-Since) and report 304 Not Modified
+ * - Offer a non-blocking variant built on HttpClient.sendAsync
+ * - Fail fast with TIMEEDIT_UNREACHABLE while the host's circuit breaker is open
+ * - Optionally hedge slow fetches with a second identical request (see {@link TimeEditHedging})
  */
 public class TimeEditClient {
 
@@ -26,6 +39,10 @@ public class TimeEditClient {
             .build();
     private static final int TIMEOUT_SECONDS = 10;
 
+    private static final Histogram fetchSeconds = Metrics.timer("pulse_timeedit_fetch_seconds");
+    private static final Histogram responseBytes = Metrics.sizes("pulse_timeedit_response_bytes");
+    private static final TimeEditHedging hedging = TimeEditHedging.fromConfig();
+
     /**
      * Fetches schedule data from TimeEdit API.
      * 
@@ -33,10 +50,45 @@ public class TimeEditClient {
      * @return TimeEditResponse with raw JSON body or error details
      */
     public static TimeEditResponse fetchSchedule(String timeeditUrl) {
+        return fetchSchedule(timeeditUrl, null, null);
+    }
+
+    /**
+     * Fetches schedule data from TimeEdit, revalidating a previously downloaded copy.
+     * Blocks the calling thread; see {@link #fetchScheduleAsync(String, String, String)}.
+     *
+     * @param timeeditUrl     The full TimeEdit schedule URL
+     * @param ifNoneMatch     ETag of the cached copy, or null
+     * @param ifModifiedSince Last-Modified of the cached copy, or null
+     * @return TimeEditResponse with raw JSON body, a not-modified marker, or error details
+     */
+    public static TimeEditResponse fetchSchedule(String timeeditUrl, String ifNoneMatch, String ifModifiedSince) {
+        CompletableFuture<TimeEditResponse> pending = fetchScheduleAsync(timeeditUrl, ifNoneMatch, ifModifiedSince);
+        try {
+            return pending.get();
+        } catch (InterruptedException e) {
+            logger.error("TimeEdit fetch was interrupted after starting request to {}", timeeditUrl);
+            pending.cancel(true);
+            Thread.currentThread().interrupt();
+            return TimeEditResponse.unreachable("Request was interrupted");
+        } catch (ExecutionException e) {
+            // fetchScheduleAsync maps its own failures; this is only reachable on a bug
+            return toErrorResponse(e.getCause(), timeeditUrl);
+        }
+    }
+
+    /**
+     * Non-blocking variant of {@link #fetchSchedule(String, String, String)}.
+     *
+     * The request is sent with {@link HttpClient#sendAsync}, so no caller thread is held while
+     * waiting on TimeEdit. The future never completes exceptionally: network errors, timeouts and
+     * non-2xx statuses are mapped to the same TimeEditResponse error codes as the blocking call.
+     */
+    public static CompletableFuture<TimeEditResponse> fetchScheduleAsync(String timeeditUrl, String ifNoneMatch, String ifModifiedSince) {
         // Validate URL
         if (timeeditUrl == null || timeeditUrl.trim().isEmpty()) {
             logger.warn("TimeEdit URL is null or empty");
-            return TimeEditResponse.invalidUrl("URL cannot be empty");
+            return CompletableFuture.completedFuture(TimeEditResponse.invalidUrl("URL cannot be empty"));
         }
 
         try {
@@ -45,96 +97,209 @@ public class TimeEditClient {
             logger.debug("URL format validated successfully");
         } catch (IllegalArgumentException e) {
             logger.warn("Invalid TimeEdit URL format: {} - Error: {}", timeeditUrl, e.getMessage());
-            return TimeEditResponse.invalidUrl("URL format is invalid: " + e.getMessage());
+            return CompletableFuture.completedFuture(TimeEditResponse.invalidUrl("URL format is invalid: " + e.getMessage()));
         }
 
         try {
             // Build and execute request
-            HttpRequest request = HttpRequest.newBuilder()
+            HttpRequest.Builder builder = HttpRequest.newBuilder()
                     .uri(URI.create(timeeditUrl))
                     .timeout(Duration.ofSeconds(TIMEOUT_SECONDS))
-                    .GET()
-                    .build();
+                    .GET();
+            if (ifNoneMatch != null) {
+                builder.header("If-None-Match", ifNoneMatch);
+            }
+            if (ifModifiedSince != null) {
+                builder.header("If-Modified-Since", ifModifiedSince);
+            }
+            HttpRequest request = builder.build();
 
             logger.debug("Fetching TimeEdit schedule from: {}", timeeditUrl);
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-
-            // Check HTTP status
-            if (response.statusCode() >= 200 && response.statusCode() < 300) {
-                String responseBody = response.body();
-                logger.info("Successfully fetched TimeEdit schedule (HTTP {}) - {} characters received", 
-                        response.statusCode(), responseBody.length());
-                logger.debug("Response body preview: {}", responseBody.substring(0, Math.min(200, responseBody.length())));
-                return TimeEditResponse.success(responseBody, timeeditUrl);
-            } else {
-                logger.warn("TimeEdit returned non-2xx status: HTTP {} for URL: {}", response.statusCode(), timeeditUrl);
-                logger.debug("Error response body: {}", response.body());
-                return TimeEditResponse.errorResponse(
-                        "TimeEdit returned HTTP " + response.statusCode(),
-                        response.statusCode()
-                );
+            // Keep the body as raw bytes: the parser streams from them, so we never
+            // hold a decoded String copy of a multi-megabyte schedule.
+            // A host that keeps timing out is not asked again until its breaker lets a probe through
+            CircuitBreaker breaker = CircuitBreaker.forUrl(timeeditUrl);
+            if (!breaker.tryAcquire()) {
+                logger.warn("TimeEdit circuit open, not fetching {}", timeeditUrl);
+                return CompletableFuture.completedFuture(TimeEditResponse.unreachable(
+                        "TimeEdit host is not responding; requests are paused for a short while (circuit open)"));
             }
-        } catch (java.net.ConnectException | java.net.UnknownHostException e) {
+
+            long started = System.nanoTime();
+            return hedging.send(() -> httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()))
+                    .handle((response, error) -> {
+                        fetchSeconds.observeSince(started);
+                        record(breaker, response, error);
+                        return error != null
+                                ? toErrorResponse(error, timeeditUrl)
+                                : toResponse(response, timeeditUrl);
+                    });
+        } catch (Exception e) {
+            // Request construction failed (e.g. unsupported scheme) before anything was sent
+            return CompletableFuture.completedFuture(toErrorResponse(e, timeeditUrl));
+        }
+    }
+
+    private static void record(CircuitBreaker breaker, HttpResponse<byte[]> response, Throwable error) {
+        Throwable e = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (e instanceof java.util.concurrent.CancellationException) {
+            breaker.onIgnored();
+        } else if (e != null || CircuitBreaker.isHostFailure(response.statusCode())) {
+            breaker.onFailure();
+        } else {
+            breaker.onSuccess();
+        }
+    }
+
+    private static TimeEditResponse toResponse(HttpResponse<byte[]> response, String timeeditUrl) {
+        // Cached copy is still current; nothing was downloaded
+        if (response.statusCode() == 304) {
+            logger.info("TimeEdit schedule not modified (HTTP 304) for URL: {}", timeeditUrl);
+            return TimeEditResponse.notModified(timeeditUrl);
+        }
+
+        // Check HTTP status
+        if (response.statusCode() >= 200 && response.statusCode() < 300) {
+            byte[] responseBody = response.body();
+            responseBytes.observe(responseBody.length);
+            logger.info("Successfully fetched TimeEdit schedule (HTTP {}) - {} bytes received", 
+                    response.statusCode(), responseBody.length);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Response body preview: {}", preview(responseBody, 200));
+            }
+            return TimeEditResponse.success(
+                    responseBody,
+                    timeeditUrl,
+                    response.headers().firstValue("ETag").orElse(null),
+                    response.headers().firstValue("Last-Modified").orElse(null)
+            );
+        } else {
+            logger.warn("TimeEdit returned non-2xx status: HTTP {} for URL: {}", response.statusCode(), timeeditUrl);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Error response body: {}", preview(response.body(), 500));
+            }
+            return TimeEditResponse.errorResponse(
+                    "TimeEdit returned HTTP " + response.statusCode(),
+                    response.statusCode()
+            );
+        }
+    }
+
+    private static TimeEditResponse toErrorResponse(Throwable error, String timeeditUrl) {
+        // sendAsync reports failures wrapped in CompletionException
+        Throwable e = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (e instanceof java.net.ConnectException || e instanceof java.net.UnknownHostException) {
             logger.error("Failed to connect to TimeEdit at {}: {} ({})", timeeditUrl, e.getMessage(), e.getClass().getSimpleName());
             return TimeEditResponse.unreachable("Cannot connect to TimeEdit host: " + e.getMessage());
-        } catch (java.nio.file.AccessDeniedException e) {
+        } else if (e instanceof java.nio.file.AccessDeniedException) {
             logger.error("Access denied when connecting to TimeEdit at {}: {}", timeeditUrl, e.getMessage());
             return TimeEditResponse.unreachable("Access denied: " + e.getMessage());
-        } catch (java.io.IOException e) {
+        } else if (e instanceof java.io.IOException) {
+            // Includes HttpTimeoutException / HttpConnectTimeoutException
             logger.error("I/O error when fetching TimeEdit from {}: {}", timeeditUrl, e.getMessage(), e);
             return TimeEditResponse.unreachable("Network error: " + e.getMessage());
-        } catch (InterruptedException e) {
-            logger.error("TimeEdit fetch was interrupted after starting request to {}", timeeditUrl);
-            Thread.currentThread().interrupt();
+        } else if (e instanceof java.util.concurrent.CancellationException) {
+            logger.error("TimeEdit fetch was cancelled after starting request to {}", timeeditUrl);
             return TimeEditResponse.unreachable("Request was interrupted");
-        } catch (Exception e) {
+        } else {
             logger.error("Unexpected error fetching TimeEdit from {}: {}", timeeditUrl, e.getMessage(), e);
             return TimeEditResponse.unreachable("Unexpected error: " + e.getMessage());
         }
     }
 
+    private static String preview(byte[] body, int maxBytes) {
+        if (body == null) {
+            return "";
+        }
+        return new String(body, 0, Math.min(maxBytes, body.length), StandardCharsets.UTF_8);
+    }
+
     /**
      * Response object wrapping TimeEdit fetch result or error.
      */
     public static class TimeEditResponse {
         private final boolean success;
-        private final String rawBody;
+        private final boolean notModified;
+        private final byte[] body;
         private final String url;
         private final String errorCode;
         private final String errorMessage;
         private final Integer httpStatusCode;
+        private final String etag;
+        private final String lastModified;
 
-        private TimeEditResponse(boolean success, String rawBody, String url, String errorCode, String errorMessage, Integer httpStatusCode) {
+        private TimeEditResponse(boolean success, boolean notModified, byte[] body, String url, String errorCode,
+                String errorMessage, Integer httpStatusCode, String etag, String lastModified) {
             this.success = success;
-            this.rawBody = rawBody;
+            this.notModified = notModified;
+            this.body = body;
             this.url = url;
             this.errorCode = errorCode;
             this.errorMessage = errorMessage;
             this.httpStatusCode = httpStatusCode;
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+
+        public static TimeEditResponse success(byte[] body, String url) {
+            return success(body, url, null, null);
+        }
+
+        public static TimeEditResponse success(byte[] body, String url, String etag, String lastModified) {
+            return new TimeEditResponse(true, false, body, url, null, null, null, etag, lastModified);
         }
 
-        public static TimeEditResponse success(String rawBody, String url) {
-            return new TimeEditResponse(true, rawBody, url, null, null, null);
+        public static TimeEditResponse notModified(String url) {
+            return new TimeEditResponse(true, true, null, url, null, null, 304, null, null);
         }
 
         public static TimeEditResponse invalidUrl(String message) {
-            return new TimeEditResponse(false, null, null, "INVALID_TIMEEDIT_URL", message, null);
+            return new TimeEditResponse(false, false, null, null, "INVALID_TIMEEDIT_URL", message, null, null, null);
         }
 
         public static TimeEditResponse unreachable(String message) {
-            return new TimeEditResponse(false, null, null, "TIMEEDIT_UNREACHABLE", message, null);
+            return new TimeEditResponse(false, false, null, null, "TIMEEDIT_UNREACHABLE", message, null, null, null);
         }
 
         public static TimeEditResponse errorResponse(String message, int httpStatus) {
-            return new TimeEditResponse(false, null, null, "TIMEEDIT_ERROR_RESPONSE", message, httpStatus);
+            return new TimeEditResponse(false, false, null, null, "TIMEEDIT_ERROR_RESPONSE", message, httpStatus, null, null);
         }
 
         public boolean isSuccess() {
             return success;
         }
 
+        /**
+         * True when TimeEdit answered 304 to a conditional request; there is no body.
+         */
+        public boolean isNotModified() {
+            return notModified;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public String getLastModified() {
+            return lastModified;
+        }
+
+        /**
+         * Decodes the body as UTF-8. Prefer {@link #openBody()} for parsing; this copies the whole payload.
+         */
         public String getRawBody() {
-            return rawBody;
+            return body != null ? new String(body, StandardCharsets.UTF_8) : null;
+        }
+
+        /**
+         * Opens the raw body for streaming consumers such as {@link TimeEditParser#parseSchedule(InputStream, String, java.time.ZoneId)}.
+         */
+        public InputStream openBody() {
+            return body != null ? new ByteArrayInputStream(body) : null;
+        }
+
+        public int getBodyLength() {
+            return body != null ? body.length : 0;
         }
 
         public String getUrl() {
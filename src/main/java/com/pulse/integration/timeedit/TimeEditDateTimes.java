@@ -0,0 +1,133 @@
+package com.pulse.integration.timeedit;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Turns TimeEdit's {@code startdate}/{@code starttime} pairs into OffsetDateTime.
+ *
+ * Same result as {@code ZonedDateTime.of(LocalDate.parse(date), LocalTime.parse(time), zone).toOffsetDateTime()},
+ * but cheaper for the shapes TimeEdit actually sends:
+ * - {@code yyyy-MM-dd} and {@code HH:mm} are decoded straight from the chars; any other shape
+ *   (seconds, signed years, garbage) goes through LocalDate/LocalTime.parse and fails the same way
+ * - the offset comes from a per-zone cache of the last DST period used, so events in the same
+ *   period skip the zone rules lookup. Times in a DST gap or overlap always go through
+ *   ZonedDateTime.of, which moves gap times forward and picks the earlier offset in overlaps.
+ */
+final class TimeEditDateTimes {
+
+	private static final ConcurrentMap<ZoneId, ZoneOffsets> offsetsByZone = new ConcurrentHashMap<>();
+
+	private TimeEditDateTimes() {
+	}
+
+	/**
+	 * @throws java.time.DateTimeException if the date or time is malformed or out of range
+	 */
+	static OffsetDateTime toOffsetDateTime(String date, String time, ZoneId zoneId) {
+		LocalDateTime local = LocalDateTime.of(decodeDate(date), decodeTime(time));
+		ZoneOffset offset = offsetsByZone.computeIfAbsent(zoneId, ZoneOffsets::new).offsetFor(local);
+		if (offset == null) {
+			return ZonedDateTime.of(local, zoneId).toOffsetDateTime();
+		}
+		return OffsetDateTime.of(local, offset);
+	}
+
+	static LocalDate decodeDate(String date) {
+		if (date.length() == 10 && date.charAt(4) == '-' && date.charAt(7) == '-') {
+			int year = digits(date, 0, 4);
+			int month = digits(date, 5, 2);
+			int day = digits(date, 8, 2);
+			if (year >= 0 && month >= 0 && day >= 0) {
+				// Range checks (month 13, Feb 30) are LocalDate.of's, as strict as ISO parsing
+				return LocalDate.of(year, month, day);
+			}
+		}
+		return LocalDate.parse(date);
+	}
+
+	static LocalTime decodeTime(String time) {
+		if (time.length() == 5 && time.charAt(2) == ':') {
+			int hour = digits(time, 0, 2);
+			int minute = digits(time, 3, 2);
+			if (hour >= 0 && minute >= 0) {
+				return LocalTime.of(hour, minute);
+			}
+		}
+		return LocalTime.parse(time);
+	}
+
+	// Non-negative value of count ASCII digits at from, or -1 if any char is not a digit
+	private static int digits(String s, int from, int count) {
+		int value = 0;
+		for (int i = from; i < from + count; i++) {
+			char c = s.charAt(i);
+			if (c < '0' || c > '9') {
+				return -1;
+			}
+			value = value * 10 + (c - '0');
+		}
+		return value;
+	}
+
+	/**
+	 * Last DST period looked up in one zone: local times in [from, until) all have this offset
+	 * and none of them is in a gap or overlap.
+	 */
+	private record Period(LocalDateTime from, LocalDateTime until, ZoneOffset offset) {
+		boolean contains(LocalDateTime local) {
+			return !local.isBefore(from) && local.isBefore(until);
+		}
+	}
+
+	private static final class ZoneOffsets {
+		private final ZoneRules rules;
+		private volatile Period last;
+
+		ZoneOffsets(ZoneId zoneId) {
+			this.rules = zoneId.getRules();
+			if (rules.isFixedOffset()) {
+				last = new Period(LocalDateTime.MIN, LocalDateTime.MAX, rules.getOffset(Instant.EPOCH));
+			}
+		}
+
+		// The only offset of local, or null if local is in a gap or overlap
+		ZoneOffset offsetFor(LocalDateTime local) {
+			Period period = last;
+			if (period != null && period.contains(local)) {
+				return period.offset();
+			}
+			if (rules.getTransition(local) != null) {
+				return null;
+			}
+			ZoneOffset offset = rules.getOffset(local);
+			Instant instant = local.toInstant(offset);
+			// Last transition at or before instant, first one after it
+			ZoneOffsetTransition previous = rules.previousTransition(instant.plusNanos(1));
+			ZoneOffsetTransition next = rules.nextTransition(instant);
+			LocalDateTime from = previous == null ? LocalDateTime.MIN : latest(previous);
+			LocalDateTime until = next == null ? LocalDateTime.MAX : earliest(next);
+			last = new Period(from, until, offset);
+			return offset;
+		}
+
+		// A transition's gap or overlap covers the local times between its before and after
+		private static LocalDateTime earliest(ZoneOffsetTransition transition) {
+			return transition.isGap() ? transition.getDateTimeBefore() : transition.getDateTimeAfter();
+		}
+
+		private static LocalDateTime latest(ZoneOffsetTransition transition) {
+			return transition.isGap() ? transition.getDateTimeAfter() : transition.getDateTimeBefore();
+		}
+	}
+}
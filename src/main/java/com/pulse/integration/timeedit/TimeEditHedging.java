@@ -0,0 +1,172 @@
+package com.pulse.integration.timeedit;
+
+import com.pulse.config.AppConfig;
+import com.pulse.metrics.Metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Hedged requests for TimeEdit fetches.
+ *
+ * If a fetch has not answered within the configured percentile of recently observed fetch
+ * latencies, an identical second request is sent; whichever succeeds first is used and the other
+ * is cancelled. A hedge is only sent while hedges stay within {@code budgetPercent} of all fetches,
+ * so a slow TimeEdit never sees more than that much extra traffic.
+ *
+ * Latencies are kept in a ring of the last {@value #WINDOW} successful fetches; until
+ * {@value #MIN_SAMPLES} have been seen nothing is hedged. The hedge delay is recomputed every
+ * {@value #RECOMPUTE_EVERY} samples, not per request.
+ */
+final class TimeEditHedging {
+
+    static final int WINDOW = 256;
+    static final int MIN_SAMPLES = 20;
+    static final int RECOMPUTE_EVERY = 16;
+
+    private final boolean enabled;
+    private final double percentile;
+    private final double budgetPercent;
+    private final long minDelayNanos;
+
+    private final AtomicLongArray samples = new AtomicLongArray(WINDOW);
+    private final AtomicLong sampleCount = new AtomicLong();
+    private volatile long delayNanos = -1;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong hedges = new AtomicLong();
+    private final LongAdder hedgesSent = Metrics.counter("pulse_timeedit_hedges_total");
+    private final LongAdder hedgeWins = Metrics.counter("pulse_timeedit_hedge_wins_total");
+    private final LongAdder overBudget = Metrics.counter("pulse_timeedit_hedges_over_budget_total");
+
+    TimeEditHedging(boolean enabled, double percentile, double budgetPercent, long minDelayMillis) {
+        this.enabled = enabled;
+        this.percentile = Math.min(100, Math.max(1, percentile));
+        this.budgetPercent = Math.min(100, Math.max(0, budgetPercent));
+        this.minDelayNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, minDelayMillis));
+    }
+
+    /**
+     * Hedging from TIMEEDIT_HEDGE_ENABLED (default false), TIMEEDIT_HEDGE_PERCENTILE (95),
+     * TIMEEDIT_HEDGE_BUDGET_PERCENT (10) and TIMEEDIT_HEDGE_MIN_DELAY_MS (50).
+     */
+    static TimeEditHedging fromConfig() {
+        TimeEditHedging hedging = new TimeEditHedging(
+                AppConfig.getBoolean("TIMEEDIT_HEDGE_ENABLED", false),
+                AppConfig.getInt("TIMEEDIT_HEDGE_PERCENTILE", 95),
+                AppConfig.getInt("TIMEEDIT_HEDGE_BUDGET_PERCENT", 10),
+                AppConfig.getLong("TIMEEDIT_HEDGE_MIN_DELAY_MS", 50));
+        Metrics.gauge("pulse_timeedit_hedge_delay_ms", () -> TimeUnit.NANOSECONDS.toMillis(Math.max(0, hedging.delayNanos)));
+        return hedging;
+    }
+
+    /**
+     * Runs {@code attempt} once, and a second time if it is slow and the budget allows.
+     * The returned future completes with the first successful result, or fails once every attempt has failed.
+     */
+    <T> CompletableFuture<T> send(Supplier<CompletableFuture<T>> attempt) {
+        requests.incrementAndGet();
+        long started = System.nanoTime();
+        CompletableFuture<T> primary = attempt.get();
+        long delay = enabled ? hedgeDelayNanos() : -1;
+        if (delay < 0) {
+            return primary.whenComplete((value, error) -> {
+                if (error == null) {
+                    record(System.nanoTime() - started);
+                }
+            });
+        }
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicBoolean settled = new AtomicBoolean();
+        AtomicInteger pending = new AtomicInteger(1);
+        AtomicReference<CompletableFuture<T>> hedge = new AtomicReference<>();
+        primary.whenComplete((value, error) -> settle(result, value, error, settled, pending, false, started));
+        CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS).execute(() -> {
+            if (result.isDone() || !tryHedge()) {
+                return;
+            }
+            pending.incrementAndGet();
+            hedgesSent.increment();
+            CompletableFuture<T> second = attempt.get();
+            hedge.set(second);
+            second.whenComplete((value, error) -> settle(result, value, error, settled, pending, true, started));
+            if (result.isDone()) {
+                second.cancel(true);
+            }
+        });
+        // The loser is cancelled, which aborts its HTTP exchange, before the caller sees the result
+        return result.whenComplete((value, error) -> {
+            primary.cancel(true);
+            CompletableFuture<T> second = hedge.get();
+            if (second != null) {
+                second.cancel(true);
+            }
+        });
+    }
+
+    // Bookkeeping happens before completing, so it is done by the time anyone sees the result
+    private <T> void settle(CompletableFuture<T> result, T value, Throwable error, AtomicBoolean settled,
+            AtomicInteger pending, boolean isHedge, long started) {
+        if (error == null) {
+            if (settled.compareAndSet(false, true)) {
+                record(System.nanoTime() - started);
+                if (isHedge) {
+                    hedgeWins.increment();
+                }
+                result.complete(value);
+            }
+        } else if (pending.decrementAndGet() == 0 && settled.compareAndSet(false, true)) {
+            result.completeExceptionally(error);
+        }
+    }
+
+    private boolean tryHedge() {
+        long allowed = (long) (requests.get() * budgetPercent / 100.0);
+        while (true) {
+            long sent = hedges.get();
+            if (sent >= allowed) {
+                overBudget.increment();
+                return false;
+            }
+            if (hedges.compareAndSet(sent, sent + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Delay before hedging, or -1 while there are too few samples.
+     */
+    long hedgeDelayNanos() {
+        long delay = delayNanos;
+        return delay < 0 ? -1 : Math.max(delay, minDelayNanos);
+    }
+
+    void record(long nanos) {
+        long n = sampleCount.getAndIncrement();
+        samples.set((int) (n % WINDOW), nanos);
+        long count = n + 1;
+        if (count == MIN_SAMPLES || (count > MIN_SAMPLES && count % RECOMPUTE_EVERY == 0)) {
+            int size = (int) Math.min(count, WINDOW);
+            long[] sorted = new long[size];
+            for (int i = 0; i < size; i++) {
+                sorted[i] = samples.get(i);
+            }
+            Arrays.sort(sorted);
+            delayNanos = sorted[Math.min(size - 1, (int) Math.ceil(size * percentile / 100.0) - 1)];
+        }
+    }
+
+    long hedgeWins() {
+        return hedgeWins.sum();
+    }
+}
@@ -1,25 +1,35 @@
 package com.pulse.integration.timeedit;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pulse.integration.timeedit.dto.TimeEditEventDTO;
 import com.pulse.integration.timeedit.dto.TimeEditScheduleDTO;
 import com.pulse.integration.timeedit.dto.TimeEditSummaryDTO;
+import com.pulse.util.StringDictionary;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
-import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
 
 public class TimeEditParser {
 	private static final ObjectMapper objectMapper = new ObjectMapper();
 
+	// Reservations per task in parseAndValidateInParallel; large enough to amortize a task, small
+	// enough that reading and mapping overlap
+	static final int PARALLEL_CHUNK_SIZE = 1024;
+
 	public static TimeEditScheduleDTO parseSchedule(String rawJson, String timeeditUrl) {
 		return parseSchedule(rawJson, timeeditUrl, ZoneId.systemDefault());
 	}
@@ -43,10 +53,6 @@ public class TimeEditParser {
 
 			// 2) Read column headers so we can interpret the columns[] array.
 			List<String> headers = readStringArray(root.get("columnheaders"));
-			
-            int locationIndex = findHeaderIndex(headers, "location");
-			Integer commentIndex = findHeaderIndexOrNull(headers, "comment");
-			Integer textIndex = findHeaderIndexOrNull(headers, "text");
 
             // make sure reservations array exists
 			JsonNode reservationsNode = root.get("reservations");
@@ -55,55 +61,11 @@ public class TimeEditParser {
 			}
 
 			// 3) Map each reservation into a TimeEditEventDTO.
+			ColumnLayout layout = ColumnLayout.of(headers);
+			StringDictionary strings = new StringDictionary();
 			List<TimeEditEventDTO> events = new ArrayList<>();
 			for (JsonNode reservation : reservationsNode) {
-				// Required fields: if any is missing/blank we fail the whole parse (422).
-
-				String id = readRequiredText(reservation, "id");
-				// read date and time fields
-                String startDate = readRequiredText(reservation, "startdate");
-				String startTime = readRequiredText(reservation, "starttime");
-				String endDate = readRequiredText(reservation, "enddate");
-				String endTime = readRequiredText(reservation, "endtime");
-                // convert to OffsetDateTime
-				OffsetDateTime start = toOffsetDateTime(startDate, startTime, zoneId);
-				OffsetDateTime end = toOffsetDateTime(endDate, endTime, zoneId);
-                // get all column values (e.g. "Långfredagen",, etc)
-				List<String> columns = readStringArray(reservation.get("columns"));
-
-                // get the title from the first column, default to (untitled) if blank
-				String title = safeTrim(getColumnValue(columns, 0));
-				if (title.isEmpty()) {
-					title = "(untitled)";
-				}
-
-				// Location is best-effort; if the header isn't present we return "".
-				String location = "";
-                // find location if index available (-1 means not found)
-				if (locationIndex >= 0) {
-					location = safeTrim(getColumnValue(columns, locationIndex));
-				}
-                // Sets description to the first non-blank value from 
-                // the reservation’s “Comment” column (preferred) or 
-                // “Text” column, trimmed; otherwise ""
-				// Description is optional; prefer Comment then Text.
-				// normalizeFreeText() trims and also turns ", " placeholders into "".
-				String description = "";
-				description = firstNonBlank(
-						normalizeFreeText(commentIndex != null ? getColumnValue(columns, commentIndex) : ""),
-						normalizeFreeText(textIndex != null ? getColumnValue(columns, textIndex) : "")
-				);
-
-                // create event DTO
-				TimeEditEventDTO event = new TimeEditEventDTO(
-						"TE-" + id,
-						title,
-						start,
-						end,
-						location,
-						description
-				);
-				events.add(event);
+				events.add(toEvent(reservation, layout, zoneId, strings));
 			}
 
 			// 4) Summary is derived from the events list.
@@ -136,14 +98,325 @@ public class TimeEditParser {
 		}
 	}
 
+	/**
+	 * Streaming variant of {@link #parseSchedule(String, String, ZoneId)}.
+	 *
+	 * Reads the upstream body token by token with a Jackson {@link JsonParser} instead of building a
+	 * {@link JsonNode} tree, so only the column values we actually map are ever materialized.
+	 * Output and error messages are identical to the tree-based path.
+	 *
+	 * @param body        raw TimeEdit JSON (closed when parsing completes)
+	 * @param timeeditUrl the URL the body was fetched from
+	 * @param zoneId      zone used to interpret TimeEdit's local date/time fields
+	 * @return normalized schedule DTO
+	 */
+	public static TimeEditScheduleDTO parseSchedule(InputStream body, String timeeditUrl, ZoneId zoneId) {
+		List<TimeEditEventDTO> events = new ArrayList<>();
+		TimeEditSummaryDTO summary = parseEvents(body, zoneId, events::add);
+		return new TimeEditScheduleDTO(
+				"TimeEdit",
+				timeeditUrl,
+				OffsetDateTime.now(zoneId).withNano(0),
+				events,
+				summary
+		);
+	}
+
+	/**
+	 * Variant of {@link #parseSchedule(InputStream, String, ZoneId)} followed by
+	 * {@link TimeEditScheduleValidator#validate}, for very large schedules.
+	 *
+	 * The body is still read by one thread, but every {@value #PARALLEL_CHUNK_SIZE} reservations are
+	 * handed to {@code pool} to be mapped and checked with {@link TimeEditScheduleValidator#validateEvent}
+	 * while reading carries on. Chunks are joined in order, so events keep upstream order, and the
+	 * summary is reduced from each chunk's own count and min/max. Errors are the ones the sequential
+	 * parse-then-validate would throw: the first parse error, or else the first invalid event.
+	 *
+	 * @param pool runs the chunks; the calling thread only reads and joins
+	 */
+	public static TimeEditScheduleDTO parseAndValidateInParallel(InputStream body, String timeeditUrl, ZoneId zoneId, ForkJoinPool pool) {
+		Objects.requireNonNull(pool, "pool");
+		List<TimeEditEventDTO> events = new ArrayList<>();
+		ParallelState parallel = new ParallelState(pool);
+		TimeEditSummaryDTO summary = parseEvents(body, zoneId, events::add, parallel);
+		if (parallel.firstInvalid != null) {
+			throw parallel.firstInvalid;
+		}
+		return new TimeEditScheduleDTO(
+				"TimeEdit",
+				timeeditUrl,
+				OffsetDateTime.now(zoneId).withNano(0),
+				events,
+				summary
+		);
+	}
+
+	/**
+	 * Streams reservations from a raw TimeEdit body and hands each mapped event to {@code sink}
+	 * as soon as it has been read. The summary (count and min/max range) is accumulated on the fly.
+	 *
+	 * If TimeEdit ever sends {@code reservations} before {@code columnheaders}, that array is buffered
+	 * as a tree so columns can still be interpreted once the headers are known.
+	 *
+	 * @param body   raw TimeEdit JSON (closed when parsing completes)
+	 * @param zoneId zone used to interpret TimeEdit's local date/time fields
+	 * @param sink   receives events in upstream order
+	 * @return summary of the emitted events
+	 */
+	public static TimeEditSummaryDTO parseEvents(InputStream body, ZoneId zoneId, Consumer<TimeEditEventDTO> sink) {
+		return parseEvents(body, zoneId, sink, null);
+	}
+
+	// parallel is null for the sequential path
+	private static TimeEditSummaryDTO parseEvents(InputStream body, ZoneId zoneId, Consumer<TimeEditEventDTO> sink,
+			ParallelState parallel) {
+		if (body == null) {
+			throw new TimeEditParseException("TimeEdit response body is empty");
+		}
+		if (zoneId == null) {
+			throw new TimeEditParseException("ZoneId cannot be null");
+		}
+
+		SummaryAccumulator summary = new SummaryAccumulator();
+		Consumer<TimeEditEventDTO> counted = event -> {
+			summary.add(event);
+			if (parallel != null) {
+				parallel.validate(event);
+			}
+			sink.accept(event);
+		};
+
+		try (JsonParser parser = objectMapper.createParser(body)) {
+			JsonToken first = parser.nextToken();
+			if (first == null) {
+				throw new TimeEditParseException("TimeEdit response body is empty");
+			}
+			if (first != JsonToken.START_OBJECT) {
+				// Same outcome as root.get("reservations") on a non-object tree.
+				throw new TimeEditParseException("Missing or invalid 'reservations' array");
+			}
+
+			ColumnLayout layout = null;
+			boolean reservationsSeen = false;
+			JsonNode deferredReservations = null;
+
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String field = parser.currentName();
+				JsonToken value = parser.nextToken();
+
+				if ("columnheaders".equals(field)) {
+					layout = ColumnLayout.of(readStringArray(parser, value));
+				} else if ("reservations".equals(field)) {
+					if (value != JsonToken.START_ARRAY) {
+						parser.skipChildren();
+						reservationsSeen = false;
+						deferredReservations = null;
+					} else if (layout != null) {
+						reservationsSeen = true;
+						if (parallel != null) {
+							streamReservationsInParallel(parser, layout, zoneId, parallel, summary, sink);
+						} else {
+							streamReservations(parser, layout, zoneId, counted);
+						}
+					} else {
+						// Headers may still follow; keep this one array as a tree until they do.
+						reservationsSeen = true;
+						deferredReservations = parser.readValueAsTree();
+					}
+				} else {
+					parser.skipChildren();
+				}
+			}
+
+			if (!reservationsSeen) {
+				throw new TimeEditParseException("Missing or invalid 'reservations' array");
+			}
+			if (deferredReservations != null) {
+				ColumnLayout deferredLayout = layout != null ? layout : ColumnLayout.of(List.of());
+				StringDictionary strings = new StringDictionary();
+				for (JsonNode reservation : deferredReservations) {
+					counted.accept(toEvent(reservation, deferredLayout, zoneId, strings));
+				}
+			}
+			return summary.toSummary();
+		} catch (TimeEditParseException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new TimeEditParseException("Failed to parse TimeEdit JSON", e);
+		}
+	}
+
+	// Reads reservations[] one object at a time; the parser is positioned on START_ARRAY.
+	private static void streamReservations(
+			JsonParser parser,
+			ColumnLayout layout,
+			ZoneId zoneId,
+			Consumer<TimeEditEventDTO> sink
+	) throws IOException {
+		ReservationFields fields = new ReservationFields(layout);
+		StringDictionary strings = new StringDictionary();
+		JsonToken token;
+		while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+			readReservation(parser, token, fields);
+			sink.accept(fields.toEvent(zoneId, strings));
+		}
+	}
+
+	// Parallel counterpart of streamReservations: reads here, maps and validates chunks on the pool.
+	private static void streamReservationsInParallel(
+			JsonParser parser,
+			ColumnLayout layout,
+			ZoneId zoneId,
+			ParallelState parallel,
+			SummaryAccumulator summary,
+			Consumer<TimeEditEventDTO> sink
+	) throws IOException {
+		List<ForkJoinTask<MappedChunk>> chunks = new ArrayList<>();
+		List<ReservationFields> batch = new ArrayList<>(PARALLEL_CHUNK_SIZE);
+		try {
+			JsonToken token;
+			while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+				// A fresh holder per reservation, since the chunk reads it on another thread
+				ReservationFields fields = new ReservationFields(layout);
+				readReservation(parser, token, fields);
+				batch.add(fields);
+				if (batch.size() == PARALLEL_CHUNK_SIZE) {
+					chunks.add(parallel.pool.submit(mapChunk(batch, zoneId)));
+					batch = new ArrayList<>(PARALLEL_CHUNK_SIZE);
+				}
+			}
+			if (!batch.isEmpty()) {
+				chunks.add(parallel.pool.submit(mapChunk(batch, zoneId)));
+			}
+		} catch (IOException | RuntimeException e) {
+			// Read sequentially, an earlier reservation that fails to map would have been reported first
+			joinInOrder(chunks, parallel, summary, sink);
+			throw e;
+		}
+		joinInOrder(chunks, parallel, summary, sink);
+	}
+
+	private static ForkJoinTask<MappedChunk> mapChunk(List<ReservationFields> batch, ZoneId zoneId) {
+		return ForkJoinTask.adapt(() -> {
+			MappedChunk chunk = new MappedChunk(batch.size());
+			StringDictionary strings = new StringDictionary();
+			try {
+				for (ReservationFields fields : batch) {
+					TimeEditEventDTO event = fields.toEvent(zoneId, strings);
+					chunk.events.add(event);
+					chunk.summary.add(event);
+					if (chunk.firstInvalid == null) {
+						try {
+							TimeEditScheduleValidator.validateEvent(event);
+						} catch (TimeEditParseException e) {
+							chunk.firstInvalid = e;
+						}
+					}
+				}
+			} catch (RuntimeException e) {
+				chunk.failure = e;
+			}
+			return chunk;
+		});
+	}
+
+	// Hands chunk results on in upstream order; the first chunk that failed to map ends the parse.
+	private static void joinInOrder(List<ForkJoinTask<MappedChunk>> chunks, ParallelState parallel,
+			SummaryAccumulator summary, Consumer<TimeEditEventDTO> sink) {
+		for (int i = 0; i < chunks.size(); i++) {
+			MappedChunk chunk = chunks.get(i).join();
+			if (chunk.failure != null) {
+				chunks.subList(i + 1, chunks.size()).forEach(task -> task.cancel(false));
+				throw chunk.failure;
+			}
+			summary.merge(chunk.summary);
+			if (parallel.firstInvalid == null) {
+				parallel.firstInvalid = chunk.firstInvalid;
+			}
+			chunk.events.forEach(sink);
+		}
+	}
+
+	// Reads one reservations[] element into fields; the parser is positioned on its first token.
+	private static void readReservation(JsonParser parser, JsonToken token, ReservationFields fields) throws IOException {
+		if (token == null) {
+			throw new TimeEditParseException("Failed to parse TimeEdit JSON");
+		}
+		fields.reset();
+		if (token == JsonToken.START_OBJECT) {
+			fields.read(parser);
+		} else {
+			// Scalars/arrays have no fields, exactly like JsonNode.get() on them.
+			parser.skipChildren();
+		}
+	}
+
+	// Tree-path mapping for a single reservation node.
+	private static TimeEditEventDTO toEvent(JsonNode reservation, ColumnLayout layout, ZoneId zoneId, StringDictionary strings) {
+		// Required fields: if any is missing/blank we fail the whole parse (422).
+
+		String id = readRequiredText(reservation, "id");
+		// read date and time fields
+		String startDate = readRequiredText(reservation, "startdate");
+		String startTime = readRequiredText(reservation, "starttime");
+		String endDate = readRequiredText(reservation, "enddate");
+		String endTime = readRequiredText(reservation, "endtime");
+		// convert to OffsetDateTime
+		OffsetDateTime start = toOffsetDateTime(startDate, startTime, zoneId);
+		OffsetDateTime end = toOffsetDateTime(endDate, endTime, zoneId);
+		// get all column values (e.g. "Långfredagen",, etc)
+		List<String> columns = readStringArray(reservation.get("columns"));
+
+		return toEvent(id, start, end, index -> getColumnValue(columns, index), layout, strings);
+	}
+
+	// Shared mapping from already-extracted values to the contract event.
+	private static TimeEditEventDTO toEvent(
+			String id,
+			OffsetDateTime start,
+			OffsetDateTime end,
+			IntFunction<String> column,
+			ColumnLayout layout,
+			StringDictionary strings
+	) {
+		// get the title from the first column, default to (untitled) if blank
+		String title = safeTrim(column.apply(0));
+		if (title.isEmpty()) {
+			title = "(untitled)";
+		}
+
+		// Location is best-effort; if the header isn't present we return "".
+		String location = "";
+		// find location if index available (-1 means not found)
+		if (layout.locationIndex >= 0) {
+			location = safeTrim(column.apply(layout.locationIndex));
+		}
+		// Sets description to the first non-blank value from
+		// the reservation’s “Comment” column (preferred) or
+		// “Text” column, trimmed; otherwise ""
+		// Description is optional; prefer Comment then Text.
+		// normalizeFreeText() trims and also turns ", " placeholders into "".
+		String description = firstNonBlank(
+				normalizeFreeText(layout.commentIndex >= 0 ? column.apply(layout.commentIndex) : ""),
+				normalizeFreeText(layout.textIndex >= 0 ? column.apply(layout.textIndex) : "")
+		);
+
+		// create event DTO; the same titles, rooms and comments repeat across a schedule, so
+		// events share one instance of each instead of keeping their own copies
+		return new TimeEditEventDTO(
+				"TE-" + id,
+				strings.share(title),
+				start,
+				end,
+				strings.share(location),
+				strings.share(description)
+		);
+	}
+
     // Convert date and time strings to OffsetDateTime using the given ZoneId
 	private static OffsetDateTime toOffsetDateTime(String date, String time, ZoneId zoneId) {
 		try {
-			LocalDate d = LocalDate.parse(date);
-			LocalTime t = LocalTime.parse(time);
-			LocalDateTime local = LocalDateTime.of(d, t);
-			ZonedDateTime zoned = ZonedDateTime.of(local, zoneId);
-			return zoned.toOffsetDateTime();
+			return TimeEditDateTimes.toOffsetDateTime(date, time, zoneId);
 		} catch (Exception e) {
 			throw new TimeEditParseException("Invalid date/time: " + date + " " + time, e);
 		}
@@ -180,6 +453,37 @@ public class TimeEditParser {
 		return result;
 	}
 
+    // Streaming counterpart of readStringArray(JsonNode); the parser is positioned on `first`.
+	private static List<String> readStringArray(JsonParser parser, JsonToken first) throws IOException {
+		List<String> result = new ArrayList<>();
+		if (first == JsonToken.VALUE_NULL) {
+			return result;
+		}
+		if (first != JsonToken.START_ARRAY) {
+			throw new TimeEditParseException("Expected JSON array");
+		}
+		JsonToken token;
+		while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+			result.add(readScalarText(parser, token));
+		}
+		return result;
+	}
+
+	// Same text JsonNode.asText("") would give: null -> "", containers -> "", scalars -> their text.
+	private static String readScalarText(JsonParser parser, JsonToken token) throws IOException {
+		if (token == null) {
+			throw new TimeEditParseException("Failed to parse TimeEdit JSON");
+		}
+		if (token == JsonToken.VALUE_NULL) {
+			return "";
+		}
+		if (token.isStructStart()) {
+			parser.skipChildren();
+			return "";
+		}
+		return parser.getText();
+	}
+
     // Find header index by case-insensitive substring match or -1 if not found
 	private static int findHeaderIndex(List<String> headers, String needleLower) {
 		Integer idx = findHeaderIndexOrNull(headers, needleLower);
@@ -245,4 +549,222 @@ public class TimeEditParser {
 		return "";
 	}
 
+	/**
+	 * Column positions resolved once per document from {@code columnheaders}.
+	 */
+	private static final class ColumnLayout {
+		private final int locationIndex;
+		private final int commentIndex;
+		private final int textIndex;
+
+		private ColumnLayout(int locationIndex, int commentIndex, int textIndex) {
+			this.locationIndex = locationIndex;
+			this.commentIndex = commentIndex;
+			this.textIndex = textIndex;
+		}
+
+		static ColumnLayout of(List<String> headers) {
+			Integer commentIndex = findHeaderIndexOrNull(headers, "comment");
+			Integer textIndex = findHeaderIndexOrNull(headers, "text");
+			return new ColumnLayout(
+					findHeaderIndex(headers, "location"),
+					commentIndex != null ? commentIndex : -1,
+					textIndex != null ? textIndex : -1
+			);
+		}
+
+		// Only these columns are ever read, so the streaming path can skip the rest.
+		boolean isMapped(int index) {
+			return index == 0 || index == locationIndex || index == commentIndex || index == textIndex;
+		}
+
+		int width() {
+			return Math.max(Math.max(1, locationIndex + 1), Math.max(commentIndex + 1, textIndex + 1));
+		}
+	}
+
+	/**
+	 * Reusable scratch space for one reservation while streaming. Missing fields stay {@code null}
+	 * so the checks in {@link #toEvent(ZoneId, StringDictionary)} run in the same order as the tree path.
+	 */
+	private static final class ReservationFields {
+		private final ColumnLayout layout;
+		private final String[] columns;
+		private String id;
+		private String startDate;
+		private String startTime;
+		private String endDate;
+		private String endTime;
+		private boolean columnsInvalid;
+
+		ReservationFields(ColumnLayout layout) {
+			this.layout = layout;
+			this.columns = new String[layout.width()];
+		}
+
+		void reset() {
+			id = null;
+			startDate = null;
+			startTime = null;
+			endDate = null;
+			endTime = null;
+			columnsInvalid = false;
+			Arrays.fill(columns, "");
+		}
+
+		void read(JsonParser parser) throws IOException {
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String field = parser.currentName();
+				JsonToken value = parser.nextToken();
+				switch (field) {
+					case "id" -> id = readRequiredValue(parser, value);
+					case "startdate" -> startDate = readRequiredValue(parser, value);
+					case "starttime" -> startTime = readRequiredValue(parser, value);
+					case "enddate" -> endDate = readRequiredValue(parser, value);
+					case "endtime" -> endTime = readRequiredValue(parser, value);
+					case "columns" -> readColumns(parser, value);
+					default -> parser.skipChildren();
+				}
+			}
+		}
+
+		// null means "missing" (absent or JSON null); anything else is the asText("") value.
+		private static String readRequiredValue(JsonParser parser, JsonToken value) throws IOException {
+			if (value == JsonToken.VALUE_NULL) {
+				return null;
+			}
+			return readScalarText(parser, value);
+		}
+
+		private void readColumns(JsonParser parser, JsonToken value) throws IOException {
+			Arrays.fill(columns, "");
+			columnsInvalid = false;
+			if (value == JsonToken.VALUE_NULL) {
+				return;
+			}
+			if (value != JsonToken.START_ARRAY) {
+				parser.skipChildren();
+				columnsInvalid = true;
+				return;
+			}
+			int index = 0;
+			JsonToken token;
+			while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+				if (index < columns.length && layout.isMapped(index)) {
+					columns[index] = readScalarText(parser, token);
+				} else if (token == null) {
+					throw new TimeEditParseException("Failed to parse TimeEdit JSON");
+				} else {
+					parser.skipChildren();
+				}
+				index++;
+			}
+		}
+
+		TimeEditEventDTO toEvent(ZoneId zoneId, StringDictionary strings) {
+			String eventId = required(id, "id");
+			String sd = required(startDate, "startdate");
+			String st = required(startTime, "starttime");
+			String ed = required(endDate, "enddate");
+			String et = required(endTime, "endtime");
+			OffsetDateTime start = toOffsetDateTime(sd, st, zoneId);
+			OffsetDateTime end = toOffsetDateTime(ed, et, zoneId);
+			if (columnsInvalid) {
+				throw new TimeEditParseException("Expected JSON array");
+			}
+			return TimeEditParser.toEvent(
+					eventId,
+					start,
+					end,
+					index -> index < columns.length ? columns[index] : "",
+					layout,
+					strings
+			);
+		}
+
+		private static String required(String value, String fieldName) {
+			if (value == null) {
+				throw new TimeEditParseException("Missing required field: " + fieldName);
+			}
+			if (value.isBlank()) {
+				throw new TimeEditParseException("Blank required field: " + fieldName);
+			}
+			return value;
+		}
+	}
+
+	/**
+	 * Running count and min(start)/max(end), so streaming callers never need the full list.
+	 */
+	private static final class SummaryAccumulator {
+		private int count;
+		private OffsetDateTime rangeStart;
+		private OffsetDateTime rangeEnd;
+
+		void add(TimeEditEventDTO event) {
+			count++;
+			OffsetDateTime start = event.getStart();
+			OffsetDateTime end = event.getEnd();
+			if (start != null && (rangeStart == null || start.compareTo(rangeStart) < 0)) {
+				rangeStart = start;
+			}
+			if (end != null && (rangeEnd == null || end.compareTo(rangeEnd) > 0)) {
+				rangeEnd = end;
+			}
+		}
+
+		// Combines the running values of a later part of the schedule into this one
+		void merge(SummaryAccumulator other) {
+			count += other.count;
+			if (other.rangeStart != null && (rangeStart == null || other.rangeStart.compareTo(rangeStart) < 0)) {
+				rangeStart = other.rangeStart;
+			}
+			if (other.rangeEnd != null && (rangeEnd == null || other.rangeEnd.compareTo(rangeEnd) > 0)) {
+				rangeEnd = other.rangeEnd;
+			}
+		}
+
+		TimeEditSummaryDTO toSummary() {
+			return new TimeEditSummaryDTO(count, rangeStart, rangeEnd);
+		}
+	}
+
+	/**
+	 * The pool and the first invalid event seen so far (in upstream order) for a parallel parse.
+	 * Only touched by the reading thread.
+	 */
+	private static final class ParallelState {
+		private final ForkJoinPool pool;
+		private TimeEditParseException firstInvalid;
+
+		ParallelState(ForkJoinPool pool) {
+			this.pool = pool;
+		}
+
+		// For events mapped on the reading thread (reservations buffered until the headers arrive)
+		void validate(TimeEditEventDTO event) {
+			if (firstInvalid == null) {
+				try {
+					TimeEditScheduleValidator.validateEvent(event);
+				} catch (TimeEditParseException e) {
+					firstInvalid = e;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Result of mapping one chunk: its events in order, running summary, first invalid event and,
+	 * if a reservation could not be mapped, the error (the chunk stops there).
+	 */
+	private static final class MappedChunk {
+		private final List<TimeEditEventDTO> events;
+		private final SummaryAccumulator summary = new SummaryAccumulator();
+		private TimeEditParseException firstInvalid;
+		private RuntimeException failure;
+
+		MappedChunk(int size) {
+			this.events = new ArrayList<>(size);
+		}
+	}
 }
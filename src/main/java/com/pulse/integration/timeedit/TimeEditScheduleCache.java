@@ -0,0 +1,145 @@
+package com.pulse.integration.timeedit;
+
+import com.pulse.integration.timeedit.dto.TimeEditScheduleDTO;
+import com.pulse.metrics.Metrics;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * In-process cache of parsed TimeEdit schedules, keyed by normalized (.json) URL.
+ *
+ * Each entry keeps the validators TimeEdit sent ({@code ETag}, {@code Last-Modified}) so the next
+ * fetch can be conditional. When TimeEdit answers 304 the cached DTO is reused as-is, skipping
+ * both the download and the parse.
+ *
+ * Bounded by entry count (least recently used entry is evicted first) and by a TTL measured from
+ * the last time the entry was stored or revalidated.
+ */
+public class TimeEditScheduleCache {
+
+	private final int maxEntries;
+	private final long ttlNanos;
+	private final LongSupplier clock;
+	private final Map<String, Entry> entries;
+
+	private final LongAdder hits = Metrics.counter("pulse_timeedit_cache_hits_total");
+	private final LongAdder misses = Metrics.counter("pulse_timeedit_cache_misses_total");
+	private final LongAdder evictions = Metrics.counter("pulse_timeedit_cache_evictions_total");
+
+	public TimeEditScheduleCache(int maxEntries, Duration ttl) {
+		this(maxEntries, ttl, System::nanoTime);
+	}
+
+	TimeEditScheduleCache(int maxEntries, Duration ttl, LongSupplier clock) {
+		this.maxEntries = Math.max(0, maxEntries);
+		this.ttlNanos = ttl.toNanos();
+		this.clock = clock;
+		// accessOrder=true turns LinkedHashMap into an LRU list
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+				if (size() > TimeEditScheduleCache.this.maxEntries) {
+					evictions.increment();
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * A cache whose entry count is exported as pulse_timeedit_cache_entries.
+	 */
+	public static TimeEditScheduleCache withMetrics(int maxEntries, Duration ttl) {
+		TimeEditScheduleCache cache = new TimeEditScheduleCache(maxEntries, ttl);
+		// Registered once the cache is fully built, since the gauge reads it
+		Metrics.gauge("pulse_timeedit_cache_entries", cache::size);
+		return cache;
+	}
+
+	public boolean isEnabled() {
+		return maxEntries > 0 && ttlNanos > 0;
+	}
+
+	/**
+	 * Returns the live entry for this URL and zone, or null if absent, expired or parsed for another zone.
+	 */
+	public synchronized Entry get(String normalizedUrl, ZoneId zoneId) {
+		if (!isEnabled() || normalizedUrl == null) {
+			return null;
+		}
+		Entry entry = entries.get(normalizedUrl);
+		if (entry == null) {
+			return null;
+		}
+		if (clock.getAsLong() - entry.storedAtNanos >= ttlNanos) {
+			entries.remove(normalizedUrl);
+			evictions.increment();
+			return null;
+		}
+		// Event times depend on the zone used while parsing
+		return entry.zoneId.equals(zoneId) ? entry : null;
+	}
+
+	/**
+	 * Stores (or refreshes) a parsed schedule. Ignored when TimeEdit sent no validators,
+	 * since such an entry could never be revalidated.
+	 */
+	public synchronized void put(String normalizedUrl, ZoneId zoneId, String etag, String lastModified, TimeEditScheduleDTO schedule) {
+		if (!isEnabled() || normalizedUrl == null || schedule == null || (etag == null && lastModified == null)) {
+			return;
+		}
+		entries.put(normalizedUrl, new Entry(zoneId, etag, lastModified, schedule, clock.getAsLong()));
+	}
+
+	public synchronized void invalidate(String normalizedUrl) {
+		entries.remove(normalizedUrl);
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	/** A conditional fetch was answered with 304 and served from the cache. */
+	public void recordHit() {
+		hits.increment();
+	}
+
+	/** The schedule had to be downloaded and parsed. */
+	public void recordMiss() {
+		misses.increment();
+	}
+
+	public static final class Entry {
+		private final ZoneId zoneId;
+		private final String etag;
+		private final String lastModified;
+		private final TimeEditScheduleDTO schedule;
+		private final long storedAtNanos;
+
+		private Entry(ZoneId zoneId, String etag, String lastModified, TimeEditScheduleDTO schedule, long storedAtNanos) {
+			this.zoneId = zoneId;
+			this.etag = etag;
+			this.lastModified = lastModified;
+			this.schedule = schedule;
+			this.storedAtNanos = storedAtNanos;
+		}
+
+		public String getEtag() {
+			return etag;
+		}
+
+		public String getLastModified() {
+			return lastModified;
+		}
+
+		public TimeEditScheduleDTO getSchedule() {
+			return schedule;
+		}
+	}
+}
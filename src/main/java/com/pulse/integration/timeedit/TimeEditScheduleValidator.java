@@ -19,23 +19,28 @@ public class TimeEditScheduleValidator {
 		}
 
 		for (TimeEditEventDTO event : events) {
-			if (event == null) {
-				throw new TimeEditParseException("Schedule contains null event");
-			}
-
-			OffsetDateTime start = event.getStart();
-			OffsetDateTime end = event.getEnd();
-			if (start == null || end == null) {
-				throw new TimeEditParseException(
-						"Event has missing start/end: externalId=" + safe(event.getExternalId())
-				);
-			}
-
-			if (!end.isAfter(start)) {
-				throw new TimeEditParseException(
-						"Invalid event time range: externalId=" + safe(event.getExternalId()) + ", start=" + start + ", end=" + end
-				);
-			}
+			validateEvent(event);
+		}
+	}
+
+	// Per-event checks, also applied one event at a time when a schedule is streamed
+	public static void validateEvent(TimeEditEventDTO event) {
+		if (event == null) {
+			throw new TimeEditParseException("Schedule contains null event");
+		}
+
+		OffsetDateTime start = event.getStart();
+		OffsetDateTime end = event.getEnd();
+		if (start == null || end == null) {
+			throw new TimeEditParseException(
+					"Event has missing start/end: externalId=" + safe(event.getExternalId())
+			);
+		}
+
+		if (!end.isAfter(start)) {
+			throw new TimeEditParseException(
+					"Invalid event time range: externalId=" + safe(event.getExternalId()) + ", start=" + start + ", end=" + end
+			);
 		}
 	}
 
@@ -10,6 +10,8 @@ public class TimeEditScheduleDTO {
 	private OffsetDateTime generatedAt;
 	private List<TimeEditEventDTO> events;
 	private TimeEditSummaryDTO summary;
+	// Token for GET /api/timeedit/schedule?since=..., derived from the events
+	private String version;
 
 	public TimeEditScheduleDTO() {
 	}
@@ -67,4 +69,12 @@ public class TimeEditScheduleDTO {
 	public void setSummary(TimeEditSummaryDTO summary) {
 		this.summary = summary;
 	}
+
+	public String getVersion() {
+		return version;
+	}
+
+	public void setVersion(String version) {
+		this.version = version;
+	}
 }
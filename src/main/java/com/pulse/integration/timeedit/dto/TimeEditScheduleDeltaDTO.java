@@ -0,0 +1,101 @@
+package com.pulse.integration.timeedit.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Changes to a schedule since an earlier version, as returned for {@code since=<version>}.
+ *
+ * Events are matched by externalId. When the earlier version is no longer known to the server
+ * {@code full} is true and {@code added} holds every event: the client should replace what it has.
+ */
+public class TimeEditScheduleDeltaDTO {
+
+    private String timeeditUrl;
+    private String version;
+    private String since;
+    private boolean full;
+    private List<TimeEditEventDTO> added = new ArrayList<>();
+    private List<TimeEditEventDTO> changed = new ArrayList<>();
+    private List<String> removed = new ArrayList<>();
+    private TimeEditSummaryDTO summary;
+
+    public TimeEditScheduleDeltaDTO() {
+    }
+
+    public TimeEditScheduleDeltaDTO(String timeeditUrl, String version, String since, boolean full,
+            List<TimeEditEventDTO> added, List<TimeEditEventDTO> changed, List<String> removed, TimeEditSummaryDTO summary) {
+        this.timeeditUrl = timeeditUrl;
+        this.version = version;
+        this.since = since;
+        this.full = full;
+        this.added = added;
+        this.changed = changed;
+        this.removed = removed;
+        this.summary = summary;
+    }
+
+    public String getTimeeditUrl() {
+        return timeeditUrl;
+    }
+
+    public void setTimeeditUrl(String timeeditUrl) {
+        this.timeeditUrl = timeeditUrl;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public void setVersion(String version) {
+        this.version = version;
+    }
+
+    public String getSince() {
+        return since;
+    }
+
+    public void setSince(String since) {
+        this.since = since;
+    }
+
+    public boolean isFull() {
+        return full;
+    }
+
+    public void setFull(boolean full) {
+        this.full = full;
+    }
+
+    public List<TimeEditEventDTO> getAdded() {
+        return added;
+    }
+
+    public void setAdded(List<TimeEditEventDTO> added) {
+        this.added = added;
+    }
+
+    public List<TimeEditEventDTO> getChanged() {
+        return changed;
+    }
+
+    public void setChanged(List<TimeEditEventDTO> changed) {
+        this.changed = changed;
+    }
+
+    public List<String> getRemoved() {
+        return removed;
+    }
+
+    public void setRemoved(List<String> removed) {
+        this.removed = removed;
+    }
+
+    public TimeEditSummaryDTO getSummary() {
+        return summary;
+    }
+
+    public void setSummary(TimeEditSummaryDTO summary) {
+        this.summary = summary;
+    }
+}
@@ -0,0 +1,88 @@
+package com.pulse.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-bucket histogram with lock-free {@link LongAdder} buckets.
+ *
+ * Values are recorded as longs in the unit the caller measures in (nanoseconds, bytes) and
+ * scaled only when exported, so {@link #observe(long)} neither allocates nor takes a lock: it
+ * walks a short array of bounds and bumps two adders. Obtain instances from
+ * {@link Metrics#timer(String)} or {@link Metrics#histogram(String, double, long...)} once and
+ * keep the reference.
+ */
+public final class Histogram {
+
+    private final long[] bounds;
+    private final LongAdder[] buckets;
+    private final LongAdder sum = new LongAdder();
+    private final double unit;
+
+    /**
+     * @param unit recorded units per exported unit (1e9 to export nanoseconds as seconds)
+     * @param bounds inclusive bucket upper bounds in recorded units, ascending
+     */
+    Histogram(double unit, long... bounds) {
+        for (int i = 1; i < bounds.length; i++) {
+            if (bounds[i] <= bounds[i - 1]) {
+                throw new IllegalArgumentException("Histogram bounds must be ascending");
+            }
+        }
+        this.unit = unit;
+        this.bounds = bounds.clone();
+        // One extra bucket for values above the last bound (+Inf)
+        this.buckets = new LongAdder[bounds.length + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void observe(long value) {
+        int i = 0;
+        while (i < bounds.length && value > bounds[i]) {
+            i++;
+        }
+        buckets[i].increment();
+        sum.add(value);
+    }
+
+    /**
+     * Records the time elapsed since {@code startNanos}, a {@link System#nanoTime()} reading.
+     */
+    public void observeSince(long startNanos) {
+        observe(System.nanoTime() - startNanos);
+    }
+
+    public long count() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    /**
+     * Sum of all recorded values, in exported units.
+     */
+    public double sum() {
+        return sum.sum() / unit;
+    }
+
+    int bucketCount() {
+        return bounds.length;
+    }
+
+    /**
+     * Upper bound of bucket {@code i}, in exported units.
+     */
+    double upperBound(int i) {
+        return bounds[i] / unit;
+    }
+
+    /**
+     * Number of recorded values in bucket {@code i} alone (not cumulative); i == bucketCount() is +Inf.
+     */
+    long bucket(int i) {
+        return buckets[i].sum();
+    }
+}
@@ -0,0 +1,163 @@
+package com.pulse.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Process-wide registry of named counters, gauges and histograms.
+ *
+ * Counters are {@link LongAdder}s and histograms are fixed-bucket {@link Histogram}s, so recording
+ * is lock-free and allocation-free; callers should look a metric up once and keep the reference.
+ * Gauges are sampled only when a snapshot is taken. Names follow Prometheus conventions
+ * (pulse_..._total for counters, a unit suffix for histograms); a name may carry labels, see
+ * {@link #series(String, String, String)}.
+ */
+public final class Metrics {
+
+    // 1 ms .. 30 s; TimeEdit and Canvas calls sit in the 50 ms .. 2 s range
+    private static final long[] LATENCY_BOUNDS_NANOS = {
+            TimeUnit.MILLISECONDS.toNanos(1), TimeUnit.MILLISECONDS.toNanos(5),
+            TimeUnit.MILLISECONDS.toNanos(10), TimeUnit.MILLISECONDS.toNanos(25),
+            TimeUnit.MILLISECONDS.toNanos(50), TimeUnit.MILLISECONDS.toNanos(100),
+            TimeUnit.MILLISECONDS.toNanos(250), TimeUnit.MILLISECONDS.toNanos(500),
+            TimeUnit.SECONDS.toNanos(1), TimeUnit.MILLISECONDS.toNanos(2500),
+            TimeUnit.SECONDS.toNanos(5), TimeUnit.SECONDS.toNanos(10), TimeUnit.SECONDS.toNanos(30)
+    };
+
+    // 1 KiB .. 16 MiB in powers of four
+    private static final long[] SIZE_BOUNDS_BYTES = {
+            1L << 10, 1L << 12, 1L << 14, 1L << 16, 1L << 18, 1L << 20, 1L << 22, 1L << 24
+    };
+
+    private static final ConcurrentMap<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, Histogram> histograms = new ConcurrentHashMap<>();
+
+    private Metrics() {
+    }
+
+    /**
+     * Returns the counter with the given name, creating it on first use.
+     */
+    public static LongAdder counter(String name) {
+        return counters.computeIfAbsent(name, k -> new LongAdder());
+    }
+
+    /**
+     * Registers (or replaces) a gauge that is evaluated on every snapshot.
+     */
+    public static void gauge(String name, LongSupplier supplier) {
+        gauges.put(name, supplier);
+    }
+
+    /**
+     * Returns the latency histogram with the given name (pulse_..._seconds), creating it on first use.
+     * Record {@link System#nanoTime()} differences; they are exported in seconds.
+     */
+    public static Histogram timer(String name) {
+        return histogram(name, TimeUnit.SECONDS.toNanos(1), LATENCY_BOUNDS_NANOS);
+    }
+
+    /**
+     * Returns the payload size histogram with the given name (pulse_..._bytes), creating it on first use.
+     */
+    public static Histogram sizes(String name) {
+        return histogram(name, 1, SIZE_BOUNDS_BYTES);
+    }
+
+    /**
+     * Returns the histogram with the given name, creating it with these buckets on first use.
+     *
+     * @param unit recorded units per exported unit
+     * @param bounds inclusive bucket upper bounds in recorded units, ascending
+     */
+    public static Histogram histogram(String name, double unit, long... bounds) {
+        return histograms.computeIfAbsent(name, k -> new Histogram(unit, bounds));
+    }
+
+    /**
+     * Name of one labelled series of a metric, e.g. {@code pulse_canvas_request_seconds{status="200"}}.
+     */
+    public static String series(String name, String label, String value) {
+        return name + "{" + label + "=\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"}";
+    }
+
+    /**
+     * Current value of every counter and gauge, sorted by name.
+     */
+    public static Map<String, Long> snapshot() {
+        Map<String, Long> values = new TreeMap<>();
+        counters.forEach((name, adder) -> values.put(name, adder.sum()));
+        gauges.forEach((name, supplier) -> values.put(name, supplier.getAsLong()));
+        return values;
+    }
+
+    /**
+     * Every metric in the Prometheus text exposition format (version 0.0.4).
+     */
+    public static String prometheus() {
+        Map<String, List<String>> families = new TreeMap<>();
+        Map<String, String> types = new TreeMap<>();
+        for (String name : counters.keySet()) {
+            family(families, types, name, "counter");
+        }
+        for (String name : gauges.keySet()) {
+            family(families, types, name, "gauge");
+        }
+        for (String name : histograms.keySet()) {
+            family(families, types, name, "histogram");
+        }
+
+        StringBuilder out = new StringBuilder(4096);
+        families.forEach((family, series) -> {
+            String type = types.get(family);
+            out.append("# TYPE ").append(family).append(' ').append(type).append('\n');
+            series.sort(null);
+            for (String name : series) {
+                switch (type) {
+                    case "counter" -> sample(out, name, counters.get(name).sum());
+                    case "gauge" -> sample(out, name, gauges.get(name).getAsLong());
+                    default -> histogram(out, family, name, histograms.get(name));
+                }
+            }
+        });
+        return out.toString();
+    }
+
+    private static void family(Map<String, List<String>> families, Map<String, String> types, String name, String type) {
+        int labels = name.indexOf('{');
+        String family = labels < 0 ? name : name.substring(0, labels);
+        families.computeIfAbsent(family, k -> new ArrayList<>()).add(name);
+        types.putIfAbsent(family, type);
+    }
+
+    private static void histogram(StringBuilder out, String family, String name, Histogram histogram) {
+        int open = name.indexOf('{');
+        String labels = open < 0 ? "" : name.substring(open + 1, name.length() - 1) + ",";
+        long cumulative = 0;
+        for (int i = 0; i <= histogram.bucketCount(); i++) {
+            cumulative += histogram.bucket(i);
+            String le = i < histogram.bucketCount() ? number(histogram.upperBound(i)) : "+Inf";
+            out.append(family).append("_bucket{").append(labels).append("le=\"").append(le).append("\"} ")
+                    .append(cumulative).append('\n');
+        }
+        String suffix = open < 0 ? "" : name.substring(open);
+        out.append(family).append("_sum").append(suffix).append(' ').append(number(histogram.sum())).append('\n');
+        out.append(family).append("_count").append(suffix).append(' ').append(cumulative).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, long value) {
+        out.append(name).append(' ').append(value).append('\n');
+    }
+
+    private static String number(double value) {
+        return value == Math.rint(value) && Math.abs(value) < 1e15 ? String.valueOf((long) value) : String.valueOf(value);
+    }
+}
@@ -0,0 +1,74 @@
+package com.pulse.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Wall-clock time spent in each named stage of one request, for the Server-Timing header.
+ *
+ * Stages keep the order they were first recorded in, and recording the same stage again adds to
+ * it. Stages may be recorded from the HTTP client's completion threads, so access is synchronized.
+ */
+public final class StageTimings {
+
+    /**
+     * Timings that record nothing, for callers that do not report stages.
+     */
+    public static final StageTimings NONE = new StageTimings(false);
+
+    private final boolean enabled;
+    private final long startedNanos = System.nanoTime();
+    private final Map<String, Long> stages = new LinkedHashMap<>();
+
+    private StageTimings(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Starts timing a request; {@code total} runs from here.
+     */
+    public static StageTimings start() {
+        return new StageTimings(true);
+    }
+
+    /**
+     * Records the time elapsed since {@code startNanos}, a {@link System#nanoTime()} reading.
+     */
+    public void record(String stage, long startNanos) {
+        add(stage, System.nanoTime() - startNanos);
+    }
+
+    public synchronized void add(String stage, long nanos) {
+        if (enabled) {
+            stages.merge(stage, nanos, Long::sum);
+        }
+    }
+
+    /**
+     * Each stage plus {@code total} so far, in milliseconds rounded to 0.1.
+     */
+    public synchronized Map<String, Double> toMillis() {
+        Map<String, Double> millis = new LinkedHashMap<>();
+        stages.forEach((stage, nanos) -> millis.put(stage, millis(nanos)));
+        millis.put("total", millis(System.nanoTime() - startedNanos));
+        return millis;
+    }
+
+    /**
+     * Server-Timing header value, e.g. {@code fetch;dur=212.4, parse;dur=31.0, total;dur=250.2}.
+     */
+    public String toServerTiming() {
+        StringBuilder header = new StringBuilder();
+        toMillis().forEach((stage, millis) -> {
+            if (header.length() > 0) {
+                header.append(", ");
+            }
+            header.append(stage).append(";dur=").append(millis);
+        });
+        return header.toString();
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 100_000.0) / 10.0;
+    }
+}
@@ -0,0 +1,218 @@
+package com.pulse.server;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.container.DynamicFeature;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.FeatureContext;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.pulse.config.AppConfig;
+import com.pulse.metrics.Metrics;
+import com.pulse.util.ErrorCode;
+import com.pulse.util.ResponseBuilder;
+
+/**
+ * Admission control for the endpoints that call TimeEdit or Canvas.
+ *
+ * Each {@link Limited} endpoint class ("schedule", "publish") has its own limiter: up to
+ * {@code maxConcurrent} requests run, up to {@code maxQueue} more wait (at most {@code maxWait})
+ * for one of them to finish, and anything beyond that is shed at once with 503 SERVER_OVERLOADED
+ * and a Retry-After header, instead of queueing without bound inside Grizzly. A request holds its
+ * slot until its response is ready, including while an async resource waits on TimeEdit; a
+ * streamed body (NDJSON, SSE) is written after the slot is released.
+ *
+ * Only requests on virtual threads (SERVER_WORKER_MODE=virtual) wait in the queue, where waiting
+ * parks a virtual thread. On Grizzly's platform worker pool a waiting request would hold one of a
+ * few workers for up to maxWait; the pool would run dry long before the queue filled, leaving
+ * health checks, metrics and job polling stuck behind connections Grizzly queues without bound.
+ * There a request that finds no free slot is shed at once.
+ *
+ * Per class, from config (defaults in brackets):
+ * - ADMISSION_&lt;CLASS&gt;_MAX_CONCURRENT [schedule 64, publish 8]
+ * - ADMISSION_&lt;CLASS&gt;_MAX_QUEUE [schedule 128, publish 16], virtual workers only
+ * - ADMISSION_&lt;CLASS&gt;_MAX_WAIT_MS [schedule 2000, publish 5000], virtual workers only
+ * - ADMISSION_RETRY_AFTER_SECONDS [2], shared
+ * Setting a queue option on platform workers logs a warning at startup, since it has no effect.
+ */
+public class AdmissionControlFeature implements DynamicFeature {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdmissionControlFeature.class);
+
+    private static final String ADMITTED = AdmissionControlFeature.class.getName() + ".admitted";
+
+    /**
+     * Puts a resource method (or every method of a class) under the named endpoint class's limiter.
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ElementType.TYPE, ElementType.METHOD})
+    public @interface Limited {
+        String value();
+    }
+
+    private final ConcurrentMap<String, Limiter> limiters = new ConcurrentHashMap<>();
+    private final int retryAfterSeconds;
+
+    public AdmissionControlFeature() {
+        this(AppConfig.getInt("ADMISSION_RETRY_AFTER_SECONDS", 2));
+        limiters.put("schedule", Limiter.fromConfig("schedule", 64, 128, 2000));
+        limiters.put("publish", Limiter.fromConfig("publish", 8, 16, 5000));
+    }
+
+    AdmissionControlFeature(int retryAfterSeconds) {
+        this.retryAfterSeconds = Math.max(1, retryAfterSeconds);
+    }
+
+    @Override
+    public void configure(ResourceInfo resourceInfo, FeatureContext context) {
+        Limited limited = resourceInfo.getResourceMethod().getAnnotation(Limited.class);
+        if (limited == null) {
+            limited = resourceInfo.getResourceClass().getAnnotation(Limited.class);
+        }
+        if (limited == null) {
+            return;
+        }
+        Limiter limiter = limiters.computeIfAbsent(limited.value(), name -> Limiter.fromConfig(name, 32, 64, 2000));
+        context.register(new AdmissionFilter(limiter, retryAfterSeconds));
+    }
+
+    /**
+     * Concurrency limit with a bounded wait queue for one endpoint class.
+     */
+    static final class Limiter {
+        private final String name;
+        private final int maxConcurrent;
+        private final int maxQueue;
+        private final long maxWaitMillis;
+        // Fair, so queued requests are admitted in arrival order
+        private final Semaphore permits;
+        private final AtomicInteger waiting = new AtomicInteger();
+        private final LongAdder shed;
+
+        Limiter(String name, int maxConcurrent, int maxQueue, long maxWaitMillis) {
+            this.name = name;
+            this.maxConcurrent = Math.max(1, maxConcurrent);
+            this.maxQueue = Math.max(0, maxQueue);
+            this.maxWaitMillis = Math.max(0, maxWaitMillis);
+            this.permits = new Semaphore(this.maxConcurrent, true);
+            this.shed = Metrics.counter(Metrics.series("pulse_admission_shed_total", "class", name));
+            Metrics.gauge(Metrics.series("pulse_admission_in_flight", "class", name),
+                    () -> this.maxConcurrent - permits.availablePermits());
+            Metrics.gauge(Metrics.series("pulse_admission_waiting", "class", name), waiting::get);
+        }
+
+        static Limiter fromConfig(String name, int maxConcurrent, int maxQueue, long maxWaitMillis) {
+            String prefix = "ADMISSION_" + name.toUpperCase(Locale.ROOT) + "_";
+            if (!ServerWorkers.isVirtualConfigured()
+                    && (AppConfig.get(prefix + "MAX_QUEUE") != null || AppConfig.get(prefix + "MAX_WAIT_MS") != null)) {
+                logger.warn("{}MAX_QUEUE and {}MAX_WAIT_MS have no effect on platform workers, where {} requests beyond"
+                        + " the limit are shed at once; set SERVER_WORKER_MODE=virtual to queue them", prefix, prefix, name);
+            }
+            return new Limiter(name,
+                    AppConfig.getInt(prefix + "MAX_CONCURRENT", maxConcurrent),
+                    AppConfig.getInt(prefix + "MAX_QUEUE", maxQueue),
+                    AppConfig.getLong(prefix + "MAX_WAIT_MS", maxWaitMillis));
+        }
+
+        /**
+         * Takes a slot, waiting in the queue if {@code mayWait} and there is room; false if the
+         * request must be shed.
+         */
+        boolean tryAdmit(boolean mayWait) {
+            if (permits.tryAcquire()) {
+                return true;
+            }
+            if (!mayWait) {
+                shed.increment();
+                return false;
+            }
+            if (waiting.incrementAndGet() > maxQueue) {
+                waiting.decrementAndGet();
+                shed.increment();
+                return false;
+            }
+            try {
+                if (permits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+                shed.increment();
+                return false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                shed.increment();
+                return false;
+            } finally {
+                waiting.decrementAndGet();
+            }
+        }
+
+        void release() {
+            permits.release();
+        }
+
+        long shedCount() {
+            return shed.sum();
+        }
+
+        boolean hasWaiters() {
+            return permits.hasQueuedThreads();
+        }
+    }
+
+    private static final class AdmissionFilter implements ContainerRequestFilter, ContainerResponseFilter {
+        private final Limiter limiter;
+        private final int retryAfterSeconds;
+
+        private AdmissionFilter(Limiter limiter, int retryAfterSeconds) {
+            this.limiter = limiter;
+            this.retryAfterSeconds = retryAfterSeconds;
+        }
+
+        @Override
+        public void filter(ContainerRequestContext request) {
+            // Waiting is only cheap on a virtual thread; a platform worker must not block here
+            if (limiter.tryAdmit(Thread.currentThread().isVirtual())) {
+                request.setProperty(ADMITTED, limiter);
+                return;
+            }
+            logger.warn("Shedding {} request {} /{} (limit {} running, {} queued)", limiter.name, request.getMethod(),
+                    request.getUriInfo().getPath(), limiter.maxConcurrent, limiter.maxQueue);
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put("endpointClass", limiter.name);
+            details.put("retryAfterSeconds", retryAfterSeconds);
+            Response shed = ResponseBuilder.error(ErrorCode.SERVER_OVERLOADED, null, details);
+            request.abortWith(Response.fromResponse(shed)
+                    .type(MediaType.APPLICATION_JSON_TYPE)
+                    .header("Retry-After", retryAfterSeconds)
+                    .build());
+        }
+
+        @Override
+        public void filter(ContainerRequestContext request, ContainerResponseContext response) {
+            // Also runs for the responses of shed requests, which hold no slot
+            if (request.getProperty(ADMITTED) == limiter) {
+                request.removeProperty(ADMITTED);
+                limiter.release();
+            }
+        }
+    }
+}
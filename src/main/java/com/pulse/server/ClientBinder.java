@@ -0,0 +1,70 @@
+package com.pulse.server;
+
+import org.glassfish.jersey.internal.inject.AbstractBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.pulse.integration.canvas.CanvasApiTester;
+import com.pulse.integration.canvas.CanvasClient;
+import com.pulse.integration.canvas.CanvasHttpSettings;
+import com.pulse.integration.canvas.CanvasPublishLedger;
+import com.pulse.integration.canvas.CanvasRateLimitGovernor;
+import com.pulse.server.resource.PublishProgressStream;
+import com.pulse.service.CanvasPublishService;
+import com.pulse.service.PublishJobManager;
+
+/**
+ * Application-scoped outbound clients, injected into the per-request resources.
+ *
+ * Jersey creates a resource instance per request; building the HTTP clients there gave every
+ * publish and health check its own connection handling and provider chain, never closed. The
+ * clients are created once per server here and closed when the container shuts down. The
+ * background publish jobs live here too, since they outlast the request that started them, and so
+ * does the publish ledger, whose file must be closed once the jobs writing to it have stopped.
+ */
+public class ClientBinder extends AbstractBinder implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClientBinder.class);
+
+    private final CanvasClient canvasClient;
+    private final CanvasPublishLedger ledger;
+    private final CanvasPublishService publishService;
+    private final CanvasApiTester apiTester;
+    private final PublishJobManager publishJobs;
+    private final PublishProgressStream progressStream;
+
+    public ClientBinder() {
+        CanvasHttpSettings settings = CanvasHttpSettings.fromConfig();
+        this.canvasClient = new CanvasClient(null, null,
+                CanvasRateLimitGovernor.shared(), settings);
+        this.ledger = CanvasPublishLedger.fromConfig();
+        this.publishService = new CanvasPublishService(canvasClient, ledger);
+        this.apiTester = CanvasApiTester.pooled(settings, null, null);
+        this.publishJobs = PublishJobManager.fromConfig(publishService);
+        this.progressStream = PublishProgressStream.fromConfig();
+    }
+
+    @Override
+    protected void configure() {
+        bind(canvasClient).to(CanvasClient.class);
+        bind(ledger).to(CanvasPublishLedger.class);
+        bind(publishService).to(CanvasPublishService.class);
+        bind(apiTester).to(CanvasApiTester.class);
+        bind(publishJobs).to(PublishJobManager.class);
+        bind(progressStream).to(PublishProgressStream.class);
+    }
+
+    /**
+     * Closes the clients; called when the Jersey container shuts down.
+     */
+    @Override
+    public void close() {
+        logger.debug("Closing outbound Canvas clients");
+        // Jobs first: they still use the clients until they stop
+        publishJobs.close();
+        ledger.close();
+        progressStream.close();
+        canvasClient.close();
+        apiTester.close();
+    }
+}
@@ -0,0 +1,73 @@
+package com.pulse.server;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.container.DynamicFeature;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.FeatureContext;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.pulse.metrics.Histogram;
+import com.pulse.metrics.Metrics;
+
+/**
+ * Times every resource method and counts the requests in flight per resource.
+ *
+ * Jersey calls {@link #configure} once per resource method at startup, so each method gets its
+ * own filter holding its histogram and in-flight counter; a request only bumps those, with no
+ * lookups by name. Series:
+ * - pulse_http_request_seconds{resource="ScheduleResource.getSchedule"}
+ * - pulse_http_requests_in_flight{resource="ScheduleResource"}
+ *
+ * Streaming responses are timed up to the point the response headers are committed.
+ */
+public class RequestMetricsFeature implements DynamicFeature {
+
+    private static final String STARTED = RequestMetricsFeature.class.getName() + ".started";
+
+    // Shared by all methods of one resource class
+    private final ConcurrentMap<Class<?>, LongAdder> inFlight = new ConcurrentHashMap<>();
+
+    @Override
+    public void configure(ResourceInfo resourceInfo, FeatureContext context) {
+        Class<?> resource = resourceInfo.getResourceClass();
+        String name = resource.getSimpleName();
+        LongAdder active = inFlight.computeIfAbsent(resource, k -> {
+            LongAdder adder = new LongAdder();
+            Metrics.gauge(Metrics.series("pulse_http_requests_in_flight", "resource", name), adder::sum);
+            return adder;
+        });
+        Histogram latency = Metrics.timer(Metrics.series("pulse_http_request_seconds", "resource",
+                name + "." + resourceInfo.getResourceMethod().getName()));
+        context.register(new TimingFilter(latency, active));
+    }
+
+    private static final class TimingFilter implements ContainerRequestFilter, ContainerResponseFilter {
+        private final Histogram latency;
+        private final LongAdder active;
+
+        private TimingFilter(Histogram latency, LongAdder active) {
+            this.latency = latency;
+            this.active = active;
+        }
+
+        @Override
+        public void filter(ContainerRequestContext request) {
+            active.increment();
+            request.setProperty(STARTED, System.nanoTime());
+        }
+
+        @Override
+        public void filter(ContainerRequestContext request, ContainerResponseContext response) {
+            // Absent when an earlier filter aborted the request before ours ran
+            if (request.getProperty(STARTED) instanceof Long started) {
+                latency.observeSince(started);
+                active.decrement();
+            }
+        }
+    }
+}
@@ -1,11 +1,16 @@
 package com.pulse.server;
 
+import java.io.IOException;
 import java.net.URI;
 
+import jakarta.ws.rs.ProcessingException;
+
 import org.glassfish.grizzly.http.server.HttpServer;
 import org.glassfish.jersey.grizzly2.httpserver.GrizzlyHttpServerFactory;
 import org.glassfish.jersey.jackson.JacksonFeature;
 import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.spi.Container;
+import org.glassfish.jersey.server.spi.ContainerLifecycleListener;
 import org.glassfish.jersey.server.validation.ValidationFeature;
 
 import com.pulse.config.ObjectMapperContextResolver;
@@ -13,6 +18,7 @@ import com.pulse.server.GlobalExceptionMapper;
 import com.pulse.server.resource.ScheduleResource;
 import com.pulse.server.resource.TransferResource;
 import com.pulse.server.resource.HealthResource;
+import com.pulse.server.resource.MetricsResource;
 import com.pulse.server.resource.TestErrorResource;
 
 public class RestServer {
@@ -25,12 +31,36 @@ public class RestServer {
     }
 
     public static HttpServer startServer(String baseUri) {
+        return startServer(baseUri, resourceConfig(), ServerWorkers.fromConfig());
+    }
+
+    /**
+     * Starts a server for the given application on the given request-handling threads.
+     */
+    public static HttpServer startServer(String baseUri, ResourceConfig rc, ServerWorkers workers) {
+        // Created stopped so the worker pool can be swapped before any request is accepted
+        HttpServer server = GrizzlyHttpServerFactory.createHttpServer(URI.create(baseUri), rc, false);
+        workers.applyTo(server);
+        try {
+            server.start();
+        } catch (IOException e) {
+            server.shutdownNow();
+            throw new ProcessingException("Failed to start the HTTP server at " + baseUri, e);
+        }
+        return server;
+    }
+
+    /**
+     * The application: resources, providers and the shared outbound clients.
+     */
+    public static ResourceConfig resourceConfig() {
         final ResourceConfig rc = new ResourceConfig();
 
         // Register resources explicitly (predictable; no surprise scanning)
         rc.register(ScheduleResource.class);
         rc.register(TransferResource.class);
         rc.register(HealthResource.class);
+        rc.register(MetricsResource.class);
         rc.register(TestErrorResource.class);  // Temporary test endpoint
 
 
@@ -44,7 +74,35 @@ public class RestServer {
         // Global exception handler to catch deserialization and other errors
         rc.register(GlobalExceptionMapper.class);
 
-        return GrizzlyHttpServerFactory.createHttpServer(URI.create(baseUri), rc);
+        // Sheds schedule/publish requests beyond their concurrency limit and wait queue with 503
+        rc.register(AdmissionControlFeature.class);
+
+        // Latency histogram and in-flight gauge per resource method, scraped from /metrics
+        rc.register(RequestMetricsFeature.class);
+        // Server-Timing on resource methods marked @ServerTimingFilter.Timed
+        rc.register(ServerTimingFilter.class);
+        // gzip for resources marked @GzipEncodingFilter.Compressed, when the client accepts it
+        rc.register(GzipEncodingFilter.class);
+
+        // One set of outbound clients per server, injected into the resources and closed on shutdown
+        ClientBinder clients = new ClientBinder();
+        rc.register(clients);
+        rc.register(new ContainerLifecycleListener() {
+            @Override
+            public void onStartup(Container container) {
+            }
+
+            @Override
+            public void onReload(Container container) {
+            }
+
+            @Override
+            public void onShutdown(Container container) {
+                clients.close();
+            }
+        });
+
+        return rc;
     }
 
     public static void main(String[] args) {
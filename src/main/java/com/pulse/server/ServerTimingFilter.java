@@ -0,0 +1,56 @@
+package com.pulse.server;
+
+import jakarta.ws.rs.NameBinding;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.pulse.metrics.StageTimings;
+
+/**
+ * Adds a Server-Timing header to the responses of {@link Timed} resource methods.
+ *
+ * The request filter starts a {@link StageTimings} that the resource method fills in with its
+ * stages (see {@link #timings(ContainerRequestContext)}). The header is written by the response
+ * filter, before the entity, so {@code total} covers the request up to the first byte of the body.
+ * Serialization is not reported: timing it would mean holding the whole body back until the
+ * header could be written, doubling the heap a large schedule needs and delaying its first byte.
+ */
+@ServerTimingFilter.Timed
+public class ServerTimingFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+    public static final String HEADER = "Server-Timing";
+
+    private static final String PROPERTY = StageTimings.class.getName();
+
+    /**
+     * Marks a resource method whose responses carry Server-Timing.
+     */
+    @NameBinding
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ElementType.TYPE, ElementType.METHOD})
+    public @interface Timed {
+    }
+
+    /**
+     * The timings of the current request; {@link StageTimings#NONE} if the method is not {@link Timed}.
+     */
+    public static StageTimings timings(ContainerRequestContext request) {
+        return request.getProperty(PROPERTY) instanceof StageTimings timings ? timings : StageTimings.NONE;
+    }
+
+    @Override
+    public void filter(ContainerRequestContext request) {
+        request.setProperty(PROPERTY, StageTimings.start());
+    }
+
+    @Override
+    public void filter(ContainerRequestContext request, ContainerResponseContext response) {
+        response.getHeaders().putSingle(HEADER, timings(request).toServerTiming());
+    }
+}
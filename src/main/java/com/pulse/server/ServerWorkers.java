@@ -0,0 +1,146 @@
+package com.pulse.server;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.grizzly.http.server.HttpServer;
+import org.glassfish.grizzly.http.server.NetworkListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.pulse.config.AppConfig;
+import com.pulse.metrics.Metrics;
+
+/**
+ * Which threads run request handling in the Grizzly server.
+ *
+ * - PLATFORM (default): Grizzly's own fixed worker pool, as before. A resource blocked on Canvas
+ *   or TimeEdit holds one of a few platform threads, so slow upstreams queue everything behind them.
+ * - VIRTUAL: one virtual thread per request, so a blocked request costs a parked virtual thread.
+ *   At most {@code maxConcurrentRequests} run at once; the rest wait (parked, in arrival order)
+ *   for a permit instead of piling unbounded work onto Canvas and the heap.
+ */
+public final class ServerWorkers {
+
+    private static final Logger logger = LoggerFactory.getLogger(ServerWorkers.class);
+
+    public enum Mode { PLATFORM, VIRTUAL }
+
+    private final Mode mode;
+    private final int maxConcurrentRequests;
+
+    public ServerWorkers(Mode mode, int maxConcurrentRequests) {
+        this.mode = mode;
+        this.maxConcurrentRequests = Math.max(1, maxConcurrentRequests);
+    }
+
+    public static ServerWorkers platform() {
+        return new ServerWorkers(Mode.PLATFORM, Integer.MAX_VALUE);
+    }
+
+    public static ServerWorkers virtual(int maxConcurrentRequests) {
+        return new ServerWorkers(Mode.VIRTUAL, maxConcurrentRequests);
+    }
+
+    /**
+     * Mode from SERVER_WORKER_MODE (platform or virtual, default platform) and, for virtual,
+     * the cap from SERVER_MAX_CONCURRENT_REQUESTS (default 512).
+     */
+    public static ServerWorkers fromConfig() {
+        String mode = AppConfig.get("SERVER_WORKER_MODE", "platform");
+        return switch (mode.toLowerCase(Locale.ROOT)) {
+            case "virtual" -> virtual(AppConfig.getInt("SERVER_MAX_CONCURRENT_REQUESTS", 512));
+            case "platform" -> platform();
+            default -> {
+                logger.warn("Ignoring unknown SERVER_WORKER_MODE '{}' (using platform)", mode);
+                yield platform();
+            }
+        };
+    }
+
+    /**
+     * True if SERVER_WORKER_MODE selects virtual threads, without building the workers.
+     */
+    static boolean isVirtualConfigured() {
+        return Mode.VIRTUAL.name().equalsIgnoreCase(AppConfig.get("SERVER_WORKER_MODE", "platform"));
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    /**
+     * Installs the worker executor on every listener; call before the server is started.
+     */
+    void applyTo(HttpServer server) {
+        if (mode == Mode.PLATFORM) {
+            return;
+        }
+        for (NetworkListener listener : server.getListeners()) {
+            listener.getTransport().setWorkerThreadPool(new CappedVirtualThreadExecutor(maxConcurrentRequests));
+        }
+        logger.info("Request handling on virtual threads, at most {} at once", maxConcurrentRequests);
+    }
+
+    /**
+     * Virtual-thread-per-task executor where a task first waits for one of {@code permits} permits.
+     */
+    static final class CappedVirtualThreadExecutor extends AbstractExecutorService {
+        private final ExecutorService threads = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("grizzly-virtual-worker-", 0).factory());
+        private final Semaphore permits;
+
+        CappedVirtualThreadExecutor(int permits) {
+            // Fair, so waiting requests are served in arrival order
+            this.permits = new Semaphore(permits, true);
+            Metrics.gauge("pulse_http_workers_waiting", this.permits::getQueueLength);
+            Metrics.gauge("pulse_http_workers_busy", () -> permits - this.permits.availablePermits());
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            threads.execute(() -> {
+                permits.acquireUninterruptibly();
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        }
+
+        @Override
+        public void shutdown() {
+            threads.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return threads.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return threads.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return threads.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return threads.awaitTermination(timeout, unit);
+        }
+    }
+}
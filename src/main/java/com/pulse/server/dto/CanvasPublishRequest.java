@@ -6,6 +6,10 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 public class CanvasPublishRequest {
     private String canvasContext;
     private PublishSchedule schedule;
+    // "publish" (default) sends every event; "sync" diffs against the events already in Canvas
+    private String mode;
+    // Sync only: return the plan without changing anything in Canvas
+    private boolean dryRun;
 
     public CanvasPublishRequest() {}
 
@@ -24,4 +28,27 @@ public class CanvasPublishRequest {
     public void setSchedule(PublishSchedule schedule) {
         this.schedule = schedule;
     }
+
+    public String getMode() {
+        return mode;
+    }
+
+    public void setMode(String mode) {
+        this.mode = mode;
+    }
+
+    public boolean isDryRun() {
+        return dryRun;
+    }
+
+    public void setDryRun(boolean dryRun) {
+        this.dryRun = dryRun;
+    }
+
+    /**
+     * True when the request asks for a diff-based sync instead of a plain publish.
+     */
+    public boolean isSync() {
+        return "sync".equalsIgnoreCase(mode);
+    }
 }
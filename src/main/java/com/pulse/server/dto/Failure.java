@@ -4,10 +4,16 @@ public class Failure {
 
     private final String externalId;
     private final String reason;
+    private final int attempts;
 
     public Failure(String externalId, String reason) {
+        this(externalId, reason, 1);
+    }
+
+    public Failure(String externalId, String reason, int attempts) {
         this.externalId = externalId;
         this.reason = reason;
+        this.attempts = attempts;
     }
 
     public String getExternalId() {
@@ -17,4 +23,8 @@ public class Failure {
     public String getReason() {
         return reason;
     }
+
+    public int getAttempts() {
+        return attempts;
+    }
 }
@@ -1,23 +1,71 @@
 package com.pulse.server.dto;
 
 import java.util.List;
+import java.util.Map;
 
 public class PublishResult {
 
     private final int published;
+    // Of published, how many replaced an earlier version in place
+    private final int updated;
+    // Unchanged since the last publish; no Canvas call was made
+    private final int skipped;
+    // Sync only: Canvas events removed because they left the schedule
+    private final int deleted;
     private final int failed;
     private final List<Failure> failures;
+    // externalId -> attempts, for events that needed more than one attempt
+    private final Map<String, Integer> attempts;
+    // Dry-run sync only: the changes that would have been made; null otherwise
+    private final List<SyncChange> plan;
 
     public PublishResult(int published, List<Failure> failures) {
+        this(published, failures, Map.of());
+    }
+
+    public PublishResult(int published, List<Failure> failures, Map<String, Integer> attempts) {
+        this(published, 0, 0, failures, attempts);
+    }
+
+    public PublishResult(int published, int updated, int skipped, List<Failure> failures, Map<String, Integer> attempts) {
+        this(published, updated, skipped, 0, failures, attempts, null);
+    }
+
+    public PublishResult(int published, int updated, int skipped, int deleted, List<Failure> failures,
+            Map<String, Integer> attempts, List<SyncChange> plan) {
         this.published = published;
+        this.updated = updated;
+        this.skipped = skipped;
+        this.deleted = deleted;
         this.failures = failures;
         this.failed = failures == null ? 0 : failures.size();
+        this.attempts = attempts;
+        this.plan = plan;
+    }
+
+    /**
+     * Result of a dry-run sync: counts are what the plan would do; nothing was sent to Canvas.
+     */
+    public static PublishResult dryRun(int creates, int updates, int unchanged, int deletes, List<SyncChange> plan) {
+        return new PublishResult(creates + updates, updates, unchanged, deletes, List.of(), Map.of(), plan);
     }
 
     public int getPublished() {
         return published;
     }
 
+    public int getUpdated() {
+        return updated;
+    }
+
+    public int getSkipped() {
+        return skipped;
+    }
+
+    public int getDeleted() {
+        return deleted;
+    }
+
     public int getFailed() {
         return failed;
     }
@@ -25,4 +73,16 @@ public class PublishResult {
     public List<Failure> getFailures() {
         return failures;
     }
+
+    public Map<String, Integer> getAttempts() {
+        return attempts;
+    }
+
+    public List<SyncChange> getPlan() {
+        return plan;
+    }
+
+    public boolean isDryRun() {
+        return plan != null;
+    }
 }
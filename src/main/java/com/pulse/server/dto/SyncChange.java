@@ -0,0 +1,48 @@
+package com.pulse.server.dto;
+
+/**
+ * One step of a sync plan: what would be (or was) done to a single Canvas event.
+ */
+public class SyncChange {
+
+    // create, update or delete
+    private final String action;
+    private final String externalId;
+    // Canvas event id; null for creates
+    private final Long canvasId;
+    private final String title;
+    // Events covered by a create/update of a weekly series; null for single events and deletes
+    private final Integer occurrences;
+
+    public SyncChange(String action, String externalId, Long canvasId, String title) {
+        this(action, externalId, canvasId, title, null);
+    }
+
+    public SyncChange(String action, String externalId, Long canvasId, String title, Integer occurrences) {
+        this.action = action;
+        this.externalId = externalId;
+        this.canvasId = canvasId;
+        this.title = title;
+        this.occurrences = occurrences;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public String getExternalId() {
+        return externalId;
+    }
+
+    public Long getCanvasId() {
+        return canvasId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public Integer getOccurrences() {
+        return occurrences;
+    }
+}
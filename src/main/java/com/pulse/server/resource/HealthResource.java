@@ -1,5 +1,6 @@
 package com.pulse.server.resource;
 
+import jakarta.inject.Inject;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
@@ -12,19 +13,43 @@ import com.pulse.integration.canvas.CanvasApiTester;
 import com.pulse.integration.canvas.CanvasClient;
 import com.pulse.integration.canvas.dto.CanvasUser;
 import com.pulse.integration.canvas.dto.CanvasContextState;
+import com.pulse.metrics.Metrics;
+import com.pulse.util.CircuitBreaker;
 
 @Path("/health")
 @Produces(MediaType.APPLICATION_JSON)
 public class HealthResource {
-    private final CanvasClient canvasClient = new CanvasClient();
+    private final CanvasClient canvasClient;
+    private final CanvasApiTester apiTester;
+
+    // Shared clients bound by ClientBinder; Jersey still creates this resource per request
+    @Inject
+    public HealthResource(CanvasClient canvasClient, CanvasApiTester apiTester) {
+        this.canvasClient = canvasClient;
+        this.apiTester = apiTester;
+    }
 
+    /**
+     * Liveness, plus the circuit breaker state of every upstream host contacted so far
+     * ("closed", "open" or "half_open").
+     */
     @GET
     public Response health() {
         Map<String, Object> response = new HashMap<>();
         response.put("status", "UP");
+        response.put("circuitBreakers", CircuitBreaker.states());
         return Response.ok(response).build();
     }
 
+    /**
+     * Current value of all server counters and gauges (cache hits/misses etc.), as a flat JSON object.
+     */
+    @GET
+    @Path("/metrics")
+    public Response metrics() {
+        return Response.ok(Metrics.snapshot()).build();
+    }
+
     /**
      * Tests Canvas API credentials and connectivity.
      * Calls Canvas API endpoint: GET /api/v1/users/self/profile
@@ -71,7 +96,7 @@ public class HealthResource {
     @Path("/canvas-test")
     public Response testCanvasConnection() {
         try {
-            CanvasApiTester.CanvasTestResult result = CanvasApiTester.testCanvasConnection();
+            CanvasApiTester.CanvasTestResult result = apiTester.testCanvasConnection();
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", result.isSuccess());
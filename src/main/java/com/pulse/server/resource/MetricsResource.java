@@ -0,0 +1,24 @@
+package com.pulse.server.resource;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Response;
+
+import com.pulse.metrics.Metrics;
+
+/**
+ * Prometheus scrape endpoint: every counter, gauge and latency histogram in the text exposition format.
+ * GET /health/metrics keeps serving counters and gauges as JSON.
+ */
+@Path("/metrics")
+public class MetricsResource {
+
+    public static final String PROMETHEUS_TEXT = "text/plain; version=0.0.4; charset=utf-8";
+
+    @GET
+    @Produces(PROMETHEUS_TEXT)
+    public Response scrape() {
+        return Response.ok(Metrics.prometheus()).build();
+    }
+}
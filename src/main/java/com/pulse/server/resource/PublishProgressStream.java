@@ -0,0 +1,190 @@
+package com.pulse.server.resource;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pulse.config.AppConfig;
+import com.pulse.metrics.Metrics;
+import com.pulse.service.PublishJob;
+
+import org.glassfish.jersey.server.ChunkedOutput;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Streams a publish job's progress as Server-Sent Events.
+ *
+ * Each subscriber is polled on one shared timer instead of being pushed every event, so a client
+ * gets at most one frame batch per interval however fast Canvas answers:
+ * - {@code events}: the outcomes since the previous batch, as a JSON array; the SSE id is the
+ *   number of outcomes sent so far, so a reconnect with Last-Event-ID resumes without gaps
+ * - {@code progress}: counts, remaining and events per second, while the job is queued or running
+ * - {@code done}: the final job status (as GET /jobs/{id} returns it), after which the stream closes
+ *
+ * Frames are written through a Jersey {@link ChunkedOutput}, each one flushed to the client as it
+ * is written. The timer only gathers frames; each write runs on its own virtual thread, so a client
+ * that reads slowly holds up only its own stream. While its previous write is still in progress its
+ * ticks are skipped, and the outcomes go out together in the next batch.
+ */
+public class PublishProgressStream implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(PublishProgressStream.class);
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final long intervalMillis;
+    private final ScheduledExecutorService timer;
+    private final ExecutorService writers = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicInteger open = new AtomicInteger();
+
+    public PublishProgressStream(long intervalMillis) {
+        this.intervalMillis = Math.max(10, intervalMillis);
+        this.timer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "publish-progress-stream");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Stream with frames every CANVAS_PUBLISH_PROGRESS_INTERVAL_MS (default 250).
+     */
+    public static PublishProgressStream fromConfig() {
+        PublishProgressStream stream = new PublishProgressStream(AppConfig.getLong("CANVAS_PUBLISH_PROGRESS_INTERVAL_MS", 250));
+        Metrics.gauge("pulse_publish_progress_streams", stream.open::get);
+        return stream;
+    }
+
+    /**
+     * Opens a stream for the job, starting after the first {@code cursor} outcomes.
+     */
+    public ChunkedOutput<String> subscribe(PublishJob job, int cursor) {
+        ChunkedOutput<String> output = new ChunkedOutput<>(String.class);
+        Subscription subscription = new Subscription(job, output, Math.max(0, cursor));
+        open.incrementAndGet();
+        subscription.future = timer.scheduleWithFixedDelay(subscription, 0, intervalMillis, TimeUnit.MILLISECONDS);
+        logger.debug("Progress stream opened for publish job {} at cursor {}", job.getId(), cursor);
+        return output;
+    }
+
+    @Override
+    public void close() {
+        timer.shutdownNow();
+        writers.shutdownNow();
+    }
+
+    private final class Subscription implements Runnable {
+        private final PublishJob job;
+        private final ChunkedOutput<String> output;
+        private int cursor;
+        private volatile ScheduledFuture<?> future;
+        private volatile boolean closed;
+        // Set while a write is in progress on a writer thread
+        private final AtomicBoolean writing = new AtomicBoolean();
+
+        private Subscription(PublishJob job, ChunkedOutput<String> output, int cursor) {
+            this.job = job;
+            this.output = output;
+            this.cursor = cursor;
+        }
+
+        @Override
+        public void run() {
+            if (closed) {
+                // Finished on the first run, before the future was assigned
+                if (future != null) {
+                    future.cancel(false);
+                }
+                return;
+            }
+            if (!writing.compareAndSet(false, true)) {
+                // The client has not taken the last frames yet; batch the next ones with later outcomes
+                return;
+            }
+            try {
+                // Read the state first: once final, no outcomes can arrive after the batch below
+                boolean finished = job.getState().isFinal();
+                StringBuilder frames = new StringBuilder();
+
+                List<PublishJob.EventResult> batch = job.eventsSince(cursor);
+                if (!batch.isEmpty()) {
+                    cursor += batch.size();
+                    frame(frames, String.valueOf(cursor), "events", batch);
+                }
+                if (finished) {
+                    frame(frames, null, "done", TransferResource.jobBody(job));
+                } else {
+                    frame(frames, null, "progress", progress(job));
+                }
+                writers.execute(() -> write(frames.toString(), finished));
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Progress stream for publish job {} failed", job.getId(), e);
+                stop();
+            }
+        }
+
+        // Runs on a writer thread, so a blocked write does not hold up the timer
+        private void write(String frames, boolean finished) {
+            try {
+                output.write(frames);
+                if (finished) {
+                    stop();
+                }
+            } catch (IOException e) {
+                // The client went away; the job keeps running
+                logger.debug("Progress stream for publish job {} closed by client: {}", job.getId(), e.getMessage());
+                stop();
+            } catch (RuntimeException e) {
+                logger.warn("Progress stream for publish job {} failed", job.getId(), e);
+                stop();
+            } finally {
+                writing.set(false);
+            }
+        }
+
+        private void stop() {
+            closed = true;
+            open.decrementAndGet();
+            if (future != null) {
+                future.cancel(false);
+            }
+            try {
+                output.close();
+            } catch (IOException e) {
+                logger.debug("Closing progress stream for publish job {}: {}", job.getId(), e.getMessage());
+            }
+        }
+    }
+
+    private static Map<String, Object> progress(PublishJob job) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", job.getState().name().toLowerCase());
+        body.put("total", job.getTotal() >= 0 ? job.getTotal() : null);
+        body.put("published", job.getPublished());
+        body.put("skipped", job.getSkipped());
+        body.put("failed", job.getFailed());
+        body.put("remaining", job.getRemaining() >= 0 ? job.getRemaining() : null);
+        body.put("eventsPerSecond", Math.round(job.getEventsPerSecond() * 10) / 10.0);
+        return body;
+    }
+
+    // One SSE message: optional id, event name, and the payload as a single data line
+    private static void frame(StringBuilder out, String id, String event, Object data) throws JsonProcessingException {
+        if (id != null) {
+            out.append("id: ").append(id).append('\n');
+        }
+        out.append("event: ").append(event).append('\n');
+        out.append("data: ").append(MAPPER.writeValueAsString(data)).append("\n\n");
+    }
+}
@@ -1,8 +1,19 @@
 package com.pulse.server.resource;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.pulse.config.ObjectMapperContextResolver;
+import com.pulse.domain.ErrorResponse;
 import com.pulse.integration.timeedit.TimeEditFetchException;
 import com.pulse.integration.timeedit.TimeEditParseException;
-import com.pulse.integration.timeedit.dto.TimeEditScheduleDTO;
+import com.pulse.integration.timeedit.dto.TimeEditSummaryDTO;
+import com.pulse.metrics.StageTimings;
+import com.pulse.server.AdmissionControlFeature;
+import com.pulse.server.GzipEncodingFilter;
+import com.pulse.server.ServerTimingFilter;
 import com.pulse.service.ScheduleFetchService;
 import com.pulse.util.ErrorCode;
 import com.pulse.util.ResponseBuilder;
@@ -10,60 +21,195 @@ import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.Suspended;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 
 @Path("/api/timeedit/schedule")
 @Produces(MediaType.APPLICATION_JSON)
+@AdmissionControlFeature.Limited("schedule")
+@GzipEncodingFilter.Compressed
 public class ScheduleResource {
 
+    // Upper bound on a suspended request; TimeEditClient's own connect/read timeouts normally fire first
+    private static final long ASYNC_TIMEOUT_SECONDS = 30;
+
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    // Flush after the first event (time to first event) and then in batches, not per line
+    private static final int NDJSON_FLUSH_EVERY = 256;
+
+    private static final ObjectMapper MAPPER = new ObjectMapperContextResolver().getContext(Object.class);
+
+    // Same date/time format as the JSON responses; flushing is left to the batching below
+    private static final ObjectWriter NDJSON_WRITER = MAPPER.writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
     @GET
+    @ServerTimingFilter.Timed
 	// Contract: GET /api/timeedit/schedule?timeeditUrl=<full TimeEdit JSON URL>
 	// - Fetch raw JSON from TimeEdit
 	// - Normalize into our TimeEditScheduleDTO (events + summary)
 	// - Return standardized ErrorResponse envelope on failure
-    public Response getSchedule(@QueryParam("timeeditUrl") String timeeditUrl) {
+	// The request is suspended while TimeEdit responds, so no Grizzly worker is held on upstream I/O.
+	// Server-Timing reports normalize, fetch, parse and validate; with debug=true the body also
+	// carries a "timings" block (in ms, everything up to serialization).
+	// With since=<version from an earlier response> only the events added, changed and removed since
+	// then are returned (TimeEditScheduleDeltaDTO); an unknown version gets every event, marked full.
+    public void getSchedule(@QueryParam("timeeditUrl") String timeeditUrl, @QueryParam("since") String since,
+            @QueryParam("debug") boolean debug, @Context ContainerRequestContext request,
+            @Suspended AsyncResponse asyncResponse) {
 		// 1) Validate client input early.
 		// If the required query param is missing/blank we return a 400 with a clear message
 		// (instead of attempting a fetch and failing later).
         if (timeeditUrl == null || timeeditUrl.isBlank()) {
-            return ResponseBuilder.error(
+            asyncResponse.resume(ResponseBuilder.error(
                     ErrorCode.INVALID_TIMEEDIT_URL,
                     "Missing required query parameter: timeeditUrl",
                     Map.of("param", "timeeditUrl")
-            );
+            ));
+            return;
         }
 
-        try {
-			// 2) Fetch + parse + validate is done in the service layer.
-			TimeEditScheduleDTO schedule = ScheduleFetchService.fetchAndParseTimeEditSchedule(
-					timeeditUrl,
-					ZoneId.systemDefault()
-			);
-            return Response.ok(schedule).build();
-		} catch (TimeEditFetchException e) {
-			Map<String, Object> details = new HashMap<>();
-			details.put("timeeditUrl", timeeditUrl);
-			if (e.getUpstreamStatus() != null) {
-				details.put("upstreamStatus", e.getUpstreamStatus());
+        asyncResponse.setTimeout(ASYNC_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        asyncResponse.setTimeoutHandler(response -> response.resume(ResponseBuilder.error(
+                ErrorCode.TIMEEDIT_UNREACHABLE,
+                "Timed out waiting for TimeEdit",
+                Map.of("timeeditUrl", timeeditUrl)
+        )));
+
+		// 2) Fetch + parse + validate is done in the service layer.
+        StageTimings timings = ServerTimingFilter.timings(request);
+        ZoneId zoneId = ZoneId.systemDefault();
+        ScheduleFetchService.fetchAndParseTimeEditScheduleAsync(timeeditUrl, zoneId, timings)
+                .whenComplete((schedule, error) -> {
+                    if (error != null) {
+                        asyncResponse.resume(toErrorResponse(error, timeeditUrl));
+                        return;
+                    }
+                    Response response;
+                    try {
+                        Object body = since == null ? schedule : ScheduleFetchService.deltaSince(schedule, zoneId, since);
+                        response = Response.ok(debug ? withTimings(body, timings) : body).build();
+                    } catch (RuntimeException e) {
+                        // Nothing up the future chain resumes the request; GlobalExceptionMapper answers 500
+                        asyncResponse.resume(e);
+                        return;
+                    }
+                    asyncResponse.resume(response);
+                });
+    }
+
+    // The cached schedule is shared, so the timings go on a copy
+    private static ObjectNode withTimings(Object schedule, StageTimings timings) {
+        ObjectNode body = MAPPER.valueToTree(schedule);
+        body.putPOJO("timings", timings.toMillis());
+        return body;
+    }
+
+    @GET
+    @Produces(APPLICATION_NDJSON + ";qs=0.5")
+	// Streaming variant, chosen with Accept: application/x-ndjson (plain JSON stays the default).
+	// One TimeEditEventDTO per line as it is parsed, then one trailing line with the schedule
+	// without its events (source, timeeditUrl, generatedAt, summary, version). Errors before the first line
+	// use the normal status and envelope; a parse error mid-stream ends it with an {"error": ...} line.
+    public void streamSchedule(@QueryParam("timeeditUrl") String timeeditUrl, @Suspended AsyncResponse asyncResponse) {
+        if (timeeditUrl == null || timeeditUrl.isBlank()) {
+            asyncResponse.resume(asJson(ResponseBuilder.error(
+                    ErrorCode.INVALID_TIMEEDIT_URL,
+                    "Missing required query parameter: timeeditUrl",
+                    Map.of("param", "timeeditUrl")
+            )));
+            return;
+        }
+
+        asyncResponse.setTimeout(ASYNC_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        asyncResponse.setTimeoutHandler(response -> response.resume(asJson(ResponseBuilder.error(
+                ErrorCode.TIMEEDIT_UNREACHABLE,
+                "Timed out waiting for TimeEdit",
+                Map.of("timeeditUrl", timeeditUrl)
+        ))));
+
+        ZoneId zoneId = ZoneId.systemDefault();
+        ScheduleFetchService.openTimeEditScheduleAsync(timeeditUrl, zoneId)
+                .whenComplete((source, error) -> asyncResponse.resume(error == null
+                        ? Response.ok(ndjson(source, zoneId), APPLICATION_NDJSON).build()
+                        : asJson(toErrorResponse(error, timeeditUrl))));
+    }
+
+    private static StreamingOutput ndjson(ScheduleFetchService.EventSource source, ZoneId zoneId) {
+        return out -> {
+            try (JsonGenerator json = NDJSON_WRITER.createGenerator(out)) {
+                int[] written = {0};
+                Map<String, Object> trailer = new LinkedHashMap<>();
+                try {
+                    TimeEditSummaryDTO summary = source.forEach(event -> {
+                        try {
+                            NDJSON_WRITER.writeValue(json, event);
+                            json.writeRaw('\n');
+                            if (++written[0] == 1 || written[0] % NDJSON_FLUSH_EVERY == 0) {
+                                json.flush();
+                            }
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                    trailer.put("source", "TimeEdit");
+                    trailer.put("timeeditUrl", source.getTimeeditUrl());
+                    trailer.put("generatedAt", OffsetDateTime.now(zoneId).withNano(0));
+                    trailer.put("summary", summary);
+                    trailer.put("version", source.getVersion());
+                } catch (UncheckedIOException e) {
+                    // The client went away; nothing left to write to
+                    throw e.getCause();
+                } catch (RuntimeException e) {
+                    // Status is already 200; report the failure in-band as the last line
+                    Response error = toErrorResponse(e, source.getTimeeditUrl());
+                    ErrorResponse envelope = (ErrorResponse) error.getEntity();
+                    trailer.put("error", envelope.getError());
+                }
+                NDJSON_WRITER.writeValue(json, trailer);
+                json.writeRaw('\n');
+            }
+        };
+    }
+
+    // Error envelopes stay JSON even when the client asked for NDJSON
+    private static Response asJson(Response response) {
+        return Response.fromResponse(response).type(MediaType.APPLICATION_JSON_TYPE).build();
+    }
+
+    private static Response toErrorResponse(Throwable error, String timeeditUrl) {
+        Throwable e = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        Map<String, Object> details = new HashMap<>();
+        details.put("timeeditUrl", timeeditUrl);
+        if (e instanceof TimeEditFetchException fetchError) {
+			if (fetchError.getUpstreamStatus() != null) {
+				details.put("upstreamStatus", fetchError.getUpstreamStatus());
 			}
-			return ResponseBuilder.error(e.getErrorCode(), e.getMessage(), details);
-        } catch (TimeEditParseException e) {
+			return ResponseBuilder.error(fetchError.getErrorCode(), fetchError.getMessage(), details);
+        }
+        if (e instanceof TimeEditParseException) {
 			// The JSON was fetched successfully but could not be normalized (schema mismatch,
 			// missing required fields, invalid date/time, etc.). Return 422 parse error.
-            Map<String, Object> details = new HashMap<>();
-            details.put("timeeditUrl", timeeditUrl);
             return ResponseBuilder.error(ErrorCode.TIMEEDIT_PARSE_ERROR, e.getMessage(), details);
-        } catch (Exception e) {
-			// Defensive catch-all: if something unexpected happens in parsing/normalization,
-			// still return a 422 in the standard error envelope (no stack trace to client).
-            Map<String, Object> details = new HashMap<>();
-            details.put("timeeditUrl", timeeditUrl);
-            return ResponseBuilder.error(ErrorCode.TIMEEDIT_PARSE_ERROR, "Failed to parse TimeEdit response", details);
         }
+		// Defensive catch-all: if something unexpected happens in parsing/normalization,
+		// still return a 422 in the standard error envelope (no stack trace to client).
+        return ResponseBuilder.error(ErrorCode.TIMEEDIT_PARSE_ERROR, "Failed to parse TimeEdit response", details);
     }
 }
@@ -1,24 +1,41 @@
 package com.pulse.server.resource;
 
+import java.net.URI;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.pulse.integration.canvas.CanvasClient;
 import com.pulse.integration.canvas.CanvasPublishException;
 import com.pulse.integration.canvas.CanvasUpstreamException;
+import com.pulse.metrics.StageTimings;
+import com.pulse.server.AdmissionControlFeature;
+import com.pulse.server.ServerTimingFilter;
 import com.pulse.server.dto.CanvasPublishRequest;
 import com.pulse.server.dto.PublishResult;
 import com.pulse.service.CanvasPublishService;
+import com.pulse.service.PublishJob;
+import com.pulse.service.PublishJobManager;
+import com.pulse.service.PublishListener;
+import com.pulse.util.ErrorCode;
 
+import jakarta.inject.Inject;
 import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
 
 @Path("/api/canvas/publish")
 @Produces(MediaType.APPLICATION_JSON)
@@ -26,12 +43,29 @@ import jakarta.ws.rs.core.Response;
 public class TransferResource {
     private static final Logger logger = LoggerFactory.getLogger(TransferResource.class);
     
-    private final CanvasPublishService publishService =
-        new CanvasPublishService(new CanvasClient());
+    // How long a client should wait before resubmitting when the job queue is full
+    private static final int QUEUE_FULL_RETRY_AFTER_SECONDS = 5;
+
+    private final CanvasPublishService publishService;
+    private final PublishJobManager publishJobs;
+    private final PublishProgressStream progressStream;
+
+    // Shared service bound by ClientBinder; Jersey still creates this resource per request
+    @Inject
+    public TransferResource(CanvasPublishService publishService, PublishJobManager publishJobs,
+            PublishProgressStream progressStream) {
+        this.publishService = publishService;
+        this.publishJobs = publishJobs;
+        this.progressStream = progressStream;
+    }
 
     // Endpoint to transfer schedule to Canvas
+    // Server-Timing reports auth, canvas-calls and total; with debug=true the body also carries them as "timings"
     @POST
-    public Response transferSchedule(CanvasPublishRequest request) {
+    @ServerTimingFilter.Timed
+    @AdmissionControlFeature.Limited("publish")
+    public Response transferSchedule(CanvasPublishRequest request, @QueryParam("debug") boolean debug,
+            @Context ContainerRequestContext requestContext) {
         logger.info("Received publish request to /api/canvas/publish");
         logger.debug("Canvas context: {}, event count: {}", 
             request.getCanvasContext(), 
@@ -40,21 +74,23 @@ public class TransferResource {
         
         try {
             logger.debug("Delegating to CanvasPublishService");
-            PublishResult result = publishService.publish(request);
+            StageTimings timings = ServerTimingFilter.timings(requestContext);
+            PublishResult result = publishService.publish(request, new PublishListener() {
+                @Override
+                public void stageDone(String stage, long nanos) {
+                    timings.add(stage, nanos);
+                }
+            });
 
             int status = (result.getFailed() == 0) ? 200 : 207;
-            logger.info("Publish service completed: published={}, failed={}, httpStatus={}", 
-                result.getPublished(), result.getFailed(), status);
+            logger.info("Publish service completed: published={}, updated={}, skipped={}, deleted={}, failed={}, dryRun={}, httpStatus={}", 
+                result.getPublished(), result.getUpdated(), result.getSkipped(), result.getDeleted(), result.getFailed(),
+                result.isDryRun(), status);
 
-            Map<String, Object> body = new HashMap<>();
-            body.put("published", result.getPublished());
-            body.put("failed", result.getFailed());
-
-            if (result.getFailed() > 0) {
-                logger.debug("Including {} failure details in response", result.getFailures().size());
-                body.put("failures", result.getFailures());
+            Map<String, Object> body = resultBody(result, request.isSync());
+            if (debug) {
+                body.put("timings", timings.toMillis());
             }
-
             return Response.status(status).entity(body).build();
         } catch (CanvasUpstreamException e) {
             logger.error("Canvas upstream error: code={}, message={}", e.getCode(), e.getMessage());
@@ -74,6 +110,134 @@ public class TransferResource {
         }
     }
 
+    // Starts the publish in the background; progress is read from the job resource in Location
+    @POST
+    @Path("jobs")
+    @AdmissionControlFeature.Limited("publish")
+    public Response submitJob(CanvasPublishRequest request, @Context UriInfo uriInfo) {
+        try {
+            PublishJob job = publishJobs.submit(request);
+            URI location = uriInfo.getAbsolutePathBuilder().path(job.getId()).build();
+            return Response.accepted(jobBody(job)).location(location).build();
+        } catch (CanvasPublishException e) {
+            logger.error("Canvas publish validation error: {}", e.getMessage());
+            return errorEnvelope(422, "VALIDATION_ERROR", e.getMessage());
+        } catch (PublishJobManager.QueueFullException e) {
+            Response error = errorEnvelope(503, ErrorCode.PUBLISH_QUEUE_FULL.getCode(), e.getMessage());
+            return Response.fromResponse(error).header("Retry-After", QUEUE_FULL_RETRY_AFTER_SECONDS).build();
+        }
+    }
+
+    @GET
+    @Path("jobs/{id}")
+    public Response getJob(@PathParam("id") String id) {
+        PublishJob job = publishJobs.get(id);
+        if (job == null) {
+            return jobNotFound(id);
+        }
+        return Response.ok(jobBody(job)).build();
+    }
+
+    // Server-Sent Events with batched per-event outcomes and progress until the job finishes
+    @GET
+    @Path("jobs/{id}/events")
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    public Response streamJob(@PathParam("id") String id, @HeaderParam("Last-Event-ID") String lastEventId) {
+        PublishJob job = publishJobs.get(id);
+        if (job == null) {
+            return jobNotFound(id);
+        }
+        int cursor = 0;
+        if (lastEventId != null) {
+            try {
+                cursor = Integer.parseInt(lastEventId.trim());
+            } catch (NumberFormatException e) {
+                logger.debug("Ignoring malformed Last-Event-ID '{}'", lastEventId);
+            }
+        }
+        return Response.ok(progressStream.subscribe(job, cursor))
+                .header("Cache-Control", "no-cache")
+                .build();
+    }
+
+    // Cancelling is cooperative: 202 while the job is still winding down, 200 once it has stopped
+    @DELETE
+    @Path("jobs/{id}")
+    public Response cancelJob(@PathParam("id") String id) {
+        PublishJob job = publishJobs.cancel(id);
+        if (job == null) {
+            return jobNotFound(id);
+        }
+        int status = job.getState().isFinal() ? 200 : 202;
+        return Response.status(status).entity(jobBody(job)).build();
+    }
+
+    // Same shape for the synchronous response and a finished job's result
+    private static Map<String, Object> resultBody(PublishResult result, boolean sync) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("published", result.getPublished());
+        body.put("updated", result.getUpdated());
+        body.put("skipped", result.getSkipped());
+        if (sync) {
+            body.put("deleted", result.getDeleted());
+        }
+        body.put("failed", result.getFailed());
+
+        if (result.isDryRun()) {
+            // Nothing was sent to Canvas; the counts describe the plan
+            body.put("dryRun", true);
+            body.put("plan", result.getPlan());
+        }
+
+        if (result.getFailed() > 0) {
+            logger.debug("Including {} failure details in response", result.getFailures().size());
+            body.put("failures", result.getFailures());
+        }
+
+        if (!result.getAttempts().isEmpty()) {
+            // Events that only went through after retrying (or failed after several attempts)
+            body.put("attempts", result.getAttempts());
+        }
+        return body;
+    }
+
+    static Map<String, Object> jobBody(PublishJob job) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("jobId", job.getId());
+        body.put("status", job.getState().name().toLowerCase());
+        body.put("cancelRequested", job.isCancelRequested());
+        body.put("total", job.getTotal() >= 0 ? job.getTotal() : null);
+        body.put("published", job.getPublished());
+        body.put("updated", job.getUpdated());
+        body.put("skipped", job.getSkipped());
+        if (job.isSync()) {
+            body.put("deleted", job.getDeleted());
+        }
+        body.put("failed", job.getFailed());
+        body.put("remaining", job.getRemaining() >= 0 ? job.getRemaining() : null);
+        body.put("eventsPerSecond", Math.round(job.getEventsPerSecond() * 10) / 10.0);
+        body.put("createdAt", job.getCreatedAt().toString());
+        body.put("startedAt", job.getStartedAt() != null ? job.getStartedAt().toString() : null);
+        body.put("finishedAt", job.getFinishedAt() != null ? job.getFinishedAt().toString() : null);
+        if (job.getResult() != null) {
+            body.put("result", resultBody(job.getResult(), job.isSync()));
+        }
+        if (job.getErrorCode() != null) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("code", job.getErrorCode());
+            error.put("message", job.getErrorMessage());
+            body.put("error", error);
+        }
+        return body;
+    }
+
+    private Response jobNotFound(String id) {
+        Response error = errorEnvelope(404, ErrorCode.PUBLISH_JOB_NOT_FOUND.getCode(),
+                ErrorCode.PUBLISH_JOB_NOT_FOUND.getDefaultMessage() + ": " + id);
+        // Also from the event stream, whose method otherwise produces text/event-stream
+        return Response.fromResponse(error).type(MediaType.APPLICATION_JSON_TYPE).build();
+    }
+
     // Helper to create error response envelope
     private Response errorEnvelope(int httpStatus, String code, String message) {
         Map<String, Object> details = new HashMap<>();
@@ -3,38 +3,141 @@ package com.pulse.service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.pulse.config.AppConfig;
 import com.pulse.integration.canvas.CanvasClient;
+import com.pulse.integration.canvas.CanvasPublishLedger;
 import com.pulse.integration.canvas.CanvasPublishValidator;
+import com.pulse.integration.canvas.CanvasRetryPolicy;
 import com.pulse.integration.canvas.CanvasUpstreamException;
 import com.pulse.integration.canvas.dto.CanvasCalendarEventRequest;
 import com.pulse.integration.canvas.dto.CanvasCalendarEventResponse;
+import com.pulse.metrics.Metrics;
 import com.pulse.server.dto.CanvasPublishRequest;
 import com.pulse.server.dto.Failure;
 import com.pulse.server.dto.PublishResult;
 import com.pulse.server.dto.PublishScheduleEvent;
+import com.pulse.server.dto.SyncChange;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 public class CanvasPublishService {
 
     private static final Logger logger = LoggerFactory.getLogger(CanvasPublishService.class);
 
+    // pulse_publish_events_total by outcome, indexed by EventStatus ordinal; rate() gives events per second
+    private static final LongAdder[] eventsDone = new LongAdder[PublishListener.EventStatus.values().length];
+
+    static {
+        for (PublishListener.EventStatus status : PublishListener.EventStatus.values()) {
+            eventsDone[status.ordinal()] = Metrics.counter(
+                    Metrics.series("pulse_publish_events_total", "status", status.name().toLowerCase()));
+        }
+    }
+
     private final CanvasClient canvasClient;
+    // Max Canvas write calls in flight; 1 keeps the original one-at-a-time behaviour
+    private final int maxInFlight;
+    private final CanvasRetryPolicy retryPolicy;
+    // Events in a row that exhausted their retries before the failure is treated as systemic
+    private final int abortAfterConsecutiveFailures;
+    // What earlier publishes created, so republishing skips or updates instead of duplicating
+    private final CanvasPublishLedger ledger;
+    // Groups weekly repeats into one rrule series per Canvas call
+    private final RecurrenceDetector recurrence;
+
+    /**
+     * Service configured from the environment, recording into {@code ledger}; the caller owns and closes it.
+     */
+    public CanvasPublishService(CanvasClient canvasClient, CanvasPublishLedger ledger) {
+        this(canvasClient, AppConfig.getInt("CANVAS_PUBLISH_MAX_IN_FLIGHT", 1), CanvasRetryPolicy.fromConfig(),
+                AppConfig.getInt("CANVAS_PUBLISH_ABORT_AFTER_CONSECUTIVE_FAILURES", 5), ledger);
+    }
+
+    /**
+     * Service with an in-memory ledger that lives as long as this instance (tests, benchmarks).
+     */
+    public CanvasPublishService(CanvasClient canvasClient, int maxInFlight) {
+        this(canvasClient, maxInFlight, CanvasRetryPolicy.fromConfig(),
+                AppConfig.getInt("CANVAS_PUBLISH_ABORT_AFTER_CONSECUTIVE_FAILURES", 5));
+    }
+
+    public CanvasPublishService(CanvasClient canvasClient, int maxInFlight, CanvasRetryPolicy retryPolicy,
+            int abortAfterConsecutiveFailures) {
+        this(canvasClient, maxInFlight, retryPolicy, abortAfterConsecutiveFailures, new CanvasPublishLedger(null));
+    }
 
-    public CanvasPublishService(CanvasClient canvasClient) {
+    public CanvasPublishService(CanvasClient canvasClient, int maxInFlight, CanvasRetryPolicy retryPolicy,
+            int abortAfterConsecutiveFailures, CanvasPublishLedger ledger) {
+        this(canvasClient, maxInFlight, retryPolicy, abortAfterConsecutiveFailures, ledger, RecurrenceDetector.fromConfig());
+    }
+
+    public CanvasPublishService(CanvasClient canvasClient, int maxInFlight, CanvasRetryPolicy retryPolicy,
+            int abortAfterConsecutiveFailures, CanvasPublishLedger ledger, RecurrenceDetector recurrence) {
         this.canvasClient = canvasClient;
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.retryPolicy = retryPolicy;
+        this.abortAfterConsecutiveFailures = Math.max(1, abortAfterConsecutiveFailures);
+        this.ledger = ledger;
+        this.recurrence = recurrence;
     }
 
     /**
      * Publishes the given canvas publish request.
+     *
+     * Events already in the ledger with identical content are skipped; changed ones are updated in
+     * place (recreated if the Canvas event is gone). Events without an externalId are always created.
+     * With mode "sync" the existing Canvas events are listed and diffed first, see {@link #sync}.
+     *
+     * Weekly repeats of the same lecture that were not published before are sent as one Canvas
+     * series (calendar_event[rrule]) instead of one call per occurrence, see {@link RecurrenceDetector}.
+     *
+     * Transient failures (429, 5xx, unreachable) are retried per event with jittered backoff; an
+     * event that still fails, or fails with a non-retryable 4xx, is recorded in the result and the
+     * publish continues. The publish aborts only on systemic errors: bad config, a rejected token,
+     * or several events in a row exhausting their retries.
+     *
+     * With maxInFlight > 1 events are created concurrently on virtual threads. The result is the
+     * same as a sequential run: failures keep schedule order, and an abort stops new calls and is
+     * raised once the calls already in flight have returned.
+     *
      * @param request the canvas publish request
      * @return the publish result
      */
     public PublishResult publish(CanvasPublishRequest request) {
+        return publish(request, PublishListener.NONE);
+    }
+
+    /**
+     * Publishes the request, reporting each event's outcome to {@code listener} as it happens.
+     * When the listener cancels, no new Canvas writes start and the result covers only the events
+     * handled so far.
+     */
+    public PublishResult publish(CanvasPublishRequest request, PublishListener listener) {
         logger.info("Starting publish operation");
         logger.debug("Validating request");
-        
+        long started = System.nanoTime();
+
         // Validation
         CanvasPublishValidator.validate(request);
         logger.debug("Request validation passed");
@@ -50,51 +153,732 @@ public class CanvasPublishService {
 
         }
 
+        long authenticated = System.nanoTime();
+        listener.stageDone("auth", authenticated - started);
+        try {
+            List<PublishScheduleEvent> events = request.getSchedule().getEvents();
+            // Which schedule the events come from; a sync only ever deletes events from the same one
+            String source = request.getSchedule().getTimeeditUrl();
+            if (request.isSync()) {
+                return sync(canvasContext, source, events, request.isDryRun(), listener);
+            }
+
+            SeriesPlan series = seriesPlan(canvasContext, events, null);
+            List<Step> steps = new ArrayList<>();
+            for (RecurrenceDetector.Group group : series.groups()) {
+                Step step = series.step(group);
+                steps.add(step != null ? step : stepFromLedger(canvasContext, group));
+            }
+            steps.addAll(series.deletes());
+            listener.planned(events.size());
+            return execute(canvasContext, source, steps, listener);
+        } finally {
+            listener.stageDone("canvas-calls", System.nanoTime() - authenticated);
+        }
+    }
+
+    /**
+     * Groups the events for Canvas, taking the series earlier publishes created into account.
+     *
+     * A recorded series is left as it is while the schedule still holds exactly its occurrences
+     * within the schedule's time range, unchanged: occurrences that fell out of the range (the
+     * first weeks of a rolling schedule) do not make it a new series. Its occurrences that are
+     * still there are skipped together. Otherwise, when an occurrence moved, changed, was dropped
+     * or a new week continues the run, the series is replaced: its occurrences are grouped again
+     * with the other new events, and the first new group holding one of them deletes the old
+     * series before it is created (or the series is deleted on its own if none does).
+     *
+     * Events the ledger tracks one by one stay single, so a republish never duplicates them as a
+     * series. Linear in the number of events and recorded occurrences, plus the grouping's sort.
+     *
+     * @param listedOwned ids of the context's listed events this server published (sync), so an
+     *                    unchanged series deleted in Canvas is recreated; null to trust the ledger
+     */
+    private SeriesPlan seriesPlan(String canvasContext, List<PublishScheduleEvent> events, Set<Long> listedOwned) {
+        Map<String, CanvasPublishLedger.Entry> recorded = new HashMap<>();
+        // externalId -> key of the recorded series it is an occurrence of
+        Map<String, String> seriesOf = new HashMap<>();
+        // series key -> externalId -> week of the series it was published in
+        Map<String, Map<String, Integer>> weeks = new HashMap<>();
+        ledger.forEach(canvasContext, (key, entry) -> {
+            if (!entry.members().isEmpty()) {
+                recorded.put(key, entry);
+                Map<String, Integer> weekOf = new HashMap<>();
+                for (int week = 0; week < entry.members().size(); week++) {
+                    seriesOf.put(entry.members().get(week), key);
+                    weekOf.putIfAbsent(entry.members().get(week), week);
+                }
+                weeks.put(key, weekOf);
+            }
+        });
+
+        // The recorded series' occurrences still in the schedule, in schedule order
+        Map<String, List<PublishScheduleEvent>> present = new LinkedHashMap<>();
+        Instant from = null;
+        Instant to = null;
+        for (PublishScheduleEvent event : events) {
+            Instant start = event.getStart().toInstant();
+            Instant end = event.getEnd().toInstant();
+            from = from == null || start.isBefore(from) ? start : from;
+            to = to == null || end.isAfter(to) ? end : to;
+            String key = event.getExternalId() != null ? seriesOf.get(event.getExternalId()) : null;
+            if (key != null) {
+                present.computeIfAbsent(key, k -> new ArrayList<>()).add(event);
+            }
+        }
+
+        Set<String> kept = new HashSet<>();
+        Map<Long, String> continuations = new HashMap<>();
+        for (Map.Entry<String, List<PublishScheduleEvent>> e : present.entrySet()) {
+            CanvasPublishLedger.Entry entry = recorded.get(e.getKey());
+            Map<String, Integer> weekOf = weeks.get(e.getKey());
+            if (isUnchanged(entry, weekOf, e.getValue(), from, to, listedOwned)) {
+                kept.add(e.getKey());
+                continuations.put(weekAround(weekOf, e.getValue().get(0), -1), e.getKey());
+                continuations.put(weekAround(weekOf, e.getValue().get(0), entry.members().size()), e.getKey());
+            }
+        }
+        // A new event that continues a kept series' run makes it a longer series instead
+        for (PublishScheduleEvent event : events) {
+            String id = event.getExternalId();
+            if (id != null && !seriesOf.containsKey(id) && !ledger.contains(canvasContext, id)) {
+                String extended = continuations.get(contentHash(event));
+                if (extended != null) {
+                    kept.remove(extended);
+                }
+            }
+        }
+
+        List<RecurrenceDetector.Group> grouped = recurrence.group(events, event ->
+                !ledger.contains(canvasContext, event.getExternalId()) && !kept.contains(seriesOf.get(event.getExternalId())));
+
+        // Occurrences of kept series came back as singles; put each series back together where it starts
+        List<RecurrenceDetector.Group> groups = new ArrayList<>(grouped.size());
+        Map<RecurrenceDetector.Group, String> unchanged = new HashMap<>();
+        Set<String> rejoined = new HashSet<>();
+        Map<String, RecurrenceDetector.Group> groupOf = new HashMap<>();
+        for (RecurrenceDetector.Group group : grouped) {
+            String id = group.first().getExternalId();
+            String key = !group.isSeries() && id != null ? seriesOf.get(id) : null;
+            if (key == null || !kept.contains(key)) {
+                groups.add(group);
+                group.getOccurrences().forEach(event -> groupOf.put(event.getExternalId(), group));
+            } else if (rejoined.add(key)) {
+                RecurrenceDetector.Group occurrences = RecurrenceDetector.Group.of(present.get(key));
+                unchanged.put(occurrences, key);
+                groups.add(occurrences);
+            }
+        }
+
+        // Every other series with occurrences in the schedule is replaced, preferably by the new
+        // group that has its key, so the delete and the create share one step
+        Map<RecurrenceDetector.Group, String> replacing = new HashMap<>();
+        Set<String> replaced = new HashSet<>();
+        for (RecurrenceDetector.Group group : groups) {
+            String key = group.key();
+            if (key != null && present.containsKey(key) && !kept.contains(key) && !unchanged.containsKey(group)) {
+                replacing.put(group, key);
+                replaced.add(key);
+            }
+        }
+        List<Step> deletes = new ArrayList<>();
+        for (String key : present.keySet()) {
+            if (kept.contains(key) || replaced.contains(key)) {
+                continue;
+            }
+            RecurrenceDetector.Group by = null;
+            for (PublishScheduleEvent event : present.get(key)) {
+                RecurrenceDetector.Group group = groupOf.get(event.getExternalId());
+                if (group != null && !replacing.containsKey(group) && !ledger.contains(canvasContext, group.key())) {
+                    by = group;
+                    break;
+                }
+            }
+            if (by != null) {
+                replacing.put(by, key);
+            } else {
+                deletes.add(new Step(Action.DELETE, null, key, recorded.get(key).canvasId(), 0, null));
+            }
+        }
+
+        if (groups.size() < events.size()) {
+            logger.info("Grouped {} events into {} Canvas calls using weekly series", events.size(), groups.size());
+        }
+        if (!replacing.isEmpty() || !deletes.isEmpty()) {
+            logger.info("Replacing {} weekly series whose occurrences changed", replacing.size() + deletes.size());
+        }
+        return new SeriesPlan(groups, recorded, unchanged, replacing, deletes, present.keySet());
+    }
 
-        // Loop events
+    // Whether the schedule still has exactly the series' occurrences in [from, to], unchanged;
+    // weekOf maps each occurrence's externalId to its week in the series
+    private static boolean isUnchanged(CanvasPublishLedger.Entry series, Map<String, Integer> weekOf,
+            List<PublishScheduleEvent> present, Instant from, Instant to, Set<Long> listedOwned) {
+        List<String> members = series.members();
+        Set<String> ids = new HashSet<>();
+        OffsetDateTime seriesStart = null;
+        for (PublishScheduleEvent event : present) {
+            int week = weekOf.get(event.getExternalId());
+            // Where the series would start if this occurrence is where it was published
+            OffsetDateTime start = event.getStart().minusWeeks(week);
+            if (!ids.add(event.getExternalId())
+                    || seriesHash(event, start, event.getEnd().minusWeeks(week), members.size()) != series.contentHash()) {
+                return false;
+            }
+            seriesStart = start;
+        }
+        for (int week = 0; week < members.size(); week++) {
+            Instant at = seriesStart.plusWeeks(week).toInstant();
+            if (at.isBefore(from) || !at.isBefore(to)) {
+                continue;
+            }
+            if (!ids.contains(members.get(week))) {
+                return false;
+            }
+            if (week == 0 && listedOwned != null && !listedOwned.contains(series.canvasId())) {
+                // The first occurrence is the series' Canvas event and was in the listed range
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Content hash of the single event the series would have in the given week (-1: the week before it)
+    private static long weekAround(Map<String, Integer> weekOf, PublishScheduleEvent occurrence, int week) {
+        int shift = week - weekOf.get(occurrence.getExternalId());
+        return CanvasPublishLedger.contentHash(
+                occurrence.getTitle(),
+                occurrence.getStart().plusWeeks(shift).toInstant().toString(),
+                occurrence.getEnd().plusWeeks(shift).toInstant().toString(),
+                occurrence.getLocation(),
+                occurrence.getDescription()
+        );
+    }
+
+    /**
+     * Brings the context in line with the schedule, touching only what differs.
+     *
+     * Lists the Canvas events in the schedule's time range, then plans in one pass over each side:
+     * - events the ledger has never published, or whose Canvas event is gone: create
+     * - events whose content changed since they were published: update
+     * - Canvas events the ledger published from this source that are no longer in the schedule: delete
+     * - everything else: unchanged, no call
+     * Canvas events this server did not create are never updated or deleted, nor are events it
+     * published to the same context from another schedule (or before sources were recorded); an
+     * event without an externalId counts as unchanged if Canvas already has one with the same
+     * title and times.
+     *
+     * Only the ids and hashed keys of listed events are kept, and all lookups are hash-based, so
+     * planning is linear in the number of events.
+     */
+    private PublishResult sync(String canvasContext, String source, List<PublishScheduleEvent> events, boolean dryRun,
+            PublishListener listener) {
+        List<Step> plan = plan(canvasContext, source, events);
+
+        int unchanged = 0;
+        int creates = 0;
+        int updates = 0;
+        int deletes = 0;
+        List<Step> changes = new ArrayList<>();
+        for (Step step : plan) {
+            switch (step.action()) {
+                case SKIP -> unchanged += step.occurrences();
+                case CREATE -> creates += step.occurrences();
+                case UPDATE -> updates += step.occurrences();
+                case DELETE -> deletes++;
+            }
+            if (step.action() != Action.SKIP) {
+                changes.add(step);
+            }
+        }
+        logger.info("Sync plan for {}: create={}, update={}, delete={}, unchanged={}, dryRun={}",
+                canvasContext, creates, updates, deletes, unchanged, dryRun);
+
+        if (dryRun) {
+            List<SyncChange> described = new ArrayList<>(changes.size());
+            for (Step step : changes) {
+                described.add(new SyncChange(step.action().name().toLowerCase(), step.externalId(), step.canvasId(),
+                        step.event() != null ? step.event().getTitle() : null, step.isSeries() && step.group() != null ? step.occurrences() : null));
+            }
+            return PublishResult.dryRun(creates, updates, unchanged, deletes, described);
+        }
+
+        // Unchanged events never reach Canvas; they are counted as skipped
+        listener.planned(events.size());
+        for (Step step : plan) {
+            if (step.action() == Action.SKIP) {
+                step.externalIds().forEach(id -> listener.eventDone(id, PublishListener.EventStatus.SKIPPED, null));
+            }
+        }
+        PublishResult executed = execute(canvasContext, source, changes, listener);
+        return new PublishResult(executed.getPublished(), executed.getUpdated(), unchanged, executed.getDeleted(),
+                executed.getFailures(), executed.getAttempts(), null);
+    }
+
+    private List<Step> plan(String canvasContext, String source, List<PublishScheduleEvent> events) {
+        // canvasId -> externalId for everything this server published to the context, and which of
+        // those came from this source and may be deleted
+        Map<Long, String> owned = new HashMap<>();
+        Set<Long> ownedBySource = new HashSet<>();
+        ledger.forEach(canvasContext, (externalId, entry) -> {
+            owned.put(entry.canvasId(), externalId);
+            if (Objects.equals(entry.source(), source)) {
+                ownedBySource.add(entry.canvasId());
+            }
+        });
+
+        Instant from = null;
+        Instant to = null;
+        for (PublishScheduleEvent event : events) {
+            Instant start = event.getStart().toInstant();
+            Instant end = event.getEnd().toInstant();
+            from = from == null || start.isBefore(from) ? start : from;
+            to = to == null || end.isAfter(to) ? end : to;
+        }
+
+        Set<Long> listedOwned = new HashSet<>();
+        Set<Long> foreignKeys = new HashSet<>();
+        listExisting(canvasContext, from, to, listed -> {
+            if (listed.getId() != null && owned.containsKey(listed.getId())) {
+                listedOwned.add(listed.getId());
+            } else {
+                foreignKeys.add(naturalKey(listed.getTitle(), instantOf(listed.getStartAt()), instantOf(listed.getEndAt())));
+            }
+        });
+
+        List<Step> plan = new ArrayList<>(events.size());
+        SeriesPlan series = seriesPlan(canvasContext, events, listedOwned);
+        // Recorded series with occurrences in the schedule are kept or replaced above, never deleted below
+        Set<String> incoming = new HashSet<>(series.present());
+        for (RecurrenceDetector.Group group : series.groups()) {
+            PublishScheduleEvent event = group.first();
+            String key = group.key();
+            long hash = contentHash(group);
+            Step step = series.step(group);
+            if (step != null) {
+                plan.add(step);
+                continue;
+            }
+            if (key == null) {
+                long natural = naturalKey(event.getTitle(), event.getStart().toInstant().toString(), event.getEnd().toInstant().toString());
+                plan.add(new Step(foreignKeys.contains(natural) ? Action.SKIP : Action.CREATE, group, null, null, hash, null));
+                continue;
+            }
+            incoming.add(key);
+
+            CanvasPublishLedger.Entry prior = ledger.get(canvasContext, key);
+            if (prior == null) {
+                plan.add(new Step(Action.CREATE, group, key, null, hash, null));
+            } else if (prior.contentHash() != hash) {
+                // Also covers events outside the listed range: an update that 404s falls back to create
+                plan.add(new Step(Action.UPDATE, group, key, prior.canvasId(), hash, group.isSeries() ? key : null));
+            } else if (listedOwned.contains(prior.canvasId())) {
+                plan.add(new Step(Action.SKIP, group, key, prior.canvasId(), hash, null));
+            } else {
+                // Same content, so it would have been listed: it was deleted in Canvas
+                plan.add(new Step(Action.CREATE, group, key, null, hash, null));
+            }
+        }
+        plan.addAll(series.deletes());
+
+        for (Long canvasId : listedOwned) {
+            String key = owned.get(canvasId);
+            if (!incoming.contains(key) && ownedBySource.contains(canvasId)) {
+                plan.add(new Step(Action.DELETE, null, key, canvasId, 0, null));
+            }
+        }
+        return plan;
+    }
+
+    // Streams the context's events in [from, to] to the sink, retrying the listing on transient failures
+    private void listExisting(String canvasContext, Instant from, Instant to, Consumer<CanvasCalendarEventResponse> sink) {
+        for (int attempt = 1; ; attempt++) {
+            // A restarted listing re-delivers events; the sink only fills sets, so that is harmless
+            CanvasClient.CanvasResponse<Integer> res = canvasClient.listCalendarEvents(canvasContext, from, to, sink);
+            if (res.isSuccess()) {
+                logger.debug("Listed {} existing Canvas events in {}", res.getData(), canvasContext);
+                return;
+            }
+            if (!retryPolicy.shouldRetry(attempt, res)) {
+                logger.error("Listing Canvas events failed: code={}, status={}, attempts={}",
+                        res.getErrorCode(), res.getHttpStatusCode(), attempt);
+                throw new CanvasUpstreamException(res.getErrorCode(), messageOf(res));
+            }
+            try {
+                Thread.sleep(retryPolicy.delayBefore(attempt, res));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CanvasUpstreamException("CANVAS_UNREACHABLE", "Sync was interrupted");
+            }
+        }
+    }
+
+    // Plain publish: the ledger alone decides what happens to each event or series
+    private Step stepFromLedger(String canvasContext, RecurrenceDetector.Group group) {
+        String key = group.key();
+        long hash = contentHash(group);
+
+        CanvasPublishLedger.Entry prior = key != null ? ledger.get(canvasContext, key) : null;
+        if (prior == null) {
+            return new Step(Action.CREATE, group, key, null, hash, null);
+        }
+        if (prior.contentHash() == hash) {
+            return new Step(Action.SKIP, group, key, prior.canvasId(), hash, null);
+        }
+        return new Step(Action.UPDATE, group, key, prior.canvasId(), hash, group.isSeries() ? key : null);
+    }
+
+    private PublishResult execute(String canvasContext, String source, List<Step> steps, PublishListener listener) {
+        List<Outcome> outcomes = maxInFlight > 1
+                ? runConcurrently(canvasContext, source, steps, listener)
+                : runSequentially(canvasContext, source, steps, listener);
+
+        // Tally in schedule order so the result does not depend on completion order
         int published = 0;
+        int updated = 0;
+        int skipped = 0;
+        int deleted = 0;
         List<Failure> failures = new ArrayList<>();
+        Map<String, Integer> attempts = new LinkedHashMap<>();
+        int notRun = 0;
+        for (int i = 0; i < steps.size(); i++) {
+            // Steps a cancelled publish never started have no outcome
+            Outcome outcome = i < outcomes.size() ? outcomes.get(i) : null;
+            Step step = steps.get(i);
+            if (outcome == null) {
+                notRun++;
+                continue;
+            }
+            // A series counts once per occurrence, so totals match the schedule
+            List<String> externalIds = step.externalIds();
+            if (outcome.attempts() > 1) {
+                externalIds.forEach(id -> attempts.put(id, outcome.attempts()));
+            }
+            if (outcome.action() == Action.SKIP) {
+                skipped += externalIds.size();
+            } else if (!outcome.response().isSuccess()) {
+                for (String externalId : externalIds) {
+                    failures.add(new Failure(externalId, messageOf(outcome.response()), outcome.attempts()));
+                }
+            } else if (outcome.action() == Action.DELETE) {
+                deleted++;
+            } else {
+                published += externalIds.size();
+                if (outcome.action() == Action.UPDATE) {
+                    updated += externalIds.size();
+                }
+            }
+        }
+
+        if (notRun > 0) {
+            logger.info("Publish cancelled with {} of {} Canvas changes not started", notRun, steps.size());
+        }
+        logger.info("Publish operation completed: published={}, updated={}, skipped={}, deleted={}, failures={}, retried={}",
+                published, updated, skipped, deleted, failures.size(), attempts.size());
+
+        return new PublishResult(published, updated, skipped, deleted, failures, attempts, null);
+    }
+
+    private List<Outcome> runSequentially(String canvasContext, String source, List<Step> steps, PublishListener listener) {
+        List<Outcome> outcomes = new ArrayList<>(steps.size());
+        AbortTracker tracker = new AbortTracker();
+        for (Step step : steps) {
+            if (listener.isCancelled()) {
+                break;
+            }
+            Outcome outcome = run(canvasContext, source, step);
+            CanvasClient.CanvasResponse<?> abortWith = tracker.record(outcome);
+            if (abortWith != null) {
+                throw abort(abortWith);
+            }
+            report(step, outcome, listener);
+            outcomes.add(outcome);
+        }
+        return outcomes;
+    }
+
+    private List<Outcome> runConcurrently(String canvasContext, String source, List<Step> steps, PublishListener listener) {
+        logger.debug("Running {} steps with up to {} requests in flight", steps.size(), maxInFlight);
+
+        AtomicReferenceArray<Outcome> outcomes = new AtomicReferenceArray<>(steps.size());
+        Semaphore permits = new Semaphore(maxInFlight);
+        AbortTracker tracker = new AbortTracker();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < steps.size() && !tracker.aborted(); i++) {
+                // Acquire before submitting so at most maxInFlight events are pending at once
+                permits.acquire();
+                if (tracker.aborted() || listener.isCancelled()) {
+                    permits.release();
+                    break;
+                }
+                int index = i;
+                executor.execute(() -> {
+                    try {
+                        Outcome outcome = run(canvasContext, source, steps.get(index));
+                        outcomes.set(index, outcome);
+                        if (tracker.record(outcome) == null) {
+                            report(steps.get(index), outcome, listener);
+                        }
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CanvasUpstreamException("CANVAS_UNREACHABLE", "Publish was interrupted");
+        }
+        // Closing the executor waited for every submitted event
+
+        List<Outcome> ordered = new ArrayList<>(steps.size());
+        for (int i = 0; i < steps.size(); i++) {
+            Outcome outcome = outcomes.get(i);
+            // Report the earliest fatal event, as the sequential loop would have
+            if (outcome != null && isFatal(outcome.response())) {
+                throw abort(outcome.response());
+            }
+            ordered.add(outcome);
+        }
+        if (tracker.aborted()) {
+            throw abort(tracker.abortedWith.get());
+        }
+        return ordered;
+    }
+
+    // Tells the listener what one step did, per schedule event like the result tally
+    private static void report(Step step, Outcome outcome, PublishListener listener) {
+        PublishListener.EventStatus status;
+        String message = null;
+        if (outcome.action() == Action.SKIP) {
+            status = PublishListener.EventStatus.SKIPPED;
+        } else if (!outcome.response().isSuccess()) {
+            status = PublishListener.EventStatus.FAILED;
+            message = messageOf(outcome.response());
+        } else if (outcome.action() == Action.DELETE) {
+            eventsDone[PublishListener.EventStatus.DELETED.ordinal()].increment();
+            listener.eventDone(step.externalId(), PublishListener.EventStatus.DELETED, null);
+            return;
+        } else {
+            status = outcome.action() == Action.UPDATE ? PublishListener.EventStatus.UPDATED : PublishListener.EventStatus.PUBLISHED;
+        }
+        eventsDone[status.ordinal()].add(step.externalIds().size());
+        for (String externalId : step.externalIds()) {
+            listener.eventDone(externalId, status, message);
+        }
+    }
+
+    private Outcome run(String canvasContext, String source, Step step) {
+        String externalId = step.externalId();
+        switch (step.action()) {
+            case SKIP -> {
+                logger.debug("Event unchanged since last publish, skipping: externalId={}, canvasId={}", externalId, step.canvasId());
+                return new Outcome(CanvasClient.CanvasResponse.success(null), 0, Action.SKIP);
+            }
+            case DELETE -> {
+                logger.debug("Deleting event no longer in the schedule: externalId={}, canvasId={}", externalId, step.canvasId());
+                return delete(canvasContext, externalId, step.canvasId(), step.isSeries());
+            }
+            default -> {
+                return send(canvasContext, source, step);
+            }
+        }
+    }
+
+    private Outcome delete(String canvasContext, String externalId, long canvasId, boolean wholeSeries) {
+        Outcome outcome = withRetries(externalId, Action.DELETE, () -> canvasClient.deleteCalendarEvent(canvasId, wholeSeries));
+        Integer status = outcome.response().getHttpStatusCode();
+        if (outcome.response().isSuccess() || (status != null && status == 404)) {
+            // Already gone counts as deleted
+            ledger.remove(canvasContext, externalId);
+            return new Outcome(CanvasClient.CanvasResponse.success(null), outcome.attempts(), Action.DELETE);
+        }
+        return outcome;
+    }
+
+    private Outcome send(String canvasContext, String source, Step step) {
+        PublishScheduleEvent event = step.event();
+        logger.debug("Publishing event: externalId={}, title={}, action={}, occurrences={}",
+                step.externalId(), event.getTitle(), step.action(), step.occurrences());
+        CanvasCalendarEventRequest canvasReq = toCanvasRequest(canvasContext, event);
+        canvasReq.setRrule(step.group().rrule());
+        String externalId = step.externalId();
+
+        Outcome outcome;
+        if (step.action() == Action.UPDATE && step.replaces() != null) {
+            // Replace the whole series: one delete and one create, however many occurrences changed
+            outcome = delete(canvasContext, step.replaces(), step.canvasId(), true);
+            if (!outcome.response().isSuccess()) {
+                return new Outcome(outcome.response(), outcome.attempts(), Action.UPDATE);
+            }
+            outcome = create(canvasContext, externalId, Action.UPDATE, canvasReq);
+        } else if (step.action() == Action.UPDATE) {
+            outcome = withRetries(externalId, Action.UPDATE, () -> canvasClient.updateCalendarEvent(step.canvasId(), canvasReq));
+            Integer status = outcome.response().getHttpStatusCode();
+            if (!outcome.response().isSuccess() && status != null && status == 404) {
+                // Deleted in Canvas since we created it; forget it and create a fresh one
+                logger.info("Canvas event {} for externalId={} no longer exists, creating it again", step.canvasId(), externalId);
+                ledger.remove(canvasContext, externalId);
+                outcome = create(canvasContext, externalId, Action.CREATE, canvasReq);
+            }
+        } else {
+            outcome = create(canvasContext, externalId, Action.CREATE, canvasReq);
+        }
+
+        CanvasCalendarEventResponse saved = outcome.response().getData();
+        if (outcome.response().isSuccess() && externalId != null && saved != null && saved.getId() != null) {
+            ledger.put(canvasContext, externalId, saved.getId(), step.contentHash(), source, step.members());
+        }
+        return outcome;
+    }
 
-        // For each event to publish
-        for (PublishScheduleEvent event : request.getSchedule().getEvents()) {
-            logger.debug("Publishing event: externalId={}, title={}", event.getExternalId(), event.getTitle());
-            CanvasCalendarEventRequest canvasReq = toCanvasRequest(canvasContext, event);
+    // A create that failed after Canvas may have stored the event looks for it before posting again
+    private Outcome create(String canvasContext, String externalId, Action action, CanvasCalendarEventRequest canvasReq) {
+        return withRetries(externalId, action, () -> canvasClient.createCalendarEvent(canvasReq),
+                () -> findCreated(canvasContext, canvasReq));
+    }
 
-            // Call Canvas API to create event
-            CanvasClient.CanvasResponse<CanvasCalendarEventResponse> res =
-                    canvasClient.createCalendarEvent(canvasReq);
+    private Outcome withRetries(String externalId, Action action,
+            Supplier<CanvasClient.CanvasResponse<CanvasCalendarEventResponse>> call) {
+        return withRetries(externalId, action, call, null);
+    }
+
+    /**
+     * @param reconcile for a create, finds the event a failed attempt may have stored anyway: success
+     *                  with the event, success with null when Canvas has none, or the lookup's error.
+     *                  Null for calls that are safe to repeat.
+     */
+    private Outcome withRetries(String externalId, Action action,
+            Supplier<CanvasClient.CanvasResponse<CanvasCalendarEventResponse>> call,
+            Supplier<CanvasClient.CanvasResponse<CanvasCalendarEventResponse>> reconcile) {
+        for (int attempt = 1; ; attempt++) {
+            // Call Canvas API to create/update the event
+            CanvasClient.CanvasResponse<CanvasCalendarEventResponse> res = call.get();
 
             if (res.isSuccess()) {
-                published++;
-                logger.debug("Event published successfully: externalId={}, canvasId={}", 
-                    event.getExternalId(), 
-                    res.getData() != null ? res.getData().getId() : "unknown");
-                continue;
+                logger.debug("Event published successfully: externalId={}, canvasId={}, action={}, attempts={}",
+                    externalId,
+                    res.getData() != null ? res.getData().getId() : "unknown",
+                    action,
+                    attempt);
+                return new Outcome(res, attempt, action);
             }
 
-            String code = res.getErrorCode();
-            String msg = res.getErrorMessage() != null ? res.getErrorMessage() : code;
+            if (isFatal(res) || !retryPolicy.shouldRetry(attempt, res)) {
+                logger.warn("Event publish failed: externalId={}, code={}, status={}, attempts={}, message={}",
+                    externalId, res.getErrorCode(), res.getHttpStatusCode(), attempt, messageOf(res));
+                return new Outcome(res, attempt, action);
+            }
 
-            logger.warn("Event publish failed: externalId={}, code={}, message={}", 
-                event.getExternalId(), code, msg);
+            Duration delay = retryPolicy.delayBefore(attempt, res);
+            logger.info("Retrying event: externalId={}, code={}, status={}, attempt={}, delayMs={}",
+                externalId, res.getErrorCode(), res.getHttpStatusCode(), attempt, delay.toMillis());
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return new Outcome(res, attempt, action);
+            }
 
-            // Fatal errors: throw exception to abort entire publish process
-            if ("CONFIG_ERROR".equals(code) ||
-                "CANVAS_UNAUTHORIZED".equals(code) ||
-                "CANVAS_UNREACHABLE".equals(code) ||
-                "CANVAS_ERROR_RESPONSE".equals(code)) {
-                logger.error("Fatal error encountered, aborting publish process: code={}", code);
-                throw new CanvasUpstreamException(code, msg);
+            if (reconcile != null && !retryPolicy.isSafeToResend(res)) {
+                CanvasClient.CanvasResponse<CanvasCalendarEventResponse> found = reconcile.get();
+                if (!found.isSuccess()) {
+                    // Posting blind could leave a duplicate; the next publish sees what Canvas holds
+                    logger.warn("Not retrying event whose create may have gone through: externalId={}, code={}, lookup={}",
+                        externalId, res.getErrorCode(), messageOf(found));
+                    return new Outcome(res, attempt, action);
+                }
+                if (found.getData() != null) {
+                    logger.info("Create went through despite the error: externalId={}, canvasId={}, attempts={}",
+                        externalId, found.getData().getId(), attempt);
+                    return new Outcome(found, attempt, action);
+                }
             }
+        }
+    }
 
-            // Any other error: record failure and continue
-            logger.debug("Recording non-fatal failure for event: {}", event.getExternalId());
-            failures.add(new Failure(event.getExternalId(), msg));
+    // The event Canvas holds with the request's title and times, in the same response shape as the create
+    private CanvasClient.CanvasResponse<CanvasCalendarEventResponse> findCreated(String canvasContext,
+            CanvasCalendarEventRequest req) {
+        String start = instantOf(req.getStartAt());
+        String end = instantOf(req.getEndAt());
+        long wanted = naturalKey(req.getTitle(), start, end);
+        AtomicReference<CanvasCalendarEventResponse> match = new AtomicReference<>();
+        CanvasClient.CanvasResponse<Integer> listed = canvasClient.listCalendarEvents(canvasContext,
+                Instant.parse(start), Instant.parse(end), event -> {
+                    if (naturalKey(event.getTitle(), instantOf(event.getStartAt()), instantOf(event.getEndAt())) == wanted) {
+                        match.compareAndSet(null, event);
+                    }
+                });
+        if (!listed.isSuccess()) {
+            return CanvasClient.CanvasResponse.unreachable(messageOf(listed));
         }
-        
-        logger.info("Publish operation completed: published={}, failures={}", published, failures.size());
+        return CanvasClient.CanvasResponse.success(match.get());
+    }
 
-        return new PublishResult(published, failures);
+    // A series also hashes its rule, so adding or dropping an occurrence is a change
+    static long contentHash(RecurrenceDetector.Group group) {
+        if (!group.isSeries()) {
+            return contentHash(group.first());
+        }
+        PublishScheduleEvent event = group.first();
+        return seriesHash(event, event.getStart(), event.getEnd(), group.getOccurrences().size());
+    }
+
+    // Hash of a weekly series of count occurrences of the event, the first one at start-end
+    private static long seriesHash(PublishScheduleEvent event, OffsetDateTime start, OffsetDateTime end, int count) {
+        return CanvasPublishLedger.contentHash(
+                event.getTitle(),
+                start.toInstant().toString(),
+                end.toInstant().toString(),
+                event.getLocation(),
+                event.getDescription(),
+                RecurrenceDetector.Group.weeklyRule(count)
+        );
+    }
+
+    // Hash of everything we send to Canvas; instants so a different offset for the same time is not a change
+    static long contentHash(PublishScheduleEvent event) {
+        return CanvasPublishLedger.contentHash(
+                event.getTitle(),
+                event.getStart() != null ? event.getStart().toInstant().toString() : null,
+                event.getEnd() != null ? event.getEnd().toInstant().toString() : null,
+                event.getLocation(),
+                event.getDescription()
+        );
+    }
+
+    // Identity of an event by what Canvas shows, for matching events that have no externalId
+    private static long naturalKey(String title, String start, String end) {
+        return CanvasPublishLedger.contentHash(title, start, end);
+    }
+
+    private static String instantOf(String canvasTimestamp) {
+        if (canvasTimestamp == null) {
+            return null;
+        }
+        try {
+            return OffsetDateTime.parse(canvasTimestamp).toInstant().toString();
+        } catch (DateTimeParseException e) {
+            return canvasTimestamp;
+        }
+    }
+
+    // Errors every remaining event would hit too; retrying or continuing is pointless
+    private static boolean isFatal(CanvasClient.CanvasResponse<?> res) {
+        String code = res.getErrorCode();
+        return "CONFIG_ERROR".equals(code) ||
+            "CANVAS_UNAUTHORIZED".equals(code) ||
+            res.isCircuitOpen();
+    }
+
+    private static CanvasUpstreamException abort(CanvasClient.CanvasResponse<?> res) {
+        logger.error("Fatal error encountered, aborting publish process: code={}", res.getErrorCode());
+        return new CanvasUpstreamException(res.getErrorCode(), messageOf(res));
+    }
+
+    private static String messageOf(CanvasClient.CanvasResponse<?> res) {
+        return res.getErrorMessage() != null ? res.getErrorMessage() : res.getErrorCode();
     }
 
     private CanvasCalendarEventRequest toCanvasRequest(String canvasContext, PublishScheduleEvent event) {
@@ -107,5 +891,108 @@ public class CanvasPublishService {
         req.setDescription(event.getDescription());
         return req;
     }
-}
 
+    private enum Action { CREATE, UPDATE, DELETE, SKIP }
+
+    /**
+     * One planned Canvas change for an event or a series. group is null for deletes; canvasId is
+     * null for creates; externalId is the ledger key (see {@link RecurrenceDetector.Group#key()});
+     * replaces is the ledger key of the series an update deletes before creating the group.
+     */
+    private record Step(Action action, RecurrenceDetector.Group group, String externalId, Long canvasId, long contentHash,
+            String replaces) {
+
+        PublishScheduleEvent event() {
+            return group != null ? group.first() : null;
+        }
+
+        int occurrences() {
+            return group != null ? group.getOccurrences().size() : 1;
+        }
+
+        boolean isSeries() {
+            return group != null ? group.isSeries()
+                    : externalId != null && externalId.startsWith(RecurrenceDetector.Group.SERIES_KEY_PREFIX);
+        }
+
+        // The schedule events this step covers, for the per-event result
+        List<String> externalIds() {
+            if (group == null) {
+                return Collections.singletonList(externalId);
+            }
+            List<String> ids = new ArrayList<>(group.getOccurrences().size());
+            group.getOccurrences().forEach(e -> ids.add(e.getExternalId()));
+            return ids;
+        }
+
+        // Recorded with a series so a later publish can match its occurrences; empty otherwise
+        List<String> members() {
+            return group != null && group.isSeries() ? externalIds() : List.of();
+        }
+    }
+
+    private record Outcome(CanvasClient.CanvasResponse<CanvasCalendarEventResponse> response, int attempts, Action action) {
+    }
+
+    /**
+     * The groups to publish, and what the recorded series decide about them (see {@link #seriesPlan}).
+     *
+     * @param unchanged group -> key of the recorded series whose remaining occurrences it holds
+     * @param replacing group -> key of the recorded series it replaces
+     * @param deletes   recorded series replaced without a group to take their place
+     * @param present   keys of every recorded series with occurrences in the schedule
+     */
+    private record SeriesPlan(List<RecurrenceDetector.Group> groups, Map<String, CanvasPublishLedger.Entry> recorded,
+            Map<RecurrenceDetector.Group, String> unchanged, Map<RecurrenceDetector.Group, String> replacing,
+            List<Step> deletes, Set<String> present) {
+
+        // The step for a group the recorded series decide, or null when the ledger alone does
+        Step step(RecurrenceDetector.Group group) {
+            String kept = unchanged.get(group);
+            if (kept != null) {
+                return new Step(Action.SKIP, group, kept, recorded.get(kept).canvasId(), recorded.get(kept).contentHash(), null);
+            }
+            String replaced = replacing.get(group);
+            if (replaced != null) {
+                return new Step(Action.UPDATE, group, group.key(), recorded.get(replaced).canvasId(), contentHash(group), replaced);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Decides when a publish should stop: on a fatal error, or when enough events in a row have
+     * exhausted their retries that Canvas is evidently down rather than rejecting single events.
+     */
+    private final class AbortTracker {
+        private final AtomicInteger consecutiveExhausted = new AtomicInteger();
+        private final AtomicReference<CanvasClient.CanvasResponse<?>> abortedWith = new AtomicReference<>();
+
+        /**
+         * @return the response to abort with, or null to keep going
+         */
+        CanvasClient.CanvasResponse<?> record(Outcome outcome) {
+            CanvasClient.CanvasResponse<?> res = outcome.response();
+            if (res.isSuccess()) {
+                consecutiveExhausted.set(0);
+                return null;
+            }
+            if (isFatal(res)) {
+                abortedWith.compareAndSet(null, res);
+                return res;
+            }
+            if (retryPolicy.isRetryable(res)
+                    && consecutiveExhausted.incrementAndGet() >= abortAfterConsecutiveFailures) {
+                logger.error("{} events in a row failed after retries; treating Canvas as unavailable",
+                        consecutiveExhausted.get());
+                abortedWith.compareAndSet(null, res);
+                return res;
+            }
+            return null;
+        }
+
+        boolean aborted() {
+            return abortedWith.get() != null;
+        }
+    }
+}
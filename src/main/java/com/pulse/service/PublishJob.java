@@ -0,0 +1,243 @@
+package com.pulse.service;
+
+import com.pulse.server.dto.CanvasPublishRequest;
+import com.pulse.server.dto.PublishResult;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One publish running in the background, see {@link PublishJobManager}.
+ *
+ * The job is its own {@link PublishListener}: counters advance as the service reports events, and
+ * a cancel request is picked up before the next Canvas write. All state is safe to read from
+ * request threads while the job runs.
+ *
+ * Every event's outcome is also kept in arrival order, so progress streams can read the outcomes
+ * they have not sent yet by position ({@link #eventsSince}).
+ */
+public class PublishJob implements PublishListener {
+
+    public enum State {
+        QUEUED, RUNNING, SUCCEEDED, FAILED, CANCELLED;
+
+        public boolean isFinal() {
+            return this != QUEUED && this != RUNNING;
+        }
+    }
+
+    private final String id;
+    private final boolean sync;
+    private final Instant createdAt = Instant.now();
+    // Dropped once the job starts, so finished jobs do not pin their schedules in memory
+    private volatile CanvasPublishRequest request;
+    private volatile Runnable task;
+
+    private volatile State state = State.QUEUED;
+    private volatile boolean cancelRequested;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile PublishResult result;
+    private volatile String errorCode;
+    private volatile String errorMessage;
+
+    private volatile int total = -1;
+    private final AtomicInteger published = new AtomicInteger();
+    private final AtomicInteger updated = new AtomicInteger();
+    private final AtomicInteger skipped = new AtomicInteger();
+    private final AtomicInteger deleted = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    // Guarded by itself
+    private final List<EventResult> events = new ArrayList<>();
+
+    PublishJob(String id, CanvasPublishRequest request) {
+        this.id = id;
+        this.request = request;
+        this.sync = request.isSync();
+    }
+
+    @Override
+    public void planned(int events) {
+        total = events;
+    }
+
+    @Override
+    public void eventDone(String externalId, EventStatus status, String message) {
+        switch (status) {
+            case PUBLISHED -> published.incrementAndGet();
+            case UPDATED -> {
+                // Updates count as published, as in the synchronous response
+                updated.incrementAndGet();
+                published.incrementAndGet();
+            }
+            case SKIPPED -> skipped.incrementAndGet();
+            case DELETED -> deleted.incrementAndGet();
+            case FAILED -> failed.incrementAndGet();
+        }
+        synchronized (events) {
+            events.add(new EventResult(externalId, status.name().toLowerCase(), message));
+        }
+    }
+
+    /**
+     * Outcomes reported after the first {@code from}, in the order they happened.
+     */
+    public List<EventResult> eventsSince(int from) {
+        synchronized (events) {
+            if (from >= events.size()) {
+                return List.of();
+            }
+            return new ArrayList<>(events.subList(Math.max(0, from), events.size()));
+        }
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelRequested;
+    }
+
+    // Transitions, called by PublishJobManager only
+
+    CanvasPublishRequest start() {
+        CanvasPublishRequest taken = request;
+        request = null;
+        task = null;
+        startedAt = Instant.now();
+        state = State.RUNNING;
+        return taken;
+    }
+
+    void succeed(PublishResult result) {
+        this.result = result;
+        // A cancel that arrived after the last event changes nothing
+        finish(cancelRequested && getRemaining() > 0 ? State.CANCELLED : State.SUCCEEDED);
+    }
+
+    void fail(String code, String message) {
+        this.errorCode = code;
+        this.errorMessage = message;
+        finish(State.FAILED);
+    }
+
+    void requestCancel() {
+        cancelRequested = true;
+    }
+
+    void finish(State finalState) {
+        request = null;
+        task = null;
+        finishedAt = Instant.now();
+        state = finalState;
+    }
+
+    Runnable task() {
+        return task;
+    }
+
+    void task(Runnable task) {
+        this.task = task;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public boolean isSync() {
+        return sync;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    /**
+     * Result of a finished (or cancelled) publish, null while running or after a failure.
+     */
+    public PublishResult getResult() {
+        return result;
+    }
+
+    public String getErrorCode() {
+        return errorCode;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    /**
+     * Schedule events the publish covers, or -1 until it has been planned.
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    public int getPublished() {
+        return published.get();
+    }
+
+    public int getUpdated() {
+        return updated.get();
+    }
+
+    public int getSkipped() {
+        return skipped.get();
+    }
+
+    public int getDeleted() {
+        return deleted.get();
+    }
+
+    public int getFailed() {
+        return failed.get();
+    }
+
+    /**
+     * Events not handled yet, or -1 until the publish has been planned.
+     */
+    public int getRemaining() {
+        int planned = total;
+        if (planned < 0) {
+            return -1;
+        }
+        return Math.max(0, planned - published.get() - skipped.get() - failed.get());
+    }
+
+    /**
+     * Events handled per second since the job started (until it finished), 0 before it starts.
+     */
+    public double getEventsPerSecond() {
+        Instant started = startedAt;
+        if (started == null) {
+            return 0;
+        }
+        Instant end = finishedAt != null ? finishedAt : Instant.now();
+        long millis = Math.max(1, Duration.between(started, end).toMillis());
+        return (published.get() + skipped.get() + failed.get()) * 1000.0 / millis;
+    }
+
+    /**
+     * One event's outcome; status is the lower-case {@link EventStatus} name.
+     */
+    public record EventResult(String externalId, String status, String message) {
+    }
+}
@@ -0,0 +1,190 @@
+package com.pulse.service;
+
+import com.pulse.config.AppConfig;
+import com.pulse.integration.canvas.CanvasPublishException;
+import com.pulse.integration.canvas.CanvasPublishValidator;
+import com.pulse.integration.canvas.CanvasUpstreamException;
+import com.pulse.metrics.Metrics;
+import com.pulse.server.dto.CanvasPublishRequest;
+import com.pulse.server.dto.PublishResult;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs publishes in the background so clients can poll for progress instead of holding a request
+ * open for the whole publish.
+ *
+ * Jobs run on a fixed pool of workers behind a bounded queue; once the queue is full new jobs are
+ * refused ({@link QueueFullException}) rather than piling up. Finished jobs stay readable for the
+ * retention period and are then dropped.
+ */
+public class PublishJobManager implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(PublishJobManager.class);
+
+    private final CanvasPublishService publishService;
+    private final ThreadPoolExecutor executor;
+    private final Duration retention;
+    private final ConcurrentMap<String, PublishJob> jobs = new ConcurrentHashMap<>();
+
+    private final LongAdder rejected = Metrics.counter("pulse_publish_jobs_rejected_total");
+
+    /**
+     * @param workers    publishes that run at the same time
+     * @param queueDepth accepted jobs that may wait for a worker
+     * @param retention  how long a finished job stays readable
+     */
+    public PublishJobManager(CanvasPublishService publishService, int workers, int queueDepth, Duration retention) {
+        this.publishService = publishService;
+        this.retention = retention;
+        int threads = Math.max(1, workers);
+        AtomicInteger threadIds = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueDepth)), r -> {
+                    Thread thread = new Thread(r, "canvas-publish-job-" + threadIds.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Manager sized by CANVAS_PUBLISH_JOB_WORKERS (2), CANVAS_PUBLISH_JOB_QUEUE_DEPTH (16) and
+     * CANVAS_PUBLISH_JOB_RETENTION_MINUTES (60).
+     */
+    public static PublishJobManager fromConfig(CanvasPublishService publishService) {
+        PublishJobManager manager = new PublishJobManager(publishService,
+                AppConfig.getInt("CANVAS_PUBLISH_JOB_WORKERS", 2),
+                AppConfig.getInt("CANVAS_PUBLISH_JOB_QUEUE_DEPTH", 16),
+                Duration.ofMinutes(AppConfig.getLong("CANVAS_PUBLISH_JOB_RETENTION_MINUTES", 60)));
+        Metrics.gauge("pulse_publish_jobs_queued", () -> manager.executor.getQueue().size());
+        Metrics.gauge("pulse_publish_jobs_running", manager.executor::getActiveCount);
+        return manager;
+    }
+
+    /**
+     * Validates the request and queues it.
+     *
+     * @throws CanvasPublishException if the request is invalid (nothing is queued)
+     * @throws QueueFullException     if every worker is busy and the queue is full
+     */
+    public PublishJob submit(CanvasPublishRequest request) {
+        // Fail fast on a bad body instead of reporting it through a job
+        CanvasPublishValidator.validate(request);
+        evictExpired();
+
+        PublishJob job = new PublishJob(UUID.randomUUID().toString(), request);
+        Runnable task = () -> run(job);
+        job.task(task);
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            rejected.increment();
+            logger.warn("Publish job queue is full ({} waiting); rejecting job", executor.getQueue().size());
+            throw new QueueFullException("Too many publish jobs are waiting; try again later");
+        }
+        logger.info("Queued publish job {} ({} events, sync={})", job.getId(),
+                request.getSchedule().getEvents().size(), job.isSync());
+        return job;
+    }
+
+    /**
+     * The job with the given id, or null if it never existed or has expired.
+     */
+    public PublishJob get(String id) {
+        return id != null ? jobs.get(id) : null;
+    }
+
+    /**
+     * Asks the job to stop. A queued job is cancelled at once; a running one stops starting new
+     * Canvas writes and finishes as CANCELLED once those in flight return. Finished jobs are left
+     * as they are.
+     *
+     * @return the job, or null if unknown
+     */
+    public PublishJob cancel(String id) {
+        PublishJob job = get(id);
+        if (job == null || job.getState().isFinal()) {
+            return job;
+        }
+        job.requestCancel();
+        Runnable task = job.task();
+        if (task != null && executor.remove(task)) {
+            // Never started: frees its queue slot now instead of when a worker reaches it
+            job.finish(PublishJob.State.CANCELLED);
+        }
+        logger.info("Cancel requested for publish job {} (state={})", id, job.getState());
+        return job;
+    }
+
+    private void run(PublishJob job) {
+        if (job.isCancelled()) {
+            job.finish(PublishJob.State.CANCELLED);
+            return;
+        }
+        CanvasPublishRequest request = job.start();
+        logger.info("Publish job {} started", job.getId());
+        try {
+            PublishResult result = publishService.publish(request, job);
+            job.succeed(result);
+            logger.info("Publish job {} finished: state={}, published={}, failed={}",
+                    job.getId(), job.getState(), result.getPublished(), result.getFailed());
+        } catch (CanvasUpstreamException e) {
+            logger.error("Publish job {} failed: code={}, message={}", job.getId(), e.getCode(), e.getMessage());
+            job.fail(e.getCode(), e.getMessage());
+        } catch (CanvasPublishException e) {
+            job.fail("VALIDATION_ERROR", e.getMessage());
+        } catch (RuntimeException e) {
+            logger.error("Publish job {} failed unexpectedly", job.getId(), e);
+            job.fail("INTERNAL_ERROR", e.getMessage());
+        }
+    }
+
+    private void evictExpired() {
+        Instant cutoff = Instant.now().minus(retention);
+        jobs.values().removeIf(job -> job.getFinishedAt() != null && job.getFinishedAt().isBefore(cutoff));
+    }
+
+    /**
+     * Cancels queued and running jobs and stops the workers; called on server shutdown.
+     */
+    @Override
+    public void close() {
+        jobs.values().forEach(job -> cancel(job.getId()));
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                logger.warn("Publish jobs still running at shutdown; interrupting them");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Thrown when a job cannot be queued because the queue is full.
+     */
+    public static class QueueFullException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        public QueueFullException(String message) {
+            super(message);
+        }
+    }
+}
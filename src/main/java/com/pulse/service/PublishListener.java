@@ -0,0 +1,52 @@
+package com.pulse.service;
+
+/**
+ * Observes a running publish: how many events it covers, each event's outcome as it happens, and
+ * whether it should stop early.
+ *
+ * With CANVAS_PUBLISH_MAX_IN_FLIGHT > 1 the callbacks arrive from several threads at once and in
+ * completion order, so implementations must be thread-safe.
+ */
+public interface PublishListener {
+
+    /**
+     * Listener that ignores progress and never cancels.
+     */
+    PublishListener NONE = new PublishListener() {
+    };
+
+    /**
+     * What happened to one schedule event (or, for deletes, one Canvas event).
+     */
+    enum EventStatus { PUBLISHED, UPDATED, SKIPPED, DELETED, FAILED }
+
+    /**
+     * Called once before any Canvas write, with the number of schedule events the publish covers.
+     */
+    default void planned(int events) {
+    }
+
+    /**
+     * Called when an event's outcome is known; every occurrence of a series is reported.
+     *
+     * @param externalId the event's externalId (the ledger key for deletes), or null if it has none
+     * @param message    the failure reason for FAILED, otherwise null
+     */
+    default void eventDone(String externalId, EventStatus status, String message) {
+    }
+
+    /**
+     * Called when a phase of the publish ends: {@code auth} (validating the request and resolving
+     * the Canvas context) and then {@code canvas-calls} (planning and every Canvas call).
+     */
+    default void stageDone(String stage, long nanos) {
+    }
+
+    /**
+     * Polled between Canvas writes; once true no new writes start, the ones in flight finish, and
+     * the publish returns what it did so far.
+     */
+    default boolean isCancelled() {
+        return false;
+    }
+}
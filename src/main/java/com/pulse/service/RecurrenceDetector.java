@@ -0,0 +1,196 @@
+package com.pulse.service;
+
+import com.pulse.config.AppConfig;
+import com.pulse.server.dto.PublishScheduleEvent;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Groups schedule events into weekly series that Canvas can create in one call (calendar_event[rrule]).
+ *
+ * Events belong to the same slot when title, location, description, weekday, start time, duration
+ * and UTC offset all match. Within a slot, a run of occurrences exactly one week apart becomes a
+ * series once it reaches the minimum length; a skipped week (holiday, exam week) ends the run and
+ * the next occurrence starts a new one. Occurrences that differ from their neighbours (another
+ * room, a moved time) fall in other slots and are published on their own, which is how
+ * exceptions to a series reach Canvas.
+ *
+ * The offset is part of the slot so a series never spans a DST change; Canvas would otherwise
+ * have to expand the rule in a time zone we do not control.
+ *
+ * Hashing into slots is O(n) and sorting each slot O(k log k), so grouping is O(n log n).
+ */
+public class RecurrenceDetector {
+
+    private final int minOccurrences;
+
+    /**
+     * @param minOccurrences shortest run published as a series; below 2 disables grouping
+     */
+    public RecurrenceDetector(int minOccurrences) {
+        this.minOccurrences = minOccurrences;
+    }
+
+    /**
+     * Detector configured by CANVAS_PUBLISH_SERIES_MIN_OCCURRENCES (default 3; 0 disables series).
+     */
+    public static RecurrenceDetector fromConfig() {
+        return new RecurrenceDetector(AppConfig.getInt("CANVAS_PUBLISH_SERIES_MIN_OCCURRENCES", 3));
+    }
+
+    public static RecurrenceDetector disabled() {
+        return new RecurrenceDetector(0);
+    }
+
+    /**
+     * Splits the events into groups, in order of each group's first event in the input.
+     *
+     * @param events   schedule events
+     * @param eligible events that may join a series; the rest (and events without an externalId)
+     *                 always form a group of their own
+     */
+    public List<Group> group(List<PublishScheduleEvent> events, Predicate<PublishScheduleEvent> eligible) {
+        Group[] groupAt = new Group[events.size()];
+
+        if (minOccurrences >= 2) {
+            Map<Slot, List<Integer>> slots = new HashMap<>();
+            for (int i = 0; i < events.size(); i++) {
+                PublishScheduleEvent event = events.get(i);
+                if (event.getExternalId() != null && eligible.test(event)) {
+                    slots.computeIfAbsent(Slot.of(event), s -> new ArrayList<>()).add(i);
+                }
+            }
+            for (List<Integer> slot : slots.values()) {
+                if (slot.size() >= minOccurrences) {
+                    markRuns(events, slot, groupAt);
+                }
+            }
+        }
+
+        // Emit each series where its earliest input event stands, singles in between
+        List<Group> groups = new ArrayList<>();
+        for (int i = 0; i < events.size(); i++) {
+            Group series = groupAt[i];
+            if (series == null) {
+                groups.add(new Group(List.of(events.get(i))));
+            } else if (series.firstIndex == i) {
+                groups.add(series);
+            }
+        }
+        return groups;
+    }
+
+    // Finds runs of weekly occurrences within one slot and records each long enough run
+    private void markRuns(List<PublishScheduleEvent> events, List<Integer> slot, Group[] groupAt) {
+        slot.sort(Comparator.comparing(i -> events.get(i).getStart()));
+
+        int runStart = 0;
+        for (int i = 1; i <= slot.size(); i++) {
+            boolean continues = i < slot.size()
+                    && events.get(slot.get(i)).getStart().equals(events.get(slot.get(i - 1)).getStart().plusWeeks(1));
+            if (continues) {
+                continue;
+            }
+            if (i - runStart >= minOccurrences) {
+                List<Integer> run = slot.subList(runStart, i);
+                List<PublishScheduleEvent> occurrences = new ArrayList<>(run.size());
+                int firstIndex = Integer.MAX_VALUE;
+                for (int index : run) {
+                    occurrences.add(events.get(index));
+                    firstIndex = Math.min(firstIndex, index);
+                }
+                Group series = new Group(occurrences, firstIndex);
+                for (int index : run) {
+                    groupAt[index] = series;
+                }
+            }
+            runStart = i;
+        }
+    }
+
+    private record Slot(String title, String location, String description, DayOfWeek day, LocalTime time,
+            Duration duration, ZoneOffset offset) {
+
+        static Slot of(PublishScheduleEvent event) {
+            return new Slot(event.getTitle(), event.getLocation(), event.getDescription(),
+                    event.getStart().getDayOfWeek(), event.getStart().toLocalTime(),
+                    Duration.between(event.getStart(), event.getEnd()), event.getStart().getOffset());
+        }
+    }
+
+    /**
+     * One event, or a weekly series of occurrences in chronological order.
+     */
+    public static final class Group {
+
+        public static final String SERIES_KEY_PREFIX = "series:";
+
+        private final List<PublishScheduleEvent> occurrences;
+        // Position of the earliest member in the input, for ordering
+        private final int firstIndex;
+
+        private Group(List<PublishScheduleEvent> occurrences) {
+            this(occurrences, -1);
+        }
+
+        private Group(List<PublishScheduleEvent> occurrences, int firstIndex) {
+            this.occurrences = occurrences;
+            this.firstIndex = firstIndex;
+        }
+
+        /**
+         * Group of the given occurrences as they are, e.g. the part of an already published series
+         * that is still in the schedule.
+         */
+        static Group of(List<PublishScheduleEvent> occurrences) {
+            return new Group(occurrences);
+        }
+
+        /**
+         * The rule of a weekly series with {@code count} occurrences, as {@link #rrule()} writes it.
+         */
+        public static String weeklyRule(int count) {
+            return "FREQ=WEEKLY;INTERVAL=1;COUNT=" + count;
+        }
+
+        public boolean isSeries() {
+            return occurrences.size() > 1;
+        }
+
+        public List<PublishScheduleEvent> getOccurrences() {
+            return occurrences;
+        }
+
+        /**
+         * The first occurrence; a series is created in Canvas with its times.
+         */
+        public PublishScheduleEvent first() {
+            return occurrences.get(0);
+        }
+
+        /**
+         * RFC 5545 rule for Canvas' calendar_event[rrule], or null for a single event.
+         */
+        public String rrule() {
+            return isSeries() ? weeklyRule(occurrences.size()) : null;
+        }
+
+        /**
+         * Ledger key: the event's externalId, or "series:" plus the first occurrence's externalId.
+         * A series key only names the entry; the ledger also records the occurrences, which is
+         * what a later publish matches on, since the first occurrence changes as the run does.
+         */
+        public String key() {
+            return isSeries() ? SERIES_KEY_PREFIX + first().getExternalId() : first().getExternalId();
+        }
+    }
+}
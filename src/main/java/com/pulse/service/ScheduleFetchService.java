@@ -1,26 +1,239 @@
 package com.pulse.service;
 
+import com.pulse.config.AppConfig;
+import com.pulse.integration.timeedit.ScheduleVersionStore;
 import com.pulse.integration.timeedit.TimeEditClient;
 import com.pulse.integration.timeedit.TimeEditFetchException;
 import com.pulse.integration.timeedit.TimeEditParser;
+import com.pulse.integration.timeedit.TimeEditScheduleCache;
 import com.pulse.integration.timeedit.TimeEditScheduleValidator;
 import com.pulse.integration.timeedit.TimeEditUrlNormalizer;
+import com.pulse.integration.timeedit.dto.TimeEditEventDTO;
 import com.pulse.integration.timeedit.dto.TimeEditScheduleDTO;
+import com.pulse.integration.timeedit.dto.TimeEditScheduleDeltaDTO;
+import com.pulse.integration.timeedit.dto.TimeEditSummaryDTO;
+import com.pulse.metrics.Histogram;
+import com.pulse.metrics.Metrics;
+import com.pulse.metrics.StageTimings;
 import com.pulse.util.ErrorCode;
+import com.pulse.util.SingleFlight;
 
+import java.time.Duration;
 import java.time.ZoneId;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 
 public class ScheduleFetchService {
 
+	// Parsed schedules plus their ETag/Last-Modified, so repeat fetches can be conditional
+	private static final TimeEditScheduleCache scheduleCache = TimeEditScheduleCache.withMetrics(
+			AppConfig.getInt("TIMEEDIT_CACHE_MAX_ENTRIES", 128),
+			Duration.ofSeconds(AppConfig.getLong("TIMEEDIT_CACHE_TTL_SECONDS", 900))
+	);
+
+	// Recent versions of each schedule, so pollers can ask for changes only (?since=)
+	private static final ScheduleVersionStore scheduleVersions = new ScheduleVersionStore(
+			AppConfig.getInt("TIMEEDIT_VERSION_MAX_SCHEDULES", 128),
+			AppConfig.getInt("TIMEEDIT_VERSIONS_PER_SCHEDULE", 4)
+	);
+
+	// Concurrent requests for the same schedule share one fetch + parse
+	private static final SingleFlight<String, TimeEditScheduleDTO> inFlightFetches =
+			new SingleFlight<>("pulse_timeedit_fetch");
+
+	private static final Histogram parseSeconds = Metrics.timer("pulse_timeedit_parse_seconds");
+	private static final Histogram validateSeconds = Metrics.timer("pulse_timeedit_validate_seconds");
+
+	// Bodies at least this large are mapped and validated in chunks on the common ForkJoinPool
+	// while being read (see TimeEditParserBenchmark); never on a single-core machine
+	private static final long PARALLEL_PARSE_MIN_BYTES = AppConfig.getLong("TIMEEDIT_PARALLEL_PARSE_MIN_BYTES", 4L * 1024 * 1024);
+
 	public static TimeEditScheduleDTO fetchAndParseTimeEditSchedule(String timeeditUrl, ZoneId zoneId) {
+		return await(fetchAndParseTimeEditScheduleAsync(timeeditUrl, zoneId));
+	}
+
+	/**
+	 * Non-blocking fetch -> parse -> validate. No thread is held while TimeEdit is responding;
+	 * parsing runs on the HTTP client's completion thread.
+	 *
+	 * The future fails with the same TimeEditFetchException / TimeEditParseException the blocking
+	 * call throws (possibly wrapped in a CompletionException by dependent stages).
+	 */
+	public static CompletableFuture<TimeEditScheduleDTO> fetchAndParseTimeEditScheduleAsync(String timeeditUrl, ZoneId zoneId) {
+		return fetchAndParseTimeEditScheduleAsync(timeeditUrl, zoneId, StageTimings.NONE);
+	}
+
+	/**
+	 * As above, recording the normalize, fetch, parse and validate stages in {@code timings}.
+	 * A caller that joins a fetch already in flight for the same schedule only records normalize,
+	 * and a schedule TimeEdit confirms unchanged (304) is neither parsed nor validated again.
+	 */
+	public static CompletableFuture<TimeEditScheduleDTO> fetchAndParseTimeEditScheduleAsync(String timeeditUrl, ZoneId zoneId,
+			StageTimings timings) {
+		long started = System.nanoTime();
 		String normalizedUrl;
 		try {
 			normalizedUrl = TimeEditUrlNormalizer.ensureJsonUrl(timeeditUrl);
 		} catch (IllegalArgumentException e) {
-			throw new TimeEditFetchException(ErrorCode.INVALID_TIMEEDIT_URL, "URL format is invalid: " + e.getMessage(), null);
+			return CompletableFuture.failedFuture(
+					new TimeEditFetchException(ErrorCode.INVALID_TIMEEDIT_URL, "URL format is invalid: " + e.getMessage(), null));
+		} finally {
+			timings.record("normalize", started);
+		}
+
+		// The first caller starts the fetch; followers with the same URL and zone share its outcome
+		return inFlightFetches.execute(
+				normalizedUrl + "|" + zoneId.getId(),
+				() -> fetchAndParse(normalizedUrl, zoneId, timings)
+		);
+	}
+
+	/**
+	 * Events added, changed and removed in {@code schedule} since the version {@code since}, as
+	 * returned by this service earlier. If that version is no longer known, every event is returned
+	 * as added and the delta is marked full.
+	 */
+	public static TimeEditScheduleDeltaDTO deltaSince(TimeEditScheduleDTO schedule, ZoneId zoneId, String since) {
+		return scheduleVersions.delta(schedule.getTimeeditUrl(), zoneId, schedule, schedule.getVersion(), since);
+	}
+
+	/**
+	 * Fetches the schedule but leaves parsing to the caller: the returned source parses the body
+	 * and hands each validated event to a sink as it is read, so the schedule is never held as a
+	 * list. A cached schedule that TimeEdit confirms unchanged (304) is replayed instead.
+	 *
+	 * Freshly parsed schedules are not cached (that would mean keeping every event), and concurrent
+	 * streams of the same URL each fetch on their own.
+	 */
+	public static CompletableFuture<EventSource> openTimeEditScheduleAsync(String timeeditUrl, ZoneId zoneId) {
+		String normalizedUrl;
+		try {
+			normalizedUrl = TimeEditUrlNormalizer.ensureJsonUrl(timeeditUrl);
+		} catch (IllegalArgumentException e) {
+			return CompletableFuture.failedFuture(
+					new TimeEditFetchException(ErrorCode.INVALID_TIMEEDIT_URL, "URL format is invalid: " + e.getMessage(), null));
+		}
+
+		TimeEditScheduleCache.Entry cached = scheduleCache.get(normalizedUrl, zoneId);
+		return TimeEditClient.fetchScheduleAsync(
+				normalizedUrl,
+				cached != null ? cached.getEtag() : null,
+				cached != null ? cached.getLastModified() : null
+		).thenApply(fetched -> {
+			if (fetched.isNotModified() || !fetched.isSuccess()) {
+				// Reuses the buffered path's 304 and error handling; the schedule is already parsed
+				TimeEditScheduleDTO schedule = toSchedule(fetched, cached, normalizedUrl, zoneId, StageTimings.NONE);
+				return new EventSource(normalizedUrl, schedule.getVersion(), null, sink -> {
+					schedule.getEvents().forEach(sink);
+					return schedule.getSummary();
+				});
+			}
+			scheduleCache.recordMiss();
+			ScheduleVersionStore.Builder versions = scheduleVersions.builder(normalizedUrl, zoneId);
+			return new EventSource(normalizedUrl, null, versions, sink -> TimeEditParser.parseEvents(fetched.openBody(), zoneId, event -> {
+				TimeEditScheduleValidator.validateEvent(event);
+				sink.accept(event);
+			}));
+		});
+	}
+
+	/**
+	 * A fetched schedule whose events are produced on demand, see {@link #openTimeEditScheduleAsync}.
+	 */
+	public static final class EventSource {
+		private final String timeeditUrl;
+		private final ScheduleVersionStore.Builder versions;
+		private final Emitter emitter;
+		private String version;
+
+		private EventSource(String timeeditUrl, String version, ScheduleVersionStore.Builder versions, Emitter emitter) {
+			this.timeeditUrl = timeeditUrl;
+			this.version = version;
+			this.versions = versions;
+			this.emitter = emitter;
+		}
+
+		public String getTimeeditUrl() {
+			return timeeditUrl;
+		}
+
+		/**
+		 * Version token of the emitted events; for a freshly parsed schedule only known once
+		 * {@link #forEach} has returned.
+		 */
+		public String getVersion() {
+			return version;
+		}
+
+		/**
+		 * Emits every event in upstream order; call once.
+		 *
+		 * @return summary of the emitted events
+		 * @throws com.pulse.integration.timeedit.TimeEditParseException if an event cannot be parsed or is invalid;
+		 *         events before it have already been emitted
+		 */
+		public TimeEditSummaryDTO forEach(Consumer<TimeEditEventDTO> sink) {
+			if (versions == null) {
+				return emitter.emit(sink);
+			}
+			TimeEditSummaryDTO summary = emitter.emit(event -> {
+				versions.add(event);
+				sink.accept(event);
+			});
+			version = versions.commit();
+			return summary;
+		}
+
+		private interface Emitter {
+			TimeEditSummaryDTO emit(Consumer<TimeEditEventDTO> sink);
+		}
+	}
+
+	// Blocks for a (possibly shared) result and rethrows the original fetch/parse exception
+	private static TimeEditScheduleDTO await(CompletableFuture<TimeEditScheduleDTO> result) {
+		try {
+			return result.get();
+		} catch (InterruptedException e) {
+			// Only this caller's view is cancelled; the shared fetch keeps serving the others
+			result.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new TimeEditFetchException(ErrorCode.TIMEEDIT_UNREACHABLE, "Request was interrupted", null);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new TimeEditFetchException(ErrorCode.TIMEEDIT_UNREACHABLE, "Unexpected error: " + e.getCause(), null);
+		}
+	}
+
+	private static CompletableFuture<TimeEditScheduleDTO> fetchAndParse(String normalizedUrl, ZoneId zoneId, StageTimings timings) {
+		TimeEditScheduleCache.Entry cached = scheduleCache.get(normalizedUrl, zoneId);
+		long started = System.nanoTime();
+		return TimeEditClient.fetchScheduleAsync(
+				normalizedUrl,
+				cached != null ? cached.getEtag() : null,
+				cached != null ? cached.getLastModified() : null
+		).thenApply(fetched -> {
+			timings.record("fetch", started);
+			return toSchedule(fetched, cached, normalizedUrl, zoneId, timings);
+		});
+	}
+
+	private static TimeEditScheduleDTO toSchedule(TimeEditClient.TimeEditResponse fetched, TimeEditScheduleCache.Entry cached,
+			String normalizedUrl, ZoneId zoneId, StageTimings timings) {
+		if (fetched.isNotModified()) {
+			if (cached == null) {
+				// We never asked for a conditional response, so there is nothing to fall back on
+				throw new TimeEditFetchException(ErrorCode.TIMEEDIT_ERROR_RESPONSE, "TimeEdit returned HTTP 304", 304);
+			}
+			scheduleCache.recordHit();
+			// Revalidated: restart the TTL and serve the already-parsed schedule
+			scheduleCache.put(normalizedUrl, zoneId, cached.getEtag(), cached.getLastModified(), cached.getSchedule());
+			return cached.getSchedule();
 		}
 
-		TimeEditClient.TimeEditResponse fetched = TimeEditClient.fetchSchedule(normalizedUrl);
 		if (!fetched.isSuccess()) {
 			ErrorCode errorCode = switch (String.valueOf(fetched.getErrorCode())) {
 				case "INVALID_TIMEEDIT_URL" -> ErrorCode.INVALID_TIMEEDIT_URL;
@@ -32,12 +245,37 @@ public class ScheduleFetchService {
 			throw new TimeEditFetchException(errorCode, fetched.getErrorMessage(), fetched.getHttpStatusCode());
 		}
 
+		scheduleCache.recordMiss();
+		long started = System.nanoTime();
+		if (fetched.getBodyLength() >= PARALLEL_PARSE_MIN_BYTES && ForkJoinPool.getCommonPoolParallelism() > 1) {
+			// Validation runs inside the parse here, so it is all reported as parse
+			TimeEditScheduleDTO schedule = TimeEditParser.parseAndValidateInParallel(
+					fetched.openBody(),
+					normalizedUrl,
+					zoneId,
+					ForkJoinPool.commonPool()
+			);
+			long parsed = System.nanoTime();
+			parseSeconds.observe(parsed - started);
+			timings.add("parse", parsed - started);
+			schedule.setVersion(scheduleVersions.record(normalizedUrl, zoneId, schedule));
+			scheduleCache.put(normalizedUrl, zoneId, fetched.getEtag(), fetched.getLastModified(), schedule);
+			return schedule;
+		}
 		TimeEditScheduleDTO schedule = TimeEditParser.parseSchedule(
-				fetched.getRawBody(),
+				fetched.openBody(),
 				normalizedUrl,
 				zoneId
 		);
+		long parsed = System.nanoTime();
+		parseSeconds.observe(parsed - started);
+		timings.add("parse", parsed - started);
 		TimeEditScheduleValidator.validate(schedule);
+		long validated = System.nanoTime();
+		validateSeconds.observe(validated - parsed);
+		timings.add("validate", validated - parsed);
+		schedule.setVersion(scheduleVersions.record(normalizedUrl, zoneId, schedule));
+		scheduleCache.put(normalizedUrl, zoneId, fetched.getEtag(), fetched.getLastModified(), schedule);
 		return schedule;
 	}
 }
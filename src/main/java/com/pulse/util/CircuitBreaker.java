@@ -0,0 +1,179 @@
+package com.pulse.util;
+
+import com.pulse.config.AppConfig;
+import com.pulse.metrics.Metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-host circuit breaker for upstream calls (TimeEdit, Canvas).
+ *
+ * - CLOSED: calls go through; {@code failureThreshold} consecutive failures open the circuit
+ * - OPEN: calls are refused at once, without touching the network, for {@code openFor}
+ * - HALF_OPEN: up to {@code probes} calls go through as probes; a success closes the circuit,
+ *   a failure opens it again for another {@code openFor}
+ *
+ * Only failures that say the host is down count (connect errors, timeouts, 502/503/504); a 4xx or
+ * a 500 for one bad request does not. The refusal check while open is two volatile reads.
+ *
+ * Usage:
+ *   {@code if (!breaker.tryAcquire()) return unreachable(...);} then exactly one of
+ *   {@link #onSuccess()}, {@link #onFailure()} or {@link #onIgnored()} when the call completes.
+ */
+public final class CircuitBreaker {
+
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final ConcurrentMap<String, CircuitBreaker> byHost = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openNanos;
+    private final int probes;
+    private final LongSupplier clock;
+    private final LongAdder rejected;
+
+    private volatile State state = State.CLOSED;
+    private volatile long openedAt;
+    // Guarded by this
+    private int consecutiveFailures;
+    private int probesInFlight;
+
+    CircuitBreaker(String name, int failureThreshold, Duration openFor, int probes, LongSupplier clock) {
+        this.name = name;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openNanos = openFor.toNanos();
+        this.probes = Math.max(1, probes);
+        this.clock = clock;
+        this.rejected = Metrics.counter(Metrics.series("pulse_circuit_rejected_total", "host", name));
+    }
+
+    /**
+     * The shared breaker for the host (and port) of {@code url}, created from config on first use:
+     * CIRCUIT_FAILURE_THRESHOLD (default 5), CIRCUIT_OPEN_SECONDS (30), CIRCUIT_HALF_OPEN_PROBES (1).
+     */
+    public static CircuitBreaker forUrl(String url) {
+        return byHost.computeIfAbsent(hostOf(url), host -> {
+            CircuitBreaker breaker = new CircuitBreaker(host,
+                    AppConfig.getInt("CIRCUIT_FAILURE_THRESHOLD", 5),
+                    Duration.ofSeconds(AppConfig.getLong("CIRCUIT_OPEN_SECONDS", 30)),
+                    AppConfig.getInt("CIRCUIT_HALF_OPEN_PROBES", 1),
+                    System::nanoTime);
+            Metrics.gauge(Metrics.series("pulse_circuit_open", "host", host), () -> breaker.state == State.CLOSED ? 0 : 1);
+            return breaker;
+        });
+    }
+
+    /**
+     * State of every host breaker created so far, by host, e.g. {@code {"cloud.timeedit.net:443": "closed"}}.
+     */
+    public static Map<String, String> states() {
+        Map<String, String> states = new TreeMap<>();
+        byHost.forEach((host, breaker) -> states.put(host, breaker.getState().name().toLowerCase(Locale.ROOT)));
+        return states;
+    }
+
+    /**
+     * Whether a call may go out now; false means fail fast as unreachable.
+     */
+    public boolean tryAcquire() {
+        State current = state;
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN && clock.getAsLong() - openedAt < openNanos) {
+            rejected.increment();
+            return false;
+        }
+        synchronized (this) {
+            if (state == State.OPEN) {
+                if (clock.getAsLong() - openedAt < openNanos) {
+                    rejected.increment();
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                probesInFlight = 0;
+                logger.info("Circuit for {} half-open, probing", name);
+            }
+            if (state == State.HALF_OPEN) {
+                if (probesInFlight >= probes) {
+                    rejected.increment();
+                    return false;
+                }
+                probesInFlight++;
+            }
+            return true;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        if (state == State.HALF_OPEN) {
+            state = State.CLOSED;
+            logger.info("Circuit for {} closed, host is answering again", name);
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+        } else if (state == State.CLOSED && ++consecutiveFailures >= failureThreshold) {
+            open();
+        }
+    }
+
+    /**
+     * The call ended without saying anything about the host (e.g. it was cancelled).
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN && probesInFlight > 0) {
+            probesInFlight--;
+        }
+    }
+
+    public State getState() {
+        // An expired OPEN reads as HALF_OPEN: the next call will probe
+        State current = state;
+        return current == State.OPEN && clock.getAsLong() - openedAt >= openNanos ? State.HALF_OPEN : current;
+    }
+
+    /**
+     * Whether an upstream HTTP status says the host itself is in trouble.
+     */
+    public static boolean isHostFailure(int status) {
+        return status == 502 || status == 503 || status == 504;
+    }
+
+    private void open() {
+        openedAt = clock.getAsLong();
+        state = State.OPEN;
+        consecutiveFailures = 0;
+        logger.warn("Circuit for {} open for {} s, failing calls fast", name, Duration.ofNanos(openNanos).toSeconds());
+    }
+
+    private static String hostOf(String url) {
+        try {
+            URI uri = URI.create(url);
+            if (uri.getHost() == null) {
+                return String.valueOf(url);
+            }
+            int port = uri.getPort() >= 0 ? uri.getPort() : "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+            return uri.getHost().toLowerCase(Locale.ROOT) + ":" + port;
+        } catch (IllegalArgumentException e) {
+            return String.valueOf(url);
+        }
+    }
+}
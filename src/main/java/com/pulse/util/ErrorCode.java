@@ -28,7 +28,14 @@ public enum ErrorCode {
     // Validation errors
     VALIDATION_ERROR("VALIDATION_ERROR", 422, "Event validation failed"),
     INVALID_PUBLISH_REQUEST("INVALID_PUBLISH_REQUEST", 400, "Missing required fields in publish request"),
-    CANVAS_VALIDATION_ERROR("CANVAS_VALIDATION_ERROR", 422, "Canvas validation failed for event");
+    CANVAS_VALIDATION_ERROR("CANVAS_VALIDATION_ERROR", 422, "Canvas validation failed for event"),
+
+    // Publish job errors
+    PUBLISH_JOB_NOT_FOUND("PUBLISH_JOB_NOT_FOUND", 404, "No publish job with this id (unknown or expired)"),
+    PUBLISH_QUEUE_FULL("PUBLISH_QUEUE_FULL", 503, "Too many publish jobs are waiting; try again later"),
+
+    // Load shedding
+    SERVER_OVERLOADED("SERVER_OVERLOADED", 503, "Too many requests are in progress; try again later");
 
     private final String code;
     private final int httpStatus;
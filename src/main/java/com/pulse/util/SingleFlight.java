@@ -0,0 +1,82 @@
+package com.pulse.util;
+
+import com.pulse.metrics.Metrics;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent calls for the same key into one execution.
+ *
+ * The first caller for a key (the leader) runs the work; callers that arrive while it is still in
+ * flight receive the leader's outcome, value or exception, instead of starting their own. Once the
+ * work completes the key is released, so the next call starts a fresh execution.
+ *
+ * Every caller gets its own dependent future: cancelling it (or timing out on it) only detaches
+ * that caller and never cancels the shared work or the other waiters.
+ *
+ * Usage:
+ *   {@code flights.execute(url, () -> fetchAsync(url)).join()}
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder coalesced;
+
+    /**
+     * @param metricPrefix prefix for the {@code _coalesced_total} counter and {@code _in_flight} gauge
+     */
+    public SingleFlight(String metricPrefix) {
+        this.coalesced = Metrics.counter(metricPrefix + "_coalesced_total");
+        Metrics.gauge(metricPrefix + "_in_flight", inFlight::size);
+    }
+
+    /**
+     * Runs {@code work} for {@code key}, or joins the execution already in flight for it.
+     *
+     * @param key  coalescing key; callers with equal keys share one execution
+     * @param work starts the work; only invoked by the leader
+     * @return a future private to this caller
+     */
+    public CompletableFuture<V> execute(K key, Supplier<CompletableFuture<V>> work) {
+        CompletableFuture<V> shared = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, shared);
+        if (existing != null) {
+            coalesced.increment();
+            return existing.copy();
+        }
+
+        try {
+            work.get().whenComplete((value, error) -> {
+                // Release the key first so late arrivals start a new execution instead of
+                // joining one that has already finished.
+                inFlight.remove(key, shared);
+                if (error != null) {
+                    shared.completeExceptionally(unwrap(error));
+                } else {
+                    shared.complete(value);
+                }
+            });
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, shared);
+            shared.completeExceptionally(e);
+        }
+        return shared.copy();
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    public long coalescedCount() {
+        return coalesced.sum();
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+}
@@ -0,0 +1,60 @@
+package com.pulse.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Resolves equal strings to one instance for the lifetime of a parse.
+ *
+ * A schedule repeats the same handful of course titles, rooms and comments across thousands of
+ * events; without this every event keeps its own copy. Unlike {@link String#intern()} nothing
+ * outlives the dictionary, and it is bounded: after {@code maxEntries} distinct values, or for
+ * values longer than {@code maxLength}, strings are returned as they are.
+ *
+ * Not thread-safe; create one per parse.
+ *
+ * Usage:
+ *   {@code title = strings.share(title);}
+ */
+public final class StringDictionary {
+
+    public static final int DEFAULT_MAX_ENTRIES = 4096;
+    public static final int DEFAULT_MAX_LENGTH = 512;
+
+    private final Map<String, String> values = new HashMap<>();
+    private final int maxEntries;
+    private final int maxLength;
+
+    public StringDictionary() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_LENGTH);
+    }
+
+    public StringDictionary(int maxEntries, int maxLength) {
+        this.maxEntries = maxEntries;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * The instance already seen for a string equal to {@code value}, or {@code value} itself.
+     */
+    public String share(String value) {
+        if (value == null || value.length() > maxLength) {
+            return value;
+        }
+        if (value.isEmpty()) {
+            return "";
+        }
+        String shared = values.get(value);
+        if (shared != null) {
+            return shared;
+        }
+        if (values.size() < maxEntries) {
+            values.put(value, value);
+        }
+        return value;
+    }
+
+    public int size() {
+        return values.size();
+    }
+}
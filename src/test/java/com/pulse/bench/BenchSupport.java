@@ -0,0 +1,83 @@
+package com.pulse.bench;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+
+/**
+ * Minimal harness for the ad-hoc benchmarks in this package.
+ *
+ * Each measurement runs a warmup phase, then reports throughput and the bytes allocated by the
+ * calling thread per operation (via {@code com.sun.management.ThreadMXBean}). These are not
+ * JMH-grade numbers, but they are stable enough to compare two code paths in the same JVM.
+ *
+ * Run with (any class in this package):
+ * mvn -Pbench test-compile exec:java -Dbench.class=com.pulse.bench.TimeEditParserBenchmark
+ */
+public final class BenchSupport {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    // Results are written here so the JIT cannot discard the measured work.
+    private static volatile Object sink;
+
+    private BenchSupport() {
+    }
+
+    public record Result(String label, int iterations, double opsPerSecond, double millisPerOp, long bytesPerOp) {
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%-40s %8d ops  %10.1f ops/s  %10.3f ms/op  %,14d B/op",
+                    label, iterations, opsPerSecond, millisPerOp, bytesPerOp);
+        }
+    }
+
+    public static Result measure(String label, int warmup, int iterations, Callable<?> op) throws Exception {
+        for (int i = 0; i < warmup; i++) {
+            sink = op.call();
+        }
+        System.gc();
+
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = THREADS.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink = op.call();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = THREADS.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        Result result = new Result(
+                label,
+                iterations,
+                iterations / (elapsed / 1_000_000_000.0),
+                elapsed / 1_000_000.0 / iterations,
+                allocated / iterations
+        );
+        System.out.println(result);
+        return result;
+    }
+
+    /**
+     * Heap in use after a best-effort full collection; used for retained-size comparisons.
+     */
+    public static long usedHeapAfterGc() {
+        Runtime rt = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return rt.totalMemory() - rt.freeMemory();
+    }
+
+    public static void header(String title) {
+        System.out.println();
+        System.out.println("== " + title + " ==");
+    }
+}
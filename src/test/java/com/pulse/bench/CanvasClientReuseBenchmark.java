@@ -0,0 +1,46 @@
+package com.pulse.bench;
+
+import com.pulse.integration.canvas.CanvasApiTester;
+import com.pulse.integration.canvas.CanvasClient;
+import com.pulse.integration.canvas.CanvasHttpSettings;
+import com.pulse.integration.canvas.CanvasRateLimitGovernor;
+
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+
+/**
+ * Per-request latency and allocation of the Canvas health checks with a client built per request
+ * (what the resources used to do) versus one shared, pooled client (ClientBinder).
+ *
+ * Runs against a local stub with no added latency, so the difference is client construction,
+ * provider setup and connection reuse.
+ */
+public class CanvasClientReuseBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int iterations = Integer.getInteger("bench.iterations", 1000);
+        int warmup = iterations / 4;
+        CanvasHttpSettings settings = CanvasHttpSettings.fromConfig();
+
+        try (StubCanvasServer canvas = new StubCanvasServer(0)) {
+            String url = canvas.baseUrl();
+
+            BenchSupport.header("GET /health/canvas-auth (JAX-RS CanvasClient.testAuth)");
+            BenchSupport.measure("new CanvasClient per request", warmup, iterations,
+                    // Never closed, as in the old per-request resources
+                    () -> new CanvasClient(url, "bench-token", CanvasRateLimitGovernor.disabled(), settings).testAuth());
+            try (CanvasClient shared = new CanvasClient(url, "bench-token", CanvasRateLimitGovernor.disabled(), settings)) {
+                BenchSupport.measure("shared CanvasClient", warmup, iterations, shared::testAuth);
+            }
+
+            BenchSupport.header("GET /health/canvas-test (Apache CanvasApiTester)");
+            BenchSupport.measure("HttpClients.createDefault() per request", warmup, iterations, () -> {
+                try (CanvasApiTester tester = new CanvasApiTester(HttpClients.createDefault(), url, "bench-token")) {
+                    return tester.testCanvasConnection();
+                }
+            });
+            try (CanvasApiTester pooled = CanvasApiTester.pooled(settings, url, "bench-token")) {
+                BenchSupport.measure("pooled CanvasApiTester", warmup, iterations, pooled::testCanvasConnection);
+            }
+        }
+    }
+}
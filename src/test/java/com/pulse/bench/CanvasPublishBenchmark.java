@@ -0,0 +1,66 @@
+package com.pulse.bench;
+
+import com.pulse.integration.canvas.CanvasClient;
+import com.pulse.server.dto.CanvasPublishRequest;
+import com.pulse.server.dto.PublishResult;
+import com.pulse.server.dto.PublishSchedule;
+import com.pulse.server.dto.PublishScheduleEvent;
+import com.pulse.service.CanvasPublishService;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Events/second published to a local stub Canvas at increasing CANVAS_PUBLISH_MAX_IN_FLIGHT.
+ *
+ * The stub adds a fixed latency per create call (default 25 ms, override with
+ * -Dbench.latencyMs=...) so the numbers reflect round-trip-bound publishing, not localhost speed.
+ */
+public class CanvasPublishBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        long latencyMs = Long.getLong("bench.latencyMs", 25);
+        int eventCount = Integer.getInteger("bench.events", 400);
+        CanvasPublishRequest request = request(eventCount);
+
+        try (StubCanvasServer canvas = new StubCanvasServer(latencyMs)) {
+            CanvasClient client = new CanvasClient(canvas.baseUrl(), "bench-token");
+            BenchSupport.header(eventCount + " events, " + latencyMs + " ms stub latency");
+
+            // Warm up the client and connection handling once
+            new CanvasPublishService(client, 8).publish(request(50));
+
+            for (int maxInFlight : new int[] {1, 2, 4, 8, 16, 32, 64}) {
+                CanvasPublishService service = new CanvasPublishService(client, maxInFlight);
+                long start = System.nanoTime();
+                PublishResult result = service.publish(request);
+                double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+                System.out.println(String.format(Locale.ROOT, "max in flight %-4d %8.2f s  %10.1f events/s  (published=%d, failed=%d)",
+                        maxInFlight, seconds, result.getPublished() / seconds, result.getPublished(), result.getFailed()));
+            }
+        }
+    }
+
+    static CanvasPublishRequest request(int eventCount) {
+        OffsetDateTime base = OffsetDateTime.of(2026, 1, 12, 8, 0, 0, 0, ZoneOffset.UTC);
+        List<PublishScheduleEvent> events = new ArrayList<>(eventCount);
+        for (int i = 0; i < eventCount; i++) {
+            PublishScheduleEvent event = new PublishScheduleEvent();
+            event.setExternalId("bench-" + i);
+            event.setTitle("Lecture " + i);
+            event.setStart(base.plusHours(i * 3L));
+            event.setEnd(base.plusHours(i * 3L + 2));
+            event.setLocation("Room " + (i % 12));
+            events.add(event);
+        }
+        PublishSchedule schedule = new PublishSchedule();
+        schedule.setEvents(events);
+        CanvasPublishRequest request = new CanvasPublishRequest();
+        request.setCanvasContext("user_1");
+        request.setSchedule(schedule);
+        return request;
+    }
+}
@@ -0,0 +1,50 @@
+package com.pulse.bench;
+
+import com.pulse.integration.canvas.CanvasClient;
+import com.pulse.integration.canvas.CanvasRateLimitGovernor;
+import com.pulse.integration.canvas.CanvasUpstreamException;
+import com.pulse.server.dto.PublishResult;
+import com.pulse.service.CanvasPublishService;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Publishing into a rate-limited stub Canvas with and without the AIMD governor.
+ *
+ * The stub bucket holds 700 units, refills 400 units/s and charges 5 per create, so it sustains
+ * about 80 creates/s after the initial burst. Without the governor 32 concurrent callers drain the
+ * bucket and lean on retry backoff after each 403; with it the publish should finish sooner with
+ * few or no throttled calls.
+ */
+public class CanvasRateLimitBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int eventCount = Integer.getInteger("bench.events", 400);
+        int maxInFlight = Integer.getInteger("bench.maxInFlight", 32);
+
+        BenchSupport.header(eventCount + " events, " + maxInFlight + " in flight, bucket 700 / +400 per s / 5 per call");
+        run("ungoverned", CanvasRateLimitGovernor.disabled(), eventCount, maxInFlight);
+        run("AIMD governor", new CanvasRateLimitGovernor(4, maxInFlight, 150, Duration.ofMillis(500)),
+                eventCount, maxInFlight);
+    }
+
+    private static void run(String label, CanvasRateLimitGovernor governor, int eventCount, int maxInFlight) throws Exception {
+        try (StubCanvasServer canvas = new StubCanvasServer(25, 700, 400, 5)) {
+            CanvasPublishService service = new CanvasPublishService(
+                    new CanvasClient(canvas.baseUrl(), "bench-token", governor), maxInFlight);
+
+            long start = System.nanoTime();
+            String outcome;
+            try {
+                PublishResult result = service.publish(CanvasPublishBenchmark.request(eventCount));
+                outcome = "published=" + result.getPublished() + ", failed=" + result.getFailed();
+            } catch (CanvasUpstreamException e) {
+                outcome = "aborted (" + e.getCode() + ")";
+            }
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            System.out.println(String.format(Locale.ROOT, "%-16s %6.2f s  %8.1f calls/s  throttled=%d  %s",
+                    label, seconds, canvas.requestCount() / seconds, canvas.throttledCount(), outcome));
+        }
+    }
+}
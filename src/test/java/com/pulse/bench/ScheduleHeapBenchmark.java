@@ -0,0 +1,108 @@
+package com.pulse.bench;
+
+import com.pulse.frontend.api.ScheduleApiClient;
+import com.pulse.integration.timeedit.TimeEditParser;
+import com.pulse.integration.timeedit.dto.TimeEditEventDTO;
+import com.pulse.integration.timeedit.dto.TimeEditScheduleDTO;
+import com.pulse.server.RestServer;
+import com.pulse.server.ServerWorkers;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Retained heap of a parsed schedule, as held by the server's schedule cache and by the client's
+ * AppState.currentSchedule, with shared strings versus one copy per event (how it was before),
+ * plus the size of the schedule response with and without gzip.
+ *
+ * The client side goes through the real server and ScheduleApiClient against a stub TimeEdit.
+ *
+ * Options: -Dbench.events (20000).
+ */
+public class ScheduleHeapBenchmark {
+
+    private static final String BASE_URI = "http://localhost:18080/";
+    private static final int COPIES = 4;
+
+    public static void main(String[] args) throws Exception {
+        int events = Integer.getInteger("bench.events", 20_000);
+        byte[] body = TimeEditFixtures.scheduleBytes(events);
+        ZoneId zone = ZoneId.of("Europe/Stockholm");
+
+        BenchSupport.header(events + " events, server schedule cache entry");
+        Supplier<Object> parsed = () -> TimeEditParser.parseSchedule(new ByteArrayInputStream(body), "bench", zone);
+        report("one copy per event", retained(() -> unshared((TimeEditScheduleDTO) parsed.get())));
+        report("shared strings", retained(parsed));
+
+        HttpServer stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.createContext("/schedule.json", exchange -> {
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        stub.start();
+        org.glassfish.grizzly.http.server.HttpServer server =
+                RestServer.startServer(BASE_URI, RestServer.resourceConfig(), ServerWorkers.platform());
+        try {
+            String timeeditUrl = "http://127.0.0.1:" + stub.getAddress().getPort() + "/schedule.json";
+            ScheduleApiClient client = new ScheduleApiClient(BASE_URI.substring(0, BASE_URI.length() - 1));
+
+            BenchSupport.header(events + " events, client AppState.currentSchedule");
+            Supplier<Object> fetched = () -> client.fetchTimeEditSchedule(timeeditUrl);
+            report("one copy per event", retained(() -> unshared((TimeEditScheduleDTO) fetched.get())));
+            report("shared strings", retained(fetched));
+
+            BenchSupport.header(events + " events, GET /api/timeedit/schedule body");
+            URI uri = URI.create(BASE_URI + "api/timeedit/schedule?timeeditUrl="
+                    + URLEncoder.encode(timeeditUrl, StandardCharsets.UTF_8));
+            HttpClient http = HttpClient.newHttpClient();
+            for (String encoding : new String[] {"identity", "gzip"}) {
+                int bytes = http.send(HttpRequest.newBuilder(uri).header("Accept-Encoding", encoding).build(),
+                        HttpResponse.BodyHandlers.ofByteArray()).body().length;
+                System.out.printf(Locale.ROOT, "%-36s %,15d bytes%n", encoding, bytes);
+            }
+        } finally {
+            server.shutdownNow();
+            stub.stop(0);
+        }
+    }
+
+    // Average heap kept alive by one result of build, over a few copies held at once
+    private static long retained(Supplier<Object> build) {
+        build.get();
+        long before = BenchSupport.usedHeapAfterGc();
+        Object[] kept = new Object[COPIES];
+        for (int i = 0; i < COPIES; i++) {
+            kept[i] = build.get();
+        }
+        long after = BenchSupport.usedHeapAfterGc();
+        java.lang.ref.Reference.reachabilityFence(kept);
+        return (after - before) / COPIES;
+    }
+
+    // What each event held before strings were shared: its own copy of every value
+    private static TimeEditScheduleDTO unshared(TimeEditScheduleDTO schedule) {
+        for (TimeEditEventDTO event : schedule.getEvents()) {
+            event.setTitle(new String(event.getTitle()));
+            event.setLocation(new String(event.getLocation()));
+            event.setDescription(new String(event.getDescription()));
+        }
+        return schedule;
+    }
+
+    private static void report(String label, long bytes) {
+        System.out.printf(Locale.ROOT, "%-36s %,15d bytes retained%n", label, bytes);
+    }
+}
@@ -0,0 +1,139 @@
+package com.pulse.bench;
+
+import com.pulse.server.RestServer;
+import com.pulse.server.ServerWorkers;
+import com.sun.net.httpserver.HttpServer;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import org.glassfish.jersey.server.ResourceConfig;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+
+/**
+ * Load test: many concurrent requests whose resource blocks on a slow upstream, served by
+ * Grizzly's default platform worker pool versus virtual threads (SERVER_WORKER_MODE=virtual).
+ *
+ * The resource makes a blocking HTTP call to a local stub that answers after a fixed delay, as
+ * CanvasClient does to Canvas. With platform workers, throughput is capped at pool size / delay;
+ * with virtual threads it is capped by the concurrency cap instead.
+ *
+ * Options: -Dbench.upstreamMillis (200), -Dbench.concurrency (comma list, default 16,64,256),
+ * -Dbench.maxConcurrent (cap for virtual mode, 512).
+ */
+public class ServerWorkersBenchmark {
+
+    private static final String BASE_URI = "http://localhost:18080/";
+
+    // Set before each server starts; read by the resource
+    static volatile URI upstream;
+
+    private static final HttpClient UPSTREAM_CLIENT = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    @Path("/bench/slow")
+    public static class SlowUpstreamResource {
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        public String slow() throws IOException, InterruptedException {
+            // Blocking on purpose: holds the worker thread for the whole upstream call
+            return UPSTREAM_CLIENT.send(HttpRequest.newBuilder(upstream).build(),
+                    HttpResponse.BodyHandlers.ofString()).body();
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        long upstreamMillis = Long.getLong("bench.upstreamMillis", 200);
+        int[] concurrencies = Arrays.stream(System.getProperty("bench.concurrency", "16,64,256").split(","))
+                .mapToInt(s -> Integer.parseInt(s.trim()))
+                .toArray();
+        int maxConcurrent = Integer.getInteger("bench.maxConcurrent", 512);
+
+        HttpServer stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4096);
+        stub.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        stub.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(upstreamMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        stub.start();
+        upstream = URI.create("http://127.0.0.1:" + stub.getAddress().getPort() + "/slow");
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        try {
+            for (ServerWorkers workers : List.of(ServerWorkers.platform(), ServerWorkers.virtual(maxConcurrent))) {
+                BenchSupport.header(String.format(Locale.ROOT, "%s workers, upstream %d ms%s", workers.getMode(),
+                        upstreamMillis, workers.getMode() == ServerWorkers.Mode.VIRTUAL ? ", cap " + maxConcurrent : ""));
+                ResourceConfig rc = RestServer.resourceConfig().register(SlowUpstreamResource.class);
+                org.glassfish.grizzly.http.server.HttpServer server = RestServer.startServer(BASE_URI, rc, workers);
+                try {
+                    // Warm up Jersey and the connections
+                    burst(client, 8);
+                    for (int concurrency : concurrencies) {
+                        burst(client, concurrency);
+                    }
+                } finally {
+                    server.shutdownNow();
+                }
+            }
+        } finally {
+            stub.stop(0);
+        }
+    }
+
+    // Fires {@code concurrency} requests at once and reports wall time, throughput and latency percentiles
+    private static void burst(HttpClient client, int concurrency) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(BASE_URI + "bench/slow"))
+                .timeout(Duration.ofSeconds(60))
+                .build();
+        List<CompletableFuture<Long>> pending = new ArrayList<>(concurrency);
+        long start = System.nanoTime();
+        for (int i = 0; i < concurrency; i++) {
+            long sent = System.nanoTime();
+            pending.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .thenApply(response -> {
+                        if (response.statusCode() != 200) {
+                            throw new IllegalStateException("HTTP " + response.statusCode());
+                        }
+                        return System.nanoTime() - sent;
+                    }));
+        }
+        long[] latencies = pending.stream().mapToLong(CompletableFuture::join).sorted().toArray();
+        double wallMillis = (System.nanoTime() - start) / 1_000_000.0;
+
+        System.out.printf(Locale.ROOT, "%5d concurrent  %9.0f ms wall  %8.1f req/s  p50 %7.0f ms  p99 %7.0f ms%n",
+                concurrency, wallMillis, concurrency / (wallMillis / 1000.0),
+                latencies[latencies.length / 2] / 1_000_000.0,
+                latencies[Math.min(latencies.length - 1, (int) (latencies.length * 0.99))] / 1_000_000.0);
+    }
+}
@@ -0,0 +1,126 @@
+package com.pulse.bench;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local stand-in for the Canvas calendar API, with a fixed per-request latency.
+ *
+ * Answers POST /api/v1/calendar_events with a created event and GET /api/v1/users/self/profile
+ * with a user. Requests are served on virtual threads, so the stub itself is never the bottleneck.
+ *
+ * Optionally meters calls with a Canvas-style bucket: each create costs {@code requestCost}, the
+ * bucket refills at {@code refillPerSecond}, and an empty bucket answers 403 "Rate Limit Exceeded".
+ * Every response carries X-Rate-Limit-Remaining and X-Request-Cost.
+ */
+public final class StubCanvasServer implements AutoCloseable {
+
+    static {
+        // Without TCP_NODELAY the JDK server's separate header/body writes meet delayed ACKs on a
+        // reused keep-alive connection, adding ~40 ms to every response
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private final HttpServer server;
+    private final long latencyMillis;
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong throttled = new AtomicLong();
+
+    // Rate-limit bucket; capacity <= 0 disables it
+    private final double capacity;
+    private final double refillPerSecond;
+    private final double requestCost;
+    private double remaining;
+    private long lastRefill = System.nanoTime();
+
+    public StubCanvasServer(long latencyMillis) throws IOException {
+        this(latencyMillis, 0, 0, 0);
+    }
+
+    public StubCanvasServer(long latencyMillis, double capacity, double refillPerSecond, double requestCost) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.capacity = capacity;
+        this.refillPerSecond = refillPerSecond;
+        this.requestCost = requestCost;
+        this.remaining = capacity;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/api/v1/calendar_events", this::createEvent);
+        server.createContext("/api/v1/users/self/profile",
+                exchange -> respond(exchange, 200, "{\"id\": 1, \"login_id\": \"bench\"}"));
+        server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public long requestCount() {
+        return requests.get();
+    }
+
+    public long throttledCount() {
+        return throttled.get();
+    }
+
+    private void createEvent(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        exchange.getRequestBody().readAllBytes();
+        if (capacity > 0) {
+            double left = charge();
+            exchange.getResponseHeaders().set("X-Request-Cost", String.valueOf(requestCost));
+            exchange.getResponseHeaders().set("X-Rate-Limit-Remaining", String.valueOf(Math.max(0, left)));
+            if (left < 0) {
+                throttled.incrementAndGet();
+                respond(exchange, 403, "403 Forbidden (Rate Limit Exceeded)");
+                return;
+            }
+        }
+        pause();
+        long id = nextId.getAndIncrement();
+        respond(exchange, 201, "{\"id\": " + id + ", \"html_url\": \"" + baseUrl() + "/calendar?event_id=" + id + "\"}");
+    }
+
+    // Refills the bucket for the elapsed time, then takes one request's cost; negative means refused
+    private synchronized double charge() {
+        long now = System.nanoTime();
+        remaining = Math.min(capacity, remaining + (now - lastRefill) / 1_000_000_000.0 * refillPerSecond);
+        lastRefill = now;
+        if (remaining < requestCost) {
+            return -1;
+        }
+        remaining -= requestCost;
+        return remaining;
+    }
+
+    private void pause() {
+        if (latencyMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        exchange.getResponseBody().write(body);
+        exchange.close();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,59 @@
+package com.pulse.bench;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Synthetic TimeEdit payloads shaped like a real room/course export: a handful of courses that
+ * repeat weekly, a small pool of rooms and some free-text comments.
+ */
+public final class TimeEditFixtures {
+
+    private static final String[] TITLES = {
+            "Systemvetenskap – Föreläsning",
+            "Systemvetenskap – Laboration",
+            "Programmering II – Seminarie",
+            "Databaser – Föreläsning",
+            "Projektledning – Handledning",
+            "Statistik – Räkneövning"
+    };
+    private static final String[] ROOMS = {"A109", "Lab B214", "Zoom", "C305", "Aulan", "D1012"};
+    private static final String[] COMMENTS = {"", ", ", "Ta med dator.", "Länk publiceras i Canvas."};
+
+    private TimeEditFixtures() {
+    }
+
+    public static String schedule(int reservations) {
+        StringBuilder sb = new StringBuilder(reservations * 260 + 512);
+        sb.append("{\"columnheaders\":[\"Activity\",\"Location, Room\",\"Course\",\"Course name\",\"Course\",")
+                .append("\"Employee, Student\",\"\",\"Comment\",\"Zoom link\",\"Campus\",\"Text, Text\"],")
+                .append("\"info\":{\"reservationlimit\":").append(reservations)
+                .append(",\"reservationcount\":").append(reservations).append("},")
+                .append("\"reservations\":[");
+
+        LocalDate day = LocalDate.of(2026, 1, 12);
+        for (int i = 0; i < reservations; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            LocalDate date = day.plusDays((i / 4) % 730);
+            LocalTime start = LocalTime.of(8 + (i % 4) * 2, (i % 2) * 15);
+            LocalTime end = start.plusMinutes(90);
+            sb.append("{\"id\":\"").append(1_100_000 + i).append('"')
+                    .append(",\"startdate\":\"").append(date).append('"')
+                    .append(",\"starttime\":\"").append(start).append('"')
+                    .append(",\"enddate\":\"").append(date).append('"')
+                    .append(",\"endtime\":\"").append(end).append('"')
+                    .append(",\"columns\":[\"").append(TITLES[i % TITLES.length]).append("\",\"")
+                    .append(ROOMS[i % ROOMS.length]).append("\",\"DV1234\",\"Kursnamn\",\"\",\"Lärare\",\"\",\"")
+                    .append(COMMENTS[i % COMMENTS.length]).append("\",\"\",\"Campus\",\", \"]}");
+        }
+        sb.append("]}");
+        return sb.toString();
+    }
+
+    public static byte[] scheduleBytes(int reservations) {
+        return schedule(reservations).getBytes(StandardCharsets.UTF_8);
+    }
+}
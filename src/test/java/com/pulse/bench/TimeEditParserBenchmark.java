@@ -0,0 +1,60 @@
+package com.pulse.bench;
+
+import com.pulse.integration.timeedit.TimeEditParser;
+import com.pulse.integration.timeedit.TimeEditScheduleValidator;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Tree-based vs streaming TimeEditParser on synthetic schedules.
+ *
+ * The tree path is measured the way the server used it: decode the body to a String, then
+ * readTree. The streaming path reads the same bytes through an InputStream.
+ *
+ * The second part compares streaming parse + validate with parseAndValidateInParallel on a pool of
+ * -Dbench.parallelism threads (default: available processors, at least 2) across schedule sizes,
+ * to place TIMEEDIT_PARALLEL_PARSE_MIN_BYTES.
+ */
+public class TimeEditParserBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        ZoneId zone = ZoneId.of("Europe/Stockholm");
+
+        for (int size : new int[] {100, 10_000, 100_000}) {
+            byte[] body = TimeEditFixtures.scheduleBytes(size);
+            int iterations = Math.max(5, 500_000 / size);
+            int warmup = Math.max(3, iterations / 2);
+
+            BenchSupport.header(size + " reservations (" + body.length / 1024 + " KiB)");
+            BenchSupport.measure("tree (String + readTree)", warmup, iterations,
+                    () -> TimeEditParser.parseSchedule(new String(body, StandardCharsets.UTF_8), "bench", zone));
+            BenchSupport.measure("streaming (InputStream + JsonParser)", warmup, iterations,
+                    () -> TimeEditParser.parseSchedule(new ByteArrayInputStream(body), "bench", zone));
+        }
+
+        int parallelism = Integer.getInteger("bench.parallelism", Math.max(2, Runtime.getRuntime().availableProcessors()));
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            for (int size : new int[] {5_000, 20_000, 50_000, 100_000}) {
+                byte[] body = TimeEditFixtures.scheduleBytes(size);
+                int iterations = Math.max(5, 200_000 / size);
+                int warmup = Math.max(3, iterations / 2);
+
+                BenchSupport.header(size + " reservations (" + body.length / 1024 + " KiB), "
+                        + parallelism + " threads on " + Runtime.getRuntime().availableProcessors() + " CPUs");
+                BenchSupport.measure("streaming + validate", warmup, iterations, () -> {
+                    var schedule = TimeEditParser.parseSchedule(new ByteArrayInputStream(body), "bench", zone);
+                    TimeEditScheduleValidator.validate(schedule);
+                    return schedule;
+                });
+                BenchSupport.measure("parallel chunks", warmup, iterations,
+                        () -> TimeEditParser.parseAndValidateInParallel(new ByteArrayInputStream(body), "bench", zone, pool));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.pulse.integration.canvas;
+
+import com.pulse.integration.canvas.dto.CanvasCalendarEventRequest;
+import com.pulse.integration.canvas.dto.CanvasCalendarEventResponse;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CanvasClientTest {
+
+    private HttpServer server;
+    private final List<String> queries = new CopyOnWriteArrayList<>();
+    private final List<String> forms = new CopyOnWriteArrayList<>();
+    private CanvasClient client;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/v1/calendar_events", this::handle);
+        server.start();
+        client = new CanvasClient("http://127.0.0.1:" + server.getAddress().getPort(), "token",
+                CanvasRateLimitGovernor.disabled());
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void listCalendarEvents_followsLinkHeaderAcrossPages() {
+        List<CanvasCalendarEventResponse> seen = new ArrayList<>();
+
+        CanvasClient.CanvasResponse<Integer> res = client.listCalendarEvents("course_1",
+                Instant.parse("2026-01-12T00:00:00Z"), Instant.parse("2026-01-19T00:00:00Z"), seen::add);
+
+        assertTrue(res.isSuccess());
+        assertEquals(3, res.getData());
+        assertEquals(List.of(1L, 2L, 3L), seen.stream().map(CanvasCalendarEventResponse::getId).toList());
+        assertEquals("Lecture", seen.get(0).getTitle());
+        assertEquals("2026-01-12T08:00:00Z", seen.get(0).getStartAt());
+        assertEquals(2, queries.size());
+        assertTrue(queries.get(0).contains("context_codes[]=course_1"), queries.get(0));
+        assertTrue(queries.get(0).contains("start_date=2026-01-12T00:00:00Z"), queries.get(0));
+        assertTrue(queries.get(0).contains("per_page=100"), queries.get(0));
+    }
+
+    @Test
+    void listCalendarEvents_reportsFailedPage() {
+        List<CanvasCalendarEventResponse> seen = new ArrayList<>();
+
+        CanvasClient.CanvasResponse<Integer> res = client.listCalendarEvents("course_500",
+                Instant.parse("2026-01-12T00:00:00Z"), Instant.parse("2026-01-19T00:00:00Z"), seen::add);
+
+        assertFalse(res.isSuccess());
+        assertEquals(503, res.getHttpStatusCode());
+    }
+
+    @Test
+    void deleteCalendarEvent_returns404ForMissingEvent() {
+        assertTrue(client.deleteCalendarEvent(1).isSuccess());
+
+        CanvasClient.CanvasResponse<CanvasCalendarEventResponse> res = client.deleteCalendarEvent(99);
+        assertFalse(res.isSuccess());
+        assertEquals(404, res.getHttpStatusCode());
+    }
+
+    @Test
+    void createCalendarEvent_sendsTheEventAsAForm() {
+        CanvasCalendarEventRequest req = new CanvasCalendarEventRequest();
+        req.setContextCode("course_1");
+        req.setTitle("Lecture");
+        req.setStartAt("2026-01-12T08:00:00Z");
+        req.setEndAt("2026-01-12T09:30:00Z");
+
+        CanvasClient.CanvasResponse<CanvasCalendarEventResponse> res = client.createCalendarEvent(req);
+
+        assertTrue(res.isSuccess(), res.getErrorMessage());
+        assertEquals(7L, res.getData().getId());
+        assertTrue(forms.get(0).contains("calendar_event%5Btitle%5D=Lecture"), forms.get(0));
+    }
+
+    @Test
+    void refusedConnection_isReportedAsNotSent() {
+        server.stop(0);
+
+        CanvasClient.CanvasResponse<CanvasCalendarEventResponse> res = client.deleteCalendarEvent(1);
+
+        assertEquals("CANVAS_UNREACHABLE", res.getErrorCode());
+        assertTrue(res.isNotSent());
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String query = exchange.getRequestURI().getQuery();
+        if ("POST".equals(exchange.getRequestMethod())) {
+            forms.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            respond(exchange, 200, "{\"id\": 7, \"title\": \"Lecture\"}");
+            return;
+        }
+        if ("DELETE".equals(exchange.getRequestMethod())) {
+            boolean known = path.endsWith("/1");
+            respond(exchange, known ? 200 : 404, known ? "{\"id\": 1}" : "{\"errors\": []}");
+            return;
+        }
+        queries.add(query);
+        if (query.contains("course_500")) {
+            respond(exchange, 503, "unavailable");
+        } else if (!query.contains("page=2")) {
+            String next = "http://127.0.0.1:" + server.getAddress().getPort() + path + "?"
+                    + exchange.getRequestURI().getRawQuery() + "&page=2";
+            exchange.getResponseHeaders().add("Link", "<" + next + ">; rel=\"next\"");
+            respond(exchange, 200, "[{\"id\": 1, \"title\": \"Lecture\", \"start_at\": \"2026-01-12T08:00:00Z\"},"
+                    + " {\"id\": 2, \"title\": \"Lab\", \"unknown_field\": {\"nested\": true}}]");
+        } else {
+            respond(exchange, 200, "[{\"id\": 3, \"title\": \"Seminar\"}]");
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        exchange.getResponseBody().write(body);
+        exchange.close();
+    }
+}
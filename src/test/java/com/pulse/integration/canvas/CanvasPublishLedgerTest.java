@@ -0,0 +1,220 @@
+package com.pulse.integration.canvas;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CanvasPublishLedgerTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void entries_surviveReopen() {
+        Path file = dir.resolve("ledger.bin");
+        try (CanvasPublishLedger ledger = new CanvasPublishLedger(file)) {
+            ledger.put("course_1", "TE-1", 101, 11);
+            ledger.put("course_1", "TE-2", 102, 12);
+            ledger.put("course_2", "TE-1", 201, 21);
+            ledger.put("course_1", "TE-1", 101, 99);
+            ledger.remove("course_1", "TE-2");
+        }
+
+        try (CanvasPublishLedger reopened = new CanvasPublishLedger(file)) {
+            assertEquals(new CanvasPublishLedger.Entry(101, 99), reopened.get("course_1", "TE-1"));
+            assertNull(reopened.get("course_1", "TE-2"));
+            assertEquals(new CanvasPublishLedger.Entry(201, 21), reopened.get("course_2", "TE-1"));
+            assertEquals(2, reopened.size());
+        }
+    }
+
+    @Test
+    void sources_surviveReopenAndCompaction() {
+        Path file = dir.resolve("ledger.bin");
+        try (CanvasPublishLedger ledger = new CanvasPublishLedger(file)) {
+            ledger.put("course_1", "TE-1", 101, 11, "https://cloud.timeedit.net/a.json");
+            ledger.put("course_1", "TE-2", 102, 12);
+            for (int i = 0; i < 3000; i++) {
+                ledger.put("course_1", "TE-3", 103, i, "https://cloud.timeedit.net/b.json");
+            }
+        }
+
+        for (int open = 0; open < 2; open++) {
+            try (CanvasPublishLedger reopened = new CanvasPublishLedger(file)) {
+                assertEquals(new CanvasPublishLedger.Entry(101, 11, "https://cloud.timeedit.net/a.json"), reopened.get("course_1", "TE-1"));
+                assertEquals(new CanvasPublishLedger.Entry(102, 12), reopened.get("course_1", "TE-2"));
+                assertEquals(new CanvasPublishLedger.Entry(103, 2999, "https://cloud.timeedit.net/b.json"), reopened.get("course_1", "TE-3"));
+            }
+        }
+    }
+
+    @Test
+    void seriesOccurrences_surviveReopen() {
+        Path file = dir.resolve("ledger.bin");
+        try (CanvasPublishLedger ledger = new CanvasPublishLedger(file)) {
+            ledger.put("course_1", "series:TE-1", 101, 11, null, List.of("TE-1", "TE-2", "TE-3"));
+            ledger.put("course_1", "series:TE-4", 104, 14, "https://cloud.timeedit.net/a.json", List.of("TE-4", "TE-5", "TE-6"));
+        }
+
+        try (CanvasPublishLedger reopened = new CanvasPublishLedger(file)) {
+            assertEquals(new CanvasPublishLedger.Entry(101, 11, null, List.of("TE-1", "TE-2", "TE-3")),
+                    reopened.get("course_1", "series:TE-1"));
+            assertEquals(new CanvasPublishLedger.Entry(104, 14, "https://cloud.timeedit.net/a.json", List.of("TE-4", "TE-5", "TE-6")),
+                    reopened.get("course_1", "series:TE-4"));
+        }
+    }
+
+    @Test
+    void ledgerInUse_cannotBeOpenedTwice() {
+        Path file = dir.resolve("ledger.bin");
+        try (CanvasPublishLedger ledger = new CanvasPublishLedger(file)) {
+            ledger.put("course_1", "TE-1", 101, 11);
+
+            UncheckedIOException e = assertThrows(UncheckedIOException.class, () -> new CanvasPublishLedger(file));
+            assertTrue(e.getCause().getMessage().contains("in use"));
+        }
+
+        try (CanvasPublishLedger reopened = new CanvasPublishLedger(file)) {
+            assertNotNull(reopened.get("course_1", "TE-1"));
+        }
+    }
+
+    @Test
+    void tornTailRecord_isDropped_andLedgerStaysWritable() throws Exception {
+        Path file = dir.resolve("ledger.bin");
+        try (CanvasPublishLedger ledger = new CanvasPublishLedger(file)) {
+            ledger.put("course_1", "TE-1", 101, 11);
+            ledger.put("course_1", "TE-2", 102, 12);
+        }
+        // Simulate a crash halfway through the last record
+        long size = Files.size(file);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, (int) size - 5));
+
+        try (CanvasPublishLedger reopened = new CanvasPublishLedger(file)) {
+            assertNotNull(reopened.get("course_1", "TE-1"));
+            assertNull(reopened.get("course_1", "TE-2"));
+            reopened.put("course_1", "TE-3", 103, 13);
+        }
+
+        try (CanvasPublishLedger again = new CanvasPublishLedger(file)) {
+            assertEquals(new CanvasPublishLedger.Entry(103, 13), again.get("course_1", "TE-3"));
+            assertEquals(2, again.size());
+        }
+    }
+
+    @Test
+    void zeroFilledTail_isDropped() throws Exception {
+        Path file = dir.resolve("ledger.bin");
+        try (CanvasPublishLedger ledger = new CanvasPublishLedger(file)) {
+            ledger.put("course_1", "TE-1", 101, 11);
+        }
+        // What a power loss can leave after the last record that made it to disk
+        Files.write(file, new byte[64], StandardOpenOption.APPEND);
+
+        try (CanvasPublishLedger reopened = new CanvasPublishLedger(file)) {
+            assertEquals(1, reopened.size());
+            reopened.put("course_1", "TE-2", 102, 12);
+        }
+
+        try (CanvasPublishLedger again = new CanvasPublishLedger(file)) {
+            assertEquals(new CanvasPublishLedger.Entry(102, 12), again.get("course_1", "TE-2"));
+        }
+    }
+
+    @Test
+    void corruptRecordBeforeTheTail_failsToOpen_andKeepsTheFile() throws Exception {
+        Path file = dir.resolve("ledger.bin");
+        try (CanvasPublishLedger ledger = new CanvasPublishLedger(file)) {
+            ledger.put("course_1", "TE-1", 101, 11);
+            ledger.put("course_1", "TE-2", 102, 12);
+            ledger.put("course_1", "TE-3", 103, 13);
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        int second = bytes.length / 3;
+        assertEquals('P', bytes[second]);
+        bytes[second] = 'X';
+        Files.write(file, bytes);
+
+        UncheckedIOException e = assertThrows(UncheckedIOException.class, () -> new CanvasPublishLedger(file));
+
+        assertTrue(e.getCause().getMessage().contains("corrupt at offset " + second), e.getCause().getMessage());
+        assertArrayEquals(bytes, Files.readAllBytes(file));
+    }
+
+    @Test
+    void rewritingTheSameEntry_appendsNothing() throws Exception {
+        Path file = dir.resolve("ledger.bin");
+        try (CanvasPublishLedger ledger = new CanvasPublishLedger(file)) {
+            ledger.put("course_1", "TE-1", 101, 11);
+            long size = Files.size(file);
+            ledger.put("course_1", "TE-1", 101, 11);
+            assertEquals(size, Files.size(file));
+        }
+    }
+
+    @Test
+    void mostlyDeadLog_isCompactedOnOpen() throws Exception {
+        Path file = dir.resolve("ledger.bin");
+        try (CanvasPublishLedger ledger = new CanvasPublishLedger(file)) {
+            for (int i = 0; i < 3000; i++) {
+                ledger.put("course_1", "TE-1", 101, i);
+            }
+        }
+        long before = Files.size(file);
+
+        try (CanvasPublishLedger reopened = new CanvasPublishLedger(file)) {
+            assertEquals(new CanvasPublishLedger.Entry(101, 2999), reopened.get("course_1", "TE-1"));
+            reopened.put("course_1", "TE-2", 102, 12);
+        }
+        assertTrue(Files.size(file) < before / 100, "log was not compacted: " + Files.size(file));
+
+        try (CanvasPublishLedger again = new CanvasPublishLedger(file)) {
+            assertEquals(2, again.size());
+        }
+    }
+
+    @Test
+    void inMemoryLedger_writesNothing() {
+        try (CanvasPublishLedger ledger = new CanvasPublishLedger(null)) {
+            ledger.put("course_1", "TE-1", 101, 11);
+            assertNotNull(ledger.get("course_1", "TE-1"));
+        }
+    }
+
+    @Test
+    void forEach_visitsOnlyTheGivenContext() {
+        try (CanvasPublishLedger ledger = new CanvasPublishLedger(null)) {
+            ledger.put("course_1", "TE-1", 101, 11);
+            ledger.put("course_1", "TE-2", 102, 12);
+            ledger.put("course_2", "TE-1", 201, 21);
+
+            Map<String, Long> seen = new HashMap<>();
+            ledger.forEach("course_1", (externalId, entry) -> seen.put(externalId, entry.canvasId()));
+
+            assertEquals(Map.of("TE-1", 101L, "TE-2", 102L), seen);
+
+            ledger.remove("course_2", "TE-1");
+            ledger.forEach("course_2", (externalId, entry) -> fail("course_2 has no entries left"));
+            assertEquals(2, ledger.size());
+        }
+    }
+
+    @Test
+    void contentHash_separatesFieldsAndNulls() {
+        assertEquals(CanvasPublishLedger.contentHash("a", "b"), CanvasPublishLedger.contentHash("a", "b"));
+        assertNotEquals(CanvasPublishLedger.contentHash("ab", "c"), CanvasPublishLedger.contentHash("a", "bc"));
+        assertNotEquals(CanvasPublishLedger.contentHash("a", null), CanvasPublishLedger.contentHash("a", ""));
+        assertNotEquals(CanvasPublishLedger.contentHash("Sal A"), CanvasPublishLedger.contentHash("Sal Ä"));
+    }
+}
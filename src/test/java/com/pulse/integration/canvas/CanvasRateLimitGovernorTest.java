@@ -0,0 +1,123 @@
+package com.pulse.integration.canvas;
+
+import com.pulse.metrics.Metrics;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CanvasRateLimitGovernorTest {
+
+    @Test
+    void healthyResponses_growWindowUpToMax() {
+        CanvasRateLimitGovernor governor = governor(2, 4, Duration.ofMillis(100));
+
+        for (int i = 0; i < 50; i++) {
+            governor.onResponse(201, 650.0, 1.5);
+        }
+
+        assertEquals(4, governor.currentConcurrency());
+        assertEquals(650.0, governor.remaining());
+        assertEquals(1.5, governor.lastCost());
+    }
+
+    @Test
+    void throttledResponse_halvesWindowAndPausesNewCalls() throws Exception {
+        CanvasRateLimitGovernor governor = governor(8, 8, Duration.ofMillis(200));
+
+        governor.onResponse(429, null, null);
+        assertEquals(4, governor.currentConcurrency());
+        assertEquals(1, governor.throttledCount());
+
+        long start = System.nanoTime();
+        governor.acquire();
+        governor.release();
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 150, "acquire did not wait out the pause");
+    }
+
+    @Test
+    void throttledBurst_sharesOneDecrease() {
+        CanvasRateLimitGovernor governor = governor(8, 8, Duration.ofSeconds(5));
+
+        governor.onResponse(403, 0.0, null);
+        governor.onResponse(403, 0.0, null);
+        governor.onResponse(403, 0.0, null);
+
+        assertEquals(4, governor.currentConcurrency());
+        assertEquals(3, governor.throttledCount());
+    }
+
+    @Test
+    void forbiddenWithBudgetLeft_isNotTreatedAsThrottling() {
+        assertTrue(CanvasRateLimitGovernor.isThrottled(403, 0.0));
+        assertTrue(CanvasRateLimitGovernor.isThrottled(429, null));
+        assertFalse(CanvasRateLimitGovernor.isThrottled(403, 500.0));
+        assertFalse(CanvasRateLimitGovernor.isThrottled(403, null));
+    }
+
+    @Test
+    void lowRemainingBudget_shrinksWindowOncePerWindowOfResponses() {
+        CanvasRateLimitGovernor governor = governor(8, 8, Duration.ofMillis(1));
+
+        for (int i = 0; i < 7; i++) {
+            governor.onResponse(201, 50.0, 10.0);
+        }
+        assertEquals(8, governor.currentConcurrency());
+
+        governor.onResponse(201, 50.0, 10.0);
+        assertEquals(4, governor.currentConcurrency());
+        assertEquals(0, governor.throttledCount());
+    }
+
+    @Test
+    void window_boundsCallsInFlight() throws Exception {
+        CanvasRateLimitGovernor governor = governor(2, 2, Duration.ofMillis(1));
+        governor.acquire();
+        governor.acquire();
+
+        CompletableFuture<Void> third = CompletableFuture.runAsync(() -> {
+            try {
+                governor.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        Thread.sleep(100);
+        assertFalse(third.isDone());
+        assertEquals(2, governor.inFlight());
+
+        governor.release();
+        third.get(1, TimeUnit.SECONDS);
+        assertEquals(2, governor.inFlight());
+    }
+
+    @Test
+    void disabled_neverWaits() throws Exception {
+        CanvasRateLimitGovernor governor = CanvasRateLimitGovernor.disabled();
+        governor.onResponse(429, 0.0, null);
+
+        for (int i = 0; i < 100; i++) {
+            governor.acquire();
+        }
+        assertEquals(0, governor.throttledCount());
+    }
+
+    @Test
+    void state_isExportedAsMetrics() {
+        CanvasRateLimitGovernor governor = CanvasRateLimitGovernor.withMetrics(3, 8, 150, Duration.ofMillis(1), "test_canvas_governor");
+        governor.onResponse(201, 420.0, 2.0);
+        governor.onResponse(429, 0.0, null);
+
+        assertEquals(0L, Metrics.snapshot().get("test_canvas_governor_remaining"));
+        assertEquals((long) governor.currentConcurrency(), Metrics.snapshot().get("test_canvas_governor_concurrency"));
+        assertEquals(0L, Metrics.snapshot().get("test_canvas_governor_in_flight"));
+        assertEquals(1L, Metrics.snapshot().get("test_canvas_governor_throttled_total"));
+    }
+
+    private static CanvasRateLimitGovernor governor(int initial, int max, Duration throttlePause) {
+        return new CanvasRateLimitGovernor(initial, max, 150, throttlePause);
+    }
+}
@@ -0,0 +1,108 @@
+package com.pulse.integration.canvas;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CanvasRetryPolicyTest {
+
+    private final CanvasRetryPolicy policy =
+            new CanvasRetryPolicy(4, Duration.ofMillis(100), Duration.ofSeconds(2), () -> 1.0);
+
+    @Test
+    void transientFailures_areRetryable() {
+        assertTrue(policy.isRetryable(CanvasClient.CanvasResponse.unreachable("timeout")));
+        assertTrue(policy.isRetryable(CanvasClient.CanvasResponse.errorResponse("HTTP 429", 429)));
+        assertTrue(policy.isRetryable(CanvasClient.CanvasResponse.errorResponse("HTTP 500", 500)));
+        assertTrue(policy.isRetryable(CanvasClient.CanvasResponse.errorResponse("HTTP 503", 503)));
+        assertTrue(policy.isRetryable(CanvasClient.CanvasResponse.errorResponse("HTTP 403", 403, true, null)));
+    }
+
+    @Test
+    void permanentFailures_areNotRetryable() {
+        assertFalse(policy.isRetryable(CanvasClient.CanvasResponse.errorResponse("HTTP 400", 400)));
+        assertFalse(policy.isRetryable(CanvasClient.CanvasResponse.errorResponse("HTTP 403", 403)));
+        assertFalse(policy.isRetryable(CanvasClient.CanvasResponse.errorResponse("HTTP 422", 422)));
+        assertFalse(policy.isRetryable(CanvasClient.CanvasResponse.unauthorized("HTTP 401")));
+        assertFalse(policy.isRetryable(CanvasClient.CanvasResponse.configError("missing token")));
+    }
+
+    @Test
+    void openCircuit_isNotRetryable() {
+        assertFalse(policy.isRetryable(CanvasClient.CanvasResponse.circuitOpen("circuit open")));
+        assertFalse(policy.isSafeToResend(CanvasClient.CanvasResponse.circuitOpen("circuit open")));
+    }
+
+    @Test
+    void onlyFailuresThatLeftCanvasUntouched_areSafeToResend() {
+        assertTrue(policy.isSafeToResend(CanvasClient.CanvasResponse.notSent("connection refused")));
+        assertTrue(policy.isSafeToResend(CanvasClient.CanvasResponse.errorResponse("HTTP 429", 429)));
+        assertTrue(policy.isSafeToResend(CanvasClient.CanvasResponse.errorResponse("HTTP 403", 403, true, null)));
+
+        assertFalse(policy.isSafeToResend(CanvasClient.CanvasResponse.unreachable("read timed out")));
+        assertFalse(policy.isSafeToResend(CanvasClient.CanvasResponse.errorResponse("HTTP 502", 502)));
+    }
+
+    @Test
+    void shouldRetry_stopsAtMaxAttempts() {
+        CanvasClient.CanvasResponse<Object> res = CanvasClient.CanvasResponse.errorResponse("HTTP 502", 502);
+
+        assertTrue(policy.shouldRetry(3, res));
+        assertFalse(policy.shouldRetry(4, res));
+    }
+
+    @Test
+    void delay_growsExponentially_andIsCappedAtMaxDelay() {
+        CanvasClient.CanvasResponse<Object> res = CanvasClient.CanvasResponse.errorResponse("HTTP 502", 502);
+
+        assertEquals(Duration.ofMillis(100), policy.delayBefore(1, res));
+        assertEquals(Duration.ofMillis(200), policy.delayBefore(2, res));
+        assertEquals(Duration.ofMillis(800), policy.delayBefore(4, res));
+        assertEquals(Duration.ofSeconds(2), policy.delayBefore(10, res));
+    }
+
+    @Test
+    void delay_isFullyJittered() {
+        CanvasRetryPolicy half = new CanvasRetryPolicy(4, Duration.ofMillis(100), Duration.ofSeconds(2), () -> 0.5);
+        CanvasRetryPolicy zero = new CanvasRetryPolicy(4, Duration.ofMillis(100), Duration.ofSeconds(2), () -> 0.0);
+        CanvasClient.CanvasResponse<Object> res = CanvasClient.CanvasResponse.errorResponse("HTTP 502", 502);
+
+        assertEquals(Duration.ofMillis(200), half.delayBefore(3, res));
+        assertEquals(Duration.ZERO, zero.delayBefore(3, res));
+    }
+
+    @Test
+    void retryAfter_isALowerBound() {
+        CanvasClient.CanvasResponse<Object> res =
+                CanvasClient.CanvasResponse.errorResponse("HTTP 429", 429, false, Duration.ofSeconds(1));
+
+        assertEquals(Duration.ofSeconds(1), policy.delayBefore(1, res));
+        assertEquals(Duration.ofSeconds(2), policy.delayBefore(6, res));
+    }
+
+    @Test
+    void retryAfterLongerThanMaxDelay_endsRetries() {
+        CanvasClient.CanvasResponse<Object> res =
+                CanvasClient.CanvasResponse.errorResponse("HTTP 503", 503, false, Duration.ofMinutes(10));
+
+        assertFalse(policy.shouldRetry(1, res));
+    }
+
+    @Test
+    void parseRetryAfter_acceptsSecondsAndHttpDate() {
+        assertEquals(Duration.ofSeconds(7), CanvasClient.parseRetryAfter("7"));
+        assertNull(CanvasClient.parseRetryAfter(null));
+        assertNull(CanvasClient.parseRetryAfter("soon"));
+
+        String inOneMinute = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now().plusMinutes(1));
+        Duration parsed = CanvasClient.parseRetryAfter(inOneMinute);
+        assertTrue(parsed.compareTo(Duration.ofSeconds(50)) > 0 && parsed.compareTo(Duration.ofSeconds(61)) <= 0);
+
+        String past = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now().minusMinutes(1));
+        assertEquals(Duration.ZERO, CanvasClient.parseRetryAfter(past));
+    }
+}
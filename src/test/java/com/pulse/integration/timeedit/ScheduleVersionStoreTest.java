@@ -0,0 +1,138 @@
+package com.pulse.integration.timeedit;
+
+import com.pulse.integration.timeedit.dto.TimeEditEventDTO;
+import com.pulse.integration.timeedit.dto.TimeEditScheduleDTO;
+import com.pulse.integration.timeedit.dto.TimeEditScheduleDeltaDTO;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScheduleVersionStoreTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Europe/Stockholm");
+    private static final String URL = "https://te/a.json";
+
+    @Test
+    void record_sameContent_sameToken() {
+        ScheduleVersionStore store = new ScheduleVersionStore(4, 4);
+
+        String first = store.record(URL, ZONE, schedule(event("1", "Lecture"), event("2", "Lab")));
+        String second = store.record(URL, ZONE, schedule(event("1", "Lecture"), event("2", "Lab")));
+        String changed = store.record(URL, ZONE, schedule(event("1", "Lecture"), event("2", "Exam")));
+
+        assertEquals(first, second);
+        assertNotEquals(first, changed);
+    }
+
+    @Test
+    void delta_returnsAddedChangedAndRemoved() {
+        ScheduleVersionStore store = new ScheduleVersionStore(4, 4);
+        String since = store.record(URL, ZONE, schedule(event("1", "Lecture"), event("2", "Lab"), event("3", "Seminar")));
+        TimeEditScheduleDTO current = schedule(event("1", "Lecture"), event("2", "Exam"), event("4", "Workshop"));
+        String version = store.record(URL, ZONE, current);
+
+        TimeEditScheduleDeltaDTO delta = store.delta(URL, ZONE, current, version, since);
+
+        assertFalse(delta.isFull());
+        assertEquals(version, delta.getVersion());
+        assertEquals(List.of("4"), ids(delta.getAdded()));
+        assertEquals(List.of("2"), ids(delta.getChanged()));
+        assertEquals(List.of("3"), delta.getRemoved());
+    }
+
+    @Test
+    void delta_sinceCurrentVersion_isEmpty() {
+        ScheduleVersionStore store = new ScheduleVersionStore(4, 4);
+        TimeEditScheduleDTO current = schedule(event("1", "Lecture"));
+        String version = store.record(URL, ZONE, current);
+
+        TimeEditScheduleDeltaDTO delta = store.delta(URL, ZONE, current, version, version);
+
+        assertFalse(delta.isFull());
+        assertTrue(delta.getAdded().isEmpty());
+        assertTrue(delta.getChanged().isEmpty());
+        assertTrue(delta.getRemoved().isEmpty());
+    }
+
+    @Test
+    void delta_sinceForgottenVersion_isFull() {
+        ScheduleVersionStore store = new ScheduleVersionStore(4, 2);
+        String oldest = store.record(URL, ZONE, schedule(event("1", "A")));
+        store.record(URL, ZONE, schedule(event("1", "B")));
+        TimeEditScheduleDTO current = schedule(event("1", "C"), event("2", "D"));
+        String version = store.record(URL, ZONE, current);
+
+        TimeEditScheduleDeltaDTO delta = store.delta(URL, ZONE, current, version, oldest);
+
+        assertTrue(delta.isFull());
+        assertEquals(List.of("1", "2"), ids(delta.getAdded()));
+        assertTrue(delta.getRemoved().isEmpty());
+    }
+
+    @Test
+    void delta_otherZone_doesNotShareVersions() {
+        ScheduleVersionStore store = new ScheduleVersionStore(4, 4);
+        TimeEditScheduleDTO current = schedule(event("1", "Lecture"));
+        String version = store.record(URL, ZONE, current);
+
+        assertTrue(store.delta(URL, ZoneId.of("UTC"), current, version, version).isFull());
+    }
+
+    @Test
+    void delta_duplicateIds_isAlwaysFull() {
+        ScheduleVersionStore store = new ScheduleVersionStore(4, 4);
+        TimeEditScheduleDTO current = schedule(event("1", "Lecture"), event("1", "Lab"));
+        String version = store.record(URL, ZONE, current);
+
+        assertTrue(store.delta(URL, ZONE, current, version, version).isFull());
+    }
+
+    @Test
+    void builder_matchesRecord() {
+        ScheduleVersionStore store = new ScheduleVersionStore(4, 4);
+        TimeEditScheduleDTO current = schedule(event("1", "Lecture"), event("2", "Lab"));
+
+        ScheduleVersionStore.Builder builder = store.builder(URL, ZONE);
+        current.getEvents().forEach(builder::add);
+
+        assertEquals(store.record(URL, ZONE, current), builder.commit());
+    }
+
+    @Test
+    void record_beyondCapacity_evictsLeastRecentlyUsedSchedule() {
+        ScheduleVersionStore store = new ScheduleVersionStore(2, 4);
+        String a = store.record("a", ZONE, schedule(event("1", "A")));
+        store.record("b", ZONE, schedule(event("1", "B")));
+        store.record("c", ZONE, schedule(event("1", "C")));
+
+        TimeEditScheduleDTO current = schedule(event("1", "A"));
+        assertTrue(store.delta("a", ZONE, current, a, a).isFull());
+        assertEquals(2, store.size());
+    }
+
+    private static TimeEditScheduleDTO schedule(TimeEditEventDTO... events) {
+        TimeEditScheduleDTO schedule = new TimeEditScheduleDTO();
+        schedule.setTimeeditUrl(URL);
+        schedule.setEvents(new ArrayList<>(List.of(events)));
+        return schedule;
+    }
+
+    private static TimeEditEventDTO event(String id, String title) {
+        TimeEditEventDTO event = new TimeEditEventDTO();
+        event.setExternalId(id);
+        event.setTitle(title);
+        event.setStart(OffsetDateTime.parse("2026-02-03T08:15:00+01:00"));
+        event.setEnd(OffsetDateTime.parse("2026-02-03T09:45:00+01:00"));
+        event.setLocation("Room 1");
+        return event;
+    }
+
+    private static List<String> ids(List<TimeEditEventDTO> events) {
+        return events.stream().map(TimeEditEventDTO::getExternalId).toList();
+    }
+}
@@ -1,7 +1,15 @@
 package com.pulse.integration.timeedit;
 
+import com.sun.net.httpserver.HttpServer;
 import org.junit.jupiter.api.Test;
 
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -99,4 +107,70 @@ public class TimeEditClientTest {
         // Invalid URL should not have HTTP status
         assertNull(response.getHttpStatusCode());
     }
+
+    @Test
+    public void testAsyncInvalidUrlCompletesImmediately() {
+        CompletableFuture<TimeEditClient.TimeEditResponse> pending = TimeEditClient.fetchScheduleAsync(null, null, null);
+
+        assertTrue(pending.isDone());
+        assertEquals("INVALID_TIMEEDIT_URL", pending.join().getErrorCode());
+    }
+
+    @Test
+    public void testAsyncUnreachableHostCompletesWithUnreachable() {
+        TimeEditClient.TimeEditResponse response =
+                TimeEditClient.fetchScheduleAsync("http://127.0.0.1:65534/unreachable.json", null, null).join();
+
+        assertFalse(response.isSuccess());
+        assertEquals("TIMEEDIT_UNREACHABLE", response.getErrorCode());
+    }
+
+    @Test
+    public void testOpenCircuitFailsFastWithoutConnecting() {
+        // Nothing listens here; five refused connections open the host's breaker
+        String url = "http://127.0.0.1:65533/down.json";
+        for (int i = 0; i < 5; i++) {
+            TimeEditClient.fetchScheduleAsync(url, null, null).join();
+        }
+
+        CompletableFuture<TimeEditClient.TimeEditResponse> pending = TimeEditClient.fetchScheduleAsync(url, null, null);
+
+        assertTrue(pending.isDone(), "answered without a network round trip");
+        assertEquals("TIMEEDIT_UNREACHABLE", pending.join().getErrorCode());
+        assertTrue(pending.join().getErrorMessage().contains("circuit open"));
+    }
+
+    @Test
+    public void testAsyncReturnsBeforeUpstreamResponds() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        byte[] body = "{\"reservations\": []}".getBytes(StandardCharsets.UTF_8);
+        HttpServer upstream = HttpServer.create(new InetSocketAddress(0), 0);
+        upstream.setExecutor(Executors.newCachedThreadPool());
+        upstream.createContext("/slow.json", exchange -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        upstream.start();
+        try {
+            String url = "http://localhost:" + upstream.getAddress().getPort() + "/slow.json";
+            CompletableFuture<TimeEditClient.TimeEditResponse> pending = TimeEditClient.fetchScheduleAsync(url, null, null);
+
+            // The call returned while the upstream is still holding the response
+            assertFalse(pending.isDone());
+
+            release.countDown();
+            TimeEditClient.TimeEditResponse response = pending.get(5, TimeUnit.SECONDS);
+            assertTrue(response.isSuccess());
+            assertEquals(body.length, response.getBodyLength());
+        } finally {
+            release.countDown();
+            upstream.stop(0);
+        }
+    }
 }
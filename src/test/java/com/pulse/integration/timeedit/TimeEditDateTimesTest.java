@@ -0,0 +1,78 @@
+package com.pulse.integration.timeedit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimeEditDateTimesTest {
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm");
+
+    // Differential check against the plain java.time path, for every minute of a year
+    @ParameterizedTest
+    @ValueSource(strings = {"Europe/Stockholm", "America/New_York", "Australia/Lord_Howe", "Asia/Kolkata", "UTC"})
+    void everyMinuteOfTheYear_matchesZonedDateTime(String zone) {
+        ZoneId zoneId = ZoneId.of(zone);
+        LocalDateTime local = LocalDateTime.of(2026, 1, 1, 0, 0);
+        LocalDateTime end = local.plusYears(1);
+        for (; local.isBefore(end); local = local.plusMinutes(1)) {
+            String date = local.format(DATE);
+            String time = local.format(TIME);
+            OffsetDateTime expected = ZonedDateTime.of(LocalDate.parse(date), LocalTime.parse(time), zoneId).toOffsetDateTime();
+
+            OffsetDateTime actual = TimeEditDateTimes.toOffsetDateTime(date, time, zoneId);
+
+            if (!expected.equals(actual)) {
+                fail(zone + " " + date + " " + time + ": expected " + expected + " but was " + actual);
+            }
+        }
+    }
+
+    @Test
+    void dstGapAndOverlap_inStockholm_resolveLikeZonedDateTime() {
+        ZoneId stockholm = ZoneId.of("Europe/Stockholm");
+        // Warm the cache with a winter time first, then cross into the gap and the overlap
+        TimeEditDateTimes.toOffsetDateTime("2026-03-29", "01:30", stockholm);
+
+        assertEquals(OffsetDateTime.parse("2026-03-29T03:30+02:00"),
+                TimeEditDateTimes.toOffsetDateTime("2026-03-29", "02:30", stockholm));
+        assertEquals(OffsetDateTime.parse("2026-10-25T02:30+02:00"),
+                TimeEditDateTimes.toOffsetDateTime("2026-10-25", "02:30", stockholm));
+        assertEquals(OffsetDateTime.parse("2026-10-25T03:00+01:00"),
+                TimeEditDateTimes.toOffsetDateTime("2026-10-25", "03:00", stockholm));
+    }
+
+    @Test
+    void otherShapes_fallBackToIsoParsing() {
+        ZoneId utc = ZoneId.of("UTC");
+
+        assertEquals(OffsetDateTime.parse("2026-02-03T10:15:30Z"),
+                TimeEditDateTimes.toOffsetDateTime("2026-02-03", "10:15:30", utc));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2026-02-30", "2026-13-01", "2026-1-05", "2026/01/05", "20x6-01-05", "", " 2026-01-05"})
+    void invalidDates_areRejected(String date) {
+        assertThrows(DateTimeException.class, () -> LocalDate.parse(date));
+        assertThrows(DateTimeException.class, () -> TimeEditDateTimes.toOffsetDateTime(date, "10:00", ZoneId.of("UTC")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"24:00", "10:60", "9:30", "10.30", "1x:00", ""})
+    void invalidTimes_areRejected(String time) {
+        assertThrows(DateTimeException.class, () -> LocalTime.parse(time));
+        assertThrows(DateTimeException.class, () -> TimeEditDateTimes.toOffsetDateTime("2026-01-05", time, ZoneId.of("UTC")));
+    }
+}
@@ -0,0 +1,98 @@
+package com.pulse.integration.timeedit;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimeEditHedgingTest {
+
+    private final List<CompletableFuture<String>> attempts = new ArrayList<>();
+
+    @Test
+    void slowFetch_isHedged_andTheLoserIsCancelled() throws Exception {
+        TimeEditHedging hedging = primed(new TimeEditHedging(true, 95, 100, 0));
+        long winsBefore = hedging.hedgeWins();
+
+        CompletableFuture<String> result = hedging.send(() -> {
+            CompletableFuture<String> attempt = new CompletableFuture<>();
+            synchronized (attempts) {
+                attempts.add(attempt);
+                if (attempts.size() == 2) {
+                    attempt.complete("hedge");
+                }
+            }
+            return attempt;
+        });
+
+        assertEquals("hedge", result.get(5, TimeUnit.SECONDS));
+        assertEquals(2, attempts.size());
+        assertTrue(attempts.get(0).isCancelled(), "the slow first request is cancelled");
+        assertTrue(hedging.hedgeWins() > winsBefore);
+    }
+
+    @Test
+    void noHedge_untilEnoughLatenciesHaveBeenSeen() throws Exception {
+        TimeEditHedging hedging = new TimeEditHedging(true, 95, 100, 0);
+        assertEquals(-1, hedging.hedgeDelayNanos());
+
+        String value = hedging.send(() -> slow("primary", 100)).get(5, TimeUnit.SECONDS);
+
+        assertEquals("primary", value);
+        assertEquals(1, attempts.size());
+    }
+
+    @Test
+    void hedges_stayWithinTheBudget() throws Exception {
+        // 10% of 5 fetches rounds down to no hedges at all
+        TimeEditHedging hedging = primed(new TimeEditHedging(true, 50, 10, 0));
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals("primary", hedging.send(() -> slow("primary", 50)).get(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(5, attempts.size());
+    }
+
+    @Test
+    void failure_isReported_whenNoOtherAttemptIsPending() {
+        TimeEditHedging hedging = primed(new TimeEditHedging(true, 95, 100, 1000));
+
+        CompletableFuture<String> result = hedging.send(() -> CompletableFuture.failedFuture(new IOException("refused")));
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IOException.class, e.getCause());
+    }
+
+    @Test
+    void delay_followsTheConfiguredPercentile() {
+        TimeEditHedging hedging = new TimeEditHedging(true, 90, 10, 0);
+        for (int i = 1; i <= 160; i++) {
+            hedging.record(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(144), hedging.hedgeDelayNanos());
+    }
+
+    private static TimeEditHedging primed(TimeEditHedging hedging) {
+        for (int i = 0; i < TimeEditHedging.MIN_SAMPLES; i++) {
+            hedging.record(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        return hedging;
+    }
+
+    private CompletableFuture<String> slow(String value, long millis) {
+        CompletableFuture<String> attempt = CompletableFuture.supplyAsync(() -> value,
+                CompletableFuture.delayedExecutor(millis, TimeUnit.MILLISECONDS));
+        synchronized (attempts) {
+            attempts.add(attempt);
+        }
+        return attempt;
+    }
+}
@@ -1,13 +1,18 @@
 package com.pulse.integration.timeedit;
 
+import com.pulse.integration.timeedit.dto.TimeEditEventDTO;
 import com.pulse.integration.timeedit.dto.TimeEditScheduleDTO;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -54,6 +59,170 @@ public class TimeEditParserTest {
         );
     }
 
+    @Test
+    void parseSchedule_stream_fixture_matchesTreeParse() throws Exception {
+        String rawJson = readResource("/timeedit/sample-holidays.json");
+        ZoneId zoneId = ZoneId.of("Europe/Stockholm");
+
+        TimeEditScheduleDTO tree = TimeEditParser.parseSchedule(rawJson, "u", zoneId);
+        TimeEditScheduleDTO streamed = TimeEditParser.parseSchedule(stream(rawJson), "u", zoneId);
+
+        assertSameSchedule(tree, streamed);
+    }
+
+    @Test
+    void parseSchedule_stream_mapsLocationAndDescription_evenWhenHeadersComeLast() {
+        String reservations = """
+                "reservations": [
+                  {"id": 7, "startdate": "2026-02-03", "starttime": "08:15", "enddate": "2026-02-03", "endtime": "09:45",
+                   "columns": ["  Föreläsning ", "A109", "", "Ta med dator.", ", "]},
+                  {"id": "8", "startdate": "2026-02-05", "starttime": "13:00", "enddate": "2026-02-05", "endtime": "14:30",
+                   "columns": ["", "Zoom", null, ", ", "Länk publiceras i Canvas."], "extra": {"nested": [1, 2]}}
+                ]""";
+        String headers = "\"columnheaders\": [\"Activity\", \"Location, Room\", \"Course\", \"Comment\", \"Text, Text\"]";
+        ZoneId zoneId = ZoneId.of("Europe/Stockholm");
+
+        for (String rawJson : new String[] {
+                "{" + headers + ", \"info\": {}, " + reservations + "}",
+                "{" + reservations + ", " + headers + "}"
+        }) {
+            TimeEditScheduleDTO tree = TimeEditParser.parseSchedule(rawJson, "u", zoneId);
+            TimeEditScheduleDTO streamed = TimeEditParser.parseSchedule(stream(rawJson), "u", zoneId);
+            assertSameSchedule(tree, streamed);
+
+            TimeEditEventDTO first = streamed.getEvents().get(0);
+            assertEquals("TE-7", first.getExternalId());
+            assertEquals("Föreläsning", first.getTitle());
+            assertEquals("A109", first.getLocation());
+            assertEquals("Ta med dator.", first.getDescription());
+
+            TimeEditEventDTO second = streamed.getEvents().get(1);
+            assertEquals("(untitled)", second.getTitle());
+            assertEquals("Länk publiceras i Canvas.", second.getDescription());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "   ",
+            "this is not json",
+            "[]",
+            "null",
+            "{\"columnheaders\": []}",
+            "{\"columnheaders\": \"x\", \"reservations\": []}",
+            "{\"reservations\": {}}",
+            "{\"reservations\": [\"nope\"]}",
+            "{\"reservations\": [{\"id\": null}]}",
+            "{\"reservations\": [{\"id\": \"1\", \"startdate\": \" \"}]}",
+            "{\"reservations\": [{\"id\": \"1\", \"startdate\": {}, \"starttime\": \"08:00\"}]}",
+            "{\"reservations\": [{\"id\": \"1\", \"startdate\": \"2026-13-01\", \"starttime\": \"08:00\", \"enddate\": \"2026-01-01\", \"endtime\": \"09:00\"}]}",
+            "{\"reservations\": [{\"id\": \"1\", \"startdate\": \"2026-01-01\", \"starttime\": \"08:00\", \"enddate\": \"2026-01-01\", \"endtime\": \"09:00\", \"columns\": \"x\"}]}",
+            "{\"reservations\": [{\"id\": \"1\", \"startdate\": \"2026-01-01\""
+    })
+    void parseSchedule_stream_reportsSameErrorsAsTreeParse(String rawJson) {
+        ZoneId zoneId = ZoneId.of("Europe/Stockholm");
+
+        TimeEditParseException tree = assertThrows(TimeEditParseException.class,
+                () -> TimeEditParser.parseSchedule(rawJson, "u", zoneId));
+        TimeEditParseException streamed = assertThrows(TimeEditParseException.class,
+                () -> TimeEditParser.parseSchedule(stream(rawJson), "u", zoneId));
+
+        assertEquals(tree.getMessage(), streamed.getMessage());
+    }
+
+    @Test
+    void parseSchedule_repeatedColumnValues_shareOneInstance() {
+        String reservation = "{\"id\": \"%d\", \"startdate\": \"2026-02-0%d\", \"starttime\": \"08:15\", "
+                + "\"enddate\": \"2026-02-0%d\", \"endtime\": \"09:45\", \"columns\": [\"Databaser\", \"Lab B214\"]}";
+        String rawJson = "{\"columnheaders\": [\"Activity\", \"Location\"], \"reservations\": ["
+                + String.format(reservation, 1, 2, 2) + "," + String.format(reservation, 2, 3, 3) + "]}";
+        ZoneId zoneId = ZoneId.of("Europe/Stockholm");
+
+        for (TimeEditScheduleDTO schedule : new TimeEditScheduleDTO[] {
+                TimeEditParser.parseSchedule(rawJson, "u", zoneId),
+                TimeEditParser.parseSchedule(stream(rawJson), "u", zoneId)}) {
+            TimeEditEventDTO first = schedule.getEvents().get(0);
+            TimeEditEventDTO second = schedule.getEvents().get(1);
+            assertSame(first.getTitle(), second.getTitle());
+            assertSame(first.getLocation(), second.getLocation());
+        }
+    }
+
+    @Test
+    void parseAndValidateInParallel_matchesSequentialParse_acrossChunks() {
+        String rawJson = reservations(TimeEditParser.PARALLEL_CHUNK_SIZE * 2 + 500, -1, -1);
+        ZoneId zoneId = ZoneId.of("Europe/Stockholm");
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            TimeEditScheduleDTO sequential = TimeEditParser.parseSchedule(stream(rawJson), "u", zoneId);
+            TimeEditScheduleDTO parallel = TimeEditParser.parseAndValidateInParallel(stream(rawJson), "u", zoneId, pool);
+
+            assertSameSchedule(sequential, parallel);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void parseAndValidateInParallel_reportsTheErrorsOfParseThenValidate() {
+        int size = TimeEditParser.PARALLEL_CHUNK_SIZE * 3;
+        ZoneId zoneId = ZoneId.of("Europe/Stockholm");
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            // An invalid event early on and a bad date later: the parse error wins, as it would sequentially
+            String both = reservations(size, 100, size - 10);
+            // Only invalid events: the first one is reported
+            String invalidOnly = reservations(size, TimeEditParser.PARALLEL_CHUNK_SIZE + 7, -1);
+            for (String rawJson : new String[] {both, invalidOnly}) {
+                TimeEditParseException expected = assertThrows(TimeEditParseException.class, () ->
+                        TimeEditScheduleValidator.validate(TimeEditParser.parseSchedule(stream(rawJson), "u", zoneId)));
+                TimeEditParseException actual = assertThrows(TimeEditParseException.class, () ->
+                        TimeEditParser.parseAndValidateInParallel(stream(rawJson), "u", zoneId, pool));
+
+                assertEquals(expected.getMessage(), actual.getMessage());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // count reservations; the one at invalidAt ends before it starts, the one at badDateAt has an unparseable date
+    private static String reservations(int count, int invalidAt, int badDateAt) {
+        StringBuilder sb = new StringBuilder("{\"columnheaders\": [\"Activity\", \"Location\"], \"reservations\": [");
+        for (int i = 0; i < count; i++) {
+            String date = i == badDateAt ? "2026-02-30" : "2026-03-" + String.format("%02d", 1 + i % 28);
+            String end = i == invalidAt ? "07:00" : "09:45";
+            sb.append(i > 0 ? "," : "")
+                    .append("{\"id\": \"").append(i).append("\", \"startdate\": \"").append(date)
+                    .append("\", \"starttime\": \"08:15\", \"enddate\": \"").append(date)
+                    .append("\", \"endtime\": \"").append(end)
+                    .append("\", \"columns\": [\"Kurs ").append(i % 7).append("\", \"Sal ").append(i % 5).append("\"]}");
+        }
+        return sb.append("]}").toString();
+    }
+
+    private static void assertSameSchedule(TimeEditScheduleDTO expected, TimeEditScheduleDTO actual) {
+        assertEquals(expected.getEvents().size(), actual.getEvents().size());
+        for (int i = 0; i < expected.getEvents().size(); i++) {
+            TimeEditEventDTO e = expected.getEvents().get(i);
+            TimeEditEventDTO a = actual.getEvents().get(i);
+            assertEquals(e.getExternalId(), a.getExternalId());
+            assertEquals(e.getTitle(), a.getTitle());
+            assertEquals(e.getStart(), a.getStart());
+            assertEquals(e.getEnd(), a.getEnd());
+            assertEquals(e.getLocation(), a.getLocation());
+            assertEquals(e.getDescription(), a.getDescription());
+        }
+        assertEquals(expected.getSummary().getEventCount(), actual.getSummary().getEventCount());
+        assertEquals(expected.getSummary().getRangeStart(), actual.getSummary().getRangeStart());
+        assertEquals(expected.getSummary().getRangeEnd(), actual.getSummary().getRangeEnd());
+    }
+
+    private static InputStream stream(String rawJson) {
+        return new ByteArrayInputStream(rawJson.getBytes(StandardCharsets.UTF_8));
+    }
+
     private static String readResource(String classpathResource) throws Exception {
         try (InputStream in = TimeEditParserTest.class.getResourceAsStream(classpathResource)) {
             assertNotNull(in, "Missing test resource: " + classpathResource);
@@ -0,0 +1,86 @@
+package com.pulse.integration.timeedit;
+
+import com.pulse.integration.timeedit.dto.TimeEditScheduleDTO;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimeEditScheduleCacheTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Europe/Stockholm");
+
+    @Test
+    void get_returnsStoredEntryWithValidators() {
+        TimeEditScheduleCache cache = new TimeEditScheduleCache(4, Duration.ofMinutes(5));
+        TimeEditScheduleDTO schedule = new TimeEditScheduleDTO();
+
+        cache.put("https://te/a.json", ZONE, "\"v1\"", "Tue, 03 Feb 2026 08:00:00 GMT", schedule);
+
+        TimeEditScheduleCache.Entry entry = cache.get("https://te/a.json", ZONE);
+        assertNotNull(entry);
+        assertSame(schedule, entry.getSchedule());
+        assertEquals("\"v1\"", entry.getEtag());
+        assertEquals("Tue, 03 Feb 2026 08:00:00 GMT", entry.getLastModified());
+    }
+
+    @Test
+    void put_withoutValidators_isIgnored() {
+        TimeEditScheduleCache cache = new TimeEditScheduleCache(4, Duration.ofMinutes(5));
+
+        cache.put("https://te/a.json", ZONE, null, null, new TimeEditScheduleDTO());
+
+        assertNull(cache.get("https://te/a.json", ZONE));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void put_beyondCapacity_evictsLeastRecentlyUsed() {
+        TimeEditScheduleCache cache = new TimeEditScheduleCache(2, Duration.ofMinutes(5));
+        cache.put("a", ZONE, "1", null, new TimeEditScheduleDTO());
+        cache.put("b", ZONE, "2", null, new TimeEditScheduleDTO());
+
+        // touch "a" so "b" becomes the eldest
+        assertNotNull(cache.get("a", ZONE));
+        cache.put("c", ZONE, "3", null, new TimeEditScheduleDTO());
+
+        assertNotNull(cache.get("a", ZONE));
+        assertNull(cache.get("b", ZONE));
+        assertNotNull(cache.get("c", ZONE));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void get_afterTtl_dropsEntry() {
+        AtomicLong now = new AtomicLong();
+        TimeEditScheduleCache cache = new TimeEditScheduleCache(4, Duration.ofSeconds(10), now::get);
+        cache.put("a", ZONE, "1", null, new TimeEditScheduleDTO());
+
+        now.addAndGet(Duration.ofSeconds(9).toNanos());
+        assertNotNull(cache.get("a", ZONE));
+
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertNull(cache.get("a", ZONE));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void get_withDifferentZone_misses() {
+        TimeEditScheduleCache cache = new TimeEditScheduleCache(4, Duration.ofMinutes(5));
+        cache.put("a", ZONE, "1", null, new TimeEditScheduleDTO());
+
+        assertNull(cache.get("a", ZoneId.of("UTC")));
+    }
+
+    @Test
+    void zeroCapacity_disablesCache() {
+        TimeEditScheduleCache cache = new TimeEditScheduleCache(0, Duration.ofMinutes(5));
+        cache.put("a", ZONE, "1", null, new TimeEditScheduleDTO());
+
+        assertFalse(cache.isEnabled());
+        assertNull(cache.get("a", ZONE));
+    }
+}
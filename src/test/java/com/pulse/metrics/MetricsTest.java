@@ -0,0 +1,62 @@
+package com.pulse.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MetricsTest {
+
+    @Test
+    void histogram_countsEachValueInTheFirstBucketThatHoldsIt() {
+        Histogram histogram = new Histogram(1, 10, 100);
+
+        histogram.observe(10);
+        histogram.observe(11);
+        histogram.observe(100);
+        histogram.observe(5000);
+
+        assertEquals(1, histogram.bucket(0));
+        assertEquals(2, histogram.bucket(1));
+        assertEquals(1, histogram.bucket(2));
+        assertEquals(4, histogram.count());
+        assertEquals(5121, histogram.sum());
+    }
+
+    @Test
+    void histogram_rejectsUnsortedBounds() {
+        assertThrows(IllegalArgumentException.class, () -> new Histogram(1, 100, 10));
+    }
+
+    @Test
+    void prometheus_writesCumulativeBucketsInSeconds() {
+        Histogram timer = Metrics.timer(Metrics.series("test_metrics_op_seconds", "op", "read"));
+        timer.observe(2_000_000);      // 2 ms
+        timer.observe(3_000_000_000L); // 3 s
+
+        String text = Metrics.prometheus();
+
+        assertTrue(text.contains("# TYPE test_metrics_op_seconds histogram\n"), text);
+        assertTrue(text.contains("test_metrics_op_seconds_bucket{op=\"read\",le=\"0.001\"} 0\n"), text);
+        assertTrue(text.contains("test_metrics_op_seconds_bucket{op=\"read\",le=\"0.005\"} 1\n"), text);
+        assertTrue(text.contains("test_metrics_op_seconds_bucket{op=\"read\",le=\"5\"} 2\n"), text);
+        assertTrue(text.contains("test_metrics_op_seconds_bucket{op=\"read\",le=\"+Inf\"} 2\n"), text);
+        assertTrue(text.contains("test_metrics_op_seconds_sum{op=\"read\"} 3.002\n"), text);
+        assertTrue(text.contains("test_metrics_op_seconds_count{op=\"read\"} 2\n"), text);
+    }
+
+    @Test
+    void prometheus_writesCountersAndGaugesWithTheirType() {
+        Metrics.counter("test_metrics_calls_total").add(3);
+        Metrics.gauge("test_metrics_depth", () -> 7);
+
+        String text = Metrics.prometheus();
+
+        assertTrue(text.contains("# TYPE test_metrics_calls_total counter\ntest_metrics_calls_total 3\n"), text);
+        assertTrue(text.contains("# TYPE test_metrics_depth gauge\ntest_metrics_depth 7\n"), text);
+    }
+
+    @Test
+    void series_escapesLabelValues() {
+        assertEquals("m{k=\"a\\\"b\"}", Metrics.series("m", "k", "a\"b"));
+    }
+}
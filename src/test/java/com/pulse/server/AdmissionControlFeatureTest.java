@@ -0,0 +1,60 @@
+package com.pulse.server;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AdmissionControlFeatureTest {
+
+    @Test
+    void limiter_queuesUpToMaxQueue_thenShedsAtOnce() throws Exception {
+        AdmissionControlFeature.Limiter limiter = new AdmissionControlFeature.Limiter("test-queue", 1, 1, 5000);
+        assertTrue(limiter.tryAdmit(true));
+
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> limiter.tryAdmit(true));
+        awaitWaiting(limiter);
+
+        long started = System.nanoTime();
+        assertFalse(limiter.tryAdmit(true));
+        assertTrue(System.nanoTime() - started < TimeUnit.SECONDS.toNanos(1), "shed without waiting");
+        assertEquals(1, limiter.shedCount());
+
+        limiter.release();
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void limiter_shedsAQueuedRequestAfterMaxWait() {
+        AdmissionControlFeature.Limiter limiter = new AdmissionControlFeature.Limiter("test-wait", 1, 4, 20);
+        assertTrue(limiter.tryAdmit(true));
+
+        assertFalse(limiter.tryAdmit(true));
+        assertEquals(1, limiter.shedCount());
+
+        limiter.release();
+        assertTrue(limiter.tryAdmit(true));
+    }
+
+    @Test
+    void limiter_shedsAtOnce_whenTheCallerMayNotWait() {
+        AdmissionControlFeature.Limiter limiter = new AdmissionControlFeature.Limiter("test-no-wait", 1, 4, 5000);
+        assertTrue(limiter.tryAdmit(false));
+
+        long started = System.nanoTime();
+        assertFalse(limiter.tryAdmit(false));
+        assertTrue(System.nanoTime() - started < TimeUnit.SECONDS.toNanos(1), "shed without waiting");
+        assertEquals(1, limiter.shedCount());
+        assertFalse(limiter.hasWaiters());
+    }
+
+    private static void awaitWaiting(AdmissionControlFeature.Limiter limiter) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!limiter.hasWaiters()) {
+            assertTrue(System.nanoTime() < deadline, "no request queued within 5 s");
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.pulse.server;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ServerWorkersTest {
+
+    @Test
+    void cappedExecutor_runsTasksOnVirtualThreads_atMostCapAtOnce() throws InterruptedException {
+        ServerWorkers.CappedVirtualThreadExecutor executor = new ServerWorkers.CappedVirtualThreadExecutor(2);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        AtomicInteger virtual = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(6);
+        try {
+            for (int i = 0; i < 6; i++) {
+                executor.execute(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    if (Thread.currentThread().isVirtual()) {
+                        virtual.incrementAndGet();
+                    }
+                    try {
+                        Thread.sleep(20);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    running.decrementAndGet();
+                    done.countDown();
+                });
+            }
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(2, maxRunning.get());
+        assertEquals(6, virtual.get());
+    }
+
+    @Test
+    void fromConfig_defaultsToPlatformWorkers() {
+        assertEquals(ServerWorkers.Mode.PLATFORM, ServerWorkers.fromConfig().getMode());
+    }
+
+    @Test
+    void virtual_capIsAtLeastOne() {
+        assertEquals(1, ServerWorkers.virtual(0).getMaxConcurrentRequests());
+    }
+}
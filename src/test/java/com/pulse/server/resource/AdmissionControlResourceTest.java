@@ -0,0 +1,123 @@
+package com.pulse.server.resource;
+
+import com.pulse.server.RestServer;
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Schedule requests limited to one at a time, on Grizzly's platform worker pool: while one waits
+ * on a stalled TimeEdit, the next are shed at once even though the queue has room, so a burst
+ * larger than the worker pool never ties up the workers other endpoints need.
+ */
+public class AdmissionControlResourceTest {
+
+    private static final CountDownLatch release = new CountDownLatch(1);
+    private static final CountDownLatch upstreamCalled = new CountDownLatch(1);
+
+    private static org.glassfish.grizzly.http.server.HttpServer server;
+    private static HttpServer stalledTimeEdit;
+
+    @BeforeAll
+    public static void setup() throws Exception {
+        System.setProperty("ADMISSION_SCHEDULE_MAX_CONCURRENT", "1");
+        System.setProperty("ADMISSION_SCHEDULE_MAX_QUEUE", "128");
+        System.setProperty("ADMISSION_SCHEDULE_MAX_WAIT_MS", "10000");
+        server = RestServer.startServer();
+        RestAssured.baseURI = "http://localhost:8080";
+
+        stalledTimeEdit = HttpServer.create(new InetSocketAddress(0), 0);
+        stalledTimeEdit.createContext("/stalled.json", exchange -> {
+            upstreamCalled.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(500, -1);
+            exchange.close();
+        });
+        stalledTimeEdit.start();
+    }
+
+    @AfterAll
+    public static void cleanup() {
+        System.clearProperty("ADMISSION_SCHEDULE_MAX_CONCURRENT");
+        System.clearProperty("ADMISSION_SCHEDULE_MAX_QUEUE");
+        System.clearProperty("ADMISSION_SCHEDULE_MAX_WAIT_MS");
+        release.countDown();
+        if (stalledTimeEdit != null) {
+            stalledTimeEdit.stop(0);
+        }
+        if (server != null) {
+            server.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testRequestBeyondLimitIsShedWithRetryAfter() throws Exception {
+        String stalledUrl = "http://localhost:" + stalledTimeEdit.getAddress().getPort() + "/stalled.json";
+        CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() -> given()
+                .queryParam("timeeditUrl", stalledUrl)
+                .get("/api/timeedit/schedule")
+                .statusCode());
+        upstreamCalled.await(5, TimeUnit.SECONDS);
+
+        given()
+            .queryParam("timeeditUrl", stalledUrl)
+            .get("/api/timeedit/schedule")
+            .then()
+            .statusCode(503)
+            .contentType(ContentType.JSON)
+            .header("Retry-After", equalTo("2"))
+            .body("error.code", equalTo("SERVER_OVERLOADED"))
+            .body("error.details.endpointClass", equalTo("schedule"));
+
+        // More requests than worker threads: none may wait for the 10 s queue timeout
+        int workers = server.getListeners().iterator().next().getTransport().getWorkerThreadPoolConfig().getMaxPoolSize();
+        int burst = workers + 8;
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:8080/api/timeedit/schedule?timeeditUrl="
+                + URLEncoder.encode(stalledUrl, StandardCharsets.UTF_8))).build();
+        long started = System.nanoTime();
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>();
+        for (int i = 0; i < burst; i++) {
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+        }
+        given().get("/health").then().statusCode(200);
+        for (CompletableFuture<HttpResponse<Void>> response : responses) {
+            assertEquals(503, response.get(5, TimeUnit.SECONDS).statusCode());
+        }
+        assertTrue(System.nanoTime() - started < TimeUnit.SECONDS.toNanos(5),
+                burst + " requests were not shed at once");
+
+        release.countDown();
+        // The first request still completes (TimeEdit answered 500) and frees its slot
+        first.get(10, TimeUnit.SECONDS);
+        given()
+            .get("/api/timeedit/schedule")
+            .then()
+            .statusCode(400);
+    }
+}
@@ -10,6 +10,8 @@ import org.junit.jupiter.api.Test;
 import com.pulse.server.RestServer;
 
 import static io.restassured.RestAssured.get;
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
 
 /**
  * Integration tests for error responses.
@@ -59,6 +61,38 @@ public class ErrorResponseIntegrationTest {
             .contentType(ContentType.JSON);
     }
 
+    @Test
+    public void testPublishWithoutScheduleReturnsValidationError() {
+        // Also proves the injected publish service reaches the resource
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"canvasContext\": \"user_1\"}")
+            .post("/api/canvas/publish")
+            .then()
+            .statusCode(422)
+            .body("error.code", equalTo("VALIDATION_ERROR"));
+    }
+
+    @Test
+    public void testPublishJobWithoutScheduleIsRejectedBeforeQueueing() {
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"canvasContext\": \"user_1\"}")
+            .post("/api/canvas/publish/jobs")
+            .then()
+            .statusCode(422)
+            .body("error.code", equalTo("VALIDATION_ERROR"));
+    }
+
+    @Test
+    public void testUnknownPublishJobReturnsNotFound() {
+        get("/api/canvas/publish/jobs/no-such-job")
+            .then()
+            .statusCode(404)
+            .contentType(ContentType.JSON)
+            .body("error.code", equalTo("PUBLISH_JOB_NOT_FOUND"));
+    }
+
     /**
      * This test demonstrates how error responses should look.
      * It can be used as a template for verifying other error responses.
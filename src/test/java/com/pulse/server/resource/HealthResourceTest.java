@@ -10,6 +10,7 @@ import com.pulse.server.RestServer;
 
 import static io.restassured.RestAssured.get;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
 
 public class HealthResourceTest {
 
@@ -33,7 +34,8 @@ public class HealthResourceTest {
         get("/health")
             .then()
             .statusCode(200)
-            .body("status", equalTo("UP"));
+            .body("status", equalTo("UP"))
+            .body("circuitBreakers", notNullValue());
     }
 
     @Test
@@ -0,0 +1,53 @@
+package com.pulse.server.resource;
+
+import io.restassured.RestAssured;
+import org.glassfish.grizzly.http.server.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.pulse.server.RestServer;
+
+import static io.restassured.RestAssured.get;
+import static org.hamcrest.Matchers.containsString;
+
+public class MetricsResourceTest {
+
+    private static HttpServer server;
+
+    @BeforeAll
+    public static void setup() {
+        server = RestServer.startServer();
+        RestAssured.baseURI = "http://localhost:8080";
+    }
+
+    @AfterAll
+    public static void cleanup() {
+        if (server != null) {
+            server.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testMetricsUsesThePrometheusTextFormat() {
+        get("/metrics")
+            .then()
+            .statusCode(200)
+            .contentType(containsString("text/plain"))
+            .contentType(containsString("version=0.0.4"))
+            .body(containsString("# TYPE pulse_http_request_seconds histogram"));
+    }
+
+    @Test
+    public void testResourceMethodsAreTimed() {
+        get("/health").then().statusCode(200);
+
+        get("/metrics")
+            .then()
+            .statusCode(200)
+            .body(containsString("pulse_http_request_seconds_count{resource=\"HealthResource.health\"}"))
+            .body(containsString("# TYPE pulse_http_requests_in_flight gauge"))
+            // The scrape itself is in flight while the body is rendered
+            .body(containsString("pulse_http_requests_in_flight{resource=\"MetricsResource\"} 1"));
+    }
+}
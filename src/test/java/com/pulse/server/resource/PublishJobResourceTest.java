@@ -0,0 +1,123 @@
+package com.pulse.server.resource;
+
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import org.glassfish.grizzly.http.server.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.pulse.server.RestServer;
+
+import static io.restassured.RestAssured.get;
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Publish jobs over HTTP. No Canvas is configured in tests, so every job ends with CONFIG_ERROR;
+ * that is enough to exercise submit, polling and the event stream end to end.
+ */
+public class PublishJobResourceTest {
+
+    private static final String BODY = "{\"canvasContext\": \"user_1\", \"schedule\": {\"events\": ["
+            + "{\"externalId\": \"TE-1\", \"title\": \"Lecture\", "
+            + "\"start\": \"2026-02-03T08:15:00+01:00\", \"end\": \"2026-02-03T09:45:00+01:00\"}]}}";
+
+    private static HttpServer server;
+
+    @BeforeAll
+    public static void setup() {
+        server = RestServer.startServer();
+        RestAssured.baseURI = "http://localhost:8080";
+    }
+
+    @AfterAll
+    public static void cleanup() {
+        if (server != null) {
+            server.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testSubmitReturnsAcceptedWithLocation() {
+        given()
+            .contentType(ContentType.JSON)
+            .body(BODY)
+            .post("/api/canvas/publish/jobs")
+            .then()
+            .statusCode(202)
+            .header("Location", containsString("/api/canvas/publish/jobs/"))
+            .body("jobId", notNullValue());
+    }
+
+    @Test
+    public void testJobStatusReportsTheFailure() throws InterruptedException {
+        String jobId = submit();
+
+        Response status = get("/api/canvas/publish/jobs/" + jobId);
+        for (int i = 0; i < 100 && !status.path("status").equals("failed"); i++) {
+            Thread.sleep(20);
+            status = get("/api/canvas/publish/jobs/" + jobId);
+        }
+
+        status.then()
+            .statusCode(200)
+            .body("status", equalTo("failed"))
+            .body("error.code", equalTo("CONFIG_ERROR"));
+    }
+
+    @Test
+    public void testEventStreamEndsWithDone() {
+        String jobId = submit();
+
+        String stream = given()
+            .accept("text/event-stream")
+            .get("/api/canvas/publish/jobs/" + jobId + "/events")
+            .then()
+            .statusCode(200)
+            .contentType(containsString("text/event-stream"))
+            .extract().asString();
+
+        assertTrue(stream.contains("event: done\n"), stream);
+        assertTrue(stream.contains("\"CONFIG_ERROR\""), stream);
+    }
+
+    @Test
+    public void testEventStreamForUnknownJobIsNotFound() {
+        given()
+            .accept("text/event-stream")
+            .get("/api/canvas/publish/jobs/no-such-job/events")
+            .then()
+            .statusCode(404)
+            .body("error.code", equalTo("PUBLISH_JOB_NOT_FOUND"));
+    }
+
+    @Test
+    public void testSynchronousPublishReportsServerTiming() {
+        String serverTiming = given()
+            .contentType(ContentType.JSON)
+            .body(BODY)
+            .post("/api/canvas/publish")
+            .then()
+            .statusCode(500)
+            .body("error.code", equalTo("CONFIG_ERROR"))
+            .extract().header("Server-Timing");
+
+        assertTrue(serverTiming.matches("auth;dur=[0-9.]+, canvas-calls;dur=[0-9.]+, total;dur=[0-9.]+"),
+                serverTiming);
+    }
+
+    private static String submit() {
+        return given()
+            .contentType(ContentType.JSON)
+            .body(BODY)
+            .post("/api/canvas/publish/jobs")
+            .then()
+            .statusCode(202)
+            .extract().path("jobId");
+    }
+}
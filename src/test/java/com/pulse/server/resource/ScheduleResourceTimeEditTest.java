@@ -1,5 +1,7 @@
 package com.pulse.server.resource;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pulse.server.RestServer;
 import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
@@ -10,20 +12,35 @@ import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
 
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ScheduleResourceTimeEditTest {
 
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
     private static org.glassfish.grizzly.http.server.HttpServer server;
     private static HttpServer mockTimeEdit;
     private static int mockTimeEditPort;
+    private static EtagJsonHandler etagHandler;
 
     @BeforeAll
     public static void setup() throws Exception {
@@ -38,6 +55,11 @@ public class ScheduleResourceTimeEditTest {
         mockTimeEdit.createContext("/bad.json", new StaticJsonHandler(200, "this is not json"));
         mockTimeEdit.createContext("/missing-reservations.json", new StaticJsonHandler(200, "{\"columnheaders\": []}"));
         mockTimeEdit.createContext("/upstream-500.json", new StaticJsonHandler(500, "upstream error"));
+        mockTimeEdit.createContext("/bad-second.json", new StaticJsonHandler(200, "{\"columnheaders\": [\"Title\"], \"reservations\": ["
+                + "{\"id\": \"1\", \"startdate\": \"2026-02-03\", \"starttime\": \"08:15\", \"enddate\": \"2026-02-03\", \"endtime\": \"09:45\", \"columns\": [\"Lecture\"]},"
+                + "{\"id\": \"2\", \"startdate\": \"not-a-date\", \"starttime\": \"08:15\", \"enddate\": \"2026-02-04\", \"endtime\": \"09:45\"}]}"));
+        etagHandler = new EtagJsonHandler("\"v1\"", readResource("/timeedit/sample-holidays.json"));
+        mockTimeEdit.createContext("/etag.json", etagHandler);
 
         mockTimeEdit.start();
     }
@@ -174,6 +196,237 @@ public class ScheduleResourceTimeEditTest {
                 .body("summary.eventCount", equalTo(4));
     }
 
+    @Test
+    void getSchedule_repeatedFetch_revalidatesWithEtag_andServesCachedSchedule() {
+        String url = "http://localhost:" + mockTimeEditPort + "/etag.json";
+
+        for (int i = 0; i < 2; i++) {
+            given()
+                    .accept(ContentType.JSON)
+                    .queryParam("timeeditUrl", url)
+                    .when()
+                    .get("/api/timeedit/schedule")
+                    .then()
+                    .statusCode(200)
+                    .contentType(ContentType.JSON)
+                    .body("events.size()", equalTo(4))
+                    .body("summary.eventCount", equalTo(4));
+        }
+
+        assertEquals(1, etagHandler.fullResponses.get());
+        assertEquals(1, etagHandler.notModifiedResponses.get());
+    }
+
+    @Test
+    void getSchedule_withoutAcceptHeader_staysJson() {
+        String url = "http://localhost:" + mockTimeEditPort + "/ok.json";
+
+        given()
+                .queryParam("timeeditUrl", url)
+                .when()
+                .get("/api/timeedit/schedule")
+                .then()
+                .statusCode(200)
+                .contentType(ContentType.JSON)
+                .body("events.size()", equalTo(4));
+    }
+
+    @Test
+    void getSchedule_ndjson_streamsOneEventPerLine_thenSummary() throws Exception {
+        String url = "http://localhost:" + mockTimeEditPort + "/ok.json";
+
+        String body = given()
+                .accept("application/x-ndjson")
+                .queryParam("timeeditUrl", url)
+                .when()
+                .get("/api/timeedit/schedule")
+                .then()
+                .statusCode(200)
+                .contentType("application/x-ndjson")
+                .extract().asString();
+
+        String[] lines = body.split("\n");
+        assertEquals(5, lines.length, body);
+        JsonNode first = MAPPER.readTree(lines[0]);
+        assertTrue(first.path("externalId").asText().startsWith("TE-"), lines[0]);
+        JsonNode trailer = MAPPER.readTree(lines[4]);
+        assertEquals(4, trailer.path("summary").path("eventCount").asInt());
+        assertEquals(url, trailer.path("timeeditUrl").asText());
+    }
+
+    @Test
+    void getSchedule_ndjson_parseErrorMidStream_endsWithErrorLine() throws Exception {
+        String url = "http://localhost:" + mockTimeEditPort + "/bad-second.json";
+
+        String body = given()
+                .accept("application/x-ndjson")
+                .queryParam("timeeditUrl", url)
+                .when()
+                .get("/api/timeedit/schedule")
+                .then()
+                .statusCode(200)
+                .extract().asString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length, body);
+        assertEquals("TE-1", MAPPER.readTree(lines[0]).path("externalId").asText());
+        assertEquals("TIMEEDIT_PARSE_ERROR", MAPPER.readTree(lines[1]).path("error").path("code").asText());
+    }
+
+    @Test
+    void getSchedule_reportsStagesInServerTimingHeader() {
+        String serverTiming = given()
+                .accept(ContentType.JSON)
+                .queryParam("timeeditUrl", "http://localhost:" + mockTimeEditPort + "/ok.json")
+                .when()
+                .get("/api/timeedit/schedule")
+                .then()
+                .statusCode(200)
+                .body("events.size()", greaterThan(0))
+                .extract().header("Server-Timing");
+
+        for (String stage : new String[] {"normalize", "fetch", "parse", "validate", "total"}) {
+            assertTrue(serverTiming.contains(stage + ";dur="), serverTiming);
+        }
+        // The body is streamed, so the header goes out before serialization
+        assertFalse(serverTiming.contains("serialize"), serverTiming);
+    }
+
+    @Test
+    void getSchedule_isGzipped_onlyWhenTheClientAcceptsIt() throws Exception {
+        URI uri = URI.create("http://localhost:8080/api/timeedit/schedule?timeeditUrl="
+                + URLEncoder.encode("http://localhost:" + mockTimeEditPort + "/ok.json", StandardCharsets.UTF_8));
+        HttpClient client = HttpClient.newHttpClient();
+
+        HttpResponse<byte[]> gzipped = client.send(HttpRequest.newBuilder(uri).header("Accept-Encoding", "gzip").build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        HttpResponse<byte[]> plain = client.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofByteArray());
+
+        assertEquals("gzip", gzipped.headers().firstValue("Content-Encoding").orElse(null));
+        assertTrue(gzipped.headers().firstValue("Server-Timing").orElse("").contains("total;dur="));
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.body()))) {
+            assertEquals(4, MAPPER.readTree(in).path("events").size());
+        }
+        assertTrue(plain.headers().firstValue("Content-Encoding").isEmpty());
+        assertEquals(4, MAPPER.readTree(plain.body()).path("events").size());
+    }
+
+    @Test
+    void getSchedule_ndjson_isGzippedWhenAccepted() throws Exception {
+        String url = "http://localhost:" + mockTimeEditPort + "/ok.json";
+
+        // RestAssured decodes the body itself
+        String body = given()
+                .accept("application/x-ndjson")
+                .header("Accept-Encoding", "gzip")
+                .queryParam("timeeditUrl", url)
+                .when()
+                .get("/api/timeedit/schedule")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .extract().asString();
+
+        assertEquals(5, body.split("\n").length, body);
+    }
+
+    @Test
+    void getSchedule_sinceCurrentVersion_returnsEmptyDelta() {
+        String url = "http://localhost:" + mockTimeEditPort + "/ok.json";
+        String version = given()
+                .accept(ContentType.JSON)
+                .queryParam("timeeditUrl", url)
+                .when()
+                .get("/api/timeedit/schedule")
+                .then()
+                .statusCode(200)
+                .body("version", notNullValue())
+                .extract().path("version");
+
+        given()
+                .accept(ContentType.JSON)
+                .queryParam("timeeditUrl", url)
+                .queryParam("since", version)
+                .when()
+                .get("/api/timeedit/schedule")
+                .then()
+                .statusCode(200)
+                .body("version", equalTo(version))
+                .body("full", equalTo(false))
+                .body("added.size()", equalTo(0))
+                .body("changed.size()", equalTo(0))
+                .body("removed.size()", equalTo(0))
+                .body("summary.eventCount", equalTo(4));
+    }
+
+    @Test
+    void getSchedule_sinceUnknownVersion_returnsEveryEventAsFullDelta() {
+        given()
+                .accept(ContentType.JSON)
+                .queryParam("timeeditUrl", "http://localhost:" + mockTimeEditPort + "/ok.json")
+                .queryParam("since", "0000000000000000")
+                .when()
+                .get("/api/timeedit/schedule")
+                .then()
+                .statusCode(200)
+                .body("full", equalTo(true))
+                .body("added.size()", equalTo(4))
+                .body("removed.size()", equalTo(0));
+    }
+
+    @Test
+    void getSchedule_ndjsonTrailer_carriesSameVersionAsJson() throws Exception {
+        String url = "http://localhost:" + mockTimeEditPort + "/ok.json";
+        String version = given()
+                .accept(ContentType.JSON)
+                .queryParam("timeeditUrl", url)
+                .when()
+                .get("/api/timeedit/schedule")
+                .then()
+                .statusCode(200)
+                .extract().path("version");
+
+        String body = given()
+                .accept("application/x-ndjson")
+                .queryParam("timeeditUrl", url)
+                .when()
+                .get("/api/timeedit/schedule")
+                .then()
+                .statusCode(200)
+                .extract().asString();
+
+        String[] lines = body.split("\n");
+        assertEquals(version, MAPPER.readTree(lines[lines.length - 1]).path("version").asText());
+    }
+
+    @Test
+    void getSchedule_debug_addsTimingsBlock() {
+        given()
+                .accept(ContentType.JSON)
+                .queryParam("timeeditUrl", "http://localhost:" + mockTimeEditPort + "/ok.json")
+                .queryParam("debug", "true")
+                .when()
+                .get("/api/timeedit/schedule")
+                .then()
+                .statusCode(200)
+                .body("events.size()", greaterThan(0))
+                .body("timings.fetch", notNullValue())
+                .body("timings.total", notNullValue());
+    }
+
+    @Test
+    void getSchedule_ndjson_fetchErrorKeepsStatusAndJsonEnvelope() {
+        given()
+                .accept("application/x-ndjson")
+                .queryParam("timeeditUrl", "http://localhost:" + mockTimeEditPort + "/upstream-500.json")
+                .when()
+                .get("/api/timeedit/schedule")
+                .then()
+                .statusCode(502)
+                .contentType(ContentType.JSON)
+                .body("error.code", equalTo("TIMEEDIT_ERROR_RESPONSE"));
+    }
+
     private static String readResource(String classpathResource) throws Exception {
         try (InputStream in = ScheduleResourceTimeEditTest.class.getResourceAsStream(classpathResource)) {
             if (in == null) {
@@ -200,4 +453,32 @@ public class ScheduleResourceTimeEditTest {
             exchange.close();
         }
     }
+
+    private static final class EtagJsonHandler implements HttpHandler {
+        private final String etag;
+        private final byte[] body;
+        private final AtomicInteger fullResponses = new AtomicInteger();
+        private final AtomicInteger notModifiedResponses = new AtomicInteger();
+
+        private EtagJsonHandler(String etag, String body) {
+            this.etag = etag;
+            this.body = body.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            exchange.getResponseHeaders().set("ETag", etag);
+            if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModifiedResponses.incrementAndGet();
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            fullResponses.incrementAndGet();
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        }
+    }
 }
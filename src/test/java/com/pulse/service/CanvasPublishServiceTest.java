@@ -0,0 +1,682 @@
+package com.pulse.service;
+
+import com.pulse.integration.canvas.CanvasClient;
+import com.pulse.integration.canvas.CanvasPublishLedger;
+import com.pulse.integration.canvas.CanvasRetryPolicy;
+import com.pulse.integration.canvas.CanvasUpstreamException;
+import com.pulse.integration.canvas.dto.CanvasCalendarEventRequest;
+import com.pulse.integration.canvas.dto.CanvasCalendarEventResponse;
+import com.pulse.server.dto.CanvasPublishRequest;
+import com.pulse.server.dto.PublishResult;
+import com.pulse.server.dto.PublishSchedule;
+import com.pulse.server.dto.PublishScheduleEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CanvasPublishServiceTest {
+
+    @Test
+    void sequential_publishesAllEvents() {
+        StubCanvasClient canvas = new StubCanvasClient(req -> created());
+
+        PublishResult result = new CanvasPublishService(canvas, 1).publish(request(20));
+
+        assertEquals(20, result.getPublished());
+        assertEquals(0, result.getFailed());
+        assertEquals(1, canvas.maxConcurrent.get());
+    }
+
+    @Test
+    void concurrent_publishesAllEvents_withinInFlightLimit() {
+        StubCanvasClient canvas = new StubCanvasClient(req -> {
+            sleep(10);
+            return created();
+        });
+
+        PublishResult result = new CanvasPublishService(canvas, 4).publish(request(40));
+
+        assertEquals(40, result.getPublished());
+        assertTrue(result.getFailures().isEmpty());
+        assertEquals(40, canvas.calls.get());
+        assertTrue(canvas.maxConcurrent.get() <= 4, "max in flight was " + canvas.maxConcurrent.get());
+        assertTrue(canvas.maxConcurrent.get() > 1, "expected overlapping calls");
+    }
+
+    @Test
+    void concurrent_fatalError_abortsAndStopsSubmitting() {
+        StubCanvasClient canvas = new StubCanvasClient(req -> {
+            sleep(5);
+            return req.getTitle().equals("Event 3")
+                    ? CanvasClient.CanvasResponse.unauthorized("Canvas API authentication failed (401). Check CANVAS_TOKEN.")
+                    : created();
+        });
+
+        CanvasUpstreamException e = assertThrows(CanvasUpstreamException.class,
+                () -> new CanvasPublishService(canvas, 2).publish(request(200)));
+
+        assertEquals("CANVAS_UNAUTHORIZED", e.getCode());
+        assertTrue(canvas.calls.get() < 200, "publish kept going after a fatal error: " + canvas.calls.get());
+    }
+
+    @Test
+    void concurrent_reportsEarliestFatalError_likeSequentialRun() {
+        StubCanvasClient canvas = new StubCanvasClient(req -> switch (req.getTitle()) {
+            // Event 1 fails slowly, Event 2 fails fast: the result must still name Event 1's error
+            case "Event 1" -> {
+                sleep(50);
+                yield CanvasClient.CanvasResponse.configError("Missing CANVAS_TOKEN in environment");
+            }
+            case "Event 2" -> CanvasClient.CanvasResponse.unauthorized("Canvas API authentication failed (401). Check CANVAS_TOKEN.");
+            default -> created();
+        });
+
+        CanvasUpstreamException e = assertThrows(CanvasUpstreamException.class,
+                () -> new CanvasPublishService(canvas, 8).publish(request(10)));
+
+        assertEquals("CONFIG_ERROR", e.getCode());
+    }
+
+    @Test
+    void transientFailure_isRetried_andAttemptsAreReported() {
+        AtomicInteger event0Calls = new AtomicInteger();
+        StubCanvasClient canvas = new StubCanvasClient(req -> {
+            if (req.getTitle().equals("Event 0") && event0Calls.incrementAndGet() < 3) {
+                return event0Calls.get() == 1
+                        ? CanvasClient.CanvasResponse.errorResponse("Canvas API returned HTTP 503", 503)
+                        : CanvasClient.CanvasResponse.unreachable("Canvas host could not be reached");
+            }
+            return created();
+        });
+
+        PublishResult result = service(canvas, 1, 4).publish(request(3));
+
+        assertEquals(3, result.getPublished());
+        assertEquals(0, result.getFailed());
+        assertEquals(Map.of("ext-0", 3), result.getAttempts());
+    }
+
+    @Test
+    void createThatTimedOutAfterCanvasStoredIt_isNotPostedAgain() {
+        CanvasPublishLedger ledger = new CanvasPublishLedger(null);
+        AtomicInteger event0Calls = new AtomicInteger();
+        StubCanvasClient[] canvas = new StubCanvasClient[1];
+        canvas[0] = new StubCanvasClient(req -> {
+            if (req.getTitle().equals("Event 0") && event0Calls.incrementAndGet() == 1) {
+                // Canvas stored it, but the response never arrived
+                long id = canvas[0].addForeignEvent(req.getTitle(), req.getStartAt(), req.getEndAt());
+                canvas[0].timedOutId = id;
+                return CanvasClient.CanvasResponse.unreachable("Read timed out");
+            }
+            return created();
+        });
+
+        PublishResult result = new CanvasPublishService(canvas[0], 1,
+                new CanvasRetryPolicy(4, Duration.ofMillis(1), Duration.ofMillis(5)), 3, ledger).publish(request(2));
+
+        assertEquals(2, result.getPublished());
+        assertEquals(1, event0Calls.get());
+        assertEquals(2, canvas[0].store.size());
+        assertEquals(canvas[0].timedOutId, ledger.get("user_1", "ext-0").canvasId());
+    }
+
+    @Test
+    void createThatFailedAmbiguously_isNotRetried_whenCanvasCannotBeChecked() {
+        StubCanvasClient canvas = new StubCanvasClient(req -> req.getTitle().equals("Event 0")
+                ? CanvasClient.CanvasResponse.errorResponse("Canvas API returned HTTP 502", 502)
+                : created());
+        canvas.listResponse = CanvasClient.CanvasResponse.errorResponse("Canvas API returned HTTP 503", 503);
+
+        PublishResult result = service(canvas, 1, 4).publish(request(2));
+
+        assertEquals(1, result.getPublished());
+        assertEquals(1, result.getFailed());
+        assertEquals(1, result.getFailures().get(0).getAttempts());
+    }
+
+    @Test
+    void createThatNeverReachedCanvas_isRetriedWithoutChecking() {
+        AtomicInteger event0Calls = new AtomicInteger();
+        StubCanvasClient canvas = new StubCanvasClient(req -> req.getTitle().equals("Event 0") && event0Calls.incrementAndGet() < 3
+                ? CanvasClient.CanvasResponse.notSent("Connection refused")
+                : created());
+
+        PublishResult result = service(canvas, 1, 4).publish(request(2));
+
+        assertEquals(2, result.getPublished());
+        assertEquals(Map.of("ext-0", 3), result.getAttempts());
+        assertEquals(0, canvas.listCalls.get());
+    }
+
+    @Test
+    void validationError_isNotRetried_andPublishContinues() {
+        StubCanvasClient canvas = new StubCanvasClient(req -> req.getTitle().equals("Event 1")
+                ? CanvasClient.CanvasResponse.errorResponse("Canvas API returned HTTP 422: invalid start_at", 422)
+                : created());
+
+        PublishResult result = service(canvas, 1, 4).publish(request(4));
+
+        assertEquals(3, result.getPublished());
+        assertEquals(1, result.getFailed());
+        assertEquals("ext-1", result.getFailures().get(0).getExternalId());
+        assertEquals(1, result.getFailures().get(0).getAttempts());
+        assertEquals(4, canvas.calls.get());
+    }
+
+    @Test
+    void exhaustedRetries_recordFailureInScheduleOrder_andPublishContinues() {
+        StubCanvasClient canvas = new StubCanvasClient(req -> req.getTitle().equals("Event 2") || req.getTitle().equals("Event 5")
+                ? CanvasClient.CanvasResponse.errorResponse("Canvas API returned HTTP 502", 502)
+                : created());
+
+        PublishResult result = service(canvas, 4, 3).publish(request(8));
+
+        assertEquals(6, result.getPublished());
+        assertEquals(List.of("ext-2", "ext-5"), result.getFailures().stream().map(f -> f.getExternalId()).toList());
+        assertEquals(3, result.getFailures().get(0).getAttempts());
+        assertEquals(Map.of("ext-2", 3, "ext-5", 3), result.getAttempts());
+    }
+
+    @Test
+    void consecutiveExhaustedEvents_abortAsSystemicFailure() {
+        StubCanvasClient canvas = new StubCanvasClient(req -> CanvasClient.CanvasResponse.unreachable("Canvas host could not be reached"));
+
+        CanvasUpstreamException e = assertThrows(CanvasUpstreamException.class,
+                () -> service(canvas, 1, 2).publish(request(50)));
+
+        assertEquals("CANVAS_UNREACHABLE", e.getCode());
+        // 3 events x 2 attempts, then the publish gives up
+        assertEquals(6, canvas.calls.get());
+    }
+
+    @Test
+    void openCircuit_abortsAtOnce_withoutBackingOff() {
+        StubCanvasClient canvas = new StubCanvasClient(req -> CanvasClient.CanvasResponse.circuitOpen("circuit open"));
+
+        CanvasUpstreamException e = assertThrows(CanvasUpstreamException.class,
+                () -> new CanvasPublishService(canvas, 1,
+                        new CanvasRetryPolicy(4, Duration.ofSeconds(5), Duration.ofSeconds(5)), 3).publish(request(50)));
+
+        assertEquals("CANVAS_UNREACHABLE", e.getCode());
+        assertEquals(1, canvas.calls.get());
+    }
+
+    @Test
+    void republish_skipsUnchangedEvents_andUpdatesChangedOnesInPlace() {
+        StubCanvasClient canvas = new StubCanvasClient(req -> created());
+        CanvasPublishService service = service(canvas, 4, 1);
+
+        PublishResult first = service.publish(request(10));
+        assertEquals(10, first.getPublished());
+        assertEquals(10, canvas.calls.get());
+
+        CanvasPublishRequest second = request(10);
+        second.getSchedule().getEvents().get(3).setLocation("Moved to A109");
+        // Same time in another offset is not a change
+        PublishScheduleEvent shifted = second.getSchedule().getEvents().get(4);
+        shifted.setStart(shifted.getStart().withOffsetSameInstant(ZoneOffset.ofHours(1)));
+
+        PublishResult result = service.publish(second);
+
+        assertEquals(1, result.getPublished());
+        assertEquals(1, result.getUpdated());
+        assertEquals(9, result.getSkipped());
+        assertEquals(11, canvas.calls.get());
+        assertEquals(1, canvas.updatedIds.size());
+    }
+
+    @Test
+    void updateOfEventDeletedInCanvas_recreatesIt() {
+        StubCanvasClient canvas = new StubCanvasClient(req -> created());
+        CanvasPublishService service = service(canvas, 1, 1);
+        service.publish(request(2));
+
+        canvas.updateResponse = CanvasClient.CanvasResponse.errorResponse("Canvas API returned HTTP 404", 404);
+        CanvasPublishRequest changed = request(2);
+        changed.getSchedule().getEvents().get(0).setTitle("Renamed");
+
+        PublishResult result = service.publish(changed);
+
+        assertEquals(1, result.getPublished());
+        assertEquals(0, result.getUpdated());
+        assertEquals(1, result.getSkipped());
+        // 2 creates, then a failed update and its re-create
+        assertEquals(4, canvas.calls.get());
+    }
+
+    @Test
+    void eventsWithoutExternalId_areAlwaysCreated() {
+        StubCanvasClient canvas = new StubCanvasClient(req -> created());
+        CanvasPublishService service = service(canvas, 1, 1);
+        CanvasPublishRequest request = request(2);
+        request.getSchedule().getEvents().forEach(e -> e.setExternalId(null));
+
+        service.publish(request);
+        PublishResult again = service.publish(request);
+
+        assertEquals(2, again.getPublished());
+        assertEquals(0, again.getSkipped());
+        assertEquals(4, canvas.calls.get());
+    }
+
+    @Test
+    void sync_writesOnlyTheChangedEvents() {
+        StubCanvasClient canvas = new StubCanvasClient(req -> created());
+        CanvasPublishService service = service(canvas, 8, 1);
+        service.publish(request(500));
+        canvas.calls.set(0);
+
+        CanvasPublishRequest weekly = sync(request(500));
+        for (int i : new int[] {7, 250, 499}) {
+            weekly.getSchedule().getEvents().get(i).setLocation("Room " + i);
+        }
+        PublishResult result = service.publish(weekly);
+
+        assertEquals(3, canvas.calls.get());
+        assertEquals(3, result.getUpdated());
+        assertEquals(497, result.getSkipped());
+        assertEquals(0, result.getDeleted());
+        assertEquals(1, canvas.listCalls.get());
+    }
+
+    @Test
+    void sync_deletesOwnedEventsThatLeftTheSchedule_andLeavesOthersAlone() {
+        StubCanvasClient canvas = new StubCanvasClient(req -> created());
+        CanvasPublishService service = service(canvas, 1, 1);
+        service.publish(request(5));
+        long foreignId = canvas.addForeignEvent("Office hours", "2026-01-13T08:00:00Z", "2026-01-13T09:00:00Z");
+
+        CanvasPublishRequest shorter = sync(request(5));
+        shorter.getSchedule().getEvents().remove(2);
+        PublishResult result = service.publish(shorter);
+
+        assertEquals(1, result.getDeleted());
+        assertEquals(4, result.getSkipped());
+        assertEquals(5, canvas.store.size());
+        assertTrue(canvas.store.containsKey(foreignId));
+
+        // The ledger forgot it, so the next sync has nothing to do
+        assertEquals(0, service.publish(shorter).getDeleted());
+    }
+
+    @Test
+    void sync_deletesOnlyEventsPublishedFromTheSameSource() {
+        StubCanvasClient canvas = new StubCanvasClient(req -> created());
+        CanvasPublishService service = service(canvas, 1, 1);
+        CanvasPublishRequest lectures = fromSource("https://cloud.timeedit.net/ltu/web/schedule1/lectures.json", request(3));
+        // Same days, so each sync lists the other schedule's events too
+        CanvasPublishRequest labs = fromSource("https://cloud.timeedit.net/ltu/web/schedule1/labs.json", request(3));
+        labs.getSchedule().getEvents().forEach(e -> e.setExternalId("lab-" + e.getExternalId()));
+        service.publish(lectures);
+        service.publish(labs);
+
+        CanvasPublishRequest shorter = sync(fromSource(lectures.getSchedule().getTimeeditUrl(), request(3)));
+        shorter.getSchedule().getEvents().remove(1);
+        PublishResult result = service.publish(shorter);
+
+        assertEquals(1, result.getDeleted());
+        assertEquals(2, result.getSkipped());
+        assertEquals(5, canvas.store.size());
+
+        // Syncing the labs on their own leaves the lectures alone too
+        assertEquals(0, service.publish(sync(labs)).getDeleted());
+        assertEquals(5, canvas.store.size());
+    }
+
+    @Test
+    void sync_recreatesEventsDeletedInCanvas() {
+        StubCanvasClient canvas = new StubCanvasClient(req -> created());
+        CanvasPublishService service = service(canvas, 1, 1);
+        service.publish(request(3));
+        canvas.store.clear();
+
+        PublishResult result = service.publish(sync(request(3)));
+
+        assertEquals(3, result.getPublished());
+        assertEquals(0, result.getUpdated());
+        assertEquals(3, canvas.store.size());
+    }
+
+    @Test
+    void sync_matchesEventsWithoutExternalIdByTitleAndTime() {
+        StubCanvasClient canvas = new StubCanvasClient(req -> created());
+        CanvasPublishService service = service(canvas, 1, 1);
+        CanvasPublishRequest request = sync(request(2));
+        request.getSchedule().getEvents().forEach(e -> e.setExternalId(null));
+        canvas.addForeignEvent("Event 0", "2026-01-12T09:00:00+01:00", "2026-01-12T11:00:00+01:00");
+
+        PublishResult result = service.publish(request);
+
+        assertEquals(1, result.getPublished());
+        assertEquals(1, result.getSkipped());
+    }
+
+    @Test
+    void syncDryRun_returnsThePlan_withoutWriting() {
+        StubCanvasClient canvas = new StubCanvasClient(req -> created());
+        CanvasPublishService service = service(canvas, 1, 1);
+        service.publish(request(4));
+        canvas.calls.set(0);
+
+        CanvasPublishRequest request = sync(request(5));
+        request.setDryRun(true);
+        request.getSchedule().getEvents().get(1).setTitle("Renamed");
+        request.getSchedule().getEvents().remove(3);
+        PublishResult result = service.publish(request);
+
+        assertEquals(0, canvas.calls.get());
+        assertTrue(result.isDryRun());
+        assertEquals(2, result.getPublished());
+        assertEquals(1, result.getUpdated());
+        assertEquals(1, result.getDeleted());
+        assertEquals(2, result.getSkipped());
+        assertEquals(List.of("update:ext-1", "create:ext-4", "delete:ext-3"),
+                result.getPlan().stream().map(c -> c.getAction() + ":" + c.getExternalId()).toList());
+    }
+
+    @Test
+    void sync_listingFailure_abortsBeforeAnyWrite() {
+        StubCanvasClient canvas = new StubCanvasClient(req -> created());
+        canvas.listResponse = CanvasClient.CanvasResponse.unauthorized("no");
+
+        CanvasUpstreamException e = assertThrows(CanvasUpstreamException.class,
+                () -> service(canvas, 1, 1).publish(sync(request(3))));
+
+        assertEquals("CANVAS_UNAUTHORIZED", e.getCode());
+        assertEquals(0, canvas.calls.get());
+    }
+
+    @Test
+    void weeklyRepeats_arePublishedAsOneSeriesCall() {
+        StubCanvasClient canvas = new StubCanvasClient(req -> created());
+        CanvasPublishService service = seriesService(canvas);
+        CanvasPublishRequest request = weekly(12);
+        request.getSchedule().getEvents().add(event("one-off", "Guest lecture", OffsetDateTime.parse("2026-01-14T13:00:00+01:00")));
+
+        PublishResult result = service.publish(request);
+
+        assertEquals(13, result.getPublished());
+        assertEquals(2, canvas.calls.get());
+        assertEquals("FREQ=WEEKLY;INTERVAL=1;COUNT=12", canvas.created.get(0).getRrule());
+        assertNull(canvas.created.get(1).getRrule());
+
+        PublishResult again = service.publish(request);
+        assertEquals(13, again.getSkipped());
+        assertEquals(2, canvas.calls.get());
+    }
+
+    @Test
+    void changedSeries_isReplacedWithOneDeleteAndOneCreate() {
+        StubCanvasClient canvas = new StubCanvasClient(req -> created());
+        CanvasPublishService service = seriesService(canvas);
+        service.publish(weekly(10));
+        long seriesId = canvas.store.keySet().iterator().next();
+
+        PublishResult result = service.publish(weekly(11));
+
+        assertEquals(11, result.getUpdated());
+        assertEquals(List.of(seriesId), canvas.seriesDeletes);
+        assertEquals(3, canvas.calls.get());
+        assertEquals("FREQ=WEEKLY;INTERVAL=1;COUNT=11", canvas.created.get(1).getRrule());
+    }
+
+    @Test
+    void republishWithoutTheFirstWeek_leavesTheSeriesAlone() {
+        StubCanvasClient canvas = new StubCanvasClient(req -> created());
+        CanvasPublishService service = seriesService(canvas);
+        service.publish(weekly(10));
+
+        CanvasPublishRequest later = weekly(10);
+        later.getSchedule().getEvents().remove(0);
+        PublishResult result = service.publish(later);
+
+        assertEquals(9, result.getSkipped());
+        assertEquals(0, result.getPublished());
+        assertEquals(1, canvas.calls.get());
+    }
+
+    @Test
+    void movedOccurrence_replacesTheSeriesOnce() {
+        StubCanvasClient canvas = new StubCanvasClient(req -> created());
+        CanvasPublishService service = seriesService(canvas);
+        service.publish(weekly(10));
+        long seriesId = canvas.store.keySet().iterator().next();
+
+        CanvasPublishRequest moved = weekly(10);
+        PublishScheduleEvent fifth = moved.getSchedule().getEvents().get(4);
+        fifth.setStart(fifth.getStart().plusDays(1));
+        fifth.setEnd(fifth.getEnd().plusDays(1));
+        PublishResult result = service.publish(moved);
+
+        // Weeks 1-4 and 6-10 become two series and week 5 a single event; the old series goes
+        assertEquals(10, result.getPublished());
+        assertEquals(List.of(seriesId), canvas.seriesDeletes);
+        assertEquals(3, canvas.store.size());
+        assertEquals(List.of("FREQ=WEEKLY;INTERVAL=1;COUNT=4", "FREQ=WEEKLY;INTERVAL=1;COUNT=5"),
+                canvas.created.stream().skip(1).map(CanvasCalendarEventRequest::getRrule).filter(r -> r != null).toList());
+
+        assertEquals(10, service.publish(moved).getSkipped());
+        assertEquals(3, canvas.store.size());
+    }
+
+    @Test
+    void sync_keepsASeriesWhoseFirstWeeksLeftTheSchedule() {
+        StubCanvasClient canvas = new StubCanvasClient(req -> created());
+        CanvasPublishService service = seriesService(canvas);
+        service.publish(weekly(10));
+
+        CanvasPublishRequest later = sync(weekly(10));
+        later.getSchedule().getEvents().subList(0, 2).clear();
+        PublishResult result = service.publish(later);
+
+        // The series' Canvas event starts before the listed range, which is not a deletion
+        assertEquals(8, result.getSkipped());
+        assertEquals(0, result.getPublished());
+        assertEquals(0, result.getDeleted());
+        assertEquals(1, canvas.calls.get());
+    }
+
+    @Test
+    void eventsAlreadyPublishedOneByOne_areNotRegroupedIntoASeries() {
+        StubCanvasClient canvas = new StubCanvasClient(req -> created());
+        CanvasPublishLedger ledger = new CanvasPublishLedger(null);
+        new CanvasPublishService(canvas, 1, CanvasRetryPolicy.noRetry(), 3, ledger, RecurrenceDetector.disabled())
+                .publish(weekly(6));
+
+        PublishResult result = new CanvasPublishService(canvas, 1, CanvasRetryPolicy.noRetry(), 3, ledger,
+                new RecurrenceDetector(3)).publish(weekly(6));
+
+        assertEquals(6, result.getSkipped());
+        assertEquals(6, canvas.calls.get());
+    }
+
+    private static CanvasPublishService seriesService(CanvasClient canvas) {
+        return new CanvasPublishService(canvas, 1, CanvasRetryPolicy.noRetry(), 3,
+                new CanvasPublishLedger(null), new RecurrenceDetector(3));
+    }
+
+    private static CanvasPublishRequest weekly(int weeks) {
+        OffsetDateTime first = OffsetDateTime.parse("2026-01-12T08:15:00+01:00");
+        List<PublishScheduleEvent> events = new ArrayList<>();
+        for (int i = 0; i < weeks; i++) {
+            events.add(event("lec-" + i, "Lecture", first.plusWeeks(i)));
+        }
+        PublishSchedule schedule = new PublishSchedule();
+        schedule.setEvents(events);
+        CanvasPublishRequest request = new CanvasPublishRequest();
+        request.setCanvasContext("user_1");
+        request.setSchedule(schedule);
+        return request;
+    }
+
+    private static PublishScheduleEvent event(String externalId, String title, OffsetDateTime start) {
+        PublishScheduleEvent event = new PublishScheduleEvent();
+        event.setExternalId(externalId);
+        event.setTitle(title);
+        event.setStart(start);
+        event.setEnd(start.plusMinutes(90));
+        event.setLocation("A109");
+        return event;
+    }
+
+    private static CanvasPublishRequest fromSource(String timeeditUrl, CanvasPublishRequest request) {
+        request.getSchedule().setTimeeditUrl(timeeditUrl);
+        return request;
+    }
+
+    private static CanvasPublishRequest sync(CanvasPublishRequest request) {
+        request.setMode("sync");
+        return request;
+    }
+
+    private static CanvasPublishService service(CanvasClient canvas, int maxInFlight, int maxAttempts) {
+        return new CanvasPublishService(canvas, maxInFlight,
+                new CanvasRetryPolicy(maxAttempts, Duration.ofMillis(1), Duration.ofMillis(5)), 3);
+    }
+
+    private static CanvasPublishRequest request(int eventCount) {
+        OffsetDateTime base = OffsetDateTime.of(2026, 1, 12, 8, 0, 0, 0, ZoneOffset.UTC);
+        List<PublishScheduleEvent> events = new ArrayList<>();
+        for (int i = 0; i < eventCount; i++) {
+            PublishScheduleEvent event = new PublishScheduleEvent();
+            event.setExternalId("ext-" + i);
+            event.setTitle("Event " + i);
+            event.setStart(base.plusDays(i));
+            event.setEnd(base.plusDays(i).plusHours(2));
+            events.add(event);
+        }
+        PublishSchedule schedule = new PublishSchedule();
+        schedule.setEvents(events);
+        CanvasPublishRequest request = new CanvasPublishRequest();
+        request.setCanvasContext("user_1");
+        request.setSchedule(schedule);
+        return request;
+    }
+
+    private static final AtomicLong nextCanvasId = new AtomicLong(1000);
+
+    private static CanvasClient.CanvasResponse<CanvasCalendarEventResponse> created() {
+        CanvasCalendarEventResponse created = new CanvasCalendarEventResponse();
+        created.setId(nextCanvasId.getAndIncrement());
+        return CanvasClient.CanvasResponse.success(created);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class StubCanvasClient extends CanvasClient {
+        private final Function<CanvasCalendarEventRequest, CanvasResponse<CanvasCalendarEventResponse>> handler;
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxConcurrent = new AtomicInteger();
+        private final List<Long> updatedIds = new CopyOnWriteArrayList<>();
+        private final List<CanvasCalendarEventRequest> created = new CopyOnWriteArrayList<>();
+        private final List<Long> seriesDeletes = new CopyOnWriteArrayList<>();
+        private volatile CanvasResponse<CanvasCalendarEventResponse> updateResponse;
+        private volatile CanvasResponse<Integer> listResponse;
+        private volatile long timedOutId;
+        private final AtomicInteger listCalls = new AtomicInteger();
+        // What Canvas holds, as the listing would return it
+        private final Map<Long, CanvasCalendarEventResponse> store = new ConcurrentHashMap<>();
+
+        private StubCanvasClient(Function<CanvasCalendarEventRequest, CanvasResponse<CanvasCalendarEventResponse>> handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public CanvasResponse<CanvasCalendarEventResponse> createCalendarEvent(CanvasCalendarEventRequest req) {
+            calls.incrementAndGet();
+            maxConcurrent.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            created.add(req);
+            try {
+                CanvasResponse<CanvasCalendarEventResponse> res = handler.apply(req);
+                if (res.isSuccess() && res.getData() != null) {
+                    store.put(res.getData().getId(), listed(res.getData().getId(), req));
+                }
+                return res;
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+
+        @Override
+        public CanvasResponse<CanvasCalendarEventResponse> deleteCalendarEvent(long canvasId, boolean wholeSeries) {
+            calls.incrementAndGet();
+            if (wholeSeries) {
+                seriesDeletes.add(canvasId);
+            }
+            CanvasCalendarEventResponse removed = store.remove(canvasId);
+            return removed != null ? CanvasResponse.success(removed) : CanvasResponse.errorResponse("gone", 404);
+        }
+
+        @Override
+        public CanvasResponse<Integer> listCalendarEvents(String contextCode, Instant start, Instant end,
+                Consumer<CanvasCalendarEventResponse> sink) {
+            listCalls.incrementAndGet();
+            if (listResponse != null) {
+                return listResponse;
+            }
+            List<CanvasCalendarEventResponse> inRange = store.values().stream()
+                    .filter(e -> !Instant.from(OffsetDateTime.parse(e.getEndAt())).isBefore(start)
+                            && !Instant.from(OffsetDateTime.parse(e.getStartAt())).isAfter(end))
+                    .toList();
+            inRange.forEach(sink);
+            return CanvasResponse.success(inRange.size());
+        }
+
+        private long addForeignEvent(String title, String startAt, String endAt) {
+            long id = nextCanvasId.getAndIncrement();
+            CanvasCalendarEventResponse event = new CanvasCalendarEventResponse();
+            event.setId(id);
+            event.setTitle(title);
+            event.setStartAt(startAt);
+            event.setEndAt(endAt);
+            store.put(id, event);
+            return id;
+        }
+
+        private static CanvasCalendarEventResponse listed(long id, CanvasCalendarEventRequest req) {
+            CanvasCalendarEventResponse event = new CanvasCalendarEventResponse();
+            event.setId(id);
+            event.setTitle(req.getTitle());
+            event.setStartAt(req.getStartAt());
+            event.setEndAt(req.getEndAt());
+            return event;
+        }
+
+        @Override
+        public CanvasResponse<CanvasCalendarEventResponse> updateCalendarEvent(long canvasId, CanvasCalendarEventRequest req) {
+            calls.incrementAndGet();
+            if (updateResponse != null) {
+                return updateResponse;
+            }
+            if (!store.containsKey(canvasId)) {
+                return CanvasResponse.errorResponse("Canvas API returned HTTP 404", 404);
+            }
+            updatedIds.add(canvasId);
+            store.put(canvasId, listed(canvasId, req));
+            CanvasCalendarEventResponse saved = new CanvasCalendarEventResponse();
+            saved.setId(canvasId);
+            return CanvasResponse.success(saved);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.pulse.service;
+
+import com.pulse.integration.canvas.CanvasClient;
+import com.pulse.integration.canvas.CanvasPublishException;
+import com.pulse.integration.canvas.CanvasPublishLedger;
+import com.pulse.integration.canvas.CanvasRetryPolicy;
+import com.pulse.integration.canvas.dto.CanvasCalendarEventRequest;
+import com.pulse.integration.canvas.dto.CanvasCalendarEventResponse;
+import com.pulse.server.dto.CanvasPublishRequest;
+import com.pulse.server.dto.PublishSchedule;
+import com.pulse.server.dto.PublishScheduleEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PublishJobManagerTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger calls = new AtomicInteger();
+    private volatile boolean blocking;
+    private volatile boolean unauthorized;
+    private PublishJobManager manager;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (manager != null) {
+            manager.close();
+        }
+    }
+
+    @Test
+    void job_runsInBackground_andReportsProgress() {
+        manager = manager(1, 4);
+
+        PublishJob job = manager.submit(request(25));
+        awaitTrue(() -> job.getState().isFinal());
+
+        assertEquals(PublishJob.State.SUCCEEDED, job.getState());
+        assertEquals(25, job.getTotal());
+        assertEquals(25, job.getPublished());
+        assertEquals(0, job.getRemaining());
+        assertEquals(25, job.getResult().getPublished());
+        assertEquals(25, job.eventsSince(0).size());
+        assertEquals(5, job.eventsSince(20).size());
+        assertEquals("published", job.eventsSince(24).get(0).status());
+        assertNotNull(job.getStartedAt());
+        assertSame(job, manager.get(job.getId()));
+    }
+
+    @Test
+    void cancel_stopsNewWrites_andKeepsWhatWasDone() {
+        blocking = true;
+        manager = manager(1, 4);
+
+        PublishJob job = manager.submit(request(50));
+        awaitTrue(() -> calls.get() == 1);
+        manager.cancel(job.getId());
+        release.countDown();
+        awaitTrue(() -> job.getState().isFinal());
+
+        assertEquals(PublishJob.State.CANCELLED, job.getState());
+        assertEquals(1, job.getPublished());
+        assertEquals(49, job.getRemaining());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void fullQueue_rejectsJobs_andCancellingAQueuedJobFreesItsSlot() {
+        blocking = true;
+        manager = manager(1, 1);
+
+        PublishJob running = manager.submit(request(2));
+        awaitTrue(() -> running.getState() == PublishJob.State.RUNNING);
+        PublishJob queued = manager.submit(request(2));
+
+        assertThrows(PublishJobManager.QueueFullException.class, () -> manager.submit(request(2)));
+
+        manager.cancel(queued.getId());
+        assertEquals(PublishJob.State.CANCELLED, queued.getState());
+        assertNotNull(manager.submit(request(2)));
+    }
+
+    @Test
+    void fatalError_failsTheJob() {
+        unauthorized = true;
+        manager = manager(1, 4);
+
+        PublishJob job = manager.submit(request(5));
+        awaitTrue(() -> job.getState().isFinal());
+
+        assertEquals(PublishJob.State.FAILED, job.getState());
+        assertEquals("CANVAS_UNAUTHORIZED", job.getErrorCode());
+        assertNull(job.getResult());
+    }
+
+    @Test
+    void invalidRequest_isRejectedWithoutQueueing() {
+        manager = manager(1, 4);
+        CanvasPublishRequest request = request(1);
+        request.setCanvasContext("course-x");
+
+        assertThrows(CanvasPublishException.class, () -> manager.submit(request));
+        assertEquals(0, calls.get());
+    }
+
+    private PublishJobManager manager(int workers, int queueDepth) {
+        CanvasClient canvas = new CanvasClient() {
+            @Override
+            public CanvasResponse<CanvasCalendarEventResponse> createCalendarEvent(CanvasCalendarEventRequest req) {
+                calls.incrementAndGet();
+                if (unauthorized) {
+                    return CanvasResponse.unauthorized("Canvas API authentication failed (401). Check CANVAS_TOKEN.");
+                }
+                if (blocking) {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                CanvasCalendarEventResponse created = new CanvasCalendarEventResponse();
+                created.setId(nextCanvasId.getAndIncrement());
+                return CanvasResponse.success(created);
+            }
+        };
+        CanvasPublishService service = new CanvasPublishService(canvas, 1, CanvasRetryPolicy.noRetry(), 3,
+                new CanvasPublishLedger(null), RecurrenceDetector.disabled());
+        return new PublishJobManager(service, workers, queueDepth, Duration.ofMinutes(1));
+    }
+
+    private static final AtomicLong nextCanvasId = new AtomicLong(1);
+
+    private static CanvasPublishRequest request(int eventCount) {
+        OffsetDateTime base = OffsetDateTime.of(2026, 1, 12, 8, 0, 0, 0, ZoneOffset.UTC);
+        List<PublishScheduleEvent> events = new ArrayList<>();
+        for (int i = 0; i < eventCount; i++) {
+            PublishScheduleEvent event = new PublishScheduleEvent();
+            event.setExternalId("job-" + i);
+            event.setTitle("Event " + i);
+            event.setStart(base.plusDays(i));
+            event.setEnd(base.plusDays(i).plusHours(2));
+            events.add(event);
+        }
+        PublishSchedule schedule = new PublishSchedule();
+        schedule.setEvents(events);
+        CanvasPublishRequest request = new CanvasPublishRequest();
+        request.setCanvasContext("user_1");
+        request.setSchedule(schedule);
+        return request;
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met within 5 s");
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("interrupted");
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.pulse.service;
+
+import com.pulse.server.dto.PublishScheduleEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RecurrenceDetectorTest {
+
+    private static final OffsetDateTime MONDAY = OffsetDateTime.parse("2026-01-12T08:15:00+01:00");
+
+    private final RecurrenceDetector detector = new RecurrenceDetector(3);
+
+    @Test
+    void weeklyLecture_becomesOneSeries() {
+        List<RecurrenceDetector.Group> groups = detector.group(weeks("Lecture", "A109", 12), e -> true);
+
+        assertEquals(1, groups.size());
+        assertTrue(groups.get(0).isSeries());
+        assertEquals("FREQ=WEEKLY;INTERVAL=1;COUNT=12", groups.get(0).rrule());
+        assertEquals("series:Lecture-0", groups.get(0).key());
+        assertEquals(MONDAY, groups.get(0).first().getStart());
+    }
+
+    @Test
+    void skippedWeek_splitsTheSeries_andShortRunsStaySingle() {
+        List<PublishScheduleEvent> events = weeks("Lecture", "A109", 10);
+        events.remove(6);  // exam week
+        events.remove(1);  // holiday
+
+        List<RecurrenceDetector.Group> groups = detector.group(events, e -> true);
+
+        // week 0 alone, weeks 2-5 as a series, weeks 7-9 as a series
+        assertEquals(List.of(1, 4, 3), groups.stream().map(g -> g.getOccurrences().size()).toList());
+        assertEquals("FREQ=WEEKLY;INTERVAL=1;COUNT=4", groups.get(1).rrule());
+        assertNull(groups.get(0).rrule());
+    }
+
+    @Test
+    void roomChange_isPublishedAsAnException() {
+        List<PublishScheduleEvent> events = weeks("Lecture", "A109", 9);
+        events.get(4).setLocation("B214");
+
+        List<RecurrenceDetector.Group> groups = detector.group(events, e -> true);
+
+        assertEquals(List.of(4, 1, 4), groups.stream().map(g -> g.getOccurrences().size()).toList());
+        assertEquals("B214", groups.get(1).first().getLocation());
+    }
+
+    @Test
+    void offsetChange_startsANewSeries() {
+        List<PublishScheduleEvent> events = weeks("Lecture", "A109", 4);
+        for (int i = 0; i < 4; i++) {
+            // Same local time after the switch to summer time
+            OffsetDateTime summer = OffsetDateTime.parse("2026-03-30T08:15:00+02:00").plusWeeks(i);
+            events.add(event("summer-" + i, "Lecture", "A109", summer));
+        }
+
+        List<RecurrenceDetector.Group> groups = detector.group(events, e -> true);
+
+        assertEquals(2, groups.size());
+        assertEquals("+02:00", groups.get(1).first().getStart().getOffset().toString());
+    }
+
+    @Test
+    void shuffledInput_isSortedWithinTheSeries_andGroupsKeepInputOrder() {
+        List<PublishScheduleEvent> lectures = weeks("Lecture", "A109", 5);
+        List<PublishScheduleEvent> events = new ArrayList<>();
+        events.add(event("seminar", "Seminar", "C1", MONDAY.plusDays(2)));
+        for (int i = lectures.size() - 1; i >= 0; i--) {
+            events.add(lectures.get(i));
+        }
+
+        List<RecurrenceDetector.Group> groups = detector.group(events, e -> true);
+
+        assertEquals("seminar", groups.get(0).key());
+        assertEquals("Lecture-0", groups.get(1).first().getExternalId());
+        assertEquals(MONDAY.plusWeeks(4), groups.get(1).getOccurrences().get(4).getStart());
+    }
+
+    @Test
+    void ineligibleAndUnidentifiedEvents_staySingle() {
+        List<PublishScheduleEvent> events = weeks("Lecture", "A109", 8);
+        events.get(0).setExternalId(null);
+
+        List<RecurrenceDetector.Group> groups = detector.group(events, e -> !e.getExternalId().equals("Lecture-3"));
+
+        // Week 3 breaks the run: weeks 1-2 are too short, weeks 4-7 form a series
+        assertEquals(List.of(1, 1, 1, 1, 4), groups.stream().map(g -> g.getOccurrences().size()).toList());
+        assertNull(groups.get(0).key());
+    }
+
+    @Test
+    void disabledDetector_returnsOneGroupPerEvent() {
+        List<RecurrenceDetector.Group> groups = RecurrenceDetector.disabled().group(weeks("Lecture", "A109", 8), e -> true);
+
+        assertEquals(8, groups.size());
+        assertFalse(groups.get(0).isSeries());
+    }
+
+    private static List<PublishScheduleEvent> weeks(String title, String location, int count) {
+        List<PublishScheduleEvent> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            events.add(event(title + "-" + i, title, location, MONDAY.plusWeeks(i)));
+        }
+        return events;
+    }
+
+    private static PublishScheduleEvent event(String externalId, String title, String location, OffsetDateTime start) {
+        PublishScheduleEvent event = new PublishScheduleEvent();
+        event.setExternalId(externalId);
+        event.setTitle(title);
+        event.setLocation(location);
+        event.setStart(start);
+        event.setEnd(start.plusMinutes(90));
+        return event;
+    }
+}
@@ -0,0 +1,96 @@
+package com.pulse.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final CircuitBreaker breaker = new CircuitBreaker("test-host:80", 3, Duration.ofSeconds(30), 1, now::get);
+
+    @Test
+    void opensAfterConsecutiveFailures_andRefusesCalls() {
+        for (int i = 0; i < 3; i++) {
+            assertTrue(breaker.tryAcquire());
+            breaker.onFailure();
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    void successResetsTheFailureCount() {
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.onSuccess();
+        breaker.onFailure();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void halfOpen_letsOneProbeThrough_andClosesOnSuccess() {
+        open();
+        now.addAndGet(TimeUnit.SECONDS.toNanos(30));
+
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire(), "only one probe at a time");
+
+        breaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    void halfOpen_failedProbeOpensAgain() {
+        open();
+        now.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        assertTrue(breaker.tryAcquire());
+
+        breaker.onFailure();
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    void halfOpen_ignoredProbeFreesItsSlot() {
+        open();
+        now.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        assertTrue(breaker.tryAcquire());
+
+        breaker.onIgnored();
+
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    void onlyGatewayStatusesCountAsHostFailures() {
+        assertTrue(CircuitBreaker.isHostFailure(503));
+        assertTrue(CircuitBreaker.isHostFailure(504));
+        assertFalse(CircuitBreaker.isHostFailure(500));
+        assertFalse(CircuitBreaker.isHostFailure(404));
+    }
+
+    @Test
+    void forUrl_sharesOneBreakerPerHostAndPort() {
+        assertSame(CircuitBreaker.forUrl("https://canvas.example.edu/api/v1/a"),
+                CircuitBreaker.forUrl("https://CANVAS.example.edu:443/api/v1/b"));
+        assertNotSame(CircuitBreaker.forUrl("https://canvas.example.edu/"),
+                CircuitBreaker.forUrl("http://canvas.example.edu/"));
+        assertEquals("closed", CircuitBreaker.states().get("canvas.example.edu:443"));
+    }
+
+    private void open() {
+        for (int i = 0; i < 3; i++) {
+            breaker.onFailure();
+        }
+    }
+}
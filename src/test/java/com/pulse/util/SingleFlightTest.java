@@ -0,0 +1,106 @@
+package com.pulse.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SingleFlightTest {
+
+    @Test
+    void concurrentCallers_shareOneExecution() throws Exception {
+        SingleFlight<String, String> flights = new SingleFlight<>("test_single_flight_share");
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+        AtomicInteger executions = new AtomicInteger();
+
+        List<CompletableFuture<String>> callers = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            callers.add(flights.execute("k", () -> {
+                executions.incrementAndGet();
+                return upstream;
+            }));
+        }
+
+        assertEquals(1, flights.inFlightCount());
+        upstream.complete("schedule");
+
+        for (CompletableFuture<String> caller : callers) {
+            assertEquals("schedule", caller.get(1, TimeUnit.SECONDS));
+        }
+        assertEquals(1, executions.get());
+        assertEquals(9, flights.coalescedCount());
+        assertEquals(0, flights.inFlightCount());
+    }
+
+    @Test
+    void failure_isDeliveredToEveryWaiter_withOriginalException() {
+        SingleFlight<String, String> flights = new SingleFlight<>("test_single_flight_failure");
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+
+        CompletableFuture<String> leader = flights.execute("k", () -> upstream);
+        CompletableFuture<String> follower = flights.execute("k", () -> fail("follower must not run work"));
+
+        IllegalStateException boom = new IllegalStateException("upstream down");
+        upstream.completeExceptionally(boom);
+
+        assertSame(boom, assertThrows(CompletionException.class, leader::join).getCause());
+        assertSame(boom, assertThrows(CompletionException.class, follower::join).getCause());
+    }
+
+    @Test
+    void cancellingOneWaiter_doesNotAffectSharedWorkOrOtherWaiters() throws Exception {
+        SingleFlight<String, String> flights = new SingleFlight<>("test_single_flight_cancel");
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+
+        CompletableFuture<String> leader = flights.execute("k", () -> upstream);
+        CompletableFuture<String> impatient = flights.execute("k", () -> upstream);
+
+        impatient.cancel(true);
+        assertFalse(upstream.isCancelled());
+
+        upstream.complete("ok");
+        assertEquals("ok", leader.get(1, TimeUnit.SECONDS));
+        assertTrue(impatient.isCancelled());
+    }
+
+    @Test
+    void afterCompletion_nextCallStartsNewExecution() {
+        SingleFlight<String, Integer> flights = new SingleFlight<>("test_single_flight_release");
+        AtomicInteger executions = new AtomicInteger();
+
+        assertEquals(1, flights.execute("k", () -> CompletableFuture.completedFuture(executions.incrementAndGet())).join());
+        assertEquals(2, flights.execute("k", () -> CompletableFuture.completedFuture(executions.incrementAndGet())).join());
+    }
+
+    @Test
+    void blockingLeader_followersOnOtherThreadsWaitForIt() throws Exception {
+        SingleFlight<String, String> flights = new SingleFlight<>("test_single_flight_threads");
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> flights.execute("k", () -> {
+            leaderStarted.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return CompletableFuture.completedFuture("done");
+        }).join());
+
+        assertTrue(leaderStarted.await(1, TimeUnit.SECONDS));
+        CompletableFuture<String> follower = flights.execute("k", () -> fail("follower must not run work"));
+        assertFalse(follower.isDone());
+
+        release.countDown();
+        assertEquals("done", leader.get(1, TimeUnit.SECONDS));
+        assertEquals("done", follower.get(1, TimeUnit.SECONDS));
+    }
+}
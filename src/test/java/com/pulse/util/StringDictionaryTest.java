@@ -0,0 +1,42 @@
+package com.pulse.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StringDictionaryTest {
+
+    @Test
+    void equalStrings_resolveToTheFirstInstance() {
+        StringDictionary strings = new StringDictionary();
+        String first = new String("Lab B214");
+        String second = new String("Lab B214");
+
+        assertSame(first, strings.share(first));
+        assertSame(first, strings.share(second));
+        assertEquals(1, strings.size());
+    }
+
+    @Test
+    void isBounded_byEntriesAndLength() {
+        StringDictionary strings = new StringDictionary(2, 8);
+        strings.share("A109");
+        strings.share("C305");
+        String third = new String("Aulan");
+
+        assertSame(third, strings.share(third));
+        assertNotSame(third, strings.share(new String("Aulan")), "dictionary is full");
+        String longValue = "Länk publiceras i Canvas.";
+        assertSame(longValue, strings.share(longValue));
+        assertEquals(2, strings.size());
+    }
+
+    @Test
+    void nullAndEmpty_passThrough() {
+        StringDictionary strings = new StringDictionary();
+
+        assertNull(strings.share(null));
+        assertEquals("", strings.share(new String("")));
+        assertEquals(0, strings.size());
+    }
+}